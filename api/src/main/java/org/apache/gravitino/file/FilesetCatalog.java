@@ -185,4 +185,26 @@ public interface FilesetCatalog {
       throws NoSuchFilesetException, NoSuchLocationNameException {
     throw new UnsupportedOperationException("Not implemented");
   }
+
+  /**
+   * Get the actual locations of multiple files or directories based on the storage location of
+   * Fileset and the sub paths by the location name. Implementations may resolve all the sub paths
+   * in a single request, for example, to report the audit information of many file accesses at
+   * once.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @param locationName The location name. If null, the default location will be used.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws NoSuchLocationNameException If the location name does not exist.
+   */
+  default String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = getFileLocation(ident, subPaths[i], locationName);
+    }
+    return fileLocations;
+  }
 }
@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.rel;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +47,81 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the names of the partitions matching the filter in the order of the partition names, one
+   * page at a time. The next page starts after the last partition name of the previous page.
+   *
+   * <p>The default implementation lists all partition names and slices the page from them, and
+   * doesn't support filters. Catalogs able to push the filter and the page down to the underlying
+   * source should override it.
+   *
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param startAfter The partition name to start listing after, or null to start from the first
+   *     partition.
+   * @param limit The maximum number of partition names to return.
+   * @return The names of the partitions in this page.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   */
+  default String[] listPartitionNames(String filter, String startAfter, int limit)
+      throws UnsupportedOperationException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filter is not supported");
+    }
+    return Arrays.stream(listPartitionNames())
+        .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+        .sorted()
+        .limit(limit)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * List the partitions matching the filter in the order of the partition names, one page at a
+   * time. The next page starts after the last partition name of the previous page.
+   *
+   * <p>The default implementation lists all partitions and slices the page from them, and doesn't
+   * support filters. Catalogs able to push the filter and the page down to the underlying source
+   * should override it.
+   *
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param startAfter The partition name to start listing after, or null to start from the first
+   *     partition.
+   * @param limit The maximum number of partitions to return.
+   * @return The partitions in this page.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   */
+  default Partition[] listPartitions(String filter, String startAfter, int limit)
+      throws UnsupportedOperationException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filter is not supported");
+    }
+    return Arrays.stream(listPartitions())
+        .filter(partition -> startAfter == null || partition.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(Partition::name))
+        .limit(limit)
+        .toArray(Partition[]::new);
+  }
+
+  /**
+   * Get the partitions with the given names in one call. The names of the partitions that don't
+   * exist are skipped.
+   *
+   * <p>The default implementation throws {@link UnsupportedOperationException}. Catalogs able to
+   * fetch the partitions by names in one call to the underlying source should override it, and
+   * declare the paged listing capability of the partitions.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return The partitions ordered by name.
+   * @throws UnsupportedOperationException If getting the partitions by names is not supported.
+   */
+  default Partition[] getPartitions(String... partitionNames)
+      throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Getting partitions by names is not supported");
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -30,6 +30,8 @@ public class HiveConstants {
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String LIST_TABLES_BATCH_SIZE = "list-tables.batch-size";
+  public static final String LIST_TABLES_PARALLELISM = "list-tables.parallelism";
 
   // table properties
   public static final String LOCATION = "location";
@@ -69,12 +69,29 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_WRITE_BATCH_SIZE = "metricsWriteBatchSize";
+  public static final String ICEBERG_METRICS_STORE_JDBC_URI = "metricsStoreJdbcUri";
+  public static final String ICEBERG_METRICS_STORE_JDBC_USER = "metricsStoreJdbcUser";
+  public static final String ICEBERG_METRICS_STORE_JDBC_PASSWORD = "metricsStoreJdbcPassword";
+  public static final String ICEBERG_METRICS_STORE_BUCKET_MINUTES = "metricsStoreBucketMinutes";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
   public static final String ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       "catalog-cache-eviction-interval-ms";
 
+  public static final String TABLE_LOCATION_CACHE_MAX_SIZE = "table-location-cache-max-size";
+  public static final String TABLE_LOCATION_CACHE_EXPIRE_MS = "table-location-cache-expire-ms";
+
+  public static final String TABLE_METADATA_CACHE_MAX_SIZE = "table-metadata-cache-max-size";
+  public static final String TABLE_METADATA_CACHE_EXPIRE_MS = "table-metadata-cache-expire-ms";
+
+  public static final String SCAN_PLANNING_THREADS = "scan-planning-threads";
+  public static final String SCAN_PLANNING_TASKS_PER_PAGE = "scan-planning-tasks-per-page";
+  public static final String SCAN_PLANNING_PLAN_TASK_EXPIRE_MS =
+      "scan-planning-plan-task-expire-ms";
+  public static final String SCAN_PLANNING_MAX_CACHED_TASKS = "scan-planning-max-cached-tasks";
+
   public static final String ICEBERG_REST_CATALOG_CONFIG_PROVIDER = "catalog-config-provider";
   public static final String STATIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME = "static-config-provider";
   public static final String DYNAMIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME =
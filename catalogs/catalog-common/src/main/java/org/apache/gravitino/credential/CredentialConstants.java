@@ -26,6 +26,10 @@ public class CredentialConstants {
   public static final String CREDENTIAL_PROVIDERS = "credential-providers";
   public static final String CREDENTIAL_CACHE_EXPIRE_RATIO = "credential-cache-expire-ratio";
   public static final String CREDENTIAL_CACHE_MAX_SIZE = "credential-cache-max-size";
+  public static final String CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO =
+      "credential-cache-refresh-ahead-ratio";
+  public static final String CREDENTIAL_CACHE_PATH_PREFIX_REUSE =
+      "credential-cache-path-prefix-reuse";
   public static final String S3_TOKEN_EXPIRE_IN_SECS = "s3-token-expire-in-secs";
   public static final String OSS_TOKEN_EXPIRE_IN_SECS = "oss-token-expire-in-secs";
   public static final String ADLS_TOKEN_EXPIRE_IN_SECS = "adls-token-expire-in-secs";
@@ -32,6 +32,16 @@ public class FilesetCatalogCapability implements Capability {
         String.format("Fileset catalog does not support managed storage for %s.", scope));
   }
 
+  @Override
+  public CapabilityResult pagedListing(Scope scope) {
+    // The filesets are stored in the entity store, which pages them by names.
+    if (Objects.requireNonNull(scope) == Scope.FILESET) {
+      return CapabilityResult.SUPPORTED;
+    }
+    return CapabilityResult.unsupported(
+        String.format("Fileset catalog does not support paged listing for %s.", scope));
+  }
+
   @Override
   public CapabilityResult specificationOnName(Scope scope, String name) {
     CapabilityResult capabilityResult = Capability.super.specificationOnName(scope, name);
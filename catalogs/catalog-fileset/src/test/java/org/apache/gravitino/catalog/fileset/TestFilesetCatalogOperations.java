@@ -92,6 +92,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.file.FileInfo;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.integration.test.util.MockConfigUtils;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.RelationalEntityStore;
@@ -230,6 +231,7 @@ public class TestFilesetCatalogOperations {
     f.deleteOnExit();
 
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    MockConfigUtils.mockGarbageCollectorConfigs(config);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     // Fix cache config for test
@@ -240,6 +242,7 @@ public class TestFilesetCatalogOperations {
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
     Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(16);
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_CHANNEL)).thenReturn("none");
 
     store = EntityStoreFactory.createEntityStore(config);
     store.initialize(config);
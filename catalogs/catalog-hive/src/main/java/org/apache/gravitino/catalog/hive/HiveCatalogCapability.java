@@ -53,4 +53,14 @@ public class HiveCatalogCapability implements Capability {
         return CapabilityResult.SUPPORTED;
     }
   }
+
+  @Override
+  public CapabilityResult pagedListing(Scope scope) {
+    // Hive Metastore lists the partition names in pages and gets the partitions by names.
+    if (scope == Scope.PARTITION) {
+      return CapabilityResult.SUPPORTED;
+    }
+    return CapabilityResult.unsupported(
+        String.format("Hive catalog does not support paged listing for %s.", scope));
+  }
 }
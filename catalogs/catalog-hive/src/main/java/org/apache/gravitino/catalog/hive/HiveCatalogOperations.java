@@ -31,22 +31,31 @@ import static org.apache.hadoop.hive.metastore.TableType.EXTERNAL_TABLE;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
@@ -59,7 +68,9 @@ import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
+import org.apache.gravitino.connector.SupportsListTablesInfo;
 import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.connector.SupportsTableVersion;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -99,7 +110,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** Operations for interacting with an Apache Hive catalog in Apache Gravitino. */
-public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas, TableCatalog {
+public class HiveCatalogOperations
+    implements CatalogOperations,
+        SupportsSchemas,
+        TableCatalog,
+        SupportsTableVersion,
+        SupportsListTablesInfo {
 
   public static final Logger LOG = LoggerFactory.getLogger(HiveCatalogOperations.class);
   public static final String GRAVITINO_KEYTAB_FORMAT = "keytabs/gravitino-hive-%s-keytab";
@@ -116,10 +132,15 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  private int listTablesBatchSize;
+  private ThreadPoolExecutor listTablesExecutor;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
 
+  // The names of the read optimized and real time views synced to Hive for a Hudi MOR table.
+  private static final String[] HUDI_TABLE_SUFFIXES = {"_ro", "_rt"};
+
   // Map that maintains the mapping of keys in Gravitino to that in Hive, for example, users
   // will only need to set the configuration 'METASTORE_URL' in Gravitino and Gravitino will change
   // it to `METASTOREURIS` automatically and pass it to Hive.
@@ -176,6 +197,34 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     this.clientPool = new CachedClientPool(hiveConf, conf);
 
     this.listAllTables = enableListAllTables(conf);
+
+    this.listTablesBatchSize =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE);
+    Preconditions.checkArgument(
+        listTablesBatchSize > 0,
+        "%s must be positive",
+        HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE);
+    int listTablesParallelism =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMetadata.LIST_TABLES_PARALLELISM);
+    Preconditions.checkArgument(
+        listTablesParallelism > 0,
+        "%s must be positive",
+        HiveCatalogPropertiesMetadata.LIST_TABLES_PARALLELISM);
+    this.listTablesExecutor =
+        new ThreadPoolExecutor(
+            listTablesParallelism,
+            listTablesParallelism,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            getThreadFactory(String.format("Hive-list-tables-%s", info.id())));
+    listTablesExecutor.allowCoreThreadTimeOut(true);
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -304,6 +353,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       checkTgtExecutor = null;
     }
 
+    if (listTablesExecutor != null) {
+      listTablesExecutor.shutdownNow();
+      listTablesExecutor = null;
+    }
+
     Path keytabPath = Paths.get(String.format(GRAVITINO_KEYTAB_FORMAT, info.id()));
     if (Files.exists(keytabPath)) {
       try {
@@ -528,6 +582,92 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
+    return listTableNames(namespace).stream()
+        .map(tbName -> NameIdentifier.of(namespace, tbName))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  /**
+   * Lists all the tables under the specified namespace with their details. The tables are fetched
+   * from the Hive Metastore in batches of {@link
+   * HiveCatalogPropertiesMetadata#LIST_TABLES_BATCH_SIZE} tables, and the batches are fetched
+   * concurrently.
+   *
+   * @param namespace The namespace to list tables for.
+   * @return An array of {@link Table} in the namespace.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    List<String> tableNames = listTableNames(namespace);
+
+    // The Hive Metastore clients are cached per user, run the requests as the current user so that
+    // the impersonation still works in the fetching threads.
+    UserGroupInformation currentUser;
+    try {
+      currentUser = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    List<CompletableFuture<List<org.apache.hadoop.hive.metastore.api.Table>>> batches =
+        Lists.partition(tableNames, listTablesBatchSize).stream()
+            .map(
+                batch ->
+                    CompletableFuture.supplyAsync(
+                        () -> getHiveTables(currentUser, schemaIdent.name(), batch),
+                        listTablesExecutor))
+            .collect(Collectors.toList());
+
+    try {
+      Table[] tables =
+          batches.stream()
+              .flatMap(batch -> batch.join().stream())
+              .map(
+                  table ->
+                      HiveTable.fromHiveTable(table)
+                          .withProxyPlugin(proxyPlugin)
+                          .withClientPool(clientPool)
+                          .build())
+              .toArray(Table[]::new);
+      LOG.info(
+          "Listed {} Hive tables with details under namespace {} in {} batches",
+          tables.length,
+          namespace,
+          batches.size());
+      return tables;
+
+    } catch (CompletionException e) {
+      batches.forEach(batch -> batch.cancel(false));
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> getHiveTables(
+      UserGroupInformation user, String schemaName, List<String> tableNames) {
+    try {
+      return user.doAs(
+          (PrivilegedExceptionAction<List<org.apache.hadoop.hive.metastore.api.Table>>)
+              () -> clientPool.run(c -> c.getTableObjectsByName(schemaName, tableNames)));
+    } catch (UndeclaredThrowableException e) {
+      if (e.getCause() instanceof UnknownDBException) {
+        throw new NoSuchSchemaException(
+            "Schema (database) does not exist %s in Hive Metastore", schemaName);
+      }
+      throw new RuntimeException(
+          "Failed to get tables under the schema " + schemaName + " from Hive Metastore",
+          e.getCause());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private List<String> listTableNames(Namespace namespace) throws NoSuchSchemaException {
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     if (!schemaExists(schemaIdent)) {
       throw new NoSuchSchemaException("Schema (database) does not exist %s", namespace);
@@ -568,9 +708,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
                 c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
         removeHudiTables(allTables, hudiTables);
       }
-      return allTables.stream()
-          .map(tbName -> NameIdentifier.of(namespace, tbName))
-          .toArray(NameIdentifier[]::new);
+      return allTables;
 
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
@@ -595,14 +733,31 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
+  @VisibleForTesting
+  static void removeHudiTables(List<String> allTables, List<String> hudiTables) {
+    if (hudiTables.isEmpty()) {
+      return;
     }
+
+    Set<String> hudiTableSet = Sets.newHashSet(hudiTables);
+    allTables.removeIf(t -> isHudiTable(t, hudiTableSet));
+  }
+
+  // A table is a Hudi table if it's one of the Hudi tables, or it starts with the name of a Hudi
+  // table followed by a suffix of the views synced to Hive.
+  private static boolean isHudiTable(String table, Set<String> hudiTables) {
+    if (hudiTables.contains(table)) {
+      return true;
+    }
+
+    for (String suffix : HUDI_TABLE_SUFFIXES) {
+      for (int i = table.indexOf(suffix, 1); i > 0; i = table.indexOf(suffix, i + 1)) {
+        if (hudiTables.contains(table.substring(0, i))) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
 
   /**
@@ -625,6 +780,25 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return hiveTable;
   }
 
+  /**
+   * Returns the last DDL time of the table recorded by the Hive Metastore along with the hash of
+   * the table metadata. The last DDL time is in seconds, the hash tells apart the changes made in
+   * the same second.
+   *
+   * @param tableIdent The identifier of the table.
+   * @return The version of the table.
+   * @throws NoSuchTableException If the specified table does not exist in the Hive Metastore.
+   */
+  @Override
+  public String tableVersion(NameIdentifier tableIdent) throws NoSuchTableException {
+    org.apache.hadoop.hive.metastore.api.Table table = loadHiveTable(tableIdent);
+    String lastDdlTime =
+        table.getParameters() == null
+            ? null
+            : table.getParameters().get(HiveConstants.TRANSIENT_LAST_DDL_TIME);
+    return lastDdlTime + "-" + Integer.toHexString(table.hashCode());
+  }
+
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
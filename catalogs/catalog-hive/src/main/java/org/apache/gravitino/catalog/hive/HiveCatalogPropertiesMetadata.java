@@ -49,6 +49,14 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String LIST_TABLES_BATCH_SIZE = HiveConstants.LIST_TABLES_BATCH_SIZE;
+
+  public static final int DEFAULT_LIST_TABLES_BATCH_SIZE = 300;
+
+  public static final String LIST_TABLES_PARALLELISM = HiveConstants.LIST_TABLES_PARALLELISM;
+
+  public static final int DEFAULT_LIST_TABLES_PARALLELISM = 4;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -109,6 +117,24 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              LIST_TABLES_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_BATCH_SIZE,
+                  "The number of tables fetched from Hive metastore in one request when listing"
+                      + " the tables with details",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_BATCH_SIZE,
+                  false /* hidden */))
+          .put(
+              LIST_TABLES_PARALLELISM,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_PARALLELISM,
+                  "The number of concurrent requests to fetch the tables from Hive metastore when"
+                      + " listing the tables with details",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_PARALLELISM,
+                  false /* hidden */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
@@ -19,8 +19,10 @@
 package org.apache.gravitino.catalog.hive;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,8 +40,12 @@ import org.apache.gravitino.rel.expressions.transforms.Transforms;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
+import org.apache.gravitino.utils.ClientPool;
 import org.apache.hadoop.hive.common.FileUtils;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -54,6 +60,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
 
   private static final String PARTITION_NAME_DELIMITER = "/";
   private static final String PARTITION_VALUE_DELIMITER = "=";
+  private static final String STRING_TYPE_NAME = "string";
 
   private final HiveTable table;
 
@@ -99,6 +106,196 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  /**
+   * Lists the partition names in pages. The first page of an unfiltered listing is fetched by
+   * {@code listPartitionNames} with the limit, the other pages are taken from the partitions of the
+   * page, see {@link #listPartitions(String, String, int)}.
+   */
+  @Override
+  public String[] listPartitionNames(String filter, String startAfter, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    if (filter == null && startAfter == null) {
+      return listFromHive(
+              c -> c.listPartitionNames(table.schemaName(), table.name(), maxParts(limit)))
+          .stream()
+          .sorted()
+          .limit(limit)
+          .toArray(String[]::new);
+    }
+
+    if (filter == null && afterFilter(startAfter) == null) {
+      return Arrays.stream(listPartitionNames())
+          .filter(name -> name.compareTo(startAfter) > 0)
+          .sorted()
+          .limit(limit)
+          .toArray(String[]::new);
+    }
+    return Arrays.stream(listPartitions(filter, startAfter, limit))
+        .map(Partition::name)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Lists the partitions in pages. The filter uses the syntax of the Hive Metastore {@code
+   * listPartitionsByFilter}, for example {@code dt > "2024-01-01" and region = "us"}, and is
+   * evaluated by the Hive Metastore together with the start of the page, see {@link
+   * #afterFilter(String)}. The Hive Metastore returns the partitions in the order of their names
+   * and at most as many as requested, so only the page and the partitions selected by the start
+   * of the page but before it are fetched.
+   *
+   * <p>If the start of the page can't be expressed by a filter, the page is cut from all the
+   * matching partitions.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    if (filter == null && startAfter == null) {
+      return sortAndLimit(
+          listFromHive(c -> c.listPartitions(table.schemaName(), table.name(), maxParts(limit))),
+          null,
+          limit);
+    }
+
+    String afterFilter = startAfter == null ? null : afterFilter(startAfter);
+    if (startAfter != null && afterFilter == null) {
+      return filter == null
+          ? getPartitions(listPartitionNames(null, startAfter, limit))
+          : sortAndLimit(listPartitionsByFilter(filter, (short) -1), startAfter, limit);
+    }
+
+    String pageFilter =
+        afterFilter == null
+            ? filter
+            : filter == null ? afterFilter : "(" + filter + ") and (" + afterFilter + ")";
+    int fetchSize = limit;
+    while (true) {
+      short maxParts = maxParts(fetchSize);
+      List<org.apache.hadoop.hive.metastore.api.Partition> partitions =
+          listPartitionsByFilter(pageFilter, maxParts);
+      Partition[] page = sortAndLimit(partitions, startAfter, limit);
+      if (page.length == limit || maxParts < 0 || partitions.size() < maxParts) {
+        return page;
+      }
+
+      // The partitions before startAfter come first, fetch the page after them.
+      int skipped = partitions.size() - page.length;
+      fetchSize = page.length == 0 ? fetchSize * 2 : skipped + limit;
+    }
+  }
+
+  /** Gets the partitions by names with one {@code getPartitionsByNames} call to Hive Metastore. */
+  @Override
+  public Partition[] getPartitions(String... partitionNames) {
+    if (partitionNames.length == 0) {
+      return new Partition[0];
+    }
+
+    List<String> names = Arrays.asList(partitionNames);
+    return sortAndLimit(
+        listFromHive(c -> c.getPartitionsByNames(table.schemaName(), table.name(), names)),
+        null,
+        Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns a filter selecting all the partitions whose names are after {@code startAfter}, and
+   * possibly some before it, or null if there is no such filter narrower than all the partitions.
+   *
+   * <p>The Hive Metastore can't filter by partition name, so the filter compares the value of the
+   * first partition key, which must be a string, with the longest prefix of its value in {@code
+   * startAfter} made of characters that aren't escaped in the partition name and sort after the
+   * escape character {@code %}. A value is after the prefix unless it's a prefix itself followed by
+   * a character sorting before the name delimiter {@code /}, for example {@code 2024-01} before
+   * {@code 2024-01-01}, so these prefixes are selected as well.
+   */
+  private String afterFilter(String startAfter) {
+    List<FieldSchema> partKeys = table.buildPartitionKeys();
+    if (partKeys.isEmpty() || !STRING_TYPE_NAME.equalsIgnoreCase(partKeys.get(0).getType())) {
+      return null;
+    }
+
+    Map<String, String> spec;
+    try {
+      spec = Warehouse.makeSpecFromName(startAfter);
+    } catch (MetaException e) {
+      throw new IllegalArgumentException("Invalid partition name " + startAfter, e);
+    }
+    Preconditions.checkArgument(!spec.isEmpty(), "Invalid partition name %s", startAfter);
+    String value = spec.values().iterator().next();
+
+    int prefixLength = 0;
+    while (prefixLength < value.length() && keepsNameOrder(value.charAt(prefixLength))) {
+      prefixLength++;
+    }
+    if (prefixLength == 0) {
+      return null;
+    }
+
+    // The prefix has no quotes since they are escaped characters.
+    String key = partKeys.get(0).getName();
+    List<String> terms = Lists.newArrayList();
+    terms.add(key + " >= \"" + value.substring(0, prefixLength) + "\"");
+    for (int i = 1; i < prefixLength; i++) {
+      if (value.charAt(i) < '/') {
+        terms.add(key + " = \"" + value.substring(0, i) + "\"");
+      }
+    }
+    return String.join(" or ", terms);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Partition> listPartitionsByFilter(
+      String filter, short maxParts) {
+    try {
+      return table
+          .clientPool()
+          .run(
+              c ->
+                  c.listPartitionsByFilter(table.schemaName(), table.name(), filter, maxParts));
+    } catch (MetaException e) {
+      throw new IllegalArgumentException(
+          "Invalid partition filter " + filter + ": " + e.getMessage(), e);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  private <R> R listFromHive(ClientPool.Action<R, IMetaStoreClient, TException> action) {
+    try {
+      return table.clientPool().run(action);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  private Partition[] sortAndLimit(
+      List<org.apache.hadoop.hive.metastore.api.Partition> partitions,
+      String startAfter,
+      int limit) {
+    List<String> partCols =
+        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    return partitions.stream()
+        .map(
+            partition ->
+                fromHivePartition(
+                    FileUtils.makePartName(partCols, partition.getValues()), partition))
+        .filter(partition -> startAfter == null || partition.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(Partition::name))
+        .limit(limit)
+        .toArray(Partition[]::new);
+  }
+
+  // The character appears as is in the partition name and sorts after the escape character.
+  private static boolean keepsNameOrder(char c) {
+    return c > '%' && FileUtils.escapePathName(String.valueOf(c)).length() == 1;
+  }
+
+  // The Hive Metastore takes the maximum count as a short, -1 means no limit.
+  private static short maxParts(int limit) {
+    return limit > Short.MAX_VALUE ? (short) -1 : (short) limit;
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
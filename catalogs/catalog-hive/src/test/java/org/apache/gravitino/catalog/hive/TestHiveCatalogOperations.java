@@ -30,6 +30,8 @@ import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.FE
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.IMPERSONATION_ENABLE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.KEY_TAB_URI;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_PARALLELISM;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.TestHiveCatalog.HIVE_PROPERTIES_METADATA;
@@ -39,7 +41,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -73,7 +77,7 @@ class TestHiveCatalogOperations {
     Map<String, PropertyEntry<?>> propertyEntryMap =
         HIVE_PROPERTIES_METADATA.catalogPropertiesMetadata().propertyEntries();
 
-    Assertions.assertEquals(16, propertyEntryMap.size());
+    Assertions.assertEquals(18, propertyEntryMap.size());
     Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_URIS));
     Assertions.assertTrue(propertyEntryMap.containsKey(Catalog.PROPERTY_PACKAGE));
     Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_OPERATION_IMPL));
@@ -82,6 +86,8 @@ class TestHiveCatalogOperations {
     Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_SIZE));
     Assertions.assertTrue(propertyEntryMap.containsKey(IMPERSONATION_ENABLE));
     Assertions.assertTrue(propertyEntryMap.containsKey(LIST_ALL_TABLES));
+    Assertions.assertTrue(propertyEntryMap.containsKey(LIST_TABLES_BATCH_SIZE));
+    Assertions.assertTrue(propertyEntryMap.containsKey(LIST_TABLES_PARALLELISM));
     Assertions.assertTrue(propertyEntryMap.get(METASTORE_URIS).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(Catalog.PROPERTY_PACKAGE).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(CLIENT_POOL_SIZE).isRequired());
@@ -98,6 +104,19 @@ class TestHiveCatalogOperations {
     Assertions.assertFalse(propertyEntryMap.get(CLOUD_REGION_CODE).isImmutable());
   }
 
+  @Test
+  void testRemoveHudiTables() {
+    List<String> allTables =
+        Lists.newArrayList(
+            "hudi", "hudi_ro", "hudi_rt", "hudi_rt_1", "hudi2", "hive", "hive_ro", "a_ro_hudi_rt");
+    HiveCatalogOperations.removeHudiTables(allTables, Lists.newArrayList("hudi", "a_ro_hudi"));
+    Assertions.assertEquals(Lists.newArrayList("hudi2", "hive", "hive_ro"), allTables);
+
+    allTables = Lists.newArrayList("hudi", "hive");
+    HiveCatalogOperations.removeHudiTables(allTables, Lists.newArrayList());
+    Assertions.assertEquals(Lists.newArrayList("hudi", "hive"), allTables);
+  }
+
   @Test
   void testPropertyOverwrite() {
     Map<String, String> maps = Maps.newHashMap();
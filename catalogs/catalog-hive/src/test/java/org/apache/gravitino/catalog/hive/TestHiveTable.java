@@ -31,9 +31,11 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
 import org.apache.gravitino.meta.AuditInfo;
@@ -96,6 +98,10 @@ public class TestHiveTable extends MiniHiveMetastoreService {
   }
 
   protected static HiveCatalog initHiveCatalog() {
+    return initHiveCatalog(ImmutableMap.of());
+  }
+
+  protected static HiveCatalog initHiveCatalog(Map<String, String> extraConf) {
     AuditInfo auditInfo =
         AuditInfo.builder().withCreator("testHiveUser").withCreateTime(Instant.now()).build();
 
@@ -124,6 +130,7 @@ public class TestHiveTable extends MiniHiveMetastoreService {
     conf.put(
         CATALOG_BYPASS_PREFIX + HiveConf.ConfVars.HIVE_IN_TEST.varname,
         hiveConf.get(HiveConf.ConfVars.HIVE_IN_TEST.varname));
+    conf.putAll(extraConf);
 
     return new HiveCatalog().withCatalogConf(conf).withCatalogEntity(entity);
   }
@@ -407,6 +414,49 @@ public class TestHiveTable extends MiniHiveMetastoreService {
     Assertions.assertTrue(exception.getMessage().contains("Schema (database) does not exist"));
   }
 
+  @Test
+  public void testListTablesInfo() {
+    Namespace tableNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), hiveSchema.name());
+    Column[] columns =
+        new Column[] {
+          HiveColumn.builder().withName("col_1").withType(Types.ByteType.get()).build()
+        };
+    for (int i = 0; i < 5; i++) {
+      hiveCatalogOperations.createTable(
+          NameIdentifier.of(tableNs, "table_" + i), columns, HIVE_COMMENT, ImmutableMap.of());
+    }
+    hiveCatalogOperations.createTable(
+        NameIdentifier.of(tableNs, "hudi_table"),
+        columns,
+        HIVE_COMMENT,
+        ImmutableMap.of("provider", "hudi"));
+
+    // Fetch the tables in batches of 2 tables
+    HiveCatalog catalog =
+        initHiveCatalog(ImmutableMap.of(HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE, "2"));
+    try {
+      HiveCatalogOperations ops = (HiveCatalogOperations) catalog.ops();
+      Table[] tables = ops.listTablesInfo(tableNs);
+      Assertions.assertEquals(
+          Arrays.stream(ops.listTables(tableNs))
+              .map(NameIdentifier::name)
+              .sorted()
+              .collect(Collectors.toList()),
+          Arrays.stream(tables).map(Table::name).sorted().collect(Collectors.toList()));
+      Assertions.assertEquals(5, tables.length);
+      for (Table table : tables) {
+        Assertions.assertEquals(HIVE_COMMENT, table.comment());
+        Assertions.assertEquals(1, table.columns().length);
+        Assertions.assertEquals("col_1", table.columns()[0].name());
+      }
+
+      Namespace notExistNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), "not_exist_db");
+      Assertions.assertThrows(NoSuchSchemaException.class, () -> ops.listTablesInfo(notExistNs));
+    } finally {
+      catalog.close();
+    }
+  }
+
   @Test
   public void testAlterHiveTable() {
     // create a table with random name
@@ -571,6 +621,40 @@ public class TestHiveTable extends MiniHiveMetastoreService {
     Assertions.assertArrayEquals(createdTable.partitioning(), alteredTable.partitioning());
   }
 
+  @Test
+  public void testTableVersion() {
+    NameIdentifier tableIdentifier =
+        NameIdentifier.of(META_LAKE_NAME, hiveCatalog.name(), hiveSchema.name(), "versioned_table");
+    Column[] columns =
+        new Column[] {
+          HiveColumn.builder()
+              .withName("col_1")
+              .withType(Types.ByteType.get())
+              .withComment(HIVE_COMMENT)
+              .build()
+        };
+    hiveCatalogOperations.createTable(
+        tableIdentifier,
+        columns,
+        HIVE_COMMENT,
+        ImmutableMap.of("key1", "val1"),
+        new Transform[0],
+        Distributions.NONE,
+        new SortOrder[0]);
+
+    String version = hiveCatalogOperations.tableVersion(tableIdentifier);
+    Assertions.assertNotNull(version);
+    Assertions.assertEquals(version, hiveCatalogOperations.tableVersion(tableIdentifier));
+
+    // The version changes even if the table is altered in the same second as it's created.
+    hiveCatalogOperations.alterTable(tableIdentifier, TableChange.setProperty("key2", "val2"));
+    Assertions.assertNotEquals(version, hiveCatalogOperations.tableVersion(tableIdentifier));
+
+    hiveCatalogOperations.dropTable(tableIdentifier);
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> hiveCatalogOperations.tableVersion(tableIdentifier));
+  }
+
   @Test
   public void testPurgeHiveTable() {
     String hiveTableName = "test_hive_table";
@@ -26,9 +26,11 @@ import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveCatalog;
 import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveSchema;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.identity;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -110,6 +112,69 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsInPages() {
+    HiveColumn region =
+        HiveColumn.builder().withName("region").withType(Types.StringType.get()).build();
+    HiveColumn dt = HiveColumn.builder().withName("dt").withType(Types.StringType.get()).build();
+    HiveTable table =
+        (HiveTable)
+            hiveCatalogOperations.createTable(
+                NameIdentifier.of(
+                    META_LAKE_NAME, HIVE_CATALOG_NAME, HIVE_SCHEMA_NAME, genRandomName()),
+                new Column[] {region, dt},
+                HIVE_COMMENT,
+                Maps.newHashMap(),
+                new Transform[] {identity(region.name()), identity(dt.name())});
+    SupportsPartitions partitions = table.supportPartitions();
+    // "us" is a prefix of "us-east" but its names sort after it, since '-' sorts before '/'
+    String[] regions = new String[] {"eu", "us", "us-east", "us.west", "us:1", "usa"};
+    for (String value : regions) {
+      for (String day : new String[] {"2024-01-01", "2024-01-02"}) {
+        partitions.addPartition(
+            Partitions.identity(
+                new String[][] {{region.name()}, {dt.name()}},
+                new Literal<?>[] {Literals.stringLiteral(value), Literals.stringLiteral(day)}));
+      }
+    }
+    String[] names = partitions.listPartitionNames();
+    Arrays.sort(names);
+
+    for (int limit = 1; limit <= names.length; limit++) {
+      List<String> pagedNames = Lists.newArrayList();
+      String startAfter = null;
+      Partition[] page;
+      do {
+        page = partitions.listPartitions(null, startAfter, limit);
+        Arrays.stream(page).map(Partition::name).forEach(pagedNames::add);
+        startAfter = page.length == 0 ? null : page[page.length - 1].name();
+      } while (page.length == limit);
+      Assertions.assertEquals(Arrays.asList(names), pagedNames);
+    }
+
+    String filter = "region >= \"us-\" and region < \"us/\" and dt = \"2024-01-02\"";
+    Assertions.assertArrayEquals(
+        new String[] {"region=us-east/dt=2024-01-02", "region=us.west/dt=2024-01-02"},
+        partitions.listPartitionNames(filter, null, 10));
+    Assertions.assertArrayEquals(
+        new String[] {"region=us.west/dt=2024-01-02"},
+        partitions.listPartitionNames(filter, "region=us-east/dt=2024-01-02", 10));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> partitions.listPartitions("no_such_column = 1", null, 10));
+  }
+
+  @Test
+  public void testGetPartitions() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    Assertions.assertEquals(0, partitions.getPartitions().length);
+
+    // The names of absent partitions are skipped
+    Partition[] result =
+        partitions.getPartitions(existingPartition.name(), "does_not_exist_partition");
+    Assertions.assertArrayEquals(new Partition[] {existingPartition}, result);
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
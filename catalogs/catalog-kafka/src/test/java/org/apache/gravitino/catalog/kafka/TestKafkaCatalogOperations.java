@@ -64,6 +64,7 @@ import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTopicException;
 import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
+import org.apache.gravitino.integration.test.util.MockConfigUtils;
 import org.apache.gravitino.messaging.Topic;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.meta.AuditInfo;
@@ -155,6 +156,7 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     f.deleteOnExit();
 
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    MockConfigUtils.mockGarbageCollectorConfigs(config);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     // Fix cache config for test
@@ -165,6 +167,7 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
     Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(16);
+    Mockito.when(config.get(Configs.CACHE_INVALIDATION_CHANNEL)).thenReturn("none");
 
     // Mock
     MetalakeMetaService metalakeMetaService = MetalakeMetaService.getInstance();
@@ -31,4 +31,14 @@ public class ModelCatalogCapability implements Capability {
     return CapabilityResult.unsupported(
         String.format("Model catalog does not support managed storage for %s.", scope));
   }
+
+  @Override
+  public CapabilityResult pagedListing(Scope scope) {
+    // The models are stored in the entity store, which pages them by names.
+    if (Objects.requireNonNull(scope) == Scope.MODEL) {
+      return CapabilityResult.SUPPORTED;
+    }
+    return CapabilityResult.unsupported(
+        String.format("Model catalog does not support paged listing for %s.", scope));
+  }
 }
@@ -1,3 +1,4 @@
+import net.ltgt.gradle.errorprone.errorprone
 /*
  * Licensed to the Apache Software Foundation (ASF) under one
  * or more contributor license agreements.  See the NOTICE file
@@ -20,6 +21,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -80,6 +82,21 @@ tasks.test {
   }
 }
 
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone?.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 5
+  iterations = 10
+  fork = 1
+  threads = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
+}
+
 tasks.javadoc {
   dependsOn(":api:javadoc", ":common:javadoc")
   source =
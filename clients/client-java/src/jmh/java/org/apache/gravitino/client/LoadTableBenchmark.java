@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.DistributionDTO;
+import org.apache.gravitino.dto.rel.SortOrderDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.rel.partitioning.Partitioning;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * LoadTableBenchmark compares the throughput of loading a batch of tables one by one with the
+ * blocking client with loading them concurrently with the non-blocking client.
+ *
+ * <p>The tables are served by a local HTTP server which delays each response by {@code latencyMs}
+ * to simulate the latency of the Gravitino server.
+ *
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LoadTableBenchmark {
+
+  @Param({"100"})
+  public int tableCount;
+
+  @Param({"0", "5"})
+  public int latencyMs;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private HTTPClient restClient;
+  private TableCatalog tableCatalog;
+  private AsyncTableCatalog asyncTableCatalog;
+  private NameIdentifier[] tables;
+
+  @Setup
+  public void setup() throws IOException {
+    ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("table")
+            .withColumns(
+                new ColumnDTO[] {
+                  ColumnDTO.builder().withName("id").withDataType(Types.LongType.get()).build(),
+                  ColumnDTO.builder().withName("name").withDataType(Types.StringType.get()).build()
+                })
+            .withComment("comment")
+            .withProperties(Collections.emptyMap())
+            .withDistribution(DistributionDTO.NONE)
+            .withSortOrders(new SortOrderDTO[0])
+            .withPartitioning(new Partitioning[0])
+            .withAudit(audit)
+            .build();
+    byte[] tableResponse = mapper.writeValueAsBytes(new TableResponse(table));
+
+    // Disable Nagle's algorithm of the server, otherwise the small responses are delayed.
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    this.serverExecutor = Executors.newFixedThreadPool(200);
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> respond(exchange, tableResponse));
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    this.restClient =
+        HTTPClient.builder(Collections.emptyMap())
+            .uri("http://localhost:" + server.getAddress().getPort())
+            .build();
+    CatalogDTO catalog =
+        CatalogDTO.builder()
+            .withName("catalog")
+            .withType(Catalog.Type.RELATIONAL)
+            .withProvider("hive")
+            .withAudit(audit)
+            .build();
+    this.tableCatalog = DTOConverters.toCatalog("metalake", catalog, restClient).asTableCatalog();
+    this.asyncTableCatalog = (AsyncTableCatalog) tableCatalog;
+    this.tables = new NameIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      tables[i] = NameIdentifier.of("schema", "table" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    restClient.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public void loadTablesSync(Blackhole blackhole) {
+    for (NameIdentifier ident : tables) {
+      blackhole.consume(tableCatalog.loadTable(ident));
+    }
+  }
+
+  @Benchmark
+  public void loadTablesAsync(Blackhole blackhole) {
+    List<CompletableFuture<Table>> futures = new ArrayList<>(tables.length);
+    for (NameIdentifier ident : tables) {
+      futures.add(asyncTableCatalog.loadTableAsync(ident));
+    }
+    for (CompletableFuture<Table> future : futures) {
+      blackhole.consume(future.join());
+    }
+  }
+
+  private void respond(HttpExchange exchange, byte[] body) throws IOException {
+    try {
+      if (latencyMs > 0) {
+        Thread.sleep(latencyMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
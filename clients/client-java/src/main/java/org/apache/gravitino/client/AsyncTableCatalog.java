@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * The table operations of a relational catalog which don't block the calling thread. The requests
+ * are sent by a non-blocking HTTP client, so that a large number of tables can be loaded
+ * concurrently without a thread for each in-flight request.
+ *
+ * <p>The relational catalogs loaded by the Gravitino client implement this interface, for example
+ * {@code ((AsyncTableCatalog) catalog.asTableCatalog()).loadTableAsync(ident)}.
+ *
+ * <p>The returned futures are completed by the I/O threads of the HTTP client, the dependent stages
+ * which may block should be run with an executor, for example by {@link
+ * CompletableFuture#thenApplyAsync(java.util.function.Function, java.util.concurrent.Executor)}.
+ */
+public interface AsyncTableCatalog {
+
+  /**
+   * List the tables in a schema namespace without blocking the calling thread.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name.
+   * @return The future of the array of table identifiers in the namespace, completed exceptionally
+   *     with {@link org.apache.gravitino.exceptions.NoSuchSchemaException} if the schema does not
+   *     exist.
+   */
+  CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace);
+
+  /**
+   * Load the table with specified identifier without blocking the calling thread.
+   *
+   * @param ident The identifier of the table to load, which should be "schema.table" format.
+   * @return The future of the table, completed exceptionally with {@link
+   *     org.apache.gravitino.exceptions.NoSuchTableException} if the table does not exist.
+   */
+  CompletableFuture<Table> loadTableAsync(NameIdentifier ident);
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.base.Preconditions;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The result of loading a single metadata object in a batch, which is either the loaded metadata
+ * object or the exception failed to load it.
+ *
+ * @param <T> The type of the metadata object.
+ */
+public final class BatchLoadResult<T> {
+
+  private final NameIdentifier identifier;
+  private final T value;
+  private final RuntimeException exception;
+
+  private BatchLoadResult(NameIdentifier identifier, T value, RuntimeException exception) {
+    this.identifier = identifier;
+    this.value = value;
+    this.exception = exception;
+  }
+
+  static <T> BatchLoadResult<T> success(NameIdentifier identifier, T value) {
+    Preconditions.checkArgument(value != null, "value must not be null");
+    return new BatchLoadResult<>(identifier, value, null);
+  }
+
+  static <T> BatchLoadResult<T> failure(NameIdentifier identifier, RuntimeException exception) {
+    Preconditions.checkArgument(exception != null, "exception must not be null");
+    return new BatchLoadResult<>(identifier, null, exception);
+  }
+
+  /** @return The requested identifier of the metadata object. */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /** @return True if the metadata object is loaded successfully. */
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  /**
+   * Returns the loaded metadata object, or throws the exception failed to load it, for example
+   * {@link org.apache.gravitino.exceptions.NoSuchTableException} if the table does not exist.
+   *
+   * @return The loaded metadata object.
+   */
+  public T get() {
+    if (exception != null) {
+      throw exception;
+    }
+    return value;
+  }
+
+  /**
+   * @return The exception failed to load the metadata object, or null if it's loaded successfully.
+   */
+  public RuntimeException exception() {
+    return exception;
+  }
+}
@@ -35,12 +35,14 @@ import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.SupportsCredentials;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -102,6 +104,45 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the filesets under a schema namespace in the order of their names. Paging keeps
+   * the size of each response bounded for schemas with a huge number of filesets.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of filesets in the page.
+   * @return The page of {@link NameIdentifier} of filesets under the given namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  public NameIdentifierPage listFilesets(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("limit", String.valueOf(limit));
+    if (pageToken != null) {
+      queryParams.put("pageToken", pageToken);
+    }
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(fullNamespace),
+            queryParams,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new NameIdentifierPage(idents, resp.nextPageToken());
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -269,6 +310,44 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  /**
+   * Get the actual locations of multiple files or directories in a single request. The caller
+   * context is sent with the request, so the server audits every sub path with it.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @param locationName The name of the location to be accessed.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws NoSuchLocationNameException If the location name does not exist.
+   */
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    checkFilesetNameIdentifier(ident);
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+
+    try {
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+
+      FileLocationsRequest req = new FileLocationsRequest(subPaths, locationName);
+      req.validate();
+      FileLocationsResponse resp =
+          restClient.post(
+              formatFileLocationsRequestPath(fullNamespace, ident.name()),
+              req,
+              FileLocationsResponse.class,
+              callerContext != null ? callerContext.context() : Collections.emptyMap(),
+              ErrorHandlers.filesetErrorHandler());
+      resp.validate();
+
+      return resp.getFileLocations();
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
@@ -303,6 +382,19 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toString();
   }
 
+  @VisibleForTesting
+  static String formatFileLocationsRequestPath(Namespace ns, String name) {
+    Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
+    return new StringBuilder()
+        .append(formatSchemaRequestPath(schemaNs))
+        .append("/")
+        .append(RESTUtils.encodeString(ns.level(2)))
+        .append("/filesets/")
+        .append(RESTUtils.encodeString(name))
+        .append("/locations")
+        .toString();
+  }
+
   /**
    * Check whether the namespace of a fileset is valid.
    *
@@ -23,6 +23,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -96,6 +97,45 @@ class GenericModelCatalog extends BaseSchemaCatalog implements ModelCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the models under a schema namespace in the order of their names. Paging keeps
+   * the size of each response bounded for schemas with a huge number of models.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of models in the page.
+   * @return The page of {@link NameIdentifier} of models under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public NameIdentifierPage listModels(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    checkModelNamespace(namespace);
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("limit", String.valueOf(limit));
+    if (pageToken != null) {
+      queryParams.put("pageToken", pageToken);
+    }
+
+    Namespace modelFullNs = modelFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatModelRequestPath(modelFullNs),
+            queryParams,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.modelErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new NameIdentifierPage(idents, resp.nextPageToken());
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     checkModelNameIdentifier(ident);
@@ -25,9 +25,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.SupportsCatalogs;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.Owner;
@@ -66,6 +69,7 @@ import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyChange;
 import org.apache.gravitino.policy.PolicyContent;
 import org.apache.gravitino.policy.PolicyOperations;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
 import org.apache.gravitino.tag.TagOperations;
@@ -130,6 +134,40 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().loadCatalog(catalogName);
   }
 
+  /**
+   * Load the catalog with specified identifier without blocking the calling thread.
+   *
+   * @param catalogName The identifier of the catalog to load.
+   * @return The future of the {@link Catalog}, completed exceptionally with {@link
+   *     NoSuchCatalogException} if the catalog does not exist.
+   * @see GravitinoMetalake#loadCatalogAsync(String)
+   */
+  public CompletableFuture<Catalog> loadCatalogAsync(String catalogName) {
+    return getMetalake().loadCatalogAsync(catalogName);
+  }
+
+  /**
+   * Load multiple schemas of the metalake in one request.
+   *
+   * @param idents The identifiers of the schemas, which should be "catalog.schema" format.
+   * @return The load results in the same order as the identifiers.
+   * @see GravitinoMetalake#loadSchemas(NameIdentifier...)
+   */
+  public List<BatchLoadResult<Schema>> loadSchemas(NameIdentifier... idents) {
+    return getMetalake().loadSchemas(idents);
+  }
+
+  /**
+   * Load multiple tables of the metalake in one request.
+   *
+   * @param idents The identifiers of the tables, which should be "catalog.schema.table" format.
+   * @return The load results in the same order as the identifiers.
+   * @see GravitinoMetalake#loadTables(NameIdentifier...)
+   */
+  public List<BatchLoadResult<Table>> loadTables(NameIdentifier... idents) {
+    return getMetalake().loadTables(idents);
+  }
+
   @Override
   public Catalog createCatalog(
       String catalogName,
@@ -38,14 +38,47 @@ public class GravitinoClientConfiguration {
   /** A default value for http socket timeout in milliseconds. */
   public static final int CLIENT_SOCKET_TIMEOUT_MS_DEFAULT = 180_000;
 
+  /** A default value for the max number of cached GET responses. */
+  public static final int CLIENT_RESPONSE_CACHE_SIZE_DEFAULT = 1000;
+
+  /** A default value for the max number of connections used by the asynchronous requests. */
+  public static final int CLIENT_ASYNC_MAX_CONNECTIONS_DEFAULT = 20;
+
+  /** A default value for whether the asynchronous requests use HTTP/2. */
+  public static final boolean CLIENT_ASYNC_HTTP2_ENABLED_DEFAULT = false;
+
   /** An optional http connection timeout in milliseconds. */
   public static final String CLIENT_CONNECTION_TIMEOUT_MS = "gravitino.client.connectionTimeoutMs";
 
   /** An optional http socket timeout in milliseconds. */
   public static final String CLIENT_SOCKET_TIMEOUT_MS = "gravitino.client.socketTimeoutMs";
 
+  /**
+   * An optional max number of GET responses with an ETag cached by the client. The cached responses
+   * are revalidated with the server on every request, 0 disables the cache.
+   */
+  public static final String CLIENT_RESPONSE_CACHE_SIZE = "gravitino.client.responseCacheSize";
+
+  /**
+   * An optional max number of HTTP/1.1 connections used by the asynchronous requests. The requests
+   * exceeding it wait for a free connection without holding a thread.
+   */
+  public static final String CLIENT_ASYNC_MAX_CONNECTIONS = "gravitino.client.asyncMaxConnections";
+
+  /**
+   * An optional flag to send the asynchronous requests over HTTP/2, which multiplexes all the
+   * in-flight requests over a single connection. The server must support HTTP/2, prior knowledge
+   * HTTP/2 is used for plain HTTP URIs.
+   */
+  public static final String CLIENT_ASYNC_HTTP2_ENABLED = "gravitino.client.asyncHttp2Enabled";
+
   private static final Set<String> SUPPORT_CLIENT_CONFIG_KEYS =
-      ImmutableSet.of(CLIENT_CONNECTION_TIMEOUT_MS, CLIENT_SOCKET_TIMEOUT_MS);
+      ImmutableSet.of(
+          CLIENT_CONNECTION_TIMEOUT_MS,
+          CLIENT_SOCKET_TIMEOUT_MS,
+          CLIENT_RESPONSE_CACHE_SIZE,
+          CLIENT_ASYNC_MAX_CONNECTIONS,
+          CLIENT_ASYNC_HTTP2_ENABLED);
 
   private Map<String, String> properties;
 
@@ -102,6 +135,50 @@ public class GravitinoClientConfiguration {
     return socketTimeoutMillis;
   }
 
+  /**
+   * Extract the max number of cached GET responses from the properties map
+   *
+   * @return response cache size
+   */
+  public int getClientResponseCacheSize() {
+    int responseCacheSize =
+        MapUtils.propertyAsInt(
+            properties, CLIENT_RESPONSE_CACHE_SIZE, CLIENT_RESPONSE_CACHE_SIZE_DEFAULT);
+    checkValue(
+        value -> value >= 0,
+        CLIENT_RESPONSE_CACHE_SIZE,
+        responseCacheSize,
+        POSITIVE_NUMBER_ERROR_MSG);
+    return responseCacheSize;
+  }
+
+  /**
+   * Extract the max number of connections used by the asynchronous requests from the properties map
+   *
+   * @return max number of asynchronous connections
+   */
+  public int getClientAsyncMaxConnections() {
+    int maxConnections =
+        MapUtils.propertyAsInt(
+            properties, CLIENT_ASYNC_MAX_CONNECTIONS, CLIENT_ASYNC_MAX_CONNECTIONS_DEFAULT);
+    checkValue(
+        value -> value > 0,
+        CLIENT_ASYNC_MAX_CONNECTIONS,
+        maxConnections,
+        POSITIVE_NUMBER_ERROR_MSG);
+    return maxConnections;
+  }
+
+  /**
+   * Extract whether the asynchronous requests use HTTP/2 from the properties map
+   *
+   * @return true if the asynchronous requests use HTTP/2
+   */
+  public boolean isClientAsyncHttp2Enabled() {
+    String value = properties.get(CLIENT_ASYNC_HTTP2_ENABLED);
+    return value == null ? CLIENT_ASYNC_HTTP2_ENABLED_DEFAULT : Boolean.parseBoolean(value);
+  }
+
   private static <T> void checkValue(
       Function<T, Boolean> checkValueFunc, String key, T value, String errorMsg) {
     if (!checkValueFunc.apply(value)) {
@@ -31,6 +31,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -38,6 +40,8 @@ import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.SupportsCatalogs;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.Owner;
@@ -49,6 +53,7 @@ import org.apache.gravitino.authorization.User;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.authorization.SecurableObjectDTO;
+import org.apache.gravitino.dto.requests.BatchLoadRequest;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogSetRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdateRequest;
@@ -88,7 +93,9 @@ import org.apache.gravitino.dto.responses.PolicyListResponse;
 import org.apache.gravitino.dto.responses.PolicyResponse;
 import org.apache.gravitino.dto.responses.RemoveResponse;
 import org.apache.gravitino.dto.responses.RoleResponse;
+import org.apache.gravitino.dto.responses.SchemaBatchLoadResponse;
 import org.apache.gravitino.dto.responses.SetResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.responses.UserListResponse;
@@ -114,6 +121,7 @@ import org.apache.gravitino.exceptions.NoSuchUserException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
+import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.exceptions.RoleAlreadyExistsException;
 import org.apache.gravitino.exceptions.TagAlreadyExistsException;
 import org.apache.gravitino.exceptions.UserAlreadyExistsException;
@@ -124,6 +132,7 @@ import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyChange;
 import org.apache.gravitino.policy.PolicyContent;
 import org.apache.gravitino.policy.PolicyOperations;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
@@ -137,6 +146,7 @@ import org.apache.gravitino.tag.TagOperations;
 public class GravitinoMetalake extends MetalakeDTO
     implements SupportsCatalogs, TagOperations, SupportsRoles, SupportsJobs, PolicyOperations {
   private static final String API_METALAKES_CATALOGS_PATH = "api/metalakes/%s/catalogs/%s";
+  private static final String API_METALAKES_BATCH_PATH = "api/metalakes/%s/batch/%s";
   private static final String API_PERMISSION_PATH = "api/metalakes/%s/permissions/%s";
   private static final String API_METALAKES_USERS_PATH = "api/metalakes/%s/users/%s";
   private static final String API_METALAKES_GROUPS_PATH = "api/metalakes/%s/groups/%s";
@@ -232,6 +242,110 @@ public class GravitinoMetalake extends MetalakeDTO
     return DTOConverters.toCatalog(this.name(), resp.getCatalog(), restClient);
   }
 
+  /**
+   * Load the catalog with specified identifier without blocking the calling thread.
+   *
+   * <p>The returned future is completed by the I/O thread of the HTTP client, the dependent stages
+   * which may block should be run with an executor.
+   *
+   * @param catalogName The identifier of the catalog to load.
+   * @return The future of the {@link Catalog}, completed exceptionally with {@link
+   *     NoSuchCatalogException} if the catalog does not exist.
+   */
+  public CompletableFuture<Catalog> loadCatalogAsync(String catalogName) {
+    return restClient
+        .getAsync(
+            String.format(
+                API_METALAKES_CATALOGS_PATH,
+                RESTUtils.encodeString(this.name()),
+                RESTUtils.encodeString(catalogName)),
+            Collections.emptyMap(),
+            CatalogResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return DTOConverters.toCatalog(this.name(), resp.getCatalog(), restClient);
+            });
+  }
+
+  /**
+   * Load multiple schemas of the metalake in one request, the schemas may belong to different
+   * catalogs. The failure to load a schema doesn't fail the others.
+   *
+   * @param idents The identifiers of the schemas, which should be "catalog.schema" format. At most
+   *     {@link BatchLoadRequest#MAX_BATCH_SIZE} schemas can be loaded in one request.
+   * @return The load results in the same order as the identifiers.
+   */
+  public List<BatchLoadResult<Schema>> loadSchemas(NameIdentifier... idents) {
+    BatchLoadRequest req = new BatchLoadRequest(idents);
+    req.validate();
+
+    SchemaBatchLoadResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_BATCH_PATH, RESTUtils.encodeString(this.name()), "schemas"),
+            req,
+            SchemaBatchLoadResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.metalakeErrorHandler());
+    resp.validate();
+
+    return resp.getResults().stream()
+        .map(
+            result -> {
+              NameIdentifier ident = result.getIdentifier();
+              return result.getError() == null
+                  ? BatchLoadResult.<Schema>success(
+                      ident,
+                      new GenericSchema(
+                          result.getSchema(), restClient, this.name(), ident.namespace().level(0)))
+                  : BatchLoadResult.<Schema>failure(
+                      ident, toException(result.getError(), ErrorHandlers.schemaErrorHandler()));
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Load multiple tables of the metalake in one request, for example to prefetch all the tables of
+   * a query. The tables may belong to different catalogs, the failure to load a table doesn't fail
+   * the others.
+   *
+   * @param idents The identifiers of the tables, which should be "catalog.schema.table" format. At
+   *     most {@link BatchLoadRequest#MAX_BATCH_SIZE} tables can be loaded in one request.
+   * @return The load results in the same order as the identifiers.
+   */
+  public List<BatchLoadResult<Table>> loadTables(NameIdentifier... idents) {
+    BatchLoadRequest req = new BatchLoadRequest(idents);
+    req.validate();
+
+    TableBatchLoadResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_BATCH_PATH, RESTUtils.encodeString(this.name()), "tables"),
+            req,
+            TableBatchLoadResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.metalakeErrorHandler());
+    resp.validate();
+
+    return resp.getResults().stream()
+        .map(
+            result -> {
+              NameIdentifier ident = result.getIdentifier();
+              return result.getError() == null
+                  ? BatchLoadResult.<Table>success(
+                      ident,
+                      RelationalTable.from(
+                          Namespace.of(
+                              this.name(), ident.namespace().level(0), ident.namespace().level(1)),
+                          result.getTable(),
+                          restClient))
+                  : BatchLoadResult.<Table>failure(
+                      ident, toException(result.getError(), ErrorHandlers.tableErrorHandler()));
+            })
+        .collect(Collectors.toList());
+  }
+
   /**
    * Create a new catalog with specified identifier, type, comment and properties.
    *
@@ -1613,4 +1727,14 @@ public class GravitinoMetalake extends MetalakeDTO
 
     ErrorHandlers.policyErrorHandler().accept(resp);
   }
+
+  private static RuntimeException toException(
+      ErrorResponse error, Consumer<ErrorResponse> errorHandler) {
+    try {
+      errorHandler.accept(error);
+    } catch (RuntimeException e) {
+      return e;
+    }
+    return new RESTException("Unable to process: %s", error.getMessage());
+  }
 }
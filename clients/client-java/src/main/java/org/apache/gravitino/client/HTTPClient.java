@@ -23,16 +23,26 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Version;
 import org.apache.gravitino.auth.AuthConstants;
@@ -41,18 +51,25 @@ import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
@@ -60,6 +77,9 @@ import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
 
@@ -75,12 +95,22 @@ import org.apache.hc.core5.net.URIBuilder;
 public class HTTPClient implements RESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
+  private static final String GZIP_ENCODING = "gzip";
 
   private final String uri;
   private final CloseableHttpClient httpClient;
+  private final GravitinoClientConfiguration clientConfiguration;
+  private final List<Header> defaultHeaders;
+  // The non-blocking client of the asynchronous requests, created on the first asynchronous
+  // request so that the clients only sending blocking requests don't start its I/O threads.
+  private volatile CloseableHttpAsyncClient asyncHttpClient;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
 
+  // The bodies of the GET responses tagged with an ETag, keyed by the request URI. A cached body is
+  // only reused when the server answers the conditional request with 304 Not Modified.
+  private final Cache<String, CachedResponse> responseCache;
+
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
   // Handler status
@@ -115,22 +145,27 @@ public class HTTPClient implements RESTClient {
       Map<String, String> properties) {
     this.uri = uri;
     this.mapper = objectMapper;
-    GravitinoClientConfiguration clientConfiguration =
-        GravitinoClientConfiguration.buildFromProperties(properties);
+    this.clientConfiguration = GravitinoClientConfiguration.buildFromProperties(properties);
+    this.defaultHeaders =
+        baseHeaders == null
+            ? Collections.emptyList()
+            : baseHeaders.entrySet().stream()
+                .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
 
     HttpClientBuilder clientBuilder = HttpClients.custom();
     clientBuilder.setConnectionManager(configureConnectionManager(clientConfiguration));
-
-    if (baseHeaders != null) {
-      clientBuilder.setDefaultHeaders(
-          baseHeaders.entrySet().stream()
-              .map(e -> new BasicHeader(e.getKey(), e.getValue()))
-              .collect(Collectors.toList()));
-    }
+    clientBuilder.setDefaultHeaders(defaultHeaders);
 
     this.httpClient = clientBuilder.build();
     this.authDataProvider = authDataProvider;
 
+    int responseCacheSize = clientConfiguration.getClientResponseCacheSize();
+    this.responseCache =
+        responseCacheSize > 0
+            ? CacheBuilder.newBuilder().maximumSize(responseCacheSize).build()
+            : null;
+
     if (beforeConnectHandler == null) {
       handlerStatus = HandlerStatus.Finished;
     }
@@ -157,6 +192,31 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  /**
+   * Extracts the response body of an asynchronous request as a string, the body is decompressed if
+   * it is gzip encoded.
+   *
+   * @param response The HTTP response from which the response body will be extracted.
+   * @return The response body as a string.
+   * @throws RESTException If an error occurs during decompression of the response body.
+   */
+  private String extractResponseBodyAsString(SimpleHttpResponse response) {
+    byte[] body = response.getBodyBytes();
+    if (body == null) {
+      return null;
+    }
+
+    Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+    if (contentEncoding != null && GZIP_ENCODING.equalsIgnoreCase(contentEncoding.getValue())) {
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+        body = ByteStreams.toByteArray(in);
+      } catch (IOException e) {
+        throw new RESTException(e, "Failed to decompress HTTP response body");
+      }
+    }
+    return new String(body, StandardCharsets.UTF_8);
+  }
+
   /**
    * Checks if the response indicates a successful response.
    *
@@ -165,7 +225,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response to check for success.
    * @return True if the response is successful, false otherwise.
    */
-  private boolean isSuccessful(CloseableHttpResponse response) {
+  private boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
@@ -182,7 +242,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response from which the ErrorResponse is built.
    * @return An ErrorResponse object representing the REST error response.
    */
-  private ErrorResponse buildRestErrorResponse(CloseableHttpResponse response) {
+  private ErrorResponse buildRestErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -204,7 +264,7 @@ public class HTTPClient implements RESTClient {
    *     during parsing.
    */
   private void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
     if (responseBody != null) {
       try {
@@ -337,7 +397,137 @@ public class HTTPClient implements RESTClient {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
+    HttpUriRequestBase request = buildRequest(method, path, queryParams, requestBody, headers);
+    CachedResponse cachedResponse = setCachedEtag(request, responseType);
 
+    try (CloseableHttpResponse response = httpClient.execute(request)) {
+      return processResponse(
+          request,
+          path,
+          response,
+          () -> extractResponseBodyAsString(response),
+          responseType,
+          errorHandler,
+          responseHeaders,
+          cachedResponse);
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", method);
+    }
+  }
+
+  /**
+   * Executes an HTTP request without blocking the calling thread and processes the corresponding
+   * response when it arrives.
+   *
+   * <p>The request is sent by the non-blocking client, the requests waiting for a connection or the
+   * response don't hold any thread. The returned future is completed by the I/O thread of the
+   * client, so the dependent stages that may block should be run with an executor.
+   *
+   * @param method The HTTP method to use (e.g., GET, POST, PUT, DELETE).
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param requestBody The content to place in the request body (can be null).
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization. (Must be registered with the
+   *     ObjectMapper).
+   * @return The future of the response entity parsed and converted to its type T, completed
+   *     exceptionally with the exception thrown by the error handler if the request fails.
+   */
+  private <T> CompletableFuture<T> executeAsync(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    HttpUriRequestBase request;
+    CachedResponse cachedResponse;
+    AsyncEntityProducer entityProducer;
+    try {
+      request = buildRequest(method, path, queryParams, requestBody, headers);
+      // Unlike the classic client, the async client doesn't negotiate the content compression.
+      request.setHeader(HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING);
+      cachedResponse = setCachedEtag(request, responseType);
+      entityProducer =
+          request.getEntity() == null
+              ? null
+              : new BasicAsyncEntityProducer(
+                  EntityUtils.toByteArray(request.getEntity()),
+                  ContentType.parse(request.getEntity().getContentType()));
+    } catch (IOException e) {
+      future.completeExceptionally(
+          new RESTException(e, "Error occurred while processing %s request", method));
+      return future;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+
+    asyncHttpClient()
+        .execute(
+            new BasicRequestProducer(request, entityProducer),
+            SimpleResponseConsumer.create(),
+            new FutureCallback<SimpleHttpResponse>() {
+              @Override
+              public void completed(SimpleHttpResponse response) {
+                try {
+                  future.complete(
+                      processResponse(
+                          request,
+                          path,
+                          response,
+                          () -> extractResponseBodyAsString(response),
+                          responseType,
+                          errorHandler,
+                          h -> {},
+                          cachedResponse));
+                } catch (RuntimeException e) {
+                  future.completeExceptionally(e);
+                }
+              }
+
+              @Override
+              public void failed(Exception e) {
+                future.completeExceptionally(
+                    new RESTException(e, "Error occurred while processing %s request", method));
+              }
+
+              @Override
+              public void cancelled() {
+                future.cancel(false);
+              }
+            });
+    return future;
+  }
+
+  /**
+   * Builds the HTTP request with the headers and the body, the pre-connection handler is executed
+   * if it has not been executed yet.
+   *
+   * @param method The HTTP method to use (e.g., GET, POST, PUT, DELETE).
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param requestBody The content to place in the request body (can be null).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @return The HTTP request to send.
+   * @throws RESTException If the provided path is malformed.
+   */
+  private HttpUriRequestBase buildRequest(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Map<String, String> headers) {
     if (handlerStatus != HandlerStatus.Finished) {
       performPreConnectHandler();
     }
@@ -365,49 +555,123 @@ public class HTTPClient implements RESTClient {
           AuthConstants.HTTP_HEADER_AUTHORIZATION,
           new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
     }
+    return request;
+  }
 
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
-      Map<String, String> respHeaders = Maps.newHashMap();
-      for (Header header : response.getHeaders()) {
-        respHeaders.put(header.getName(), header.getValue());
-      }
+  /**
+   * Makes the GET request conditional on the ETag of the cached response of the same URI.
+   *
+   * @param request The HTTP request to send.
+   * @param responseType The class type of the response for deserialization.
+   * @return The cached response, or null if there is no cached response of the request.
+   */
+  private CachedResponse setCachedEtag(HttpUriRequestBase request, Class<?> responseType) {
+    if (!isCacheable(request, responseType)) {
+      return null;
+    }
+
+    CachedResponse cachedResponse = responseCache.getIfPresent(request.getRequestUri());
+    if (cachedResponse != null) {
+      request.setHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.etag);
+    }
+    return cachedResponse;
+  }
 
-      responseHeaders.accept(respHeaders);
+  private boolean isCacheable(HttpUriRequestBase request, Class<?> responseType) {
+    return responseCache != null && Method.GET.isSame(request.getMethod()) && responseType != null;
+  }
 
-      // Skip parsing the response stream for any successful request not expecting a response body
-      if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
-        return null;
-      }
+  /**
+   * Processes the response of an HTTP request, handling successful responses and server error
+   * responses accordingly.
+   *
+   * @param request The HTTP request sent.
+   * @param path The URL path the request is sent to.
+   * @param response The response of the request.
+   * @param responseBodyReader The reader of the response body, only called if the body is needed.
+   * @param responseType The class type of the response for deserialization.
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param responseHeaders The consumer of the response headers for further processing.
+   * @param cachedResponse The cached response the request is conditional on (can be null).
+   * @param <T> The class type of the response for deserialization.
+   * @return The response entity parsed and converted to its type T.
+   * @throws RESTException If there is an issue with the response processing, or if the errorHandler
+   *     does not throw an exception for server error responses.
+   */
+  private <T> T processResponse(
+      HttpUriRequestBase request,
+      String path,
+      HttpResponse response,
+      Supplier<String> responseBodyReader,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders,
+      CachedResponse cachedResponse) {
+    Map<String, String> respHeaders = Maps.newHashMap();
+    for (Header header : response.getHeaders()) {
+      respHeaders.put(header.getName(), header.getValue());
+    }
 
-      String responseBody = extractResponseBodyAsString(response);
+    responseHeaders.accept(respHeaders);
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException.java is thrown if
-        // not.
-        throwFailure(response, responseBody, errorHandler);
-      }
+    // Skip parsing the response stream for any successful request not expecting a response body
+    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+        || (responseType == null && isSuccessful(response))) {
+      return null;
+    }
 
-      if (responseBody == null) {
-        throw new RESTException(
-            "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
-            responseType != null ? responseType.getSimpleName() : "unknown",
-            method.name(),
-            path,
-            response.getCode());
+    boolean notModified =
+        response.getCode() == HttpStatus.SC_NOT_MODIFIED && cachedResponse != null;
+    String responseBody;
+    if (notModified) {
+      responseBody = cachedResponse.body;
+    } else {
+      responseBody = responseBodyReader.get();
+      if (isCacheable(request, responseType)) {
+        String cacheKey = request.getRequestUri();
+        Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+        if (etag != null && response.getCode() == HttpStatus.SC_OK && responseBody != null) {
+          responseCache.put(cacheKey, new CachedResponse(etag.getValue(), responseBody));
+        } else {
+          responseCache.invalidate(cacheKey);
+        }
       }
+    }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType != null ? responseType.getSimpleName() : "unknown");
-      }
-    } catch (IOException e) {
-      throw new RESTException(e, "Error occurred while processing %s request", method);
+    if (!notModified && !isSuccessful(response)) {
+      // The provided error handler is expected to throw, but a RESTException.java is thrown if
+      // not.
+      throwFailure(response, responseBody, errorHandler);
+    }
+
+    if (responseBody == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType != null ? responseType.getSimpleName() : "unknown",
+          request.getMethod(),
+          path,
+          response.getCode());
+    }
+
+    try {
+      return mapper.readValue(responseBody, responseType);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType != null ? responseType.getSimpleName() : "unknown");
+    }
+  }
+
+  private static class CachedResponse {
+    private final String etag;
+    private final String body;
+
+    private CachedResponse(String etag, String body) {
+      this.etag = etag;
+      this.body = body;
     }
   }
 
@@ -465,6 +729,32 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP GET request to the specified path without blocking the calling thread and
+   * processes the response when it arrives.
+   *
+   * @param path The URL path to send the GET request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity parsed and converted to its type T.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+  }
+
   /**
    * Sends an HTTP POST request to the specified path with the provided request body and processes
    * the response.
@@ -696,7 +986,7 @@ public class HTTPClient implements RESTClient {
   }
 
   /**
-   * Closes the underlying HTTP client gracefully.
+   * Closes the underlying HTTP clients gracefully.
    *
    * @throws IOException If an I/O error occurs while closing the HTTP client.
    */
@@ -706,6 +996,48 @@ public class HTTPClient implements RESTClient {
       authDataProvider.close();
     }
     httpClient.close(CloseMode.GRACEFUL);
+    synchronized (this) {
+      if (asyncHttpClient != null) {
+        asyncHttpClient.close(CloseMode.GRACEFUL);
+      }
+    }
+  }
+
+  private CloseableHttpAsyncClient asyncHttpClient() {
+    if (asyncHttpClient == null) {
+      synchronized (this) {
+        if (asyncHttpClient == null) {
+          CloseableHttpAsyncClient client =
+              createAsyncHttpClient(clientConfiguration, defaultHeaders);
+          client.start();
+          asyncHttpClient = client;
+        }
+      }
+    }
+    return asyncHttpClient;
+  }
+
+  private static CloseableHttpAsyncClient createAsyncHttpClient(
+      GravitinoClientConfiguration clientConfiguration, List<Header> defaultHeaders) {
+    ConnectionConfig connectionConfig = configureConnectionConfig(clientConfiguration);
+    if (clientConfiguration.isClientAsyncHttp2Enabled()) {
+      // All the requests to the server are multiplexed over a single HTTP/2 connection.
+      return HttpAsyncClients.customHttp2()
+          .setDefaultConnectionConfig(connectionConfig)
+          .setDefaultHeaders(defaultHeaders)
+          .build();
+    }
+
+    int maxConnections = clientConfiguration.getClientAsyncMaxConnections();
+    return HttpAsyncClients.custom()
+        .setConnectionManager(
+            PoolingAsyncClientConnectionManagerBuilder.create()
+                .setDefaultConnectionConfig(connectionConfig)
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build())
+        .setDefaultHeaders(defaultHeaders)
+        .build();
   }
 
   /**
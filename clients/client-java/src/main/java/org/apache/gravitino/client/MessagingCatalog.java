@@ -22,6 +22,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -102,6 +103,45 @@ class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the topics under a schema namespace in the order of their names. Paging keeps
+   * the size of each response bounded for schemas with a huge number of topics.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of topics in the page.
+   * @return The page of {@link NameIdentifier} of topics under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public NameIdentifierPage listTopics(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    checkTopicNamespace(namespace);
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("limit", String.valueOf(limit));
+    if (pageToken != null) {
+      queryParams.put("pageToken", pageToken);
+    }
+
+    Namespace fullNamespace = getTopicFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTopicRequestPath(fullNamespace),
+            queryParams,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.topicErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new NameIdentifierPage(idents, resp.nextPageToken());
+  }
+
   /**
    * Load the topic with the given identifier.
    *
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import java.util.Optional;
+import org.apache.gravitino.NameIdentifier;
+
+/** A page of the identifiers returned by a paged list request. */
+public class NameIdentifierPage {
+
+  private final NameIdentifier[] identifiers;
+
+  private final String nextPageToken;
+
+  NameIdentifierPage(NameIdentifier[] identifiers, String nextPageToken) {
+    this.identifiers = identifiers;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Returns the identifiers in this page. A page may hold fewer identifiers than the requested
+   * limit even if it is not the last page, since the entities the user has no privilege to see are
+   * filtered out after paging.
+   *
+   * @return The identifiers in this page.
+   */
+  public NameIdentifier[] identifiers() {
+    return identifiers;
+  }
+
+  /**
+   * Returns the token to fetch the next page.
+   *
+   * @return The token of the next page, or empty if this is the last page.
+   */
+  public Optional<String> nextPageToken() {
+    return Optional.ofNullable(nextPageToken);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.Optional;
+
+/** A page of the partition names returned by a paged partition list request. */
+public class PartitionNamePage {
+
+  private final String[] partitionNames;
+
+  private final String nextPageToken;
+
+  PartitionNamePage(String[] partitionNames, String nextPageToken) {
+    this.partitionNames = partitionNames;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Returns the partition names in this page, ordered by partition name.
+   *
+   * @return The partition names in this page.
+   */
+  public String[] partitionNames() {
+    return partitionNames;
+  }
+
+  /**
+   * Returns the token to fetch the next page.
+   *
+   * @return The token of the next page, or empty if this is the last page.
+   */
+  public Optional<String> nextPageToken() {
+    return Optional.ofNullable(nextPageToken);
+  }
+}
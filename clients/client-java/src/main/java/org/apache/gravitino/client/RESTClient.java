@@ -21,6 +21,7 @@ package org.apache.gravitino.client;
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -379,6 +380,38 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Perform a GET request on the specified path with given information without blocking the calling
+   * thread.
+   *
+   * <p>The default implementation performs the request synchronously and returns a completed
+   * future, implementations backed by a non-blocking HTTP client should override it.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the GET request, completed exceptionally with the
+   *     exception thrown by the error handler if the request fails.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    try {
+      return CompletableFuture.completedFuture(
+          get(path, queryParams, responseType, headers, errorHandler));
+    } catch (RuntimeException e) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+  }
+
   /**
    * Perform a PATCH request on the specified path with given information.
    *
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -59,7 +60,7 @@ import org.apache.gravitino.rest.RESTUtils;
  * operations, for example, schemas and tables list, creation, update and deletion. A Relational
  * catalog is under the metalake.
  */
-class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
+class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog, AsyncTableCatalog {
 
   RelationalCatalog(
       Namespace namespace,
@@ -104,6 +105,45 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the tables under a schema namespace in the order of their names. Paging keeps
+   * the size of each response bounded for schemas with a huge number of tables.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of tables in the page.
+   * @return The page of {@link NameIdentifier} of tables under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("limit", String.valueOf(limit));
+    if (pageToken != null) {
+      queryParams.put("pageToken", pageToken);
+    }
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            queryParams,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new NameIdentifierPage(idents, resp.nextPageToken());
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -127,6 +167,46 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
   }
 
+  @Override
+  public CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace) {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    return restClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace),
+            Collections.emptyMap(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return Arrays.stream(resp.identifiers())
+                  .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+                  .toArray(NameIdentifier[]::new);
+            });
+  }
+
+  @Override
+  public CompletableFuture<Table> loadTableAsync(NameIdentifier ident) {
+    checkTableNameIdentifier(ident);
+
+    Namespace fullNamespace = getTableFullNamespace(ident.namespace());
+    return restClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            Collections.emptyMap(),
+            TableResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(
+            resp -> {
+              resp.validate();
+              return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+            });
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
@@ -23,11 +23,14 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import org.apache.gravitino.Audit;
@@ -83,6 +86,8 @@ class RelationalTable
 
   private static final Joiner DOT_JOINER = Joiner.on(".");
 
+  private static final int MAX_NEXT_PAGE_TOKENS = 100;
+
   private final Table table;
 
   private final RESTClient restClient;
@@ -95,6 +100,17 @@ class RelationalTable
   private final MetadataObjectStatisticsOperations objectStatisticsOperations;
   private final MetadataObjectPartitionStatisticsOperations objectPartitionStatisticsOperations;
 
+  // The next page tokens of the partition pages listed by startAfter, keyed by the listing and the
+  // last partition name of the page. The tokens are opaque, so they're sent back as is.
+  private final Map<List<String>, String> nextPageTokens =
+      Collections.synchronizedMap(
+          new LinkedHashMap<List<String>, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, String> eldest) {
+              return size() > MAX_NEXT_PAGE_TOKENS;
+            }
+          });
+
   /**
    * Creates a new RelationalTable.
    *
@@ -243,6 +259,119 @@ class RelationalTable
     return resp.getPartitions();
   }
 
+  /**
+   * Lists the names of the partitions matching the filter, one page at a time.
+   *
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of partition names in the page.
+   * @return The page of partition names, ordered by name.
+   */
+  public PartitionNamePage listPartitionNamesPage(String filter, String pageToken, int limit) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            pageParams(false, filter, pageToken, limit),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return new PartitionNamePage(resp.partitionNames(), resp.nextPageToken());
+  }
+
+  /**
+   * Lists the partitions matching the filter, one page at a time.
+   *
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param pageToken The token returned with the previous page, or null to list the first page.
+   * @param limit The maximum number of partitions in the page.
+   * @return The page of partitions, ordered by name.
+   */
+  public PartitionPage listPartitionsPage(String filter, String pageToken, int limit) {
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            pageParams(true, filter, pageToken, limit),
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return new PartitionPage(resp.getPartitions(), resp.getNextPageToken());
+  }
+
+  /**
+   * Lists the names of the partitions matching the filter after {@code startAfter}. The page token
+   * is opaque, so {@code startAfter} must be the last partition name of a page listed by this
+   * table with the same filter, whose next page token is sent as is.
+   */
+  @Override
+  public String[] listPartitionNames(String filter, String startAfter, int limit) {
+    PartitionNamePage page =
+        listPartitionNamesPage(filter, nextPageToken(false, filter, startAfter), limit);
+    String[] names = page.partitionNames();
+    if (names.length > 0) {
+      rememberNextPageToken(false, filter, names[names.length - 1], page.nextPageToken());
+    }
+    return names;
+  }
+
+  /**
+   * Lists the partitions matching the filter after {@code startAfter}. The page token is opaque,
+   * so {@code startAfter} must be the last partition name of a page listed by this table with the
+   * same filter, whose next page token is sent as is.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    PartitionPage page = listPartitionsPage(filter, nextPageToken(true, filter, startAfter), limit);
+    Partition[] partitions = page.partitions();
+    if (partitions.length > 0) {
+      rememberNextPageToken(
+          true, filter, partitions[partitions.length - 1].name(), page.nextPageToken());
+    }
+    return partitions;
+  }
+
+  private static Map<String, String> pageParams(
+      boolean details, String filter, String pageToken, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    Map<String, String> params = new HashMap<>();
+    params.put("details", String.valueOf(details));
+    params.put("limit", String.valueOf(limit));
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params;
+  }
+
+  private String nextPageToken(boolean details, String filter, String startAfter) {
+    if (startAfter == null) {
+      return null;
+    }
+
+    String pageToken = nextPageTokens.get(pageKey(details, filter, startAfter));
+    Preconditions.checkArgument(
+        pageToken != null,
+        "Partition %s is not the last partition of a page listed with filter %s, "
+            + "list the partitions with page tokens instead",
+        startAfter,
+        filter);
+    return pageToken;
+  }
+
+  private void rememberNextPageToken(
+      boolean details, String filter, String lastName, Optional<String> nextPageToken) {
+    nextPageToken.ifPresent(token -> nextPageTokens.put(pageKey(details, filter, lastName), token));
+  }
+
+  private static List<String> pageKey(boolean details, String filter, String lastName) {
+    return Arrays.asList(String.valueOf(details), filter, lastName);
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -32,6 +32,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +47,7 @@ import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -54,6 +56,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -116,6 +119,40 @@ public class TestFilesetCatalog extends TestBase {
             catalogName, CatalogDTO.Type.FILESET, provider, "comment", ImmutableMap.of("k1", "k2"));
   }
 
+  @Test
+  public void testListFilesetsByPage() throws JsonProcessingException {
+    NameIdentifier fileset1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    NameIdentifier fileset2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset2");
+    String filesetPath = withSlash(FilesetCatalog.formatFilesetRequestPath(fileset1.namespace()));
+    FilesetCatalog filesetCatalog = (FilesetCatalog) catalog;
+
+    EntityListResponse firstResp =
+        new EntityListResponse(new NameIdentifier[] {fileset1}, "token1");
+    buildMockResource(
+        Method.GET, filesetPath, ImmutableMap.of("limit", "1"), null, firstResp, SC_OK);
+    NameIdentifierPage firstPage = filesetCatalog.listFilesets(Namespace.of("schema1"), null, 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "fileset1")}, firstPage.identifiers());
+    Assertions.assertEquals(Optional.of("token1"), firstPage.nextPageToken());
+
+    EntityListResponse lastResp = new EntityListResponse(new NameIdentifier[] {fileset2}, null);
+    buildMockResource(
+        Method.GET,
+        filesetPath,
+        ImmutableMap.of("limit", "1", "pageToken", "token1"),
+        null,
+        lastResp,
+        SC_OK);
+    NameIdentifierPage lastPage = filesetCatalog.listFilesets(Namespace.of("schema1"), "token1", 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "fileset2")}, lastPage.identifiers());
+    Assertions.assertFalse(lastPage.nextPageToken().isPresent());
+
+    Namespace namespace = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> filesetCatalog.listFilesets(namespace, null, 0));
+  }
+
   @Test
   public void testListFileset() throws JsonProcessingException {
     NameIdentifier fileset1 = NameIdentifier.of("schema1", "fileset1");
@@ -521,6 +558,50 @@ public class TestFilesetCatalog extends TestBase {
         "location name not found");
   }
 
+  @Test
+  public void testGetFileLocations() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String filesetPath =
+        withSlash(
+            FilesetCatalog.formatFileLocationsRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    String[] subPaths = new String[] {"test/1", "test/2"};
+    FileLocationsRequest req = new FileLocationsRequest(subPaths, "location1");
+    String[] mockFileLocations =
+        new String[] {"file:/fileset/fileset1/test/1", "file:/fileset/fileset1/test/2"};
+    buildMockResource(
+        Method.POST, filesetPath, req, new FileLocationsResponse(mockFileLocations), SC_OK);
+
+    // set the thread local context, it is sent with the request and cleared afterwards
+    Map<String, String> context = new HashMap<>();
+    context.put(
+        FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, FilesetDataOperation.OPEN.name());
+    CallerContext.CallerContextHolder.set(CallerContext.builder().withContext(context).build());
+    String[] actualFileLocations =
+        catalog
+            .asFilesetCatalog()
+            .getFileLocations(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                subPaths,
+                "location1");
+    Assertions.assertArrayEquals(mockFileLocations, actualFileLocations);
+    Assertions.assertNull(CallerContext.CallerContextHolder.get());
+
+    // throw NoSuchFilesetException
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.POST, filesetPath, req, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () ->
+            catalog
+                .asFilesetCatalog()
+                .getFileLocations(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                    subPaths,
+                    "location1"));
+  }
+
   @Test
   public void testCallerContextToHeader() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogProvider;
 import org.apache.gravitino.NameIdentifier;
@@ -61,6 +62,7 @@ import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -106,6 +108,39 @@ public class TestGenericModelCatalog extends TestBase {
         metalake.createCatalog(CATALOG_NAME, Catalog.Type.MODEL, "comment", Collections.emptyMap());
   }
 
+  @Test
+  public void testListModelsByPage() throws JsonProcessingException {
+    NameIdentifier model1 = NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, "schema1", "model1");
+    NameIdentifier model2 = NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, "schema1", "model2");
+    String modelPath = withSlash(GenericModelCatalog.formatModelRequestPath(model1.namespace()));
+    GenericModelCatalog modelCatalog = (GenericModelCatalog) catalog;
+
+    EntityListResponse firstResp = new EntityListResponse(new NameIdentifier[] {model1}, "token1");
+    buildMockResource(
+        Method.GET, modelPath, ImmutableMap.of("limit", "1"), null, firstResp, HttpStatus.SC_OK);
+    NameIdentifierPage firstPage = modelCatalog.listModels(Namespace.of("schema1"), null, 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "model1")}, firstPage.identifiers());
+    Assertions.assertEquals(Optional.of("token1"), firstPage.nextPageToken());
+
+    EntityListResponse lastResp = new EntityListResponse(new NameIdentifier[] {model2}, null);
+    buildMockResource(
+        Method.GET,
+        modelPath,
+        ImmutableMap.of("limit", "1", "pageToken", "token1"),
+        null,
+        lastResp,
+        HttpStatus.SC_OK);
+    NameIdentifierPage lastPage = modelCatalog.listModels(Namespace.of("schema1"), "token1", 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "model2")}, lastPage.identifiers());
+    Assertions.assertFalse(lastPage.nextPageToken().isPresent());
+
+    Namespace namespace = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> modelCatalog.listModels(namespace, null, 0));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"schema1/model1/model2", "스키마1/모델1/모델2"})
   public void testListModels(String input) throws JsonProcessingException {
@@ -34,6 +34,30 @@ public class TestGravitinoClientConfiguration {
         GravitinoClientConfiguration.buildFromProperties(properties);
     Assertions.assertEquals(clientConfiguration.getClientConnectionTimeoutMs(), 20L);
     Assertions.assertEquals(clientConfiguration.getClientSocketTimeoutMs(), 10);
+    Assertions.assertEquals(
+        GravitinoClientConfiguration.CLIENT_ASYNC_MAX_CONNECTIONS_DEFAULT,
+        clientConfiguration.getClientAsyncMaxConnections());
+    Assertions.assertFalse(clientConfiguration.isClientAsyncHttp2Enabled());
+  }
+
+  @Test
+  void testAsyncConfig() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            "gravitino.client.asyncMaxConnections",
+            String.valueOf(100),
+            "gravitino.client.asyncHttp2Enabled",
+            "true");
+    GravitinoClientConfiguration clientConfiguration =
+        GravitinoClientConfiguration.buildFromProperties(properties);
+    Assertions.assertEquals(100, clientConfiguration.getClientAsyncMaxConnections());
+    Assertions.assertTrue(clientConfiguration.isClientAsyncHttp2Enabled());
+
+    GravitinoClientConfiguration invalidConfiguration =
+        GravitinoClientConfiguration.buildFromProperties(
+            ImmutableMap.of("gravitino.client.asyncMaxConnections", "0"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, invalidConfiguration::getClientAsyncMaxConnections);
   }
 
   @Test
@@ -29,16 +29,22 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
+import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.policy.PolicyContentDTO;
 import org.apache.gravitino.dto.policy.PolicyDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.requests.BatchLoadRequest;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdatesRequest;
@@ -58,13 +64,17 @@ import org.apache.gravitino.dto.responses.MetalakeResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.PolicyListResponse;
 import org.apache.gravitino.dto.responses.PolicyResponse;
+import org.apache.gravitino.dto.responses.SchemaBatchLoadResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
+import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.exceptions.NoSuchPolicyException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.PolicyAlreadyExistsException;
 import org.apache.gravitino.exceptions.RESTException;
@@ -72,6 +82,8 @@ import org.apache.gravitino.exceptions.TagAlreadyExistsException;
 import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyChange;
 import org.apache.gravitino.policy.PolicyContents;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
 import org.apache.hc.core5.http.HttpStatus;
@@ -223,6 +235,11 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertEquals("comment", catalog.comment());
     Assertions.assertEquals(Catalog.Type.RELATIONAL, catalog.type());
 
+    buildMockResource(Method.GET, path, null, resp, HttpStatus.SC_OK);
+    Catalog asyncCatalog = gravitinoClient.loadCatalogAsync(catalogName).join();
+    Assertions.assertEquals(catalogName, asyncCatalog.name());
+    Assertions.assertEquals(Catalog.Type.RELATIONAL, asyncCatalog.type());
+
     // Test return not found
     ErrorResponse errorResponse =
         ErrorResponse.notFound(NoSuchCatalogException.class.getSimpleName(), "mock error");
@@ -232,6 +249,12 @@ public class TestGravitinoMetalake extends TestBase {
             NoSuchCatalogException.class, () -> gravitinoClient.loadCatalog(catalogName));
     Assertions.assertTrue(ex.getMessage().contains("mock error"));
 
+    buildMockResource(Method.GET, path, null, errorResponse, HttpStatus.SC_NOT_FOUND);
+    CompletionException asyncEx =
+        Assertions.assertThrows(
+            CompletionException.class, () -> gravitinoClient.loadCatalogAsync(catalogName).join());
+    Assertions.assertInstanceOf(NoSuchCatalogException.class, asyncEx.getCause());
+
     // Test return unsupported catalog type
     CatalogDTO mockCatalog1 =
         CatalogDTO.builder()
@@ -263,6 +286,75 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("Error code: " + HttpStatus.SC_CONFLICT));
   }
 
+  @Test
+  public void testLoadTablesInBatch() throws JsonProcessingException {
+    String path = "/api/metalakes/" + metalakeName + "/batch/tables";
+    NameIdentifier table1 = NameIdentifier.of("catalog1", "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of("catalog2", "schema2", "table2");
+    TableDTO tableDTO =
+        TableDTO.builder()
+            .withName("table1")
+            .withColumns(
+                new ColumnDTO[] {
+                  ColumnDTO.builder().withName("col1").withDataType(Types.StringType.get()).build()
+                })
+            .withAudit(
+                AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    BatchLoadRequest req = new BatchLoadRequest(new NameIdentifier[] {table1, table2});
+    TableBatchLoadResponse resp =
+        new TableBatchLoadResponse(
+            Arrays.asList(
+                TableBatchLoadResponse.Result.success(table1, tableDTO),
+                TableBatchLoadResponse.Result.failure(
+                    table2,
+                    ErrorResponse.notFound(
+                        NoSuchTableException.class.getSimpleName(), "mock error"))));
+    buildMockResource(Method.POST, path, req, resp, HttpStatus.SC_OK);
+
+    List<BatchLoadResult<Table>> results = gravitinoClient.loadTables(table1, table2);
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals(table1, results.get(0).identifier());
+    Assertions.assertTrue(results.get(0).isSuccess());
+    Assertions.assertEquals("table1", results.get(0).get().name());
+    Assertions.assertEquals(1, results.get(0).get().columns().length);
+
+    Assertions.assertEquals(table2, results.get(1).identifier());
+    Assertions.assertFalse(results.get(1).isSuccess());
+    Assertions.assertInstanceOf(NoSuchTableException.class, results.get(1).exception());
+    Throwable ex = Assertions.assertThrows(NoSuchTableException.class, results.get(1)::get);
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+
+    // The identifiers should be validated before sending the request
+    Assertions.assertThrows(IllegalArgumentException.class, () -> gravitinoClient.loadTables());
+  }
+
+  @Test
+  public void testLoadSchemasInBatch() throws JsonProcessingException {
+    String path = "/api/metalakes/" + metalakeName + "/batch/schemas";
+    NameIdentifier schema1 = NameIdentifier.of("catalog1", "schema1");
+    NameIdentifier schema2 = NameIdentifier.of("catalog1", "schema2");
+    SchemaDTO schemaDTO =
+        SchemaDTO.builder()
+            .withName("schema1")
+            .withAudit(
+                AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    BatchLoadRequest req = new BatchLoadRequest(new NameIdentifier[] {schema1, schema2});
+    SchemaBatchLoadResponse resp =
+        new SchemaBatchLoadResponse(
+            Arrays.asList(
+                SchemaBatchLoadResponse.Result.success(schema1, schemaDTO),
+                SchemaBatchLoadResponse.Result.failure(
+                    schema2, ErrorResponse.forbidden("mock error", null))));
+    buildMockResource(Method.POST, path, req, resp, HttpStatus.SC_OK);
+
+    List<BatchLoadResult<Schema>> results = gravitinoClient.loadSchemas(schema1, schema2);
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals("schema1", results.get(0).get().name());
+    Assertions.assertInstanceOf(ForbiddenException.class, results.get(1).exception());
+  }
+
   @Test
   public void testCreateCatalog() throws JsonProcessingException {
     String catalogName = "mock";
@@ -52,6 +52,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -147,6 +148,47 @@ public class TestHTTPClient {
     verify(onError, never()).accept(any());
   }
 
+  @Test
+  public void testGetRevalidatesCachedResponse() throws Exception {
+    Item body = new Item(1L, "etag");
+    String path = "get_with_etag";
+    String etag = "\"v1\"";
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    // The conditional request is answered with 304 and without body
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("If-None-Match", etag))
+        .respond(response().withStatusCode(304).withHeader("ETag", etag));
+    mockServer
+        .when(request("/" + path).withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", etag)
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    Assertions.assertEquals(body, restClient.get(path, Item.class, ImmutableMap.of(), onError));
+    Assertions.assertEquals(body, restClient.get(path, Item.class, ImmutableMap.of(), onError));
+    mockServer.verify(
+        request("/" + path).withMethod("GET").withHeader("If-None-Match", etag),
+        VerificationTimes.once());
+    verify(onError, never()).accept(any());
+
+    // The client without the response cache never sends conditional requests
+    try (HTTPClient client =
+        HTTPClient.builder(ImmutableMap.of("gravitino.client.responseCacheSize", "0"))
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      Assertions.assertEquals(body, client.get(path, Item.class, ImmutableMap.of(), onError));
+      Assertions.assertEquals(body, client.get(path, Item.class, ImmutableMap.of(), onError));
+    }
+    mockServer.verify(
+        request("/" + path).withMethod("GET").withHeader("If-None-Match", etag),
+        VerificationTimes.once());
+  }
+
   @Test
   public void testSocketAndConnectionTimeoutSet() {
     // test default value
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
+import java.util.Optional;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -102,6 +103,38 @@ public class TestMessagingCatalog extends TestBase {
             ImmutableMap.of("k1", "k2"));
   }
 
+  @Test
+  public void testListTopicsByPage() throws JsonProcessingException {
+    NameIdentifier topic1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic1");
+    NameIdentifier topic2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic2");
+    String topicPath = withSlash(MessagingCatalog.formatTopicRequestPath(topic1.namespace()));
+    MessagingCatalog topicCatalog = (MessagingCatalog) catalog;
+
+    EntityListResponse firstResp = new EntityListResponse(new NameIdentifier[] {topic1}, "token1");
+    buildMockResource(Method.GET, topicPath, ImmutableMap.of("limit", "1"), null, firstResp, SC_OK);
+    NameIdentifierPage firstPage = topicCatalog.listTopics(Namespace.of("schema1"), null, 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "topic1")}, firstPage.identifiers());
+    Assertions.assertEquals(Optional.of("token1"), firstPage.nextPageToken());
+
+    EntityListResponse lastResp = new EntityListResponse(new NameIdentifier[] {topic2}, null);
+    buildMockResource(
+        Method.GET,
+        topicPath,
+        ImmutableMap.of("limit", "1", "pageToken", "token1"),
+        null,
+        lastResp,
+        SC_OK);
+    NameIdentifierPage lastPage = topicCatalog.listTopics(Namespace.of("schema1"), "token1", 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "topic2")}, lastPage.identifiers());
+    Assertions.assertFalse(lastPage.nextPageToken().isPresent());
+
+    Namespace namespace = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> topicCatalog.listTopics(namespace, null, 0));
+  }
+
   @Test
   public void testListTopics() throws Exception {
     NameIdentifier topic1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic1");
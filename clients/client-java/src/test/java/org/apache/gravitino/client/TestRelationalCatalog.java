@@ -35,7 +35,13 @@ import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -317,6 +323,39 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("schema is not empty"));
   }
 
+  @Test
+  public void testListTablesByPage() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+    RelationalCatalog relationalCatalog = (RelationalCatalog) catalog;
+
+    EntityListResponse firstResp = new EntityListResponse(new NameIdentifier[] {table1}, "token1");
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("limit", "1"), null, firstResp, SC_OK);
+    NameIdentifierPage firstPage = relationalCatalog.listTables(Namespace.of("schema1"), null, 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "table1")}, firstPage.identifiers());
+    Assertions.assertEquals(Optional.of("token1"), firstPage.nextPageToken());
+
+    EntityListResponse lastResp = new EntityListResponse(new NameIdentifier[] {table2}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("limit", "1", "pageToken", "token1"),
+        null,
+        lastResp,
+        SC_OK);
+    NameIdentifierPage lastPage =
+        relationalCatalog.listTables(Namespace.of("schema1"), "token1", 1);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "table2")}, lastPage.identifiers());
+    Assertions.assertFalse(lastPage.nextPageToken().isPresent());
+
+    Namespace namespace = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> relationalCatalog.listTables(namespace, null, 0));
+  }
+
   @Test
   public void testListTables() throws JsonProcessingException {
     NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
@@ -789,6 +828,63 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testLoadTablesAsync() throws Exception {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    AsyncTableCatalog asyncCatalog = (AsyncTableCatalog) catalog.asTableCatalog();
+
+    EntityListResponse listResp = new EntityListResponse(new NameIdentifier[] {table1, table2});
+    buildMockResource(Method.GET, tablePath, null, listResp, SC_OK);
+    NameIdentifier[] tables = asyncCatalog.listTablesAsync(Namespace.of("schema1")).get();
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {
+          NameIdentifier.of("schema1", "table1"), NameIdentifier.of("schema1", "table2")
+        },
+        tables);
+
+    // Load all the tables concurrently
+    Map<NameIdentifier, TableDTO> expectedTables = new HashMap<>();
+    for (NameIdentifier tableId : tables) {
+      TableDTO expectedTable =
+          createMockTable(
+              tableId.name(),
+              columns,
+              "comment",
+              Collections.emptyMap(),
+              EMPTY_PARTITIONING,
+              DistributionDTO.NONE,
+              new SortOrderDTO[0]);
+      buildMockResource(
+          Method.GET,
+          tablePath + "/" + tableId.name(),
+          null,
+          new TableResponse(expectedTable),
+          SC_OK);
+      expectedTables.put(tableId, expectedTable);
+    }
+
+    List<CompletableFuture<Table>> futures =
+        Arrays.stream(tables).map(asyncCatalog::loadTableAsync).collect(Collectors.toList());
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    for (int i = 0; i < tables.length; i++) {
+      assertTableEquals(fromDTO(expectedTables.get(tables[i])), futures.get(i).get());
+    }
+
+    // Test the future is completed exceptionally with NoSuchTableException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
+    buildMockResource(Method.GET, tablePath + "/table3", null, errorResp, SC_NOT_FOUND);
+    CompletableFuture<Table> future =
+        asyncCatalog.loadTableAsync(NameIdentifier.of("schema1", "table3"));
+    ExecutionException ex = Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(NoSuchTableException.class, ex.getCause());
+    Assertions.assertTrue(ex.getCause().getMessage().contains("table not found"));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -26,8 +26,11 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.SchemaDTO;
@@ -167,6 +170,70 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionPages() throws JsonProcessingException {
+    RelationalTable table = (RelationalTable) partitionedTable;
+    String partitionPath = withSlash(table.getPartitionRequestPath());
+
+    Map<String, String> params =
+        ImmutableMap.of("details", "false", "filter", "p = 1", "limit", "1");
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        params,
+        null,
+        new PartitionNameListResponse(new String[] {"p1"}, "cDE"),
+        SC_OK);
+    PartitionNamePage namePage = table.listPartitionNamesPage("p = 1", null, 1);
+    Assertions.assertArrayEquals(new String[] {"p1"}, namePage.partitionNames());
+    Assertions.assertEquals(Optional.of("cDE"), namePage.nextPageToken());
+
+    RangePartitionDTO p1 = rangePartition("p1", "1", "10");
+    RangePartitionDTO p2 = rangePartition("p2", "10", "20");
+    params = ImmutableMap.of("details", "true", "limit", "1");
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        params,
+        null,
+        new PartitionListResponse(new PartitionDTO[] {p1}, "opaque-token"),
+        SC_OK);
+    SupportsPartitions supportPartitions = partitionedTable.supportPartitions();
+    Assertions.assertArrayEquals(
+        new Partition[] {p1}, supportPartitions.listPartitions(null, null, 1));
+
+    // The next page token of the page ending at the start-after partition is sent unchanged
+    params = ImmutableMap.of("details", "true", "pageToken", "opaque-token", "limit", "1");
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        params,
+        null,
+        new PartitionListResponse(new PartitionDTO[] {p2}, null),
+        SC_OK);
+    Assertions.assertArrayEquals(
+        new Partition[] {p2}, supportPartitions.listPartitions(null, "p1", 1));
+
+    // No page was listed after the last page or with another filter
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> supportPartitions.listPartitions(null, "p2", 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> supportPartitions.listPartitions("p = 1", "p1", 1));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> table.listPartitionNamesPage(null, null, 0));
+  }
+
+  private static RangePartitionDTO rangePartition(String name, String lower, String upper) {
+    return RangePartitionDTO.builder()
+        .withName(name)
+        .withLower(
+            LiteralDTO.builder().withDataType(Types.IntegerType.get()).withValue(lower).build())
+        .withUpper(
+            LiteralDTO.builder().withDataType(Types.IntegerType.get()).withValue(upper).build())
+        .build();
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
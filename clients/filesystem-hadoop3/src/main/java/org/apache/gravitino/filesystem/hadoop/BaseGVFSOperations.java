@@ -132,6 +132,9 @@ public abstract class BaseGVFSOperations implements Closeable {
 
   private final boolean enableCredentialVending;
 
+  // Present if the actual file locations are resolved on the client side.
+  private final Optional<FilesetAuditReporter> filesetAuditReporter;
+
   /**
    * Constructs a new {@link BaseGVFSOperations} with the given {@link Configuration}.
    *
@@ -175,11 +178,30 @@ public abstract class BaseGVFSOperations implements Closeable {
         configuration.getBoolean(
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ENABLE_CREDENTIAL_VENDING,
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ENABLE_CREDENTIAL_VENDING_DEFAULT);
+
+    boolean enableLocalFileLocationResolution =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE_DEFAULT);
+    Preconditions.checkArgument(
+        !enableLocalFileLocationResolution || enableFilesetCatalogCache,
+        "'%s' requires '%s' to be true",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE,
+        FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE);
+    this.filesetAuditReporter =
+        enableLocalFileLocationResolution
+            ? Optional.of(newFilesetAuditReporter(configuration))
+            : Optional.empty();
     this.conf = configuration;
   }
 
   @Override
   public void close() throws IOException {
+    // report the pending audits before closing the Gravitino client
+    filesetAuditReporter.ifPresent(FilesetAuditReporter::close);
+
     // close all actual FileSystems
     for (FileSystem fileSystem : internalFileSystemCache.asMap().values()) {
       try {
@@ -405,13 +427,20 @@ public abstract class BaseGVFSOperations implements Closeable {
         NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
     String fileLocation;
     try {
-      FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
-      setCallerContextForGetFileLocation(operation);
-      fileLocation =
-          filesetCatalog.getFileLocation(
-              NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
-              subPath,
-              locationName);
+      if (filesetAuditReporter.isPresent()) {
+        fileLocation =
+            GravitinoVirtualFileSystemUtils.resolveFileLocation(
+                getFileset(filesetIdent), filesetIdent, subPath, locationName, operation);
+        filesetAuditReporter.get().report(filesetIdent, subPath, locationName, operation);
+      } else {
+        FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+        setCallerContextForGetFileLocation(operation);
+        fileLocation =
+            filesetCatalog.getFileLocation(
+                NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+                subPath,
+                locationName);
+      }
     } catch (NoSuchCatalogException | CatalogNotInUseException e) {
       String message = String.format("Cannot get fileset catalog by identifier: %s", catalogIdent);
       LOG.warn(message, e);
@@ -733,6 +762,23 @@ public abstract class BaseGVFSOperations implements Closeable {
     return cacheBuilder.build();
   }
 
+  private FilesetAuditReporter newFilesetAuditReporter(Configuration configuration) {
+    long intervalMillis =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUDIT_REPORT_INTERVAL_MILLIS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_AUDIT_REPORT_INTERVAL_MILLIS_DEFAULT);
+    int batchSize =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUDIT_REPORT_BATCH_SIZE_KEY,
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUDIT_REPORT_BATCH_SIZE_DEFAULT);
+    int maxPending =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUDIT_REPORT_MAX_PENDING_KEY,
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUDIT_REPORT_MAX_PENDING_DEFAULT);
+    return new FilesetAuditReporter(this::getFilesetCatalog, intervalMillis, batchSize, maxPending);
+  }
+
   private Map<String, String> getAllProperties(
       NameIdentifier filesetIdent, String scheme, String locationName) {
     Catalog catalog =
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.audit.InternalClientType;
+import org.apache.gravitino.file.FilesetCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports the fileset data operations to the Gravitino server asynchronously when the actual file
+ * locations are resolved on the client side.
+ *
+ * <p>The data operations are queued and sent in batches by a background thread, grouped by the
+ * fileset, the location name and the data operation. The server resolves and audits every sub path
+ * of a batch as a single get file location request, so the audit logs are the same as resolving the
+ * file locations on the server side.
+ */
+class FilesetAuditReporter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetAuditReporter.class);
+
+  private final Function<NameIdentifier, FilesetCatalog> filesetCatalogLoader;
+  private final int batchSize;
+  private final BlockingQueue<AuditRecord> pendingRecords;
+  private final AtomicLong droppedRecords = new AtomicLong();
+  private final AtomicBoolean reportRequested = new AtomicBoolean();
+  private final ScheduledExecutorService reportExecutor;
+
+  /**
+   * Creates a new {@link FilesetAuditReporter}.
+   *
+   * @param filesetCatalogLoader the function to load the fileset catalog by the catalog identifier.
+   * @param intervalMillis the interval in milliseconds to report the pending data operations.
+   * @param batchSize the maximum number of data operations sent in a single request.
+   * @param maxPending the maximum number of pending data operations.
+   */
+  FilesetAuditReporter(
+      Function<NameIdentifier, FilesetCatalog> filesetCatalogLoader,
+      long intervalMillis,
+      int batchSize,
+      int maxPending) {
+    Preconditions.checkArgument(intervalMillis > 0, "The report interval should be positive");
+    Preconditions.checkArgument(batchSize > 0, "The report batch size should be positive");
+    Preconditions.checkArgument(
+        maxPending >= batchSize, "The max pending audits should not be less than the batch size");
+    this.filesetCatalogLoader = filesetCatalogLoader;
+    this.batchSize = batchSize;
+    this.pendingRecords = new LinkedBlockingQueue<>(maxPending);
+    this.reportExecutor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-audit-reporter-%d")
+                .build());
+    reportExecutor.scheduleWithFixedDelay(
+        this::reportPending, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds a data operation to be reported. It never blocks the caller, the data operation is dropped
+   * if there are too many pending ones.
+   *
+   * @param filesetIdent the fileset identifier, the first level is the metalake name.
+   * @param subPath the sub path of the file or directory.
+   * @param locationName the location name, null means the default location.
+   * @param operation the data operation.
+   */
+  void report(
+      NameIdentifier filesetIdent,
+      String subPath,
+      @Nullable String locationName,
+      FilesetDataOperation operation) {
+    if (!pendingRecords.offer(new AuditRecord(filesetIdent, subPath, locationName, operation))) {
+      droppedRecords.incrementAndGet();
+      return;
+    }
+
+    if (pendingRecords.size() >= batchSize && reportRequested.compareAndSet(false, true)) {
+      try {
+        reportExecutor.execute(
+            () -> {
+              reportRequested.set(false);
+              reportPending();
+            });
+      } catch (RuntimeException e) {
+        // The reporter is closed, the pending data operations are reported when closing.
+        reportRequested.set(false);
+      }
+    }
+  }
+
+  /** Reports all the pending data operations to the server. */
+  @VisibleForTesting
+  synchronized void reportPending() {
+    long dropped = droppedRecords.getAndSet(0);
+    if (dropped > 0) {
+      LOG.warn("Dropped {} fileset data operation audits because too many are pending", dropped);
+    }
+
+    List<AuditRecord> batch = Lists.newArrayListWithCapacity(batchSize);
+    while (pendingRecords.drainTo(batch, batchSize) > 0) {
+      Map<AuditRecord, List<String>> subPathsByGroup = new LinkedHashMap<>();
+      for (AuditRecord record : batch) {
+        subPathsByGroup
+            .computeIfAbsent(record.group(), k -> Lists.newArrayList())
+            .add(record.subPath);
+      }
+      subPathsByGroup.forEach(this::send);
+      batch.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    reportExecutor.shutdown();
+    try {
+      if (!reportExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for the fileset audit reporter to stop");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    reportPending();
+  }
+
+  private void send(AuditRecord group, List<String> subPaths) {
+    NameIdentifier filesetIdent = group.filesetIdent;
+    NameIdentifier catalogIdent =
+        NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
+    try {
+      FilesetCatalog filesetCatalog = filesetCatalogLoader.apply(catalogIdent);
+      Map<String, String> contextMap = Maps.newHashMap();
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+          InternalClientType.HADOOP_GVFS.name());
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, group.operation.name());
+      CallerContext.CallerContextHolder.set(
+          CallerContext.builder().withContext(contextMap).build());
+      filesetCatalog.getFileLocations(
+          NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+          subPaths.toArray(new String[0]),
+          group.locationName);
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to report {} {} operations of fileset: {}, location name: {}",
+          subPaths.size(),
+          group.operation,
+          filesetIdent,
+          group.locationName,
+          e);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
+  private static class AuditRecord {
+    private final NameIdentifier filesetIdent;
+    @Nullable private final String subPath;
+    @Nullable private final String locationName;
+    private final FilesetDataOperation operation;
+
+    private AuditRecord(
+        NameIdentifier filesetIdent,
+        @Nullable String subPath,
+        @Nullable String locationName,
+        FilesetDataOperation operation) {
+      this.filesetIdent = filesetIdent;
+      this.subPath = subPath;
+      this.locationName = locationName;
+      this.operation = operation;
+    }
+
+    // The record without the sub path, the data operations of the same group are sent together.
+    private AuditRecord group() {
+      return new AuditRecord(filesetIdent, null, locationName, operation);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AuditRecord)) {
+        return false;
+      }
+      AuditRecord that = (AuditRecord) o;
+      return Objects.equals(filesetIdent, that.filesetIdent)
+          && Objects.equals(subPath, that.subPath)
+          && Objects.equals(locationName, that.locationName)
+          && operation == that.operation;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(filesetIdent, subPath, locationName, operation);
+    }
+  }
+}
@@ -175,5 +175,47 @@ public class GravitinoVirtualFileSystemConfiguration {
   /** The default value for whether to enable fileset and catalog cache. */
   public static final boolean FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE_DEFAULT = false;
 
+  /**
+   * The configuration key for whether to resolve the actual file locations on the client side from
+   * the cached fileset storage locations, instead of asking the Gravitino server for every file
+   * operation. It requires the fileset metadata cache to be enabled. The data operations are
+   * reported to the server asynchronously in batches for auditing. The default is false.
+   */
+  public static final String FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE =
+      "fs.gravitino.localFileLocationResolution.enable";
+
+  /** The default value for whether to resolve the actual file locations on the client side. */
+  public static final boolean FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE_DEFAULT = false;
+
+  /**
+   * The configuration key for the interval in milliseconds to report the pending data operation
+   * audits to the server when the file locations are resolved on the client side.
+   */
+  public static final String FS_GRAVITINO_AUDIT_REPORT_INTERVAL_MILLIS_KEY =
+      "fs.gravitino.auditReport.intervalMillis";
+
+  /** The default interval in milliseconds to report the pending data operation audits. */
+  public static final long FS_GRAVITINO_AUDIT_REPORT_INTERVAL_MILLIS_DEFAULT = 10 * 1000L;
+
+  /**
+   * The configuration key for the maximum number of data operation audits sent to the server in a
+   * single request. The audits are also reported once this many of them are pending.
+   */
+  public static final String FS_GRAVITINO_AUDIT_REPORT_BATCH_SIZE_KEY =
+      "fs.gravitino.auditReport.batchSize";
+
+  /** The default maximum number of data operation audits sent in a single request. */
+  public static final int FS_GRAVITINO_AUDIT_REPORT_BATCH_SIZE_DEFAULT = 1000;
+
+  /**
+   * The configuration key for the maximum number of pending data operation audits. The audits
+   * beyond it are dropped until the pending ones are reported.
+   */
+  public static final String FS_GRAVITINO_AUDIT_REPORT_MAX_PENDING_KEY =
+      "fs.gravitino.auditReport.maxPending";
+
+  /** The default maximum number of pending data operation audits. */
+  public static final int FS_GRAVITINO_AUDIT_REPORT_MAX_PENDING_DEFAULT = 100000;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
@@ -20,6 +20,7 @@
 package org.apache.gravitino.filesystem.hadoop;
 
 import static org.apache.gravitino.client.GravitinoClientConfiguration.GRAVITINO_CLIENT_CONFIG_PREFIX;
+import static org.apache.gravitino.file.Fileset.PROPERTY_DEFAULT_LOCATION_NAME;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_CONFIG_PREFIX;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_KERBEROS_PREFIX;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_OAUTH2_PREFIX;
@@ -34,11 +35,16 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.client.KerberosTokenProvider;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.exceptions.NoSuchLocationNameException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.hadoop.conf.Configuration;
 
 /** Utility class for Gravitino Virtual File System. */
@@ -48,6 +54,8 @@ public class GravitinoVirtualFileSystemUtils {
   // The following path can be match:
   //     gvfs://fileset/fileset_catalog/fileset_schema/fileset1/file.txt
   //     /fileset_catalog/fileset_schema/fileset1/sub_dir/
+  private static final String SLASH = "/";
+
   private static final Pattern IDENTIFIER_PATTERN =
       Pattern.compile("^(?:gvfs://fileset)?/([^/]+)/([^/]+)/([^/]+)(?>/[^/]+)*/?$");
 
@@ -301,6 +309,62 @@ public class GravitinoVirtualFileSystemUtils {
     return gvfsPath.substring(prefix.length());
   }
 
+  /**
+   * Resolve the actual location of a file or directory from the storage locations of the fileset,
+   * in the same way as the Gravitino server does for a get file location request.
+   *
+   * @param fileset The fileset.
+   * @param filesetIdent The identifier of the fileset.
+   * @param subPath The sub path to the file or directory.
+   * @param locationName The location name, or null to use the default location.
+   * @param operation The data operation on the file or directory.
+   * @return The actual location of the file or directory.
+   * @throws NoSuchLocationNameException If the location name does not exist in the fileset.
+   */
+  public static String resolveFileLocation(
+      Fileset fileset,
+      NameIdentifier filesetIdent,
+      String subPath,
+      @Nullable String locationName,
+      FilesetDataOperation operation)
+      throws NoSuchLocationNameException {
+    Preconditions.checkArgument(subPath != null, "subPath must not be null");
+    String processedSubPath = subPath.trim();
+    if (!processedSubPath.isEmpty() && !processedSubPath.startsWith(SLASH)) {
+      processedSubPath = SLASH + processedSubPath;
+    }
+
+    String targetLocationName = locationName;
+    if (targetLocationName == null) {
+      targetLocationName =
+          fileset.storageLocations().size() == 1
+              // to be compatible with the old version, the fileset in old version only has one
+              // location and does not have the default-location-name property
+              ? fileset.storageLocations().keySet().iterator().next()
+              : fileset.properties().get(PROPERTY_DEFAULT_LOCATION_NAME);
+    }
+    String storageLocation = fileset.storageLocations().get(targetLocationName);
+    if (storageLocation == null) {
+      throw new NoSuchLocationNameException(
+          "Location name %s does not exist in fileset %s", targetLocationName, filesetIdent);
+    }
+
+    // if the sub path is blank, it cannot be renamed otherwise the metadata in the Gravitino
+    // server may be inconsistent.
+    if (operation == FilesetDataOperation.RENAME
+        && (processedSubPath.isEmpty() || processedSubPath.equals(SLASH))) {
+      throw new GravitinoRuntimeException(
+          "subPath cannot be blank when need to rename a file or a directory.");
+    }
+
+    if (processedSubPath.isEmpty()) {
+      return storageLocation;
+    }
+    // the processed sub path always starts with "/" if it is not blank, so we can safely remove
+    // the trailing slash if the storage location ends with "/".
+    return StringUtils.removeEnd(storageLocation, SLASH) + processedSubPath;
+  }
+
   private static void checkAuthConfig(String authType, String configKey, String configValue) {
     Preconditions.checkArgument(
         StringUtils.isNotBlank(configValue),
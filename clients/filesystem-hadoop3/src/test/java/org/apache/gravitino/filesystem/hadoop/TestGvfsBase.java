@@ -50,6 +50,7 @@ import java.lang.reflect.Field;
 import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -61,12 +62,15 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Version;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.credential.CredentialDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.responses.CredentialResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.responses.VersionResponse;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -464,6 +468,118 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testLocalFileLocationResolution() throws IOException {
+    String filesetName = "testLocalResolution";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    String locationsPath = locationPath + "s";
+    Configuration configuration = new Configuration(conf);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE, true);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCAL_FILE_LOCATION_RESOLUTION_ENABLE,
+        true);
+    mockFilesetDTO(
+        metalakeName,
+        catalogName,
+        schemaName,
+        filesetName,
+        Fileset.Type.MANAGED,
+        ImmutableMap.of("location1", localPath.toString()),
+        ImmutableMap.of(PROPERTY_DEFAULT_LOCATION_NAME, "location1"));
+    buildMockResourceForCredential(filesetName, localPath.toString());
+    buildMockResource(
+        Method.POST,
+        locationsPath,
+        null,
+        new FileLocationsResponse(new String[] {localPath + "/test.txt"}),
+        SC_OK);
+
+    try (FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration)) {
+        Path filePath = new Path(managedFilesetPath + "/test.txt");
+        FileSystemTestUtils.create(filePath, gravitinoFileSystem);
+        assertTrue(localFileSystem.exists(new Path(localPath + "/test.txt")));
+        assertTrue(gravitinoFileSystem.exists(filePath));
+      }
+      localFileSystem.delete(localPath, true);
+    }
+
+    // The file locations are resolved without asking the server, and the data operations are
+    // reported in batches when closing the file system.
+    mockServer()
+        .verify(HttpRequest.request(locationPath).withMethod("GET"), VerificationTimes.never());
+    mockServer()
+        .verify(
+            HttpRequest.request(locationsPath)
+                .withMethod("POST")
+                .withHeader(
+                    FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                    FilesetDataOperation.CREATE.name()),
+            VerificationTimes.once());
+    mockServer()
+        .verify(
+            HttpRequest.request(locationsPath)
+                .withMethod("POST")
+                .withHeader(
+                    FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                    FilesetDataOperation.GET_FILE_STATUS.name()),
+            VerificationTimes.once());
+
+    // The local resolution requires the fileset metadata cache
+    Configuration invalidConfiguration = new Configuration(configuration);
+    invalidConfiguration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE, false);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> managedFilesetPath.getFileSystem(invalidConfiguration));
+  }
+
+  @Test
+  public void testResolveFileLocation() {
+    NameIdentifier filesetIdent =
+        NameIdentifier.of(metalakeName, catalogName, schemaName, "fileset1");
+    Fileset fileset =
+        FilesetDTO.builder()
+            .name("fileset1")
+            .type(Fileset.Type.MANAGED)
+            .storageLocations(
+                ImmutableMap.of("location1", "hdfs://host/dir1/", "location2", "s3a://bucket/dir2"))
+            .properties(ImmutableMap.of(PROPERTY_DEFAULT_LOCATION_NAME, "location1"))
+            .audit(AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+
+    Assertions.assertEquals(
+        "hdfs://host/dir1/a/b.txt",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            fileset, filesetIdent, "a/b.txt", null, FilesetDataOperation.OPEN));
+    Assertions.assertEquals(
+        "s3a://bucket/dir2/a",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            fileset, filesetIdent, "/a", "location2", FilesetDataOperation.CREATE));
+    Assertions.assertEquals(
+        "s3a://bucket/dir2",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            fileset, filesetIdent, "", "location2", FilesetDataOperation.LIST_STATUS));
+    assertThrows(
+        NoSuchLocationNameException.class,
+        () ->
+            GravitinoVirtualFileSystemUtils.resolveFileLocation(
+                fileset, filesetIdent, "/a", "location3", FilesetDataOperation.OPEN));
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            GravitinoVirtualFileSystemUtils.resolveFileLocation(
+                fileset, filesetIdent, "/", null, FilesetDataOperation.RENAME));
+  }
+
   @ParameterizedTest
   @CsvSource({
     "true, testAppend",
@@ -80,6 +80,9 @@ public final class ConfigConstants {
   /** The version number for the 1.0.0 release. */
   public static final String VERSION_1_0_0 = "1.0.0";
 
+  /** The version number for the 1.1.0 release. */
+  public static final String VERSION_1_1_0 = "1.1.0";
+
   /** The current version of backend storage initialization script. */
-  public static final String CURRENT_SCRIPT_VERSION = VERSION_1_0_0;
+  public static final String CURRENT_SCRIPT_VERSION = VERSION_1_1_0;
 }
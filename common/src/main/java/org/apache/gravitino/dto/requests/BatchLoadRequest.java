@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.rest.RESTRequest;
+
+/**
+ * Request to load multiple metadata objects of the same type in one round trip. The identifiers are
+ * relative to the metalake, for example "catalog.schema.table" for tables.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class BatchLoadRequest implements RESTRequest {
+
+  /** The maximum number of identifiers in a single request. */
+  public static final int MAX_BATCH_SIZE = 100;
+
+  @JsonSerialize(contentUsing = JsonUtils.NameIdentifierSerializer.class)
+  @JsonDeserialize(contentUsing = JsonUtils.NameIdentifierDeserializer.class)
+  @JsonProperty("identifiers")
+  private final NameIdentifier[] identifiers;
+
+  /**
+   * Creates a new BatchLoadRequest.
+   *
+   * @param identifiers The identifiers of the metadata objects to load.
+   */
+  public BatchLoadRequest(NameIdentifier[] identifiers) {
+    this.identifiers = identifiers;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public BatchLoadRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        identifiers != null && identifiers.length > 0,
+        "\"identifiers\" must not be null or empty.");
+    Preconditions.checkArgument(
+        identifiers.length <= MAX_BATCH_SIZE,
+        "\"identifiers\" must not contain more than %s identifiers.",
+        MAX_BATCH_SIZE);
+    for (NameIdentifier identifier : identifiers) {
+      Preconditions.checkArgument(identifier != null, "\"identifiers\" must not contain null.");
+    }
+  }
+}
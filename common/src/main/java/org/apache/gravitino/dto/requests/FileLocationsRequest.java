@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Request to get the actual locations of multiple files or directories in a fileset. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class FileLocationsRequest implements RESTRequest {
+
+  @JsonProperty("subPaths")
+  private final String[] subPaths;
+
+  @Nullable
+  @JsonProperty("locationName")
+  private final String locationName;
+
+  /**
+   * Creates a new FileLocationsRequest.
+   *
+   * @param subPaths The sub paths to the files or directories.
+   * @param locationName The location name, or null to use the default location.
+   */
+  public FileLocationsRequest(String[] subPaths, String locationName) {
+    this.subPaths = subPaths;
+    this.locationName = locationName;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public FileLocationsRequest() {
+    this(null, null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        subPaths != null && subPaths.length > 0, "\"subPaths\" must not be null or empty.");
+    for (String subPath : subPaths) {
+      Preconditions.checkArgument(subPath != null, "\"subPaths\" must not contain null.");
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.SchemaDTO;
+import org.apache.gravitino.json.JsonUtils;
+
+/**
+ * Represents a response for loading multiple schemas, the results are in the same order as the
+ * requested identifiers.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class SchemaBatchLoadResponse extends BaseResponse {
+
+  @JsonProperty("results")
+  private final List<Result> results;
+
+  /**
+   * Creates a new SchemaBatchLoadResponse.
+   *
+   * @param results The load result of each schema.
+   */
+  public SchemaBatchLoadResponse(List<Result> results) {
+    super(0);
+    this.results = results;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public SchemaBatchLoadResponse() {
+    super();
+    this.results = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(results != null, "results must not be null");
+    for (Result result : results) {
+      Preconditions.checkArgument(
+          result.identifier != null, "result 'identifier' must not be null");
+      Preconditions.checkArgument(
+          (result.schema == null) != (result.error == null),
+          "result of %s must contain either the schema or the error",
+          result.identifier);
+    }
+  }
+
+  /** The load result of a single schema, which is either the schema or the error. */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  public static class Result {
+
+    @JsonSerialize(using = JsonUtils.NameIdentifierSerializer.class)
+    @JsonDeserialize(using = JsonUtils.NameIdentifierDeserializer.class)
+    @JsonProperty("identifier")
+    private final NameIdentifier identifier;
+
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("schema")
+    private final SchemaDTO schema;
+
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("error")
+    private final ErrorResponse error;
+
+    private Result(NameIdentifier identifier, SchemaDTO schema, ErrorResponse error) {
+      this.identifier = identifier;
+      this.schema = schema;
+      this.error = error;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    private Result() {
+      this(null, null, null);
+    }
+
+    /**
+     * Creates a result of the schema loaded successfully.
+     *
+     * @param identifier The requested identifier of the schema.
+     * @param schema The schema DTO object.
+     * @return The result.
+     */
+    public static Result success(NameIdentifier identifier, SchemaDTO schema) {
+      return new Result(identifier, schema, null);
+    }
+
+    /**
+     * Creates a result of the schema failed to load.
+     *
+     * @param identifier The requested identifier of the schema.
+     * @param error The error response.
+     * @return The result.
+     */
+    public static Result failure(NameIdentifier identifier, ErrorResponse error) {
+      return new Result(identifier, null, error);
+    }
+  }
+}
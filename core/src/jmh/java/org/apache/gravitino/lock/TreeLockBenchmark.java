@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TreeLockBenchmark compares the throughput of {@link LockManager} and {@link StripedLockManager}
+ * when many threads lock tables under the same catalog, which is what happens when a lot of
+ * concurrent {@code loadTable} requests hit one catalog.
+ *
+ * <p>Each benchmark method creates a tree lock for a random table of the catalog, locks it and
+ * unlocks it. The {@code Read} methods only take read locks, the {@code Mixed} methods take a write
+ * lock on the table for 10% of the operations. The methods differ in the number of threads, from 1
+ * to 64.
+ *
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TreeLockBenchmark {
+  private static final int SCHEMA_COUNT = 10;
+  private static final int TABLE_COUNT = 100;
+
+  @Param({Configs.TREE_LOCK_TYPE_TREE, Configs.TREE_LOCK_TYPE_STRIPED})
+  public String lockType;
+
+  private LockManager lockManager;
+  private NameIdentifier[] tables;
+
+  @Setup
+  public void setup() {
+    Config config = new Config(false) {};
+    this.lockManager =
+        Configs.TREE_LOCK_TYPE_STRIPED.equals(lockType)
+            ? new StripedLockManager(config)
+            : new LockManager(config);
+
+    this.tables = new NameIdentifier[SCHEMA_COUNT * TABLE_COUNT];
+    for (int i = 0; i < SCHEMA_COUNT; i++) {
+      for (int j = 0; j < TABLE_COUNT; j++) {
+        tables[i * TABLE_COUNT + j] =
+            NameIdentifier.of("metalake", "catalog", "schema_" + i, "table_" + j);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void read1Thread() {
+    lockTable(0);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void read4Threads() {
+    lockTable(0);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void read16Threads() {
+    lockTable(0);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void read64Threads() {
+    lockTable(0);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void mixed1Thread() {
+    lockTable(10);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void mixed4Threads() {
+    lockTable(10);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void mixed16Threads() {
+    lockTable(10);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void mixed64Threads() {
+    lockTable(10);
+  }
+
+  private void lockTable(int writePercentage) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    NameIdentifier table = tables[random.nextInt(tables.length)];
+    LockType type = random.nextInt(100) < writePercentage ? LockType.WRITE : LockType.READ;
+
+    TreeLock treeLock = lockManager.createTreeLock(table);
+    treeLock.lock(type);
+    try {
+      // Simulate a short critical section such as a cache hit.
+      Blackhole.consumeCPU(64);
+    } finally {
+      treeLock.unlock();
+    }
+  }
+}
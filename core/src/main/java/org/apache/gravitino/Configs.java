@@ -104,6 +104,10 @@ public class Configs {
 
   public static final long CLEAN_INTERVAL_IN_SECS = 60L;
 
+  public static final String TREE_LOCK_TYPE_TREE = "tree";
+
+  public static final String TREE_LOCK_TYPE_STRIPED = "striped";
+
   public static final ConfigEntry<String> ENTITY_STORE =
       new ConfigBuilder(ENTITY_STORE_KEY)
           .doc("Which storage implementation to use")
@@ -258,6 +262,53 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Integer> GARBAGE_COLLECTOR_PARALLELISM =
+      new ConfigBuilder("gravitino.entity.store.gc.parallelism")
+          .doc(
+              "The number of entity types whose legacy and old version data are collected "
+                  + "concurrently by the garbage collector of the relational entity store")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> GARBAGE_COLLECTOR_MAX_DELETION_LIMIT =
+      new ConfigBuilder("gravitino.entity.store.gc.maxDeletionLimit")
+          .doc(
+              String.format(
+                  "The maximum count of rows deleted by one statement of the garbage collector. "
+                      + "The garbage collector starts with %s rows and adapts the count to the "
+                      + "observed deletion latency",
+                  GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT))
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(
+              value -> value >= GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT,
+              String.format(
+                  "The value must be no less than %s", GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT))
+          .createWithDefault(10_000);
+
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS =
+      new ConfigBuilder("gravitino.entity.store.gc.targetDeletionLatencyMs")
+          .doc(
+              "The target latency in milliseconds of one deletion statement of the garbage "
+                  + "collector. Slower deletions, which indicate a busy database, shrink the "
+                  + "deletion count and pause the collector, faster ones grow the deletion count")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(200L);
+
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxRowsPerSecond")
+          .doc(
+              "The maximum count of rows deleted per second by the garbage collector across all "
+                  + "the entity types, 0 means no limit")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000L);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -281,6 +332,21 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<String> TREE_LOCK_TYPE =
+      new ConfigBuilder("gravitino.lock.type")
+          .doc(
+              "The implementation of the tree lock manager, 'tree' uses one read-write lock per "
+                  + "node, 'striped' spreads the read locks of the top level nodes over several "
+                  + "stripes and looks up the child nodes without locking")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  TREE_LOCK_TYPE_TREE.equalsIgnoreCase(value)
+                      || TREE_LOCK_TYPE_STRIPED.equalsIgnoreCase(value),
+              "The tree lock type should be 'tree' or 'striped'")
+          .createWithDefault(TREE_LOCK_TYPE_TREE);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -302,6 +368,31 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_GRAVITINO_AUTHORIZATION_THREAD_POOL_SIZE);
 
+  public static final ConfigEntry<Boolean> GRAVITINO_AUTHORIZATION_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.authorization.cache.enabled")
+          .doc(
+              "Whether to cache the authorization decisions and the metadata ids resolved by the "
+                  + "built-in authorizer across requests")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Long> GRAVITINO_AUTHORIZATION_CACHE_MAX_SIZE =
+      new ConfigBuilder("gravitino.authorization.cache.maxSize")
+          .doc("The maximum number of entries of each authorization cache")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100000L);
+
+  public static final ConfigEntry<Long> GRAVITINO_AUTHORIZATION_CACHE_EXPIRATION_SECS =
+      new ConfigBuilder("gravitino.authorization.cache.expirationSecs")
+          .doc("The expiration time in seconds of the authorization cache entries after written")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3600L);
+
   public static final ConfigEntry<List<String>> SERVICE_ADMINS =
       new ConfigBuilder("gravitino.authorization.serviceAdmins")
           .doc("The admins of Gravitino service")
@@ -322,6 +413,15 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final ConfigEntry<Boolean> METRICS_OPERATION_LATENCY_ENABLED =
+      new ConfigBuilder("gravitino.metrics.operationLatency.enabled")
+          .doc(
+              "Whether to record the time the requests spend in each layer, such as the "
+                  + "authorization, the tree lock waiting, the catalog and the entity store")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .booleanConf()
+          .createWithDefault(true);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
@@ -330,6 +430,25 @@ public class Configs {
           .toSequence()
           .createWithDefault(Collections.emptyList());
 
+  public static final ConfigEntry<Integer> BATCH_LOAD_THREADS =
+      new ConfigBuilder("gravitino.server.batchLoad.threads")
+          .doc("The number of threads to load the metadata objects of the batch load requests")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(Math.min(32, Runtime.getRuntime().availableProcessors() * 4));
+
+  public static final ConfigEntry<Integer> BATCH_LOAD_QUEUE_SIZE =
+      new ConfigBuilder("gravitino.server.batchLoad.queueSize")
+          .doc(
+              "The maximum number of metadata objects waiting to be loaded by the batch load "
+                  + "threads, the request threads load the metadata objects themselves when the "
+                  + "queue is full")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   public static final String AUDIT_LOG_WRITER_CONFIG_PREFIX = "gravitino.audit.writer.";
 
   public static final ConfigEntry<Boolean> AUDIT_LOG_ENABLED_CONF =
@@ -434,6 +553,42 @@ public class Configs {
           .checkValue(value -> value > 0, "Lock segments must be positive.")
           .createWithDefault(16);
 
+  // Channel used to broadcast cache invalidations across server nodes
+  public static final ConfigEntry<String> CACHE_INVALIDATION_CHANNEL =
+      new ConfigBuilder("gravitino.cache.invalidation.channel")
+          .doc(
+              "The channel used to broadcast entity cache invalidations to the other Gravitino "
+                  + "servers sharing the same entity store. 'none' keeps the cache process-local, "
+                  + "'changelog' records every change in the entity change log table of the "
+                  + "relational store and lets each server poll it. A full qualified class name "
+                  + "of a custom channel is also accepted.")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("none");
+
+  // Interval to poll the change log for invalidations made by other server nodes
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_POLL_INTERVAL_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.pollIntervalInMs")
+          .doc(
+              "The interval in milliseconds to poll the invalidations made by other servers. This "
+                  + "bounds how long a server may serve a stale cache entry after a change.")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1_000L);
+
+  // Retention time of the change log entries
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_RETENTION_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.retentionInMs")
+          .doc(
+              "The time in milliseconds to keep the entries of the change log. A server that "
+                  + "fails to poll for longer than this clears its whole cache.")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3_600_000L);
+
   public static final ConfigEntry<String> JOB_STAGING_DIR =
       new ConfigBuilder("gravitino.job.stagingDir")
           .doc("Directory for managing staging files when running jobs.")
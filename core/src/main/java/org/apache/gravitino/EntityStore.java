@@ -20,8 +20,11 @@ package org.apache.gravitino;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -83,6 +86,34 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List a page of the entities with the specified {@link org.apache.gravitino.Namespace} in the
+   * order of their names. The page starts from the first entity whose name is greater than {@code
+   * startAfter}, so the name of the last entity of a page is used to fetch the next page without
+   * scanning the entities before it.
+   *
+   * <p>The default implementation lists all the entities and slices the page from them, stores
+   * able to seek on the names should override it.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param startAfter the name to start listing after, or null to start from the first entity
+   * @param limit the maximum number of entities to return
+   * @return the list of entities, which is shorter than {@code limit} only for the last page
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    return list(namespace, type, entityType).stream()
+        .filter(e -> startAfter == null || e.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -165,6 +196,32 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entities with the specified {@link org.apache.gravitino.NameIdentifier}s and the same
+   * entity type from the underlying storage. The implementation should fetch them with as few round
+   * trips as possible, the default implementation gets them one by one.
+   *
+   * @param idents the unique identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the existing entities in the order of {@code idents}, the identifiers which don't exist
+   *     are skipped
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException ignored) {
+        // Skip the entity which doesn't exist.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
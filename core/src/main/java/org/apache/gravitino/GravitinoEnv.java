@@ -73,11 +73,13 @@ import org.apache.gravitino.listener.TagEventDispatcher;
 import org.apache.gravitino.listener.TopicEventDispatcher;
 import org.apache.gravitino.listener.api.event.AccessControlEventDispatcher;
 import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.StripedLockManager;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
+import org.apache.gravitino.metrics.source.OperationLatencyMetricsSource;
 import org.apache.gravitino.policy.PolicyDispatcher;
 import org.apache.gravitino.policy.PolicyManager;
 import org.apache.gravitino.stats.StatisticManager;
@@ -486,6 +488,9 @@ public class GravitinoEnv {
   private void initBaseComponents() {
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
+    if (config.get(Configs.METRICS_OPERATION_LATENCY_ENABLED)) {
+      metricsSystem.register(new OperationLatencyMetricsSource());
+    }
 
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
@@ -505,7 +510,10 @@ public class GravitinoEnv {
     this.idGenerator = new RandomIdGenerator();
 
     // Tree lock
-    this.lockManager = new LockManager(config);
+    this.lockManager =
+        Configs.TREE_LOCK_TYPE_STRIPED.equalsIgnoreCase(config.get(Configs.TREE_LOCK_TYPE))
+            ? new StripedLockManager(config)
+            : new LockManager(config);
 
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuditLogMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncFileAuditWriter writes audit logs to a file from a background thread, so the request threads
+ * only pay for putting the audit log into a bounded queue.
+ *
+ * <p>The background thread drains the queue in batches into a buffered {@link FileChannel}. The
+ * file is flushed when the queue is drained and synced to disk once enough bytes are written or the
+ * sync interval elapses. When the file reaches the rotation size or the rotation interval elapses,
+ * it's renamed with a timestamp suffix, compressed with gzip in another thread and the oldest
+ * rotated files beyond {@code maxRotatedFiles} are deleted.
+ *
+ * <p>If the queue is full, the caller waits up to {@code enqueueTimeoutMs} and then drops the audit
+ * log. The queue size, dropped audit logs and the latency from enqueue to write are reported as
+ * metrics.
+ */
+public class AsyncFileAuditWriter implements AuditLogWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncFileAuditWriter.class);
+
+  private static final String AUDIT_LOG_FILE_NAME = "fileName";
+  private static final String APPEND = "append";
+  private static final String QUEUE_CAPACITY = "queueCapacity";
+  private static final String ENQUEUE_TIMEOUT_MS = "enqueueTimeoutMs";
+  private static final String BATCH_SIZE = "batchSize";
+  private static final String BUFFER_SIZE = "bufferSize";
+  private static final String SYNC_BYTES = "syncBytes";
+  private static final String SYNC_INTERVAL_MS = "syncIntervalMs";
+  private static final String ROTATE_SIZE_BYTES = "rotateSizeBytes";
+  private static final String ROTATE_INTERVAL_SECS = "rotateIntervalSecs";
+  private static final String COMPRESS = "compress";
+  private static final String MAX_ROTATED_FILES = "maxRotatedFiles";
+
+  private static final byte[] LINE_SEPARATOR =
+      System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+  private static final DateTimeFormatter ROTATE_SUFFIX_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+  private static final String GZIP_SUFFIX = ".gz";
+
+  @VisibleForTesting String fileName;
+
+  private Formatter formatter;
+  private Path filePath;
+  private BlockingQueue<Entry> queue;
+  private long enqueueTimeoutMs;
+  private int batchSize;
+  private int bufferSize;
+  private long syncBytes;
+  private long syncIntervalMs;
+  private long rotateSizeBytes;
+  private long rotateIntervalMs;
+  private boolean compress;
+  private int maxRotatedFiles;
+
+  // The following fields are only accessed by the writer thread after init.
+  private FileChannel channel;
+  private OutputStream out;
+  private long fileBytes;
+  private long unsyncedBytes;
+  private long lastSyncTime;
+  private long fileOpenTime;
+  private long lastRotateTime;
+
+  private volatile boolean running;
+  private Thread writerThread;
+  private ExecutorService compressExecutor;
+
+  private AuditLogMetricsSource metricsSource;
+  private Counter droppedLogsCounter;
+  private Timer writeLatencyTimer;
+
+  private static class Entry {
+    private final AuditLog auditLog;
+    private final long enqueueNanos;
+
+    private Entry(AuditLog auditLog, long enqueueNanos) {
+      this.auditLog = auditLog;
+      this.enqueueNanos = enqueueNanos;
+    }
+  }
+
+  @Override
+  public Formatter getFormatter() {
+    return formatter;
+  }
+
+  @Override
+  public void init(Formatter formatter, Map<String, String> properties) {
+    this.formatter = formatter;
+    this.fileName =
+        System.getProperty("gravitino.log.path")
+            + "/"
+            + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
+    this.filePath = Paths.get(fileName);
+    boolean append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
+    int queueCapacity = Integer.parseInt(properties.getOrDefault(QUEUE_CAPACITY, "8192"));
+    this.enqueueTimeoutMs = Long.parseLong(properties.getOrDefault(ENQUEUE_TIMEOUT_MS, "1000"));
+    this.batchSize = Integer.parseInt(properties.getOrDefault(BATCH_SIZE, "512"));
+    this.bufferSize = Integer.parseInt(properties.getOrDefault(BUFFER_SIZE, "65536"));
+    this.syncBytes = Long.parseLong(properties.getOrDefault(SYNC_BYTES, "1048576"));
+    this.syncIntervalMs = Long.parseLong(properties.getOrDefault(SYNC_INTERVAL_MS, "1000"));
+    this.rotateSizeBytes = Long.parseLong(properties.getOrDefault(ROTATE_SIZE_BYTES, "268435456"));
+    this.rotateIntervalMs =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(properties.getOrDefault(ROTATE_INTERVAL_SECS, "0")));
+    this.compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "true"));
+    this.maxRotatedFiles = Integer.parseInt(properties.getOrDefault(MAX_ROTATED_FILES, "0"));
+
+    Preconditions.checkArgument(queueCapacity > 0, "%s must be positive", QUEUE_CAPACITY);
+    Preconditions.checkArgument(batchSize > 0, "%s must be positive", BATCH_SIZE);
+    Preconditions.checkArgument(bufferSize > 0, "%s must be positive", BUFFER_SIZE);
+    Preconditions.checkArgument(syncIntervalMs > 0, "%s must be positive", SYNC_INTERVAL_MS);
+
+    try {
+      openFile(append);
+    } catch (Exception e) {
+      throw new GravitinoRuntimeException(
+          e, "Init audit log writer fail, filename is %s", fileName);
+    }
+
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.metricsSource = new AuditLogMetricsSource(queue::size);
+    this.droppedLogsCounter = metricsSource.getCounter(MetricNames.AUDIT_LOG_DROPPED_LOGS);
+    this.writeLatencyTimer = metricsSource.getTimer(MetricNames.AUDIT_LOG_WRITE_LATENCY);
+    // Metrics System could be null in UT.
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.compressExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("audit-log-compressor-%d")
+                .build());
+    this.running = true;
+    this.writerThread = new Thread(this::processAuditLogs, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void doWrite(AuditLog auditLog) {
+    if (!running) {
+      LOG.warn("Drop audit log {} since the audit log writer is closed", auditLog);
+      return;
+    }
+
+    Entry entry = new Entry(auditLog, System.nanoTime());
+    try {
+      if (queue.offer(entry) || queue.offer(entry, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    droppedLogsCounter.inc();
+    LOG.warn("Drop audit log {} since the audit log queue is full", auditLog);
+  }
+
+  @Override
+  public void close() {
+    if (!running) {
+      return;
+    }
+
+    running = false;
+    try {
+      // The writer thread drains the queue before exiting.
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while waiting for the audit log writer to finish", e);
+    }
+
+    compressExecutor.shutdown();
+    try {
+      if (!compressExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for rotated audit log files to be compressed");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @Override
+  public String name() {
+    return "asyncFile";
+  }
+
+  @VisibleForTesting
+  long getDroppedLogs() {
+    return droppedLogsCounter.getCount();
+  }
+
+  private void processAuditLogs() {
+    List<Entry> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Entry first = queue.poll(Math.min(syncIntervalMs, 100), TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, batchSize - 1);
+        }
+        if (!channel.isOpen()) {
+          // Reopening the file failed last time, retry before writing.
+          openFile(true);
+        }
+        if (!batch.isEmpty()) {
+          writeBatch(batch);
+        }
+
+        long now = System.currentTimeMillis();
+        if (queue.isEmpty()) {
+          out.flush();
+        }
+        if (unsyncedBytes > 0
+            && ((syncBytes > 0 && unsyncedBytes >= syncBytes)
+                || now - lastSyncTime >= syncIntervalMs)) {
+          sync(now);
+        }
+        if (shouldRotate(now)) {
+          rotate();
+        }
+      } catch (InterruptedException e) {
+        // Only close() stops the writer, keep draining the queue.
+        LOG.warn("Audit log writer thread is interrupted");
+      } catch (Exception e) {
+        LOG.warn("Failed to write {} audit logs", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+
+    try {
+      closeFile();
+    } catch (IOException e) {
+      LOG.warn("Failed to close audit log file {}", fileName, e);
+    }
+  }
+
+  private void writeBatch(List<Entry> batch) throws IOException {
+    for (Entry entry : batch) {
+      byte[] bytes = entry.auditLog.toString().getBytes(StandardCharsets.UTF_8);
+      out.write(bytes);
+      out.write(LINE_SEPARATOR);
+      fileBytes += bytes.length + LINE_SEPARATOR.length;
+      unsyncedBytes += bytes.length + LINE_SEPARATOR.length;
+    }
+
+    long now = System.nanoTime();
+    for (Entry entry : batch) {
+      writeLatencyTimer.update(now - entry.enqueueNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void sync(long now) throws IOException {
+    out.flush();
+    channel.force(false);
+    unsyncedBytes = 0;
+    lastSyncTime = now;
+  }
+
+  private boolean shouldRotate(long now) {
+    if (fileBytes == 0) {
+      return false;
+    }
+    return (rotateSizeBytes > 0 && fileBytes >= rotateSizeBytes)
+        || (rotateIntervalMs > 0 && now - fileOpenTime >= rotateIntervalMs);
+  }
+
+  private void openFile(boolean append) throws IOException {
+    this.channel =
+        append
+            ? FileChannel.open(
+                filePath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)
+            : FileChannel.open(
+                filePath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    this.out = new BufferedOutputStream(Channels.newOutputStream(channel), bufferSize);
+    this.fileBytes = channel.size();
+    this.unsyncedBytes = 0;
+    this.lastSyncTime = System.currentTimeMillis();
+    this.fileOpenTime = lastSyncTime;
+  }
+
+  private void closeFile() throws IOException {
+    out.flush();
+    channel.force(false);
+    out.close();
+  }
+
+  private void rotate() throws IOException {
+    closeFile();
+    // Keep the names of the rotated files unique and in the rotation order, even if the file is
+    // rotated more than once in a millisecond.
+    lastRotateTime = Math.max(System.currentTimeMillis(), lastRotateTime + 1);
+    Path rotatedPath =
+        Paths.get(
+            fileName
+                + "."
+                + LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(lastRotateTime), ZoneId.systemDefault())
+                    .format(ROTATE_SUFFIX_FORMATTER));
+    try {
+      Files.move(filePath, rotatedPath);
+    } catch (IOException e) {
+      // Keep writing to the current file, the rotation is retried later.
+      openFile(true);
+      throw e;
+    }
+    openFile(false);
+    LOG.info("Rotated audit log file {} to {}", fileName, rotatedPath);
+
+    compressExecutor.submit(
+        () -> {
+          if (compress) {
+            compressFile(rotatedPath);
+          }
+          deleteExpiredFiles();
+        });
+  }
+
+  private void compressFile(Path path) {
+    Path compressedPath = Paths.get(path + GZIP_SUFFIX);
+    try (InputStream in = Files.newInputStream(path);
+        OutputStream gzipOut = new GZIPOutputStream(Files.newOutputStream(compressedPath))) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        gzipOut.write(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to compress rotated audit log file {}", path, e);
+      return;
+    }
+
+    try {
+      Files.delete(path);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete rotated audit log file {}", path, e);
+    }
+  }
+
+  private void deleteExpiredFiles() {
+    if (maxRotatedFiles <= 0) {
+      return;
+    }
+
+    String prefix = filePath.getFileName() + ".";
+    List<Path> rotatedFiles;
+    try (Stream<Path> files = Files.list(filePath.toAbsolutePath().getParent())) {
+      // The timestamp suffix makes the name order the same as the rotation order.
+      rotatedFiles =
+          files
+              .filter(p -> p.getFileName().toString().startsWith(prefix))
+              .sorted()
+              .collect(Collectors.toList());
+    } catch (IOException e) {
+      LOG.warn("Failed to list rotated audit log files of {}", fileName, e);
+      return;
+    }
+
+    for (int i = 0; i < rotatedFiles.size() - maxRotatedFiles; i++) {
+      try {
+        Files.deleteIfExists(rotatedFiles.get(i));
+      } catch (IOException e) {
+        LOG.warn("Failed to delete expired audit log file {}", rotatedFiles.get(i), e);
+      }
+    }
+  }
+}
@@ -325,6 +325,17 @@ public class AuthorizationUtils {
     }
   }
 
+  public static void notifyMetadataObjectChange(NameIdentifier ident, Entity.EntityType type) {
+    // The authorizer caches the ids of metadata objects and users by name, the ids of a dropped or
+    // renamed entity must be cleared, otherwise a re-created entity is resolved to the old id.
+    GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
+    if (gravitinoAuthorizer != null) {
+      String metalake =
+          type == Entity.EntityType.METALAKE ? ident.name() : ident.namespace().level(0);
+      gravitinoAuthorizer.handleMetadataObjectChange(metalake, ident, type);
+    }
+  }
+
   public static Role filterSecurableObjects(
       RoleEntity role, String metalakeName, String catalogName) {
     List<SecurableObject> securableObjects = role.securableObjects();
@@ -19,6 +19,7 @@ package org.apache.gravitino.authorization;
 
 import java.io.Closeable;
 import java.security.Principal;
+import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
@@ -69,6 +70,72 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject);
 
+  /**
+   * Perform authorization for a batch of metadata objects, which is used to filter large list
+   * results. Implementations can override it to resolve the metadata objects and the privileges of
+   * the user once for the whole batch.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @param requestContext authorization request context
+   * @return authorization results in the same order as the metadata objects.
+   */
+  default boolean[] batchAuthorize(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] =
+          authorize(principal, metalake, metadataObjects.get(i), privilege, requestContext);
+    }
+    return results;
+  }
+
+  /**
+   * Check whether the privilege is denied for a batch of metadata objects.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @param requestContext authorization request context
+   * @return deny results in the same order as the metadata objects.
+   */
+  default boolean[] batchDeny(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = deny(principal, metalake, metadataObjects.get(i), privilege, requestContext);
+    }
+    return results;
+  }
+
+  /**
+   * Determine whether the user is the Owner of each of a batch of metadata objects.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @return authorization results in the same order as the metadata objects.
+   */
+  default boolean[] batchIsOwner(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = isOwner(principal, metalake, metadataObjects.get(i));
+    }
+    return results;
+  }
+
   /**
    * Determine whether the user is the service admin.
    *
@@ -159,4 +226,15 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   void handleMetadataOwnerChange(
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type);
+
+  /**
+   * This method is called to clear the cached ids of a metadata object or a user, and of the
+   * metadata objects under it, when it's dropped or renamed.
+   *
+   * @param metalake metalake;
+   * @param nameIdentifier The metadata or user name identifier;
+   * @param type entity type
+   */
+  default void handleMetadataObjectChange(
+      String metalake, NameIdentifier nameIdentifier, Entity.EntityType type) {}
 }
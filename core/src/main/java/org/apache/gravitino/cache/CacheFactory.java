@@ -22,6 +22,7 @@ package org.apache.gravitino.cache;
 import com.google.common.collect.ImmutableMap;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.storage.relational.ChangeLogCacheInvalidationChannel;
 
 /** Factory class for creating {@link org.apache.gravitino.cache.EntityCache} instances. */
 public final class CacheFactory {
@@ -31,6 +32,14 @@ public final class CacheFactory {
   public static final ImmutableMap<String, String> ENTITY_CACHES =
       ImmutableMap.of("caffeine", CaffeineEntityCache.class.getCanonicalName());
 
+  // Register CacheInvalidationChannel's short name to its full qualified class name in the map.
+  public static final ImmutableMap<String, String> INVALIDATION_CHANNELS =
+      ImmutableMap.of(
+          "none",
+          NoOpsCacheInvalidationChannel.class.getCanonicalName(),
+          "changelog",
+          ChangeLogCacheInvalidationChannel.class.getCanonicalName());
+
   // Private constructor to prevent instantiation of this factory class.
   private CacheFactory() {}
 
@@ -52,4 +61,29 @@ public final class CacheFactory {
       throw new RuntimeException("Failed to create and initialize EntityCache: " + name, e);
     }
   }
+
+  /**
+   * Creates a new {@link CacheInvalidationChannel} using the channel type specified in the
+   * configuration and starts it against the given cache.
+   *
+   * @param config The configuration.
+   * @param cache The local entity cache the channel invalidates.
+   * @return A started channel instance
+   */
+  public static CacheInvalidationChannel getInvalidationChannel(Config config, EntityCache cache) {
+    String name = config.get(Configs.CACHE_INVALIDATION_CHANNEL);
+    String className = INVALIDATION_CHANNELS.getOrDefault(name, name);
+
+    CacheInvalidationChannel channel;
+    try {
+      channel =
+          (CacheInvalidationChannel)
+              Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create CacheInvalidationChannel: " + name, e);
+    }
+
+    channel.initialize(config, cache);
+    return channel;
+  }
 }
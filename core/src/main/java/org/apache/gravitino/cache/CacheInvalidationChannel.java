@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.io.Closeable;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+
+/**
+ * {@code CacheInvalidationChannel} broadcasts entity cache invalidations among the Gravitino
+ * servers sharing the same entity store. Every change made by the local server is published to the
+ * channel, and every change published by the other servers is applied to the local {@link
+ * EntityCache}, so the cache can stay enabled in a multi-node deployment with bounded staleness.
+ */
+public interface CacheInvalidationChannel extends Closeable {
+
+  /**
+   * Initializes the channel and starts applying the invalidations received from other servers to
+   * the given cache.
+   *
+   * @param config The configuration.
+   * @param cache The local entity cache to invalidate.
+   */
+  void initialize(Config config, EntityCache cache);
+
+  /**
+   * Publishes an invalidation of the given entity to the other servers. This method should be
+   * called after the change has been persisted to the entity store.
+   *
+   * @param ident The name identifier of the changed entity.
+   * @param type The type of the changed entity.
+   */
+  void publish(NameIdentifier ident, Entity.EntityType type);
+
+  /**
+   * Publishes an invalidation of the relations of the given entity to the other servers. This
+   * method should be called after the change has been persisted to the entity store.
+   *
+   * @param ident The name identifier of the entity whose relations are changed.
+   * @param type The type of the entity whose relations are changed.
+   * @param relType The type of the changed relations.
+   */
+  void publish(
+      NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType);
+
+  /**
+   * Applies an invalidation received from another server to the local cache, including the related
+   * entries that {@link EntityCache#invalidateOnKeyChange(Entity)} would have cleared on the server
+   * that made the change.
+   *
+   * @param cache The local entity cache.
+   * @param ident The name identifier of the changed entity.
+   * @param type The type of the changed entity.
+   */
+  static void applyInvalidation(EntityCache cache, NameIdentifier ident, Entity.EntityType type) {
+    cache.invalidate(ident, type);
+
+    // Changing a model version changes the latest version of the model.
+    if (type == Entity.EntityType.MODEL_VERSION) {
+      cache.invalidate(NameIdentifier.of(ident.namespace().levels()), Entity.EntityType.MODEL);
+    }
+  }
+}
@@ -31,6 +31,7 @@ import com.googlecode.concurrenttrees.radix.RadixTree;
 import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -279,6 +280,17 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return segmentedLock.withLockAndThrow(key, action);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <T, E extends Exception> T withCacheLocks(
+      Collection<? extends EntityCacheKey> keys, EntityCache.ThrowingSupplier<T, E> action)
+      throws E {
+    Preconditions.checkArgument(keys != null, "Keys cannot be null");
+    Preconditions.checkArgument(action != null, "Action cannot be null");
+
+    return segmentedLock.withLocksAndThrow(keys, action);
+  }
+
   /**
    * Removes the expired entity from the cache. This method is a hook method for the Cache, when an
    * entry expires, it will call this method.
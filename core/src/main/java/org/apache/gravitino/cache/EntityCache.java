@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.Collection;
 import org.apache.gravitino.Entity;
 
 /**
@@ -61,6 +62,20 @@ public interface EntityCache extends SupportsEntityStoreCache, SupportsRelationE
   <T, E extends Exception> T withCacheLock(EntityCacheKey key, ThrowingSupplier<T, E> action)
       throws E;
 
+  /**
+   * Executes the given action within the cache context of all the given keys and returns the
+   * result.
+   *
+   * @param keys The keys to lock
+   * @param action The action to cache
+   * @return The result of the action
+   * @param <E> The type of exception that may be thrown
+   * @param <T> The type of the result
+   * @throws E if the action throws an exception of type E
+   */
+  <T, E extends Exception> T withCacheLocks(
+      Collection<? extends EntityCacheKey> keys, ThrowingSupplier<T, E> action) throws E;
+
   /**
    * A functional interface that represents a supplier that may throw an exception.
    *
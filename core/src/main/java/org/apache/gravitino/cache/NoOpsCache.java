@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.Config;
@@ -71,6 +72,13 @@ public class NoOpsCache extends BaseEntityCache {
     return opLock.withLockAndThrow(key, action);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <T, E extends Exception> T withCacheLocks(
+      Collection<? extends EntityCacheKey> keys, ThrowingSupplier<T, E> action) throws E {
+    return opLock.withLocksAndThrow(keys, action);
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+
+/** A cache invalidation channel that keeps the cache process-local and broadcasts nothing. */
+public class NoOpsCacheInvalidationChannel implements CacheInvalidationChannel {
+
+  /** {@inheritDoc} */
+  @Override
+  public void initialize(Config config, EntityCache cache) {
+    // do nothing
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void publish(NameIdentifier ident, Entity.EntityType type) {
+    // do nothing
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void publish(
+      NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
+    // do nothing
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() {
+    // do nothing
+  }
+}
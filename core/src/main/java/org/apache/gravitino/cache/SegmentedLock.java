@@ -21,9 +21,14 @@ package org.apache.gravitino.cache;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Striped;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 /**
  * Segmented lock for improved concurrency. Divides locks into segments to reduce contention.
@@ -176,6 +181,40 @@ public class SegmentedLock {
     }
   }
 
+  /**
+   * Runs action with the segment locks of all the given keys and returns result. The locks are
+   * acquired in the order of the segments, so callers locking overlapping keys can't deadlock. Will
+   * wait if a global clearing operation is in progress.
+   *
+   * @param keys Keys to determine segments
+   * @param action Action to run
+   * @param <T> Result type
+   * @param <E> Exception type
+   * @return Action result
+   * @throws E Exception
+   */
+  public <T, E extends Exception> T withLocksAndThrow(
+      Collection<?> keys, EntityCache.ThrowingSupplier<T, E> action) throws E {
+    waitForGlobalComplete();
+    List<Object> normalizedKeys =
+        keys.stream().map(this::normalizeKey).collect(Collectors.toList());
+    Deque<Lock> acquiredLocks = new ArrayDeque<>(normalizedKeys.size());
+    try {
+      for (Lock lock : stripedLocks.bulkGet(normalizedKeys)) {
+        lock.lockInterruptibly();
+        acquiredLocks.push(lock);
+      }
+      return action.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+    } finally {
+      while (!acquiredLocks.isEmpty()) {
+        acquiredLocks.pop().unlock();
+      }
+    }
+  }
+
   /**
    * Executes a global clearing operation with exclusive access to all segments. This method sets
    * the clearing flag and ensures no other operations can proceed until the clearing is complete.
@@ -97,6 +97,7 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.OperationSpan;
 import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
@@ -131,6 +132,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private final TableCache tableCache = new TableCache();
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
       this.catalog = catalog;
@@ -141,8 +143,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       return catalog;
     }
 
+    TableCache tableCache() {
+      return tableCache;
+    }
+
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
@@ -152,7 +158,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
@@ -162,7 +168,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetOps(ThrowableFunction<FilesetCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asFilesets() == null) {
               throw new UnsupportedOperationException(
@@ -173,7 +179,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetFileOps(ThrowableFunction<FilesetFileOps, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asFilesetFileOps() == null) {
               throw new UnsupportedOperationException(
@@ -184,11 +190,11 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCredentialOps(ThrowableFunction<BaseCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withCatalogClassLoader(cl -> fn.apply(catalog));
     }
 
     public <R> R doWithTopicOps(ThrowableFunction<TopicCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
@@ -198,7 +204,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithModelOps(ThrowableFunction<ModelCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             if (asModels() == null) {
               throw new UnsupportedOperationException("Catalog does not support model operations");
@@ -208,12 +214,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCatalogOps(ThrowableFunction<CatalogOperations, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      return withCatalogClassLoader(cl -> fn.apply(catalog.ops()));
     }
 
     public <R> R doWithPartitionOps(
         NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withCatalogClassLoader(
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
@@ -227,11 +233,15 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withCatalogClassLoader(cl -> fn.apply(catalog));
     }
 
     public Capability capabilities() throws Exception {
-      return classLoader.withClassLoader(cl -> catalog.capability());
+      return withCatalogClassLoader(cl -> catalog.capability());
+    }
+
+    private <R> R withCatalogClassLoader(ThrowableFunction<ClassLoader, R> fn) throws Exception {
+      return OperationSpan.time(OperationSpan.Layer.CATALOG, () -> classLoader.withClassLoader(fn));
     }
 
     public void close() {
@@ -53,6 +53,9 @@ public final class EntityCombinedTable implements Table {
   // unique id, and based on this id, we can label and control the access to the entities.
   private boolean imported;
 
+  // The version of the table probed from the catalog when it's loaded, or null if it's not probed.
+  private String version;
+
   private EntityCombinedTable(Table table, TableEntity tableEntity) {
     this.table = table;
     this.tableEntity = tableEntity;
@@ -81,6 +84,11 @@ public final class EntityCombinedTable implements Table {
     return this;
   }
 
+  public EntityCombinedTable withVersion(String version) {
+    this.version = version;
+    return this;
+  }
+
   @Override
   public String name() {
     return table.name();
@@ -133,6 +141,15 @@ public final class EntityCombinedTable implements Table {
     return imported;
   }
 
+  /**
+   * Returns the version of the table probed by the table cache when the table is loaded.
+   *
+   * @return The version of the table, or null if the version isn't probed or unknown.
+   */
+  public String version() {
+    return version;
+  }
+
   public Table tableFromCatalog() {
     return table;
   }
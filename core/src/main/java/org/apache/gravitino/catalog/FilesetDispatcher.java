@@ -19,6 +19,9 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FilesetCatalog;
 
 /**
@@ -27,4 +30,19 @@ import org.apache.gravitino.file.FilesetCatalog;
  * potentially add custom behaviors or operations related to dispatching or handling fileset-related
  * events or actions that are not covered by the standard {@code FilesetCatalog} operations.
  */
-public interface FilesetDispatcher extends FilesetCatalog, FilesetFileOps {}
+public interface FilesetDispatcher extends FilesetCatalog, FilesetFileOps {
+
+  /**
+   * List the filesets in a schema namespace in the order of their names, one page at a time. The
+   * next page starts after the last fileset name of the previous page.
+   *
+   * @param namespace A schema namespace.
+   * @param startAfter The fileset name to start listing after, or null to start from the first
+   *     fileset.
+   * @param limit The maximum number of filesets to return.
+   * @return The identifiers of the filesets in this page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException;
+}
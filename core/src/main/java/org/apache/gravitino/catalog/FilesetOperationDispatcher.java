@@ -23,11 +23,13 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 
 import java.util.Arrays;
 import java.util.Map;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
@@ -38,6 +40,7 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.storage.IdGenerator;
 
 public class FilesetOperationDispatcher extends OperationDispatcher implements FilesetDispatcher {
@@ -72,6 +75,19 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchSchemaException.class));
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return listPage(
+        namespace,
+        Capability.Scope.FILESET,
+        Entity.EntityType.FILESET,
+        FilesetEntity.class,
+        startAfter,
+        limit,
+        () -> listFilesets(namespace));
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -18,6 +18,23 @@
  */
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.model.ModelCatalog;
 
-public interface ModelDispatcher extends ModelCatalog {}
+public interface ModelDispatcher extends ModelCatalog {
+
+  /**
+   * List the models in a schema namespace in the order of their names, one page at a time. The
+   * next page starts after the last model name of the previous page.
+   *
+   * @param namespace A schema namespace.
+   * @param startAfter The model name to start listing after, or null to start from the first model.
+   * @param limit The maximum number of models to return.
+   * @return The identifiers of the models in this page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  NameIdentifier[] listModels(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException;
+}
@@ -25,12 +25,14 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
 import org.apache.gravitino.exceptions.NoSuchModelException;
@@ -39,6 +41,7 @@ import org.apache.gravitino.exceptions.NoSuchModelVersionURINameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.model.Model;
 import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.model.ModelChange;
@@ -66,6 +69,19 @@ public class ModelOperationDispatcher extends OperationDispatcher implements Mod
                 NoSuchSchemaException.class));
   }
 
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return listPage(
+        namespace,
+        Capability.Scope.MODEL,
+        Entity.EntityType.MODEL,
+        ModelEntity.class,
+        startAfter,
+        limit,
+        () -> listModels(namespace));
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
@@ -21,25 +21,37 @@ package org.apache.gravitino.catalog;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForAlter;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.utils.Executable;
 import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,6 +83,28 @@ public abstract class OperationDispatcher {
     this.idGenerator = idGenerator;
   }
 
+  /**
+   * Executes the given executable with the given tree lock, and then invalidates the cached tables
+   * of the catalog locked even if the executable fails, since the tables may be changed halfway.
+   */
+  <R, E extends Exception> R doWithTreeLockAndInvalidateTables(
+      NameIdentifier lockIdent,
+      LockType lockType,
+      Consumer<TableCache> invalidation,
+      Executable<R, E> executable)
+      throws E {
+    try {
+      return TreeLockUtils.doWithTreeLock(lockIdent, lockType, executable);
+    } finally {
+      // None of the tables is cached if the catalog isn't loaded.
+      CatalogManager.CatalogWrapper c =
+          catalogManager.getCatalogCache().getIfPresent(getCatalogIdentifier(lockIdent));
+      if (c != null) {
+        invalidation.accept(c.tableCache());
+      }
+    }
+  }
+
   protected <R, E extends Throwable> R doWithTable(
       NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn, Class<E> ex)
       throws E {
@@ -232,6 +266,63 @@ public abstract class OperationDispatcher {
         IllegalArgumentException.class);
   }
 
+  boolean supportsPagedListing(NameIdentifier catalogIdent, Capability.Scope scope) {
+    return doWithCatalog(
+        catalogIdent,
+        c -> c.capabilities().pagedListing(scope).supported(),
+        IllegalArgumentException.class);
+  }
+
+  /**
+   * Lists a page of the identifiers in the schema namespace in the order of their names. If the
+   * catalog supports paged listing, the entities are paged by the entity store, which seeks on the
+   * names. Otherwise, all the identifiers are listed from the catalog and the page is sliced from
+   * them.
+   *
+   * @param namespace The schema namespace of the entities.
+   * @param scope The capability scope of the entities.
+   * @param entityType The type of the entities.
+   * @param entityClass The class of the entities.
+   * @param startAfter The name to start listing after, or null to start from the first entity.
+   * @param limit The maximum number of identifiers to return.
+   * @param listAll The function to list all the identifiers from the catalog.
+   * @return The identifiers in this page.
+   */
+  protected <E extends Entity & HasIdentifier> NameIdentifier[] listPage(
+      Namespace namespace,
+      Capability.Scope scope,
+      Entity.EntityType entityType,
+      Class<E> entityClass,
+      String startAfter,
+      int limit,
+      Supplier<NameIdentifier[]> listAll) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    if (!supportsPagedListing(getCatalogIdentifier(schemaIdent), scope)) {
+      return Arrays.stream(listAll.get())
+          .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+          .sorted(Comparator.comparing(NameIdentifier::name))
+          .limit(limit)
+          .toArray(NameIdentifier[]::new);
+    }
+
+    try {
+      List<E> entities =
+          TreeLockUtils.doWithTreeLock(
+              schemaIdent,
+              LockType.READ,
+              () -> store.list(namespace, entityClass, entityType, startAfter, limit));
+      return entities.stream()
+          .map(e -> NameIdentifier.of(namespace, e.name()))
+          .toArray(NameIdentifier[]::new);
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchSchemaException(e, "Schema %s does not exist", schemaIdent);
+    } catch (IOException e) {
+      throw new RuntimeException(
+          String.format("Failed to list %s under namespace %s", entityType, namespace), e);
+    }
+  }
+
   protected <E extends Entity & HasIdentifier> E getEntity(
       NameIdentifier ident, Entity.EntityType type, Class<E> entityClass) {
     try {
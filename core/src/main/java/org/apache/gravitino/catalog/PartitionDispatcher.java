@@ -47,6 +47,51 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List the names of the partitions matching the filter in the table, one page at a time.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param startAfter The partition name to start listing after, or null to start from the first
+   *     partition.
+   * @param limit The maximum number of partition names to return.
+   * @return The names of the partitions in this page, ordered by name.
+   * @see SupportsPartitions#listPartitionNames(String, String, int)
+   */
+  String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit);
+
+  /**
+   * List the partitions matching the filter in the table, one page at a time.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter expression in the syntax of the underlying catalog, or null to list
+   *     all partitions.
+   * @param startAfter The partition name to start listing after, or null to start from the first
+   *     partition.
+   * @param limit The maximum number of partitions to return.
+   * @return The partitions in this page, ordered by name.
+   * @see SupportsPartitions#listPartitions(String, String, int)
+   */
+  Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit);
+
+  /**
+   * List all partitions in the table lazily, one chunk at a time. If the catalog supports the paged
+   * listing of partitions, the sorted partition names are listed once and the partitions are
+   * fetched by names one chunk at a time, otherwise all the partitions are listed in one call.
+   *
+   * <p>The first chunk is fetched by this call, so that errors such as a missing table are thrown
+   * right away. The next chunks are fetched as the calling user while the partitions are iterated.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param chunkSize The maximum number of partitions to fetch by names in one call.
+   * @return The partitions of the table.
+   * @see SupportsPartitions#getPartitions(String...)
+   */
+  Iterable<Partition> listPartitionsInChunks(NameIdentifier tableIdent, int chunkSize);
+
   /**
    * Get a partition by name from the table.
    *
@@ -22,6 +22,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveOnName;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import com.google.common.collect.Iterables;
 import java.util.Arrays;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.connector.capability.Capability;
@@ -61,6 +62,50 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            startAfter == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, startAfter, capabilities),
+            limit);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            CapabilityHelpers.applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            startAfter == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, startAfter, capabilities),
+            limit);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
+  @Override
+  public Iterable<Partition> listPartitionsInChunks(NameIdentifier tableIdent, int chunkSize) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Iterable<Partition> partitions =
+        dispatcher.listPartitionsInChunks(
+            CapabilityHelpers.applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            chunkSize);
+    return Iterables.transform(partitions, p -> applyCaseSensitive(p, capabilities));
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -18,8 +18,15 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.security.Principal;
+import java.util.Arrays;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -28,6 +35,7 @@ import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.utils.PrincipalUtils;
 
 public class PartitionOperationDispatcher extends OperationDispatcher
     implements PartitionDispatcher {
@@ -64,6 +72,90 @@ public class PartitionOperationDispatcher extends OperationDispatcher
                 tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class));
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitionNames(filter, startAfter, limit),
+                NoSuchTableException.class));
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitions(filter, startAfter, limit),
+                NoSuchTableException.class));
+  }
+
+  @Override
+  public Iterable<Partition> listPartitionsInChunks(NameIdentifier tableIdent, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+    if (!supportsPagedListing(getCatalogIdentifier(tableIdent), Capability.Scope.PARTITION)) {
+      return Arrays.asList(listPartitions(tableIdent));
+    }
+
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    String[] names = listPartitionNames(tableIdent);
+    Arrays.sort(names);
+    Partition[] firstChunk = getPartitionChunk(tableIdent, names, 0, chunkSize);
+
+    return () ->
+        new AbstractIterator<Partition>() {
+          private Partition[] chunk = firstChunk;
+          private int chunkStart = 0;
+          private int index = 0;
+
+          @Override
+          protected Partition computeNext() {
+            while (index == chunk.length) {
+              chunkStart += chunkSize;
+              if (chunkStart >= names.length) {
+                return endOfData();
+              }
+
+              try {
+                chunk =
+                    PrincipalUtils.doAs(
+                        principal,
+                        () -> getPartitionChunk(tableIdent, names, chunkStart, chunkSize));
+              } catch (Exception e) {
+                throw new IllegalStateException(
+                    "Failed to list partitions of table " + tableIdent, e);
+              }
+              index = 0;
+            }
+            return chunk[index++];
+          }
+        };
+  }
+
+  private Partition[] getPartitionChunk(
+      NameIdentifier tableIdent, String[] names, int start, int chunkSize) {
+    String[] chunkNames =
+        Arrays.copyOfRange(names, start, Math.min(start + chunkSize, names.length));
+    if (chunkNames.length == 0) {
+      return new Partition[0];
+    }
+
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent, p -> p.getPartitions(chunkNames), NoSuchTableException.class));
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
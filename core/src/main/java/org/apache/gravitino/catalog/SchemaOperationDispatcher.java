@@ -307,9 +307,10 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    return TreeLockUtils.doWithTreeLock(
+    return doWithTreeLockAndInvalidateTables(
         catalogIdent,
         LockType.WRITE,
+        tableCache -> tableCache.invalidateSchema(ident),
         () -> {
           boolean droppedFromCatalog =
               doWithCatalog(
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.base.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.utils.NamespaceUtil;
+
+/**
+ * The loaded tables of a catalog enabling the table cache. It's owned by the {@link
+ * CatalogManager.CatalogWrapper} of the catalog, so it's dropped together with the wrapper when the
+ * catalog is altered, dropped or re-created.
+ */
+class TableCache {
+
+  private static final int MAX_SIZE = 10_000;
+
+  // Each entry expires after the TTL configured in the catalog when it's loaded.
+  private final Cache<NameIdentifier, CachedTable> cache =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_SIZE)
+          .expireAfter(
+              new Expiry<NameIdentifier, CachedTable>() {
+                @Override
+                public long expireAfterCreate(
+                    NameIdentifier key, CachedTable value, long currentTime) {
+                  return TimeUnit.MILLISECONDS.toNanos(value.ttlMs);
+                }
+
+                @Override
+                public long expireAfterUpdate(
+                    NameIdentifier key, CachedTable value, long currentTime, long currentDuration) {
+                  return TimeUnit.MILLISECONDS.toNanos(value.ttlMs);
+                }
+
+                @Override
+                public long expireAfterRead(
+                    NameIdentifier key, CachedTable value, long currentTime, long currentDuration) {
+                  return currentDuration;
+                }
+              })
+          .build();
+
+  // Bumped on every invalidation, a load racing with an invalidation doesn't populate the cache.
+  private final AtomicLong generation = new AtomicLong();
+
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Returns the cached table if it's loaded with the same version.
+   *
+   * @param ident The identifier of the table.
+   * @param version The current version of the table, or null if the catalog can't probe it.
+   * @return The cached table, or null if it's absent or stale.
+   */
+  @Nullable
+  Table get(NameIdentifier ident, @Nullable String version) {
+    CachedTable cached = cache.getIfPresent(ident);
+    return cached != null && Objects.equal(cached.version, version) ? cached.table : null;
+  }
+
+  /**
+   * Caches a loaded table, unless any table is invalidated since the given generation, since the
+   * loaded table may be stale then.
+   */
+  void put(
+      NameIdentifier ident,
+      Table table,
+      @Nullable String version,
+      long ttlMs,
+      long loadGeneration) {
+    if (loadGeneration == generation.get()) {
+      cache.put(ident, new CachedTable(table, version, ttlMs));
+    }
+  }
+
+  void invalidate(NameIdentifier... idents) {
+    generation.incrementAndGet();
+    for (NameIdentifier ident : idents) {
+      cache.invalidate(ident);
+    }
+  }
+
+  void invalidateSchema(NameIdentifier schemaIdent) {
+    generation.incrementAndGet();
+    Namespace tableNamespace =
+        NamespaceUtil.ofTable(
+            schemaIdent.namespace().level(0), schemaIdent.namespace().level(1), schemaIdent.name());
+    cache.asMap().keySet().removeIf(ident -> ident.namespace().equals(tableNamespace));
+  }
+
+  private static final class CachedTable {
+    private final Table table;
+    @Nullable private final String version;
+    private final long ttlMs;
+
+    private CachedTable(Table table, @Nullable String version, long ttlMs) {
+      this.table = table;
+      this.version = version;
+      this.ttlMs = ttlMs;
+    }
+  }
+}
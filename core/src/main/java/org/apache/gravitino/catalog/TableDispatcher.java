@@ -19,6 +19,11 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 
 /**
@@ -27,4 +32,27 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Lists the tables under the namespace with their details. The catalogs that support {@link
+   * org.apache.gravitino.connector.SupportsListTablesInfo} fetch the tables in batches, otherwise
+   * the tables are loaded one by one.
+   *
+   * @param namespace The namespace to list the tables under.
+   * @return The tables under the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException;
+
+  /**
+   * Returns the version of the table, which changes whenever the metadata of the table changes.
+   * It's probed by {@link org.apache.gravitino.connector.SupportsTableVersion} without loading the
+   * table, for example to answer a conditional load request.
+   *
+   * @param ident The identifier of the table.
+   * @return The version of the table, or null if the catalog can't tell the version.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  String tableVersion(NameIdentifier ident) throws NoSuchTableException;
+}
@@ -56,6 +56,16 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTablesInfo(normalizeCaseSensitive(namespace));
+  }
+
+  @Override
+  public String tableVersion(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.tableVersion(normalizeCaseSensitive(ident));
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
@@ -42,7 +43,11 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.connector.SupportsListTablesInfo;
+import org.apache.gravitino.connector.SupportsTableVersion;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -104,6 +109,69 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 NoSuchSchemaException.class));
   }
 
+  /**
+   * Lists the tables under the namespace with their details. The tables are fetched in batches if
+   * the catalog supports {@link SupportsListTablesInfo}, otherwise they are loaded one by one. The
+   * tables are combined with their entities in the store, and imported if they are not, the same as
+   * {@link #loadTable(NameIdentifier)}.
+   *
+   * @param namespace The namespace to list the tables under.
+   * @return The tables under the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier catalogIdent = getCatalogIdentifier(schemaIdent);
+    EntityCombinedTable[] tables =
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent,
+            LockType.READ,
+            () -> {
+              Table[] tablesFromCatalog =
+                  doWithCatalog(
+                      catalogIdent,
+                      c ->
+                          c.doWithTableOps(
+                              t ->
+                                  t instanceof SupportsListTablesInfo
+                                      ? ((SupportsListTablesInfo) t).listTablesInfo(namespace)
+                                      : null),
+                      NoSuchSchemaException.class);
+              return tablesFromCatalog == null
+                  ? null
+                  : Arrays.stream(tablesFromCatalog)
+                      .map(
+                          table ->
+                              combineTableWithEntity(
+                                  NameIdentifier.of(namespace, table.name()), table))
+                      .toArray(EntityCombinedTable[]::new);
+            });
+
+    if (tables == null) {
+      List<Table> loadedTables = Lists.newArrayList();
+      for (NameIdentifier ident : listTables(namespace)) {
+        try {
+          loadedTables.add(loadTable(ident));
+        } catch (NoSuchTableException e) {
+          LOG.debug("Table {} is dropped during the listing", ident);
+        }
+      }
+      return loadedTables.toArray(new Table[0]);
+    }
+
+    List<Table> reconciledTables = Lists.newArrayListWithCapacity(tables.length);
+    for (EntityCombinedTable table : tables) {
+      NameIdentifier ident = NameIdentifier.of(namespace, table.tableFromCatalog().name());
+      try {
+        reconciledTables.add(reconcileTable(ident, table));
+      } catch (NoSuchTableException e) {
+        LOG.debug("Table {} is dropped during the listing", ident);
+      }
+    }
+    return reconciledTables.toArray(new Table[0]);
+  }
+
   /**
    * Loads a table.
    *
@@ -113,9 +181,60 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+    long cacheTtlMs =
+        doWithCatalog(catalogIdent, this::tableCacheTtlMs, IllegalArgumentException.class);
+    if (cacheTtlMs <= 0) {
+      return loadAndReconcileTable(ident);
+    }
+
+    // Probe the version before loading the table, so that a change made in between is detected by
+    // the next load instead of being hidden by the cached entry. The version is kept with the
+    // loaded table, so the caller can tag the table without probing it again.
+    TableCache tableCache =
+        doWithCatalog(catalogIdent, c -> c.tableCache(), IllegalArgumentException.class);
+    String version;
+    try {
+      version = tableVersion(ident);
+    } catch (NoSuchTableException e) {
+      tableCache.invalidate(ident);
+      throw e;
+    }
+
+    Table cached = tableCache.get(ident, version);
+    if (cached != null) {
+      return cached;
+    }
+
+    long generation = tableCache.generation();
+    Table table = loadAndReconcileTable(ident).withVersion(version);
+    tableCache.put(ident, table, version, cacheTtlMs, generation);
+    return table;
+  }
+
+  @Override
+  public String tableVersion(NameIdentifier ident) throws NoSuchTableException {
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c ->
+            c.doWithTableOps(
+                t ->
+                    t instanceof SupportsTableVersion
+                        ? ((SupportsTableVersion) t).tableVersion(ident)
+                        : null),
+        NoSuchTableException.class);
+  }
+
+  private EntityCombinedTable loadAndReconcileTable(NameIdentifier ident)
+      throws NoSuchTableException {
     EntityCombinedTable entityCombinedTable =
         TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+    return reconcileTable(ident, entityCombinedTable);
+  }
 
+  private EntityCombinedTable reconcileTable(
+      NameIdentifier ident, EntityCombinedTable entityCombinedTable)
+      throws NoSuchTableException {
     if (!entityCombinedTable.imported()) {
       // Load the schema to make sure the schema is imported.
       SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
@@ -124,7 +243,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
       // Import the table.
       entityCombinedTable =
-          TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> importTable(ident));
+          doWithTreeLockAndInvalidateTables(
+              schemaIdent,
+              LockType.WRITE,
+              tableCache -> tableCache.invalidate(ident),
+              () -> importTable(ident));
     }
 
     // Update the column entities in Gravitino store if the columns are different from the ones
@@ -170,9 +293,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     schemaDispatcher.loadSchema(schemaIdent);
 
-    return TreeLockUtils.doWithTreeLock(
-        NameIdentifier.of(ident.namespace().levels()),
+    // The table of the same name may be cached before, such as the one dropped outside Gravitino.
+    return doWithTreeLockAndInvalidateTables(
+        schemaIdent,
         LockType.WRITE,
+        tableCache -> tableCache.invalidate(ident),
         () ->
             internalCreateTable(
                 ident,
@@ -222,9 +347,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       }
     }
 
-    return TreeLockUtils.doWithTreeLock(
+    return doWithTreeLockAndInvalidateTables(
         nameIdentifierForLock,
         nameIdentifierForLock.equals(ident) ? LockType.READ : LockType.WRITE,
+        tableCache -> tableCache.invalidate(tablesToInvalidate(ident, changes)),
         () -> {
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           Table alteredTable =
@@ -311,9 +437,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public boolean dropTable(NameIdentifier ident) {
     NameIdentifier schemaIdentifier = getSchemaIdentifier(ident);
-    return TreeLockUtils.doWithTreeLock(
+    return doWithTreeLockAndInvalidateTables(
         schemaIdentifier,
         LockType.WRITE,
+        tableCache -> tableCache.invalidate(ident),
         () -> {
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           boolean droppedFromCatalog =
@@ -365,9 +492,10 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     NameIdentifier schemaIdentifier = getSchemaIdentifier(ident);
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
-    return TreeLockUtils.doWithTreeLock(
+    return doWithTreeLockAndInvalidateTables(
         schemaIdentifier,
         LockType.WRITE,
+        tableCache -> tableCache.invalidate(ident),
         () -> {
           boolean droppedFromCatalog =
               doWithCatalog(
@@ -402,6 +530,33 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
+  private long tableCacheTtlMs(CatalogManager.CatalogWrapper c) throws Exception {
+    Map<String, String> catalogProperties = c.catalog().properties();
+    return c.doWithPropertiesMeta(
+        p -> {
+          PropertiesMetadata metadata = p.catalogPropertiesMetadata();
+          boolean enabled =
+              (Boolean) metadata.getOrDefault(catalogProperties, BaseCatalog.TABLE_CACHE_ENABLED);
+          return enabled
+              ? (Long) metadata.getOrDefault(catalogProperties, BaseCatalog.TABLE_CACHE_TTL_MS)
+              : 0L;
+        });
+  }
+
+  private NameIdentifier[] tablesToInvalidate(NameIdentifier tableIdent, TableChange... changes) {
+    // The renamed table is invalidated too, since its new name may be cached before.
+    return Stream.concat(
+            Stream.of(tableIdent),
+            Arrays.stream(changes)
+                .filter(c -> c instanceof TableChange.RenameTable)
+                .map(
+                    c ->
+                        NameIdentifier.of(
+                            getNewNamespace(tableIdent, changes),
+                            ((TableChange.RenameTable) c).getNewName())))
+        .toArray(NameIdentifier[]::new);
+  }
+
   private Namespace getNewNamespace(NameIdentifier tableIdent, TableChange... changes) {
     String schemaName = tableIdent.namespace().level(2);
     return Arrays.stream(changes)
@@ -493,7 +648,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             catalogIdentifier,
             c -> c.doWithTableOps(t -> t.loadTable(ident)),
             NoSuchTableException.class);
+    return combineTableWithEntity(ident, table);
+  }
 
+  private EntityCombinedTable combineTableWithEntity(NameIdentifier ident, Table table) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
     StringIdentifier stringId = getStringIdFromProperties(table.properties());
     // Case 1: The table is not created by Gravitino or the external system does not support storing
     // string identifier.
@@ -61,6 +61,16 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // Whether the loaded tables of this catalog are cached by Gravitino server. The cached table is
+  // served until it expires or the underlying source reports a different table version, see
+  // SupportsTableVersion.
+  public static final String TABLE_CACHE_ENABLED = "table-cache.enabled";
+
+  // The time-to-live in milliseconds of the cached tables of this catalog.
+  public static final String TABLE_CACHE_TTL_MS = "table-cache.ttl-ms";
+
+  public static final long DEFAULT_TABLE_CACHE_TTL_MS = 60_000L;
+
   // Underlying access control system plugin for this catalog.
   private volatile AuthorizationPlugin authorizationPlugin;
 
@@ -263,7 +273,8 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     if (catalogCredentialManager == null) {
       synchronized (this) {
         if (catalogCredentialManager == null) {
-          this.catalogCredentialManager = new CatalogCredentialManager(name(), properties());
+          this.catalogCredentialManager =
+              new CatalogCredentialManager(entity.namespace().level(0), name(), properties());
         }
       }
     }
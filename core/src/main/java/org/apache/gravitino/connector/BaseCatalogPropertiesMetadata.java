@@ -88,6 +88,20 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   PROPERTY_IN_USE,
                   "The property indicating the catalog is in use",
                   true /* default value */,
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_ENABLED,
+                  "Whether to cache the loaded tables of the catalog in Gravitino server",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_TTL_MS,
+                  "The time-to-live in milliseconds of the cached tables of the catalog",
+                  false /* immutable */,
+                  BaseCatalog.DEFAULT_TABLE_CACHE_TTL_MS,
                   false /* hidden */)),
           PropertyEntry::getName);
 
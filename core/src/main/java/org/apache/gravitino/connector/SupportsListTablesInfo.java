@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * An optional interface for the table operations of a catalog to list the tables of a schema with
+ * their details, for example the columns. It's implemented when the underlying source can fetch the
+ * tables in batches, which is much cheaper than loading the listed tables one by one.
+ */
+@Evolving
+public interface SupportsListTablesInfo {
+
+  /**
+   * Lists the tables under the namespace with their details. The listed tables are the same as the
+   * ones returned by {@link org.apache.gravitino.rel.TableCatalog#listTables(Namespace)}, except
+   * the tables dropped during the listing.
+   *
+   * @param namespace The namespace to list the tables under.
+   * @return The tables under the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException;
+}
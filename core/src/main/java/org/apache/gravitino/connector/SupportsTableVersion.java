@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+
+/**
+ * An optional interface for the table operations of a catalog to expose a cheap version probe of a
+ * table, for example the last DDL time of a Hive table or the metadata location of an Iceberg
+ * table. Gravitino server uses the version to decide whether a cached table is still up to date
+ * without loading the whole table from the underlying source.
+ */
+@Evolving
+public interface SupportsTableVersion {
+
+  /**
+   * Returns the current version of the table. The version must change whenever the metadata of the
+   * table changes in the underlying source.
+   *
+   * @param ident The identifier of the table.
+   * @return The version of the table, or null if the version is not available for this table.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  String tableVersion(NameIdentifier ident) throws NoSuchTableException;
+}
@@ -92,6 +92,19 @@ public interface Capability {
     return DEFAULT.managedStorage(scope);
   }
 
+  /**
+   * Check if the entities in the scope can be listed one page at a time, without listing all of
+   * them. The filesets and models are paged by the entity store when they are managed by
+   * Gravitino, and the partitions are paged by the catalog, which then also gets the partitions by
+   * names in one call.
+   *
+   * @param scope The scope of the capability.
+   * @return The capability of the paged listing.
+   */
+  default CapabilityResult pagedListing(Scope scope) {
+    return DEFAULT.pagedListing(scope);
+  }
+
   /** The default implementation of the capability. */
   class DefaultCapability implements Capability {
 
@@ -144,5 +157,11 @@ public interface Capability {
       return CapabilityResult.unsupported(
           String.format("The %s entity is not fully managed by Gravitino.", scope));
     }
+
+    @Override
+    public CapabilityResult pagedListing(Scope scope) {
+      return CapabilityResult.unsupported(
+          String.format("The %s entities can't be listed in pages.", scope));
+    }
   }
 }
@@ -23,6 +23,11 @@ import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,20 +40,51 @@ public class CatalogCredentialManager implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(CatalogCredentialManager.class);
 
   private final CredentialCache<CredentialCacheKey> credentialCache;
+  private final CredentialCacheMetricsSource metricsSource;
+  // Null if the credentials of the parent paths are not reused.
+  private final CredentialPathIndex credentialPathIndex;
 
   private final String catalogName;
   private final Map<String, CredentialProvider> credentialProviders;
 
-  public CatalogCredentialManager(String catalogName, Map<String, String> catalogProperties) {
+  public CatalogCredentialManager(
+      String metalakeName, String catalogName, Map<String, String> catalogProperties) {
     this.catalogName = catalogName;
     this.credentialProviders = CredentialUtils.loadCredentialProviders(catalogProperties);
-    this.credentialCache = new CredentialCache();
-    credentialCache.initialize(catalogProperties);
+    this.metricsSource = new CredentialCacheMetricsSource(metalakeName, catalogName);
+    boolean pathPrefixReuse =
+        new CredentialConfig(catalogProperties)
+            .get(CredentialConfig.CREDENTIAL_CACHE_PATH_PREFIX_REUSE);
+    this.credentialPathIndex = pathPrefixReuse ? new CredentialPathIndex() : null;
+    this.credentialCache = new CredentialCache<>();
+    credentialCache.initialize(
+        catalogProperties,
+        metricsSource,
+        cacheKey -> {
+          if (credentialPathIndex != null) {
+            credentialPathIndex.remove(cacheKey);
+          }
+        });
+    // Metrics System could be null in UT.
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public Credential getCredential(String credentialType, CredentialContext context) {
     CredentialCacheKey credentialCacheKey = new CredentialCacheKey(credentialType, context);
-    return credentialCache.getCredential(credentialCacheKey, cacheKey -> doGetCredential(cacheKey));
+    if (credentialPathIndex != null) {
+      for (CredentialCacheKey coveringKey : credentialPathIndex.coveringKeys(credentialCacheKey)) {
+        Credential credential =
+            credentialCache.getCachedCredential(coveringKey, this::doGetCredential);
+        if (credential != null) {
+          metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_PATH_PREFIX_HITS).inc();
+          return credential;
+        }
+      }
+    }
+    return credentialCache.getCredential(credentialCacheKey, this::doGetCredential);
   }
 
   // Get credential with only one credential provider.
@@ -83,6 +119,10 @@ public class CatalogCredentialManager implements Closeable {
     } catch (IOException e) {
       LOG.warn("Close credential cache failed, catalog: {}", catalogName, e);
     }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   private Credential doGetCredential(CredentialCacheKey credentialCacheKey) {
@@ -92,6 +132,10 @@ public class CatalogCredentialManager implements Closeable {
     Preconditions.checkState(
         credentialProviders.containsKey(credentialType),
         String.format("Credential %s not found", credentialType));
-    return credentialProviders.get(credentialType).getCredential(context);
+    Credential credential = credentialProviders.get(credentialType).getCredential(context);
+    if (credential != null && credentialPathIndex != null) {
+      credentialPathIndex.add(credentialCacheKey);
+    }
+    return credential;
   }
 }
@@ -19,83 +19,271 @@
 
 package org.apache.gravitino.credential;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Caches the credentials minted by the credential providers.
+ *
+ * <p>Concurrent misses of the same cache key share a single mint of the credential, the credential
+ * providers are called outside the cache locks so a slow provider doesn't block other keys. A
+ * cached credential which is accessed after the refresh ahead ratio of its cache time is minted
+ * again in the background, so the hot credentials are replaced before they expire from the cache.
+ */
 public class CredentialCache<T> implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialCache.class);
 
-  // Calculates the credential expire time in the cache.
-  static class CredentialExpireTimeCalculator<T> implements Expiry<T, Credential> {
+  private static final int REFRESH_THREADS = 2;
+  private static final int MAX_PENDING_REFRESHES = 1000;
 
-    private double credentialCacheExpireRatio;
-
-    public CredentialExpireTimeCalculator(double credentialCacheExpireRatio) {
-      this.credentialCacheExpireRatio = credentialCacheExpireRatio;
-    }
+  // Calculates the credential expire time in the cache.
+  static class CredentialExpireTimeCalculator<T> implements Expiry<T, CachedCredential> {
 
     // Set expire time after add a credential in the cache.
     @Override
-    public long expireAfterCreate(T key, Credential credential, long currentTime) {
-      long credentialExpireTime = credential.expireTimeInMs();
-      long timeToExpire = credentialExpireTime - System.currentTimeMillis();
-      if (timeToExpire <= 0) {
-        return 0;
-      }
-
-      timeToExpire = (long) (timeToExpire * credentialCacheExpireRatio);
-      return TimeUnit.MILLISECONDS.toNanos(timeToExpire);
+    public long expireAfterCreate(T key, CachedCredential credential, long currentTime) {
+      return Math.max(0, credential.expireAtNanos - currentTime);
     }
 
-    // Not change expire time after update credential, this should not happen.
+    // Set expire time after the credential is refreshed or the pending mint completes.
     @Override
-    public long expireAfterUpdate(T key, Credential value, long currentTime, long currentDuration) {
-      return currentDuration;
+    public long expireAfterUpdate(
+        T key, CachedCredential credential, long currentTime, long currentDuration) {
+      return Math.max(0, credential.expireAtNanos - currentTime);
     }
 
     // Not change expire time after read credential.
     @Override
-    public long expireAfterRead(T key, Credential value, long currentTime, long currentDuration) {
+    public long expireAfterRead(
+        T key, CachedCredential credential, long currentTime, long currentDuration) {
       return currentDuration;
     }
   }
 
-  private Cache<T, Credential> credentialCache;
+  // The cached credential with the time to expire from the cache and the time to refresh ahead.
+  static class CachedCredential {
+    private final Credential credential;
+    private final long expireAtNanos;
+    private final long refreshAtNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
-  public void initialize(Map<String, String> catalogProperties) {
+    CachedCredential(Credential credential, double expireRatio, double refreshAheadRatio) {
+      this.credential = credential;
+      long now = System.nanoTime();
+      long timeToExpire = credential.expireTimeInMs() - System.currentTimeMillis();
+      long cacheNanos =
+          timeToExpire <= 0
+              ? 0
+              : TimeUnit.MILLISECONDS.toNanos((long) (timeToExpire * expireRatio));
+      this.expireAtNanos = now + cacheNanos;
+      this.refreshAtNanos = now + (long) (cacheNanos * refreshAheadRatio);
+    }
+  }
+
+  private AsyncCache<T, CachedCredential> credentialCache;
+  private ThreadPoolExecutor refreshExecutor;
+  private CredentialCacheMetricsSource metricsSource;
+  private double expireRatio;
+  private double refreshAheadRatio;
+
+  /**
+   * Initializes the credential cache.
+   *
+   * @param catalogProperties the catalog properties with the credential cache configurations.
+   * @param metricsSource the metrics source to record the cache hits and the mint latency.
+   * @param removalListener the listener called when a key is no longer cached.
+   */
+  public void initialize(
+      Map<String, String> catalogProperties,
+      CredentialCacheMetricsSource metricsSource,
+      Consumer<T> removalListener) {
     CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
     long cacheSize = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_MAX_SIZE);
-    double cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.expireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.refreshAheadRatio =
+        credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO);
+    this.metricsSource = metricsSource;
 
     this.credentialCache =
         Caffeine.newBuilder()
-            .expireAfter(new CredentialExpireTimeCalculator(cacheExpireRatio))
+            .expireAfter(new CredentialExpireTimeCalculator<T>())
             .maximumSize(cacheSize)
             .removalListener(
-                (cacheKey, credential, c) ->
-                    LOG.debug("Credential expire, cache key: {}.", cacheKey))
-            .build();
+                (T cacheKey, CachedCredential credential, RemovalCause cause) -> {
+                  LOG.debug("Credential expire, cache key: {}, cause: {}.", cacheKey, cause);
+                  // The key may be cached again by a new mint after the credential expires.
+                  AsyncCache<T, CachedCredential> cache = credentialCache;
+                  if (cause != RemovalCause.REPLACED
+                      && cache != null
+                      && !cache.asMap().containsKey(cacheKey)) {
+                    removalListener.accept(cacheKey);
+                  }
+                })
+            .buildAsync();
+    metricsSource.registerGauge(
+        MetricNames.CREDENTIAL_CACHE_SIZE,
+        (Gauge<Long>) () -> credentialCache.synchronous().estimatedSize());
+
+    if (refreshAheadRatio < 1) {
+      this.refreshExecutor =
+          new ThreadPoolExecutor(
+              REFRESH_THREADS,
+              REFRESH_THREADS,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(MAX_PENDING_REFRESHES),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("credential-cache-refresh-%d")
+                  .build());
+      refreshExecutor.allowCoreThreadTimeOut(true);
+    }
   }
 
+  /**
+   * Gets the credential from the cache, or mints it by the credential supplier if it's not cached.
+   *
+   * @param cacheKey the cache key.
+   * @param credentialSupplier the supplier to mint the credential.
+   * @return the credential, null if the credential supplier returns null.
+   */
   public Credential getCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
-    return credentialCache.get(cacheKey, key -> credentialSupplier.apply(cacheKey));
+    CompletableFuture<CachedCredential> newFuture = new CompletableFuture<>();
+    CompletableFuture<CachedCredential> future =
+        credentialCache.asMap().putIfAbsent(cacheKey, newFuture);
+    if (future == null) {
+      metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_MISSES).inc();
+      try {
+        CachedCredential cachedCredential = mint(cacheKey, credentialSupplier);
+        // A null value removes the pending entry from the cache.
+        newFuture.complete(cachedCredential);
+        return cachedCredential == null ? null : cachedCredential.credential;
+      } catch (RuntimeException e) {
+        newFuture.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_HITS).inc();
+    CachedCredential cachedCredential = join(future);
+    if (cachedCredential == null) {
+      return null;
+    }
+    refreshIfNeeded(cacheKey, future, cachedCredential, credentialSupplier);
+    return cachedCredential.credential;
+  }
+
+  /**
+   * Gets the credential only if it's cached and already minted, the credential is refreshed ahead
+   * like {@link #getCredential}.
+   *
+   * @param cacheKey the cache key.
+   * @param credentialSupplier the supplier to refresh the credential.
+   * @return the cached credential, null if it's not cached.
+   */
+  public Credential getCachedCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
+    CompletableFuture<CachedCredential> future = credentialCache.asMap().get(cacheKey);
+    if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+      return null;
+    }
+    CachedCredential cachedCredential = future.join();
+    if (cachedCredential == null) {
+      return null;
+    }
+    refreshIfNeeded(cacheKey, future, cachedCredential, credentialSupplier);
+    return cachedCredential.credential;
   }
 
   @Override
   public void close() throws IOException {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+      refreshExecutor = null;
+    }
     if (credentialCache != null) {
-      credentialCache.invalidateAll();
+      credentialCache.synchronous().invalidateAll();
       credentialCache = null;
     }
   }
+
+  private CachedCredential mint(T cacheKey, Function<T, Credential> credentialSupplier) {
+    Credential credential;
+    try (Timer.Context ignored =
+        metricsSource.getTimer(MetricNames.CREDENTIAL_MINT_LATENCY).time()) {
+      credential = credentialSupplier.apply(cacheKey);
+    }
+    return credential == null
+        ? null
+        : new CachedCredential(credential, expireRatio, refreshAheadRatio);
+  }
+
+  private void refreshIfNeeded(
+      T cacheKey,
+      CompletableFuture<CachedCredential> future,
+      CachedCredential cachedCredential,
+      Function<T, Credential> credentialSupplier) {
+    ThreadPoolExecutor executor = refreshExecutor;
+    if (executor == null
+        || System.nanoTime() < cachedCredential.refreshAtNanos
+        || !cachedCredential.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              CachedCredential refreshed = mint(cacheKey, credentialSupplier);
+              metricsSource.getCounter(MetricNames.CREDENTIAL_REFRESHES).inc();
+              if (refreshed != null) {
+                // Only replace the credential which is refreshed, it may be removed meanwhile.
+                credentialCache
+                    .asMap()
+                    .replace(cacheKey, future, CompletableFuture.completedFuture(refreshed));
+              }
+            } catch (RuntimeException e) {
+              metricsSource.getCounter(MetricNames.CREDENTIAL_REFRESH_FAILURES).inc();
+              LOG.warn("Refresh credential failed, cache key: {}.", cacheKey, e);
+              // The cached credential is still valid, the next access retries the refresh.
+              cachedCredential.refreshing.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      cachedCredential.refreshing.set(false);
+    }
+  }
+
+  private static CachedCredential join(CompletableFuture<CachedCredential> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
 }
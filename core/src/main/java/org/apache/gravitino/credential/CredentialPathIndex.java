@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes the cached path based credential keys by their paths, to find the cached credentials
+ * minted for the parent paths of the requested paths.
+ */
+class CredentialPathIndex {
+
+  private final Map<String, Set<CredentialCacheKey>> keysByPath = new ConcurrentHashMap<>();
+
+  void add(CredentialCacheKey cacheKey) {
+    for (String path : paths(cacheKey)) {
+      keysByPath.computeIfAbsent(path, k -> ConcurrentHashMap.newKeySet()).add(cacheKey);
+    }
+  }
+
+  void remove(CredentialCacheKey cacheKey) {
+    for (String path : paths(cacheKey)) {
+      keysByPath.computeIfPresent(
+          path,
+          (k, keys) -> {
+            keys.remove(cacheKey);
+            return keys.isEmpty() ? null : keys;
+          });
+    }
+  }
+
+  /**
+   * Finds the cached keys whose credentials could serve the cache key, that is the credential is
+   * minted for the same user and for the same paths or the parent paths of the requested paths. The
+   * keys of the nearest parent paths come first.
+   *
+   * @param cacheKey the requested cache key.
+   * @return the covering cache keys, not including the requested cache key.
+   */
+  List<CredentialCacheKey> coveringKeys(CredentialCacheKey cacheKey) {
+    List<CredentialCacheKey> coveringKeys = new ArrayList<>();
+    Set<String> paths = paths(cacheKey);
+    if (paths.isEmpty()) {
+      return coveringKeys;
+    }
+
+    // Any covering key must cover the first path, so only the parents of it are checked.
+    for (String path = paths.iterator().next(); path != null; path = parent(path)) {
+      for (CredentialCacheKey candidate : keysByPath.getOrDefault(path, Collections.emptySet())) {
+        if (!candidate.equals(cacheKey) && covers(candidate, cacheKey)) {
+          coveringKeys.add(candidate);
+        }
+      }
+    }
+    return coveringKeys;
+  }
+
+  private static boolean covers(CredentialCacheKey candidate, CredentialCacheKey cacheKey) {
+    if (!candidate.getCredentialType().equals(cacheKey.getCredentialType())) {
+      return false;
+    }
+    PathBasedCredentialContext candidateContext =
+        (PathBasedCredentialContext) candidate.getCredentialContext();
+    PathBasedCredentialContext context =
+        (PathBasedCredentialContext) cacheKey.getCredentialContext();
+    if (!candidateContext.getUserName().equals(context.getUserName())) {
+      return false;
+    }
+
+    Set<String> writePaths = normalize(candidateContext.getWritePaths());
+    Set<String> allPaths = Sets.union(writePaths, normalize(candidateContext.getReadPaths()));
+    return normalize(context.getWritePaths()).stream().allMatch(p -> isUnder(p, writePaths))
+        && normalize(context.getReadPaths()).stream().allMatch(p -> isUnder(p, allPaths));
+  }
+
+  private static boolean isUnder(String path, Set<String> parentPaths) {
+    for (String candidate = path; candidate != null; candidate = parent(candidate)) {
+      if (parentPaths.contains(candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Set<String> paths(CredentialCacheKey cacheKey) {
+    if (!(cacheKey.getCredentialContext() instanceof PathBasedCredentialContext)) {
+      return Collections.emptySet();
+    }
+    PathBasedCredentialContext context =
+        (PathBasedCredentialContext) cacheKey.getCredentialContext();
+    return Sets.union(normalize(context.getWritePaths()), normalize(context.getReadPaths()));
+  }
+
+  private static Set<String> normalize(Set<String> paths) {
+    return paths.stream().map(CredentialPathIndex::normalize).collect(Collectors.toSet());
+  }
+
+  private static String normalize(String path) {
+    int end = path.length();
+    while (end > 1 && path.charAt(end - 1) == '/') {
+      end--;
+    }
+    return path.substring(0, end);
+  }
+
+  // Returns null if the path has no parent, like "s3://bucket" or "/tmp".
+  private static String parent(String path) {
+    int index = path.lastIndexOf('/');
+    if (index <= 0 || path.charAt(index - 1) == '/') {
+      return null;
+    }
+    return path.substring(0, index);
+  }
+}
@@ -34,6 +34,7 @@ public class CredentialConfig extends Config {
 
   private static final long DEFAULT_CREDENTIAL_CACHE_MAX_SIZE = 10_000L;
   private static final double DEFAULT_CREDENTIAL_CACHE_EXPIRE_RATIO = 0.15d;
+  private static final double DEFAULT_CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO = 0.8d;
 
   public static final Map<String, PropertyEntry<?>> CREDENTIAL_PROPERTY_ENTRIES =
       new ImmutableMap.Builder<String, PropertyEntry<?>>()
@@ -67,6 +68,28 @@ public class CredentialConfig extends Config {
                   DEFAULT_CREDENTIAL_CACHE_MAX_SIZE /* default value */,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO,
+              PropertyEntry.doublePropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO,
+                  "Ratio of the credential's cache time after which Gravitino refreshes the "
+                      + "credential in the background when it's accessed.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_PATH_PREFIX_REUSE,
+              PropertyEntry.booleanPropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_PATH_PREFIX_REUSE,
+                  "Whether to reuse the cached credential of a parent location for the child "
+                      + "locations.",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   public static final ConfigEntry<List<String>> CREDENTIAL_PROVIDERS =
@@ -97,6 +120,30 @@ public class CredentialConfig extends Config {
           .longConf()
           .createWithDefault(DEFAULT_CREDENTIAL_CACHE_MAX_SIZE);
 
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO)
+          .doc(
+              "Ratio of the credential's cache time after which Gravitino refreshes the "
+                  + "credential in the background when it's accessed, 1 means never refresh "
+                  + "the credential ahead.")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .doubleConf()
+          .checkValue(
+              ratio -> ratio > 0 && ratio <= 1,
+              "Ratio of the credential's cache time to refresh ahead should greater than 0 "
+                  + "and less than or equal to 1.")
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO);
+
+  public static final ConfigEntry<Boolean> CREDENTIAL_CACHE_PATH_PREFIX_REUSE =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_PATH_PREFIX_REUSE)
+          .doc(
+              "Whether to reuse the cached credential of a parent location for the child "
+                  + "locations of the same user. The reused credential may grant more access "
+                  + "than the requested locations.")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public CredentialConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -69,7 +69,10 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
 
   @Override
   public boolean removeUser(String metalake, String user) throws NoSuchMetalakeException {
-    return dispatcher.removeUser(metalake, user);
+    boolean removed = dispatcher.removeUser(metalake, user);
+    AuthorizationUtils.notifyMetadataObjectChange(
+        AuthorizationUtils.ofUser(metalake, user), Entity.EntityType.USER);
+    return removed;
   }
 
   @Override
@@ -195,6 +198,8 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     if (resultOfDeleteRole && oldRole != null) {
       notifyRoleUserRelChange(((RoleEntity) oldRole).id());
     }
+    AuthorizationUtils.notifyMetadataObjectChange(
+        AuthorizationUtils.ofRole(metalake, role), Entity.EntityType.ROLE);
     return resultOfDeleteRole;
   }
 
@@ -124,6 +124,7 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.CATALOG, lastRenameChange.getNewName());
+      AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.CATALOG);
     }
     return alteredCatalog;
   }
@@ -150,7 +151,9 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
 
     // We should call the authorization plugin before dropping the catalog, because the dropping
     // catalog will close the authorization plugin.
-    return dispatcher.dropCatalog(ident, force);
+    boolean dropped = dispatcher.dropCatalog(ident, force);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.CATALOG);
+    return dropped;
   }
 
   @Override
@@ -56,6 +56,12 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFilesets(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listFilesets(namespace, startAfter, limit);
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
@@ -108,6 +114,7 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.FILESET, lastRenameChange.getNewName());
+      AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.FILESET);
     }
 
     return alteredFileset;
@@ -120,6 +127,7 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     boolean dropped = dispatcher.dropFileset(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(
         ident, Entity.EntityType.FILESET, locations);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.FILESET);
     return dropped;
   }
 
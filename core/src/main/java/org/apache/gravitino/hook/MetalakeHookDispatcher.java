@@ -96,6 +96,7 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.METALAKE, lastRenameChange.getNewName());
+      AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.METALAKE);
     }
     return alterMetalake;
   }
@@ -103,7 +104,9 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
   @Override
   public boolean dropMetalake(NameIdentifier ident, boolean force)
       throws NonEmptyEntityException, MetalakeInUseException {
-    return dispatcher.dropMetalake(ident, force);
+    boolean dropped = dispatcher.dropMetalake(ident, force);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.METALAKE);
+    return dropped;
   }
 
   @Override
@@ -120,7 +123,9 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
   public boolean dropMetalake(NameIdentifier ident) {
     // For metalake, we don't clear all the privileges of catalog authorization plugin.
     // we just remove metalake.
-    return dispatcher.dropMetalake(ident);
+    boolean dropped = dispatcher.dropMetalake(ident);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.METALAKE);
+    return dropped;
   }
 
   @Override
@@ -59,6 +59,12 @@ public class ModelHookDispatcher implements ModelDispatcher {
     return dispatcher.listModels(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listModels(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listModels(namespace, startAfter, limit);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     return dispatcher.getModel(ident);
@@ -87,7 +93,9 @@ public class ModelHookDispatcher implements ModelDispatcher {
 
   @Override
   public boolean deleteModel(NameIdentifier ident) {
-    return dispatcher.deleteModel(ident);
+    boolean deleted = dispatcher.deleteModel(ident);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.MODEL);
+    return deleted;
   }
 
   @Override
@@ -190,7 +198,14 @@ public class ModelHookDispatcher implements ModelDispatcher {
   @Override
   public Model alterModel(NameIdentifier ident, ModelChange... changes)
       throws NoSuchModelException, IllegalArgumentException {
-    return dispatcher.alterModel(ident, changes);
+    Model alteredModel = dispatcher.alterModel(ident, changes);
+    for (ModelChange change : changes) {
+      if (change instanceof ModelChange.RenameModel) {
+        AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.MODEL);
+        break;
+      }
+    }
+    return alteredModel;
   }
 
   @Override
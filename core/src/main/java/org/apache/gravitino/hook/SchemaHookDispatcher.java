@@ -95,6 +95,7 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     boolean dropped = dispatcher.dropSchema(ident, cascade);
     AuthorizationUtils.authorizationPluginRemovePrivileges(
         ident, Entity.EntityType.SCHEMA, locations);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.SCHEMA);
     return dropped;
   }
 
@@ -58,6 +58,16 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.listTables(namespace);
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTablesInfo(namespace);
+  }
+
+  @Override
+  public String tableVersion(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.tableVersion(ident);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
@@ -98,10 +108,14 @@ public class TableHookDispatcher implements TableDispatcher {
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
     TableChange.RenameTable lastRenameChange = null;
+    boolean columnRemoved = false;
     List<String> locations = null;
     for (TableChange change : changes) {
       if (change instanceof TableChange.RenameTable) {
         lastRenameChange = (TableChange.RenameTable) change;
+      } else if (change instanceof TableChange.DeleteColumn
+          || change instanceof TableChange.RenameColumn) {
+        columnRemoved = true;
       }
     }
     if (lastRenameChange != null) {
@@ -114,6 +128,9 @@ public class TableHookDispatcher implements TableDispatcher {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.TABLE, lastRenameChange.getNewName(), locations);
     }
+    if (lastRenameChange != null || columnRemoved) {
+      AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.TABLE);
+    }
 
     return alteredTable;
   }
@@ -125,6 +142,7 @@ public class TableHookDispatcher implements TableDispatcher {
     boolean dropped = dispatcher.dropTable(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(
         ident, Entity.EntityType.TABLE, locations);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.TABLE);
     return dropped;
   }
 
@@ -135,6 +153,7 @@ public class TableHookDispatcher implements TableDispatcher {
     boolean purged = dispatcher.purgeTable(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(
         ident, Entity.EntityType.TABLE, locations);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.TABLE);
     return purged;
   }
 
@@ -94,6 +94,7 @@ public class TopicHookDispatcher implements TopicDispatcher {
     boolean dropped = dispatcher.dropTopic(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(
         ident, Entity.EntityType.TOPIC, locations);
+    AuthorizationUtils.notifyMetadataObjectChange(ident, Entity.EntityType.TOPIC);
     return dropped;
   }
 
@@ -19,27 +19,41 @@
 
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.listener.api.BatchEventListenerPlugin;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
- * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
- * contain multi listeners share with one queue and dispatcher thread. For other
+ * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start
+ * dispatcher threads to dispatch event to the real listeners. For default AsyncQueueListener it may
+ * contain multi listeners share with one queue and dispatcher threads. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>Each dispatcher thread takes up to {@code dispatchBatchSize} events from the queue at once,
+ * listeners implementing {@link BatchEventListenerPlugin} receive them in batches, other listeners
+ * receive them one by one. With more than one dispatcher thread, the events are no longer delivered
+ * in the order they are generated.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
@@ -48,28 +62,59 @@ public class AsyncQueueListener implements EventListenerPlugin {
 
   private final List<EventListenerPlugin> eventListeners;
   private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  private final List<Thread> asyncProcessors;
   private final int dispatcherJoinSeconds;
+  private final int dispatchBatchSize;
+  private final long enqueueTimeoutMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
   private Instant lastRecordDropEventTime = Instant.EPOCH;
   private final String asyncQueueListenerName;
   private final int highWatermarkThreshold;
+  private final EventListenerMetricsSource metricsSource;
+  private final Counter droppedEventsCounter;
+  private final Timer dispatchLatencyTimer;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(listeners, name, queueCapacity, dispatcherJoinSeconds, 1, 1, 0);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int dispatchBatchSize,
+      long enqueueTimeoutMs) {
+    Preconditions.checkArgument(dispatcherThreads > 0, "dispatcherThreads must be positive");
+    Preconditions.checkArgument(dispatchBatchSize > 0, "dispatchBatchSize must be positive");
+    Preconditions.checkArgument(enqueueTimeoutMs >= 0, "enqueueTimeoutMs must not be negative");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
     this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
+    this.dispatchBatchSize = dispatchBatchSize;
+    this.enqueueTimeoutMs = enqueueTimeoutMs;
     this.highWatermarkThreshold = (int) (queueCapacity * HIGH_WATERMARK_RATIO);
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      Thread asyncProcessor = new Thread(() -> processEvents());
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      asyncProcessors.add(asyncProcessor);
+    }
+
+    this.metricsSource = new EventListenerMetricsSource(name, queue::size);
+    this.droppedEventsCounter = metricsSource.getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENTS);
+    this.dispatchLatencyTimer = metricsSource.getTimer(MetricNames.EVENT_LISTENER_DISPATCH_LATENCY);
   }
 
   @Override
@@ -91,20 +136,34 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    asyncProcessors.forEach(Thread::start);
+
+    // Metrics System could be null in UT.
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+    asyncProcessors.forEach(Thread::interrupt);
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
+    for (Thread asyncProcessor : asyncProcessors) {
+      try {
+        asyncProcessor.join(Math.max(1, deadline - System.currentTimeMillis()));
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+      }
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   public boolean isHighWatermark() {
@@ -116,22 +175,32 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
+  @VisibleForTesting
+  long getDroppedEvents() {
+    return droppedEventsCounter.getCount();
+  }
+
+  @VisibleForTesting
+  EventListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   private void processEvents() {
+    List<BaseEvent> batch = new ArrayList<>(dispatchBatchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+        batch.add(queue.take());
+        if (dispatchBatchSize > 1) {
+          queue.drainTo(batch, dispatchBatchSize - 1);
         }
+        dispatchEvents(batch);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
       } catch (Exception e) {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+      } finally {
+        batch.clear();
       }
     }
 
@@ -143,7 +212,66 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  private void dispatchEvents(List<BaseEvent> events) {
+    for (EventListenerPlugin listener : eventListeners) {
+      if (events.size() > 1 && listener instanceof BatchEventListenerPlugin) {
+        dispatchBatch((BatchEventListenerPlugin) listener, events);
+      } else {
+        events.forEach(event -> dispatchEvent(listener, event));
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    for (BaseEvent event : events) {
+      dispatchLatencyTimer.update(now - event.eventTime(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void dispatchEvent(EventListenerPlugin listener, BaseEvent baseEvent) {
+    if (baseEvent instanceof PreEvent) {
+      listener.onPreEvent((PreEvent) baseEvent);
+    } else if (baseEvent instanceof Event) {
+      listener.onPostEvent((Event) baseEvent);
+    } else {
+      LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+    }
+  }
+
+  // Deliver consecutive events of the same kind with one call to keep the order of the events.
+  private void dispatchBatch(BatchEventListenerPlugin listener, List<BaseEvent> events) {
+    List<PreEvent> preEvents = new ArrayList<>();
+    List<Event> postEvents = new ArrayList<>();
+    for (BaseEvent baseEvent : events) {
+      if (baseEvent instanceof PreEvent) {
+        flushPostEvents(listener, postEvents);
+        preEvents.add((PreEvent) baseEvent);
+      } else if (baseEvent instanceof Event) {
+        flushPreEvents(listener, preEvents);
+        postEvents.add((Event) baseEvent);
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    }
+    flushPreEvents(listener, preEvents);
+    flushPostEvents(listener, postEvents);
+  }
+
+  private void flushPreEvents(BatchEventListenerPlugin listener, List<PreEvent> preEvents) {
+    if (!preEvents.isEmpty()) {
+      listener.onPreEvents(preEvents);
+      preEvents.clear();
+    }
+  }
+
+  private void flushPostEvents(BatchEventListenerPlugin listener, List<Event> postEvents) {
+    if (!postEvents.isEmpty()) {
+      listener.onPostEvents(postEvents);
+      postEvents.clear();
+    }
+  }
+
   private void logDropEventsIfNecessary() {
+    droppedEventsCounter.inc();
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
     // dropEvents may less than zero in such conditions:
@@ -176,6 +304,17 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
+    // Wait for the dispatcher to make room to absorb short peaks instead of dropping the event.
+    if (enqueueTimeoutMs > 0) {
+      try {
+        if (queue.offer(baseEvent, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
     logDropEventsIfNecessary();
   }
 }
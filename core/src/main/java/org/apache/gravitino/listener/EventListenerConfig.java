@@ -49,6 +49,45 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of dispatcher threads of each async queue, events are not delivered in "
+                  + "order if it's greater than 1")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> DISPATCH_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE)
+          .doc(
+              "The maximum number of events a dispatcher thread takes from the queue at once and "
+                  + "delivers to the listeners supporting batch processing")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<Boolean> QUEUE_PER_LISTENER =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_PER_LISTENER)
+          .doc(
+              "Whether to give each async shared listener its own queue and dispatcher threads, "
+                  + "so a slow listener doesn't delay the others")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  static final ConfigEntry<Long> ENQUEUE_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_ENQUEUE_TIMEOUT_MS)
+          .doc(
+              "The time in milliseconds to wait for space when the async queue is full before "
+                  + "dropping the event, 0 means dropping the event immediately")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -42,7 +42,8 @@ import org.slf4j.LoggerFactory;
  * record metrics.
  *
  * <p>For async listeners with the shared dispatcher, will create a default AsyncQueueListener to
- * assemble the corresponding EventListenerWrappers.
+ * assemble the corresponding EventListenerWrappers, or a separate AsyncQueueListener for each of
+ * them if {@code queuePerListener} is enabled.
  *
  * <p>For async listeners with the isolated dispatcher, will create a separate AsyncQueueListener
  * for each EventListenerWrapper.
@@ -54,17 +55,29 @@ public class EventListenerManager {
   public static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   public static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE = "dispatchBatchSize";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_PER_LISTENER = "queuePerListener";
+  static final String GRAVITINO_EVENT_LISTENER_ENQUEUE_TIMEOUT_MS = "enqueueTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int dispatchBatchSize;
+  private boolean queuePerListener;
+  private long enqueueTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.dispatchBatchSize = config.get(EventListenerConfig.DISPATCH_BATCH_SIZE);
+    this.queuePerListener = config.get(EventListenerConfig.QUEUE_PER_LISTENER);
+    this.enqueueTimeoutMs = config.get(EventListenerConfig.ENQUEUE_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -116,12 +129,16 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
+                      if (queuePerListener) {
+                        return createAsyncQueueListener(
+                            ImmutableList.of(
+                                new EventListenerPluginWrapper(listenerName, listener)),
+                            listenerName);
+                      }
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
                       return null;
@@ -133,13 +150,23 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPlugin> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        dispatchBatchSize,
+        enqueueTimeoutMs);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
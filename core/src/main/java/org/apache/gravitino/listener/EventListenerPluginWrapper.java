@@ -20,8 +20,10 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.listener.api.BatchEventListenerPlugin;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
@@ -34,7 +36,7 @@ import org.slf4j.LoggerFactory;
  * A wrapper for user provided event listener, could contain common logic like exception handling,
  * recording metrics, recording slow event process.
  */
-public class EventListenerPluginWrapper implements EventListenerPlugin {
+public class EventListenerPluginWrapper implements BatchEventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
@@ -95,6 +97,34 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (!(userEventListener instanceof BatchEventListenerPlugin)) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      ((BatchEventListenerPlugin) userEventListener).onPostEvents(events);
+    } catch (Exception e) {
+      printExceptionInBatchProcess(listenerName, events.size(), e);
+    }
+  }
+
+  @Override
+  public void onPreEvents(List<PreEvent> preEvents) {
+    if (!(userEventListener instanceof BatchEventListenerPlugin)) {
+      preEvents.forEach(this::onPreEvent);
+      return;
+    }
+
+    try {
+      ((BatchEventListenerPlugin) userEventListener).onPreEvents(preEvents);
+    } catch (Exception e) {
+      printExceptionInBatchProcess(listenerName, preEvents.size(), e);
+    }
+  }
+
   @Override
   public SupportsChangingPreEvent transformPreEvent(SupportsChangingPreEvent preEvent) {
     return userEventListener.transformPreEvent(preEvent);
@@ -116,4 +146,8 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
         baseEvent.getClass().getSimpleName(),
         e);
   }
+
+  private void printExceptionInBatchProcess(String listenerName, int eventCount, Exception e) {
+    LOG.warn("Event listener {} process a batch of {} events failed,", listenerName, eventCount, e);
+  }
 }
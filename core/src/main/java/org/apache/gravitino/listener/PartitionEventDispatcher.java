@@ -141,6 +141,20 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Iterable<Partition> listPartitionsInChunks(NameIdentifier ident, int chunkSize) {
+    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Iterable<Partition> listPartitions = dispatcher.listPartitionsInChunks(ident, chunkSize);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public String[] listPartitionNames(NameIdentifier ident) {
     eventBus.dispatchEvent(
@@ -157,6 +171,38 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier ident, String filter, String startAfter, int limit) {
+    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Partition[] listPartitions = dispatcher.listPartitions(ident, filter, startAfter, limit);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier ident, String filter, String startAfter, int limit) {
+    eventBus.dispatchEvent(
+        new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      String[] listPartitionNames = dispatcher.listPartitionNames(ident, filter, startAfter, limit);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return listPartitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
@@ -92,6 +92,25 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      Table[] tables = dispatcher.listTablesInfo(namespace);
+      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return tables;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String tableVersion(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.tableVersion(ident);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
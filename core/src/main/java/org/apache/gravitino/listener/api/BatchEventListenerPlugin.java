@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener.api;
+
+import java.util.List;
+import org.apache.gravitino.annotation.DeveloperApi;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PreEvent;
+
+/**
+ * An {@link EventListenerPlugin} that can process events in batches. For asynchronous listeners,
+ * the dispatcher drains up to {@code gravitino.eventListener.dispatchBatchSize} events from the
+ * queue at once and delivers consecutive events of the same kind with a single call, which lets the
+ * listener amortize the cost of a remote call or a flush across many events.
+ *
+ * <p>Events in a batch keep the order in which they were dequeued. Synchronous listeners and
+ * batches with a single event are still delivered through {@link #onPreEvent(PreEvent)} and {@link
+ * #onPostEvent(Event)}.
+ */
+@DeveloperApi
+public interface BatchEventListenerPlugin extends EventListenerPlugin {
+
+  /**
+   * Handle a batch of post-operation events, the default implementation handles the events one by
+   * one with {@link #onPostEvent(Event)}.
+   *
+   * @param events The post-events to handle, the list is never empty and must not be retained.
+   * @throws RuntimeException If an error occurs, the error is logged and the events are dropped.
+   */
+  default void onPostEvents(List<Event> events) throws RuntimeException {
+    events.forEach(this::onPostEvent);
+  }
+
+  /**
+   * Handle a batch of pre-operation events, the default implementation handles the events one by
+   * one with {@link #onPreEvent(PreEvent)}.
+   *
+   * @param events The pre-events to handle, the list is never empty and must not be retained.
+   * @throws RuntimeException If an error occurs, the error is logged and the events are dropped.
+   */
+  default void onPreEvents(List<PreEvent> events) throws RuntimeException {
+    events.forEach(this::onPreEvent);
+  }
+}
@@ -26,6 +26,7 @@ public enum OperationType {
   PURGE_TABLE,
   LOAD_TABLE,
   LOAD_TABLE_CREDENTIAL,
+  PLAN_TABLE_SCAN,
   LIST_TABLE,
   ALTER_TABLE,
   RENAME_TABLE,
@@ -181,7 +181,11 @@ public class LockManager {
   }
 
   public LockManager(Config config) {
-    treeLockRootNode = new TreeLockNode(ROOT.name());
+    this(config, new TreeLockNode(ROOT.name()));
+  }
+
+  protected LockManager(Config config, TreeLockNode rootNode) {
+    treeLockRootNode = rootNode;
 
     // Init the parameters.
     initParameters(config);
@@ -214,8 +218,10 @@ public class LockManager {
     // Handle self node.
     if (treeNode.getReference() == 0) {
       synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
+        // Once goes here, the parent node has been locked. References are only added under the
+        // object lock of the parent (see createTreeLock), so the reference of child (treeNode)
+        // could not be increased. It could still be decreased by TreeLock#unlock without the lock,
+        // but a node with reference 0 has no holder left to release it, so it stays 0.
         if (treeNode.getReference() == 0) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
@@ -286,7 +292,7 @@ public class LockManager {
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
    */
-  private void checkTreeNodeIsFull() {
+  void checkTreeNodeIsFull() {
     // If the total node count is greater than the max node counts, in case of memory
     // leak and explosion, we should throw an exception.
     long currentNodeCount = totalNodeCount.get();
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * StripedLockManager is a {@link LockManager} that reduces the contention on the nodes shared by
+ * most of the tree locks, it is enabled by setting {@code gravitino.lock.type} to {@code striped}.
+ *
+ * <p>Compared with {@link LockManager}, it differs in the following ways:
+ *
+ * <ul>
+ *   <li>The root, metalake and catalog nodes spread their read locks over several stripes, see
+ *       {@link StripedTreeLockNode}.
+ *   <li>Child nodes are looked up without holding the monitor of the parent node, the reference
+ *       count of a node is increased by CAS and a node is retired by CAS before it is evicted.
+ * </ul>
+ *
+ * <p>The tree locks created by this manager have the same semantics as the default ones: the whole
+ * path is locked from the root to the leaf and locks are reentrant.
+ */
+public class StripedLockManager extends LockManager {
+  private static final Logger LOG = LoggerFactory.getLogger(StripedLockManager.class);
+
+  // The root, metalake and catalog nodes are striped.
+  @VisibleForTesting static final int STRIPED_DEPTH = 3;
+
+  private static final int MAX_STRIPES = 64;
+
+  public StripedLockManager(Config config) {
+    this(config, defaultStripeCount());
+  }
+
+  @VisibleForTesting
+  StripedLockManager(Config config, int stripeCount) {
+    super(
+        config,
+        new StripedTreeLockNode(ROOT.name(), 0, STRIPED_DEPTH, checkStripeCount(stripeCount)));
+  }
+
+  @Override
+  @SuppressWarnings("ReferenceEquality")
+  public TreeLock createTreeLock(NameIdentifier identifier) {
+    checkTreeNodeIsFull();
+
+    StripedTreeLockNode lockNode = (StripedTreeLockNode) treeLockRootNode;
+    // Avoid to use value equality instead of reference equality here.
+    // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
+    if (identifier == ROOT) {
+      lockNode.addReference();
+      List<TreeLockNode> rootOnly = new ArrayList<>(1);
+      rootOnly.add(lockNode);
+      return new TreeLock(rootOnly, identifier);
+    }
+
+    String[] levels = identifier.namespace().levels();
+    List<TreeLockNode> treeLockNodes = new ArrayList<>(levels.length + 2);
+    try {
+      lockNode.addReference();
+      treeLockNodes.add(lockNode);
+
+      for (String level : levels) {
+        lockNode = lockNode.acquireChild(level, totalNodeCount);
+        treeLockNodes.add(lockNode);
+      }
+      treeLockNodes.add(lockNode.acquireChild(identifier.name(), totalNodeCount));
+
+      return new TreeLock(treeLockNodes, identifier);
+    } catch (Exception e) {
+      LOG.error("Failed to create tree lock {}", identifier, e);
+      // Release reference if fails.
+      for (TreeLockNode node : treeLockNodes) {
+        node.decReference();
+      }
+
+      throw e;
+    }
+  }
+
+  @Override
+  @VisibleForTesting
+  void evictStaleNodes(TreeLockNode treeNode, TreeLockNode parent) {
+    // We will not evict the node tree if the total node count is less than the
+    // MIN_TREE_NODE_IN_MEMORY.
+    if (totalNodeCount.get() < minTreeNodeInMemory) {
+      return;
+    }
+
+    // Handle from leaf nodes first.
+    treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
+
+    // Handle self node. Nodes that still have children are kept, they will be evicted after their
+    // children. Once the node is retired, no tree lock can reference it or its children any more,
+    // so it is safe to remove it without locking the parent.
+    StripedTreeLockNode node = (StripedTreeLockNode) treeNode;
+    if (node.childMap.isEmpty() && node.tryRetire()) {
+      ((StripedTreeLockNode) parent).removeChild(node.getName(), node);
+      // Children may have been created and released between the check and the retirement.
+      long leftNodeCount = totalNodeCount.addAndGet(-countNodes(node));
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Evict stale tree lock node '{}', current left nodes '{}'",
+            node.getName(),
+            leftNodeCount);
+      }
+    }
+  }
+
+  private static long countNodes(TreeLockNode node) {
+    long count = 1;
+    for (TreeLockNode child : node.childMap.values()) {
+      count += countNodes(child);
+    }
+    return count;
+  }
+
+  private static int checkStripeCount(int stripeCount) {
+    Preconditions.checkArgument(
+        stripeCount > 0 && Integer.bitCount(stripeCount) == 1,
+        "The stripe count '%s' should be a power of two",
+        stripeCount);
+    return stripeCount;
+  }
+
+  private static int defaultStripeCount() {
+    // Use the next power of two of the available processors, so that the stripe index can be
+    // computed by a mask.
+    int processors = Runtime.getRuntime().availableProcessors();
+    int stripes = Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+    return Math.min(stripes, MAX_STRIPES);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * StripedTreeLockNode is the {@link TreeLockNode} used by {@link StripedLockManager}.
+ *
+ * <p>Nodes close to the root, such as the root itself, metalakes and catalogs, are locked by almost
+ * every operation. For these nodes, the read lock is spread over several read-write lock stripes,
+ * and a thread always takes the read lock of the stripe it is mapped to, so concurrent readers do
+ * not contend on the same lock state. A write lock takes the write locks of all the stripes in
+ * order. Each stripe is a {@link ReentrantReadWriteLock}, so the node keeps the reentrant semantics
+ * of the default tree lock node. Deeper nodes have only one stripe and behave exactly like {@link
+ * TreeLockNode}.
+ *
+ * <p>The reference count is also used to retire the node: a node whose reference count is 0 can be
+ * marked as retired by the lock cleaner, after which no tree lock can reference it any more. This
+ * lets {@link StripedLockManager} look up and evict child nodes without holding the monitor of the
+ * parent node.
+ */
+public class StripedTreeLockNode extends TreeLockNode {
+  private static final long RETIRED = Long.MIN_VALUE;
+
+  // The read-write lock stripes of this node, null if the node only has one stripe, in which case
+  // the read-write lock of the parent class is used.
+  private final ReentrantReadWriteLock[] stripes;
+  private final int depth;
+  private final int stripedDepth;
+  private final int stripeCount;
+
+  StripedTreeLockNode(String name, int depth, int stripedDepth, int stripeCount) {
+    super(name);
+    this.depth = depth;
+    this.stripedDepth = stripedDepth;
+    this.stripeCount = stripeCount;
+    if (depth < stripedDepth && stripeCount > 1) {
+      this.stripes = new ReentrantReadWriteLock[stripeCount];
+      for (int i = 0; i < stripeCount; i++) {
+        stripes[i] = new ReentrantReadWriteLock();
+      }
+    } else {
+      this.stripes = null;
+    }
+  }
+
+  boolean isStriped() {
+    return stripes != null;
+  }
+
+  /**
+   * Try to increase the reference count of this node.
+   *
+   * @return true if the reference is added, false if the node has been retired and should not be
+   *     used any more.
+   */
+  boolean tryAddReference() {
+    while (true) {
+      long current = getReference();
+      if (current < 0) {
+        return false;
+      }
+      if (compareAndSetReference(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Mark this node as retired if no tree lock references it.
+   *
+   * @return true if the node is retired by this call.
+   */
+  boolean tryRetire() {
+    return compareAndSetReference(0, RETIRED);
+  }
+
+  boolean isRetired() {
+    return getReference() < 0;
+  }
+
+  @Override
+  void addReference() {
+    if (!tryAddReference()) {
+      throw new IllegalStateException("Tree lock node " + getName() + " has been retired");
+    }
+  }
+
+  @Override
+  void lock(LockType lockType) {
+    if (stripes == null) {
+      super.lock(lockType);
+      return;
+    }
+
+    if (lockType == LockType.READ) {
+      stripes[stripeIndex()].readLock().lock();
+      return;
+    }
+
+    int locked = 0;
+    try {
+      for (ReentrantReadWriteLock stripe : stripes) {
+        stripe.writeLock().lock();
+        locked++;
+      }
+    } catch (Throwable e) {
+      for (int i = locked - 1; i >= 0; i--) {
+        stripes[i].writeLock().unlock();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  void unlock(LockType lockType) {
+    if (stripes == null) {
+      super.unlock(lockType);
+      return;
+    }
+
+    if (lockType == LockType.READ) {
+      stripes[stripeIndex()].readLock().unlock();
+    } else {
+      for (int i = stripes.length - 1; i >= 0; i--) {
+        stripes[i].writeLock().unlock();
+      }
+    }
+
+    decReference();
+  }
+
+  /**
+   * Get the child node with the given name and add a reference to it, creating the child if it
+   * doesn't exist or has been retired.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @param totalNodeCount The counter of all the nodes, increased if a new node is created.
+   * @return The child node with its reference increased.
+   */
+  StripedTreeLockNode acquireChild(String name, AtomicLong totalNodeCount) {
+    while (true) {
+      StripedTreeLockNode child = (StripedTreeLockNode) childMap.get(name);
+      if (child == null) {
+        StripedTreeLockNode newNode =
+            new StripedTreeLockNode(name, depth + 1, stripedDepth, stripeCount);
+        child = (StripedTreeLockNode) childMap.putIfAbsent(name, newNode);
+        if (child == null) {
+          totalNodeCount.incrementAndGet();
+          if (LOG.isTraceEnabled()) {
+            LOG.trace("Create tree lock node '{}' as a child of '{}'", name, getName());
+          }
+          child = newNode;
+        }
+      }
+
+      if (child.tryAddReference()) {
+        return child;
+      }
+
+      // The child has been retired by the lock cleaner, remove it if the cleaner has not done it
+      // yet and try again.
+      removeChild(name, child);
+    }
+  }
+
+  /**
+   * Remove the child node by the given name if it's the given node instance. Nodes are equal if
+   * their names are equal, so {@code Map#remove(Object, Object)} could remove a new node that has
+   * replaced a retired one.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @param child The child node instance to remove.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  void removeChild(String name, TreeLockNode child) {
+    childMap.computeIfPresent(name, (k, v) -> v == child ? null : v);
+  }
+
+  private int stripeIndex() {
+    long id = Thread.currentThread().getId();
+    // Spread the thread id as thread ids are usually allocated sequentially.
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+  }
+}
@@ -124,8 +124,12 @@ public class TreeLockNode {
   /**
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
+   *
+   * <p>Note: This method is not synchronized, the references of a child node are only added in
+   * {@link #getOrCreateChild(String)}, which is guarded by the object lock of the parent node, so
+   * the reference count of a node can't be increased while its parent is locked.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
@@ -133,7 +137,7 @@ public class TreeLockNode {
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
@@ -141,6 +145,17 @@ public class TreeLockNode {
     return referenceCount.get();
   }
 
+  /**
+   * Set the reference count of this node to the new value if it equals to the expected value.
+   *
+   * @param expected The expected reference count.
+   * @param newValue The new reference count.
+   * @return true if the reference count is set.
+   */
+  boolean compareAndSetReference(long expected, long newValue) {
+    return referenceCount.compareAndSet(expected, newValue);
+  }
+
   /**
    * Lock the node with the given lock type. This method should be followed by {@link
    * #unlock(LockType)}.
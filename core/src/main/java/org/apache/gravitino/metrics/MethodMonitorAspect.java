@@ -69,7 +69,10 @@ public class MethodMonitorAspect {
     Meter successMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "success"));
     Meter failureMeter = metricsSource.getMeter(MetricRegistry.name(baseMetricName, "failure"));
 
-    try (Timer.Context ignore = timer.time()) {
+    // The monitored methods access the entity store backend, their time is recorded to the store
+    // layer of the current operation span as well.
+    try (Timer.Context ignore = timer.time();
+        OperationSpan.Scope ignoredScope = OperationSpan.enter(OperationSpan.Layer.STORE)) {
       Object result = pjp.proceed();
       successMeter.mark();
       return result;
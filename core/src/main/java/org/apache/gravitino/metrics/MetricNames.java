@@ -31,6 +31,28 @@ public class MetricNames {
   public static final String SERVER_TOTAL_THREAD_NUM = "http-server.total-thread.num";
   public static final String SERVER_MIN_THREAD_NUM = "http-server.min-thread.num";
   public static final String SERVER_MAX_THREAD_NUM = "http-server.max-thread.num";
+  public static final String EVENT_LISTENER_QUEUE_SIZE = "queue-size";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String EVENT_LISTENER_DISPATCH_LATENCY = "dispatch-latency";
+  public static final String AUDIT_LOG_QUEUE_SIZE = "queue-size";
+  public static final String AUDIT_LOG_DROPPED_LOGS = "dropped-logs";
+  public static final String AUDIT_LOG_WRITE_LATENCY = "write-latency";
+  public static final String AUTHORIZATION_CACHE_HITS = "hits";
+  public static final String AUTHORIZATION_CACHE_MISSES = "misses";
+  public static final String AUTHORIZATION_CACHE_SIZE = "size";
+  public static final String GARBAGE_COLLECTOR_DELETED_ROWS = "deleted-rows";
+  public static final String GARBAGE_COLLECTOR_BACKLOG = "backlog";
+  public static final String GARBAGE_COLLECTOR_PASS_DURATION = "pass-duration";
+  public static final String OPERATION_LATENCY_TOTAL = "total";
+  public static final String OPERATION_LATENCY_CACHE_HITS = "cache-hits";
+  public static final String OPERATION_LATENCY_CACHE_MISSES = "cache-misses";
+  public static final String CREDENTIAL_CACHE_HITS = "hits";
+  public static final String CREDENTIAL_CACHE_MISSES = "misses";
+  public static final String CREDENTIAL_CACHE_PATH_PREFIX_HITS = "path-prefix-hits";
+  public static final String CREDENTIAL_CACHE_SIZE = "size";
+  public static final String CREDENTIAL_MINT_LATENCY = "mint-latency";
+  public static final String CREDENTIAL_REFRESHES = "refreshes";
+  public static final String CREDENTIAL_REFRESH_FAILURES = "refresh-failures";
 
   private MetricNames() {}
 }
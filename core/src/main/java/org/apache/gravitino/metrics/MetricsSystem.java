@@ -206,7 +206,27 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_EVENT_LISTENER_METRIC_PREFIX + ".*.*",
+            MetricsSource.GRAVITINO_EVENT_LISTENER_METRIC_PREFIX + "_${1}",
+            ImmutableMap.of("queue", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX + ".*.*",
+            MetricsSource.GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX + "_${1}",
+            ImmutableMap.of("cache", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME + ".*.*",
+            MetricsSource.GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME + "_${1}",
+            ImmutableMap.of("entity_type", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_OPERATION_LATENCY_METRIC_NAME + ".*.*",
+            MetricsSource.GRAVITINO_OPERATION_LATENCY_METRIC_NAME + "_${1}",
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_CREDENTIAL_CACHE_METRIC_PREFIX + ".*.*.*",
+            MetricsSource.GRAVITINO_CREDENTIAL_CACHE_METRIC_PREFIX + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * A lightweight span recording where the time of a request goes. It is bound to the thread serving
+ * the request, the layers passed by the request, like the authorization, the tree lock and the
+ * entity store, add their time to the span of the current thread, and the span updates a timer for
+ * each layer of the operation when it is closed.
+ *
+ * <p>The time of a layer excludes the time of the layers nested in it, for example, the entity
+ * store accesses of a catalog are added to {@link Layer#STORE} instead of {@link Layer#CATALOG}. So
+ * the total time minus the time of all layers is the time spent elsewhere, like the REST resource
+ * and the dispatchers.
+ *
+ * <p>The layers do nothing if there is no span on the current thread, for example, the background
+ * threads or the operation latency metrics is disabled.
+ */
+public final class OperationSpan implements AutoCloseable {
+
+  /** The layers a request passes through. */
+  public enum Layer {
+    /** Evaluating the authorization expressions. */
+    AUTHORIZATION("authorization"),
+    /** Waiting for the tree locks. */
+    LOCK_WAIT("lock-wait"),
+    /** Calling the catalog within its isolated class loader. */
+    CATALOG("catalog"),
+    /** Accessing the entity store backend. */
+    STORE("store");
+
+    private final String metricName;
+
+    Layer(String metricName) {
+      this.metricName = metricName;
+    }
+
+    /** @return The metric name of the layer. */
+    public String metricName() {
+      return metricName;
+    }
+  }
+
+  private static final Layer[] LAYERS = Layer.values();
+
+  private static final ThreadLocal<OperationSpan> CURRENT = new ThreadLocal<>();
+
+  private static final OperationSpan NOOP = new OperationSpan(null, null);
+
+  private static final Scope NOOP_SCOPE = () -> {};
+
+  private final MetricsSource metricsSource;
+  private final String operation;
+  private final OperationSpan parent;
+  private final long startNanos;
+  private final long[] layerNanos = new long[LAYERS.length];
+  private final boolean[] layerEntered = new boolean[LAYERS.length];
+  private int cacheHits;
+  private int cacheMisses;
+  private Layer activeLayer;
+  private long activeSinceNanos;
+
+  private OperationSpan(MetricsSource metricsSource, String operation) {
+    this(metricsSource, operation, null);
+  }
+
+  private OperationSpan(MetricsSource metricsSource, String operation, OperationSpan parent) {
+    this.metricsSource = metricsSource;
+    this.operation = operation;
+    this.parent = parent;
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Starts a span of the operation on the current thread. The span does nothing if the operation
+   * latency metrics is disabled or there is already a span on the current thread, the time is
+   * recorded to the outer span in the latter case.
+   *
+   * @param operation The operation name, like {@code load-table}.
+   * @return The span, which should be closed on the same thread when the operation is done.
+   */
+  public static OperationSpan start(String operation) {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem == null || CURRENT.get() != null) {
+      return NOOP;
+    }
+
+    MetricsSource metricsSource =
+        metricsSystem.getMetricsSource(MetricsSource.GRAVITINO_OPERATION_LATENCY_METRIC_NAME);
+    if (metricsSource == null) {
+      return NOOP;
+    }
+
+    OperationSpan span = new OperationSpan(metricsSource, operation);
+    CURRENT.set(span);
+    return span;
+  }
+
+  /**
+   * Enters a layer of the span on the current thread, the returned scope should be closed when
+   * leaving the layer.
+   *
+   * @param layer The layer to enter.
+   * @return The scope of the layer.
+   */
+  public static Scope enter(Layer layer) {
+    OperationSpan span = CURRENT.get();
+    if (span == null) {
+      return NOOP_SCOPE;
+    }
+
+    Layer outerLayer = span.activeLayer;
+    span.switchTo(layer);
+    return () -> span.switchTo(outerLayer);
+  }
+
+  /**
+   * Executes the executable in the layer of the span on the current thread.
+   *
+   * @param layer The layer to execute in.
+   * @param executable The executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R time(Layer layer, Executable<R, E> executable) throws E {
+    try (Scope ignored = enter(layer)) {
+      return executable.execute();
+    }
+  }
+
+  /**
+   * Forks the span on the current thread for the work handed over to another thread. The forked
+   * span records the layers of the work by {@link #runIn(Executable)} on that thread, and they are
+   * added to the span on the current thread by {@link #merge()} once the work is done. The span is
+   * not thread safe, so the forked span must be merged on the thread of the span it is forked from.
+   *
+   * <p>The layers of the work running in parallel are all added, so the time of the layers may
+   * exceed the total time of the operation.
+   *
+   * @return The forked span, which does nothing if there is no span on the current thread.
+   */
+  public static OperationSpan fork() {
+    OperationSpan span = CURRENT.get();
+    if (span == null || span.metricsSource == null) {
+      return NOOP;
+    }
+
+    return new OperationSpan(span.metricsSource, span.operation, span);
+  }
+
+  /**
+   * Executes the executable with the forked span as the span of the current thread.
+   *
+   * @param executable The executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public <R, E extends Exception> R runIn(Executable<R, E> executable) throws E {
+    if (parent == null) {
+      return executable.execute();
+    }
+
+    OperationSpan outer = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return executable.execute();
+    } finally {
+      switchTo(null);
+      if (outer == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(outer);
+      }
+    }
+  }
+
+  /** Adds the layers recorded by the forked span to the span it is forked from. */
+  public void merge() {
+    if (parent == null) {
+      return;
+    }
+
+    for (Layer layer : LAYERS) {
+      if (layerEntered[layer.ordinal()]) {
+        parent.layerEntered[layer.ordinal()] = true;
+        parent.layerNanos[layer.ordinal()] += layerNanos[layer.ordinal()];
+      }
+    }
+    parent.cacheHits += cacheHits;
+    parent.cacheMisses += cacheMisses;
+  }
+
+  /** Records an entity cache hit to the span on the current thread. */
+  public static void recordCacheHit() {
+    OperationSpan span = CURRENT.get();
+    if (span != null) {
+      span.cacheHits++;
+    }
+  }
+
+  /** Records an entity cache miss to the span on the current thread. */
+  public static void recordCacheMiss() {
+    OperationSpan span = CURRENT.get();
+    if (span != null) {
+      span.cacheMisses++;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (metricsSource == null || parent != null) {
+      return;
+    }
+
+    CURRENT.remove();
+    switchTo(null);
+    metricsSource
+        .getTimer(MetricRegistry.name(operation, MetricNames.OPERATION_LATENCY_TOTAL))
+        .update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    for (Layer layer : LAYERS) {
+      if (layerEntered[layer.ordinal()]) {
+        metricsSource
+            .getTimer(MetricRegistry.name(operation, layer.metricName()))
+            .update(layerNanos[layer.ordinal()], TimeUnit.NANOSECONDS);
+      }
+    }
+    if (cacheHits > 0) {
+      metricsSource
+          .getCounter(MetricRegistry.name(operation, MetricNames.OPERATION_LATENCY_CACHE_HITS))
+          .inc(cacheHits);
+    }
+    if (cacheMisses > 0) {
+      metricsSource
+          .getCounter(MetricRegistry.name(operation, MetricNames.OPERATION_LATENCY_CACHE_MISSES))
+          .inc(cacheMisses);
+    }
+  }
+
+  private void switchTo(Layer layer) {
+    long now = System.nanoTime();
+    if (activeLayer != null) {
+      layerNanos[activeLayer.ordinal()] += now - activeSinceNanos;
+    }
+    if (layer != null) {
+      layerEntered[layer.ordinal()] = true;
+    }
+    activeLayer = layer;
+    activeSinceNanos = now;
+  }
+
+  /** The scope of a layer, closing it goes back to the outer layer. */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Metrics of the asynchronous audit log writer, such as the queue size and write latency. */
+public class AuditLogMetricsSource extends MetricsSource {
+
+  public AuditLogMetricsSource(Supplier<Integer> queueSize) {
+    super(MetricsSource.GRAVITINO_AUDIT_LOG_METRIC_NAME);
+    registerGauge(MetricNames.AUDIT_LOG_QUEUE_SIZE, (Gauge<Integer>) queueSize::get);
+  }
+}
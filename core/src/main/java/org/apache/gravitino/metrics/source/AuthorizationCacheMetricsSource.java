@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Metrics of an authorization cache, such as the hit and miss counts of the cache. */
+public class AuthorizationCacheMetricsSource extends MetricsSource {
+
+  public AuthorizationCacheMetricsSource(String cacheName, Cache<?, ?> cache) {
+    super(String.join(".", MetricsSource.GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX, cacheName));
+    registerGauge(
+        MetricNames.AUTHORIZATION_CACHE_HITS, (Gauge<Long>) () -> cache.stats().hitCount());
+    registerGauge(
+        MetricNames.AUTHORIZATION_CACHE_MISSES, (Gauge<Long>) () -> cache.stats().missCount());
+    registerGauge(MetricNames.AUTHORIZATION_CACHE_SIZE, (Gauge<Long>) cache::estimatedSize);
+  }
+}
@@ -43,6 +43,16 @@ public abstract class MetricsSource {
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String GRAVITINO_RELATIONAL_STORE_METRIC_NAME = "gravitino-relational-store";
   public static final String GRAVITINO_CATALOG_METRIC_PREFIX = "gravitino-catalog";
+  public static final String GRAVITINO_EVENT_LISTENER_METRIC_PREFIX = "gravitino-event-listener";
+  public static final String GRAVITINO_AUDIT_LOG_METRIC_NAME = "gravitino-audit-log";
+  public static final String GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX =
+      "gravitino-authorization-cache";
+  public static final String GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME =
+      "gravitino-garbage-collector";
+  public static final String GRAVITINO_OPERATION_LATENCY_METRIC_NAME =
+      "gravitino-operation-latency";
+  public static final String GRAVITINO_CREDENTIAL_CACHE_METRIC_PREFIX =
+      "gravitino-credential-cache";
   public static final String JVM_METRIC_NAME = "jvm";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
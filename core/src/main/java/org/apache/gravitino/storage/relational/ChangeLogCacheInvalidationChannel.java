@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS;
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_RETENTION_MS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.CacheInvalidationChannel;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogMetaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CacheInvalidationChannel} backed by the {@code entity_change_log} table of the
+ * relational entity store. Every change is appended to the table, and every server polls the
+ * entries appended by the other servers since its last poll and invalidates its local cache
+ * accordingly.
+ *
+ * <p>The auto increment id of the table is the sequence of the changes. Since an id is allocated
+ * before the insertion commits, an entry with a smaller id may become visible after an entry with a
+ * larger one. The ids skipped below the highest id seen are remembered as gaps and read again by
+ * every poll until their entries show up, or until they are older than the retention of the change
+ * log, since an id whose insertion rolled back never shows up.
+ */
+public class ChangeLogCacheInvalidationChannel implements CacheInvalidationChannel {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(ChangeLogCacheInvalidationChannel.class);
+
+  private static final int POLL_BATCH_SIZE = 1000;
+  private static final int MAX_PENDING_GAPS = 10_000;
+  private static final int CLEAN_BATCH_SIZE = 1000;
+  private static final long MIN_CLEAN_INTERVAL_MS = 60_000L;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  // The ids below the highest id seen whose entries are not visible yet, mapped to the time when
+  // they were found missing.
+  private final Map<Long, Long> pendingGaps = new LinkedHashMap<>();
+
+  private EntityCache cache;
+  private long retentionMs;
+  private long highestSeenId;
+  private long lastSuccessfulPollTime;
+
+  private final ScheduledExecutorService scheduler =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "EntityCache-Invalidation-Poller");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  @Override
+  public void initialize(Config config, EntityCache cache) {
+    this.cache = cache;
+    this.retentionMs = config.get(CACHE_INVALIDATION_RETENTION_MS);
+    // The local cache is empty at startup, so the earlier changes can be ignored.
+    this.highestSeenId = EntityChangeLogMetaService.getInstance().getMaxChangeLogId();
+    this.lastSuccessfulPollTime = System.currentTimeMillis();
+
+    long pollIntervalMs = config.get(CACHE_INVALIDATION_POLL_INTERVAL_MS);
+    scheduler.scheduleWithFixedDelay(
+        this::pollAndInvalidate, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+
+    long cleanIntervalMs = Math.max(retentionMs / 10, MIN_CLEAN_INTERVAL_MS);
+    scheduler.scheduleWithFixedDelay(
+        this::cleanLegacyChangeLogs, cleanIntervalMs, cleanIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void publish(NameIdentifier ident, Entity.EntityType type) {
+    publishChangeLog(ident, type, null);
+  }
+
+  @Override
+  public void publish(
+      NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
+    publishChangeLog(ident, type, relType);
+  }
+
+  private void publishChangeLog(
+      NameIdentifier ident,
+      Entity.EntityType type,
+      @Nullable SupportsRelationOperations.Type relType) {
+    try {
+      EntityChangeLogMetaService.getInstance().insertChangeLog(ident, type, relType, nodeId);
+    } catch (Exception e) {
+      // The change itself has been persisted, other servers will see it once their cache entry
+      // expires.
+      LOG.warn("Failed to publish the cache invalidation of {} {}", type, ident, e);
+    }
+  }
+
+  @VisibleForTesting
+  void pollAndInvalidate() {
+    long now = System.currentTimeMillis();
+    if (now - lastSuccessfulPollTime > retentionMs) {
+      // The change log may have been cleaned before being polled, so the whole cache is suspect.
+      LOG.warn(
+          "Failed to poll the entity change log for {} ms, clear the whole entity cache",
+          now - lastSuccessfulPollTime);
+      cache.clear();
+      CommonMetaService.getInstance().invalidateAllEntityIds();
+    }
+
+    try {
+      pollPendingGaps(now);
+
+      List<EntityChangeLogPO> changeLogs;
+      do {
+        changeLogs =
+            EntityChangeLogMetaService.getInstance()
+                .listChangeLogsAfterId(highestSeenId, POLL_BATCH_SIZE);
+        for (EntityChangeLogPO changeLog : changeLogs) {
+          trackGaps(changeLog.getId(), now);
+          highestSeenId = changeLog.getId();
+          applyChangeLog(changeLog);
+        }
+      } while (changeLogs.size() == POLL_BATCH_SIZE);
+
+      lastSuccessfulPollTime = now;
+    } catch (Exception e) {
+      LOG.error("Failed to poll the entity change log", e);
+    }
+  }
+
+  private void pollPendingGaps(long now) {
+    // The entries older than the retention may have been cleaned, stop waiting for them.
+    pendingGaps.values().removeIf(foundAt -> now - foundAt > retentionMs);
+    if (pendingGaps.isEmpty()) {
+      return;
+    }
+
+    for (List<Long> ids : Lists.partition(new ArrayList<>(pendingGaps.keySet()), POLL_BATCH_SIZE)) {
+      for (EntityChangeLogPO changeLog :
+          EntityChangeLogMetaService.getInstance().listChangeLogsByIds(ids)) {
+        pendingGaps.remove(changeLog.getId());
+        applyChangeLog(changeLog);
+      }
+    }
+  }
+
+  private void trackGaps(long changeLogId, long now) {
+    long gapCount = changeLogId - highestSeenId - 1;
+    if (gapCount <= 0) {
+      return;
+    }
+
+    if (pendingGaps.size() + gapCount > MAX_PENDING_GAPS) {
+      // Too many ids to wait for, so any cache entry may have missed its invalidation.
+      LOG.warn("Too many entity change log ids are not visible yet, clear the whole entity cache");
+      cache.clear();
+      CommonMetaService.getInstance().invalidateAllEntityIds();
+      pendingGaps.clear();
+      return;
+    }
+
+    for (long id = highestSeenId + 1; id < changeLogId; id++) {
+      pendingGaps.put(id, now);
+    }
+  }
+
+  private void applyChangeLog(EntityChangeLogPO changeLog) {
+    if (nodeId.equals(changeLog.getSourceNode())) {
+      return;
+    }
+
+    try {
+      NameIdentifier ident =
+          NameIdentifier.of(
+              JsonUtils.anyFieldMapper()
+                  .readValue(changeLog.getEntityNameLevels(), String[].class));
+      Entity.EntityType type = Entity.EntityType.valueOf(changeLog.getEntityType());
+      if (changeLog.getRelationType() != null) {
+        cache.invalidate(
+            ident, type, SupportsRelationOperations.Type.valueOf(changeLog.getRelationType()));
+        return;
+      }
+
+      CacheInvalidationChannel.applyInvalidation(cache, ident, type);
+      CommonMetaService.getInstance().invalidateEntityIds(ident);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      LOG.warn("Skip the malformed entity change log {}", changeLog.getId(), e);
+    }
+  }
+
+  private void cleanLegacyChangeLogs() {
+    try {
+      long legacyTimeline = System.currentTimeMillis() - retentionMs;
+      int deletedCount;
+      do {
+        deletedCount =
+            EntityChangeLogMetaService.getInstance()
+                .deleteChangeLogsByLegacyTimeline(legacyTimeline, CLEAN_BATCH_SIZE);
+      } while (deletedCount >= CLEAN_BATCH_SIZE);
+    } catch (Exception e) {
+      LOG.error("Failed to clean the legacy entity change logs", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      scheduler.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
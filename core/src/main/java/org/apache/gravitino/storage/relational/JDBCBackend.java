@@ -19,7 +19,6 @@
 
 package org.apache.gravitino.storage.relational;
 
-import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 
 import com.google.common.base.Preconditions;
@@ -60,6 +59,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.JobMetaService;
@@ -104,6 +104,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().invalidateAllEntityIds();
   }
 
   @Override
@@ -153,6 +154,23 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    switch (entityType) {
+      case FILESET:
+        return (List<E>)
+            FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, startAfter, limit);
+      case MODEL:
+        return (List<E>)
+            ModelMetaService.getInstance().listModelsByNamespace(namespace, startAfter, limit);
+      default:
+        throw new UnsupportedEntityTypeException(
+            "Unsupported entity type: %s for paged list operation", entityType);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
@@ -285,6 +303,29 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    switch (entityType) {
+      case ROLE:
+        return (List<E>) RoleMetaService.getInstance().batchGetRolesByIdentifiers(idents);
+      case TAG:
+        return (List<E>) TagMetaService.getInstance().batchGetTagsByIdentifiers(idents);
+      case POLICY:
+        return (List<E>) PolicyMetaService.getInstance().batchGetPoliciesByIdentifiers(idents);
+      default:
+        List<E> entities = Lists.newArrayListWithCapacity(idents.size());
+        for (NameIdentifier ident : idents) {
+          try {
+            entities.add(get(ident, entityType));
+          } catch (NoSuchEntityException e) {
+            // Skip the entity which doesn't exist.
+          }
+        }
+        return entities;
+    }
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -326,75 +367,56 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
       throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
       case USER:
-        return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return UserMetaService.getInstance().deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, limit);
       case ROLE:
-        return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return RoleMetaService.getInstance().deleteRoleMetasByLegacyTimeline(legacyTimeline, limit);
       case TAG:
-        return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return TagMetaService.getInstance().deleteTagMetasByLegacyTimeline(legacyTimeline, limit);
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, limit);
       case MODEL:
         return ModelMetaService.getInstance()
-            .deleteModelMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelMetasByLegacyTimeline(legacyTimeline, limit);
       case MODEL_VERSION:
         return ModelVersionMetaService.getInstance()
-            .deleteModelVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE_STATISTIC:
         return StatisticMetaService.getInstance()
-            .deleteStatisticsByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteStatisticsByLegacyTimeline(legacyTimeline, limit);
       case JOB_TEMPLATE:
         return JobTemplateMetaService.getInstance()
-            .deleteJobTemplatesByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteJobTemplatesByLegacyTimeline(legacyTimeline, limit);
       case JOB:
-        return JobMetaService.getInstance()
-            .deleteJobsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return JobMetaService.getInstance().deleteJobsByLegacyTimeline(legacyTimeline, limit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -406,8 +428,8 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
-      throws IOException {
+  public int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
     switch (entityType) {
       case METALAKE:
       case CATALOG:
@@ -430,13 +452,11 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
 
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyVersionsByRetentionCount(versionRetentionCount, limit);
 
       default:
         throw new IllegalArgumentException(
@@ -446,6 +466,7 @@ public class JDBCBackend implements RelationalBackend {
 
   @Override
   public void close() throws IOException {
+    CommonMetaService.getInstance().invalidateAllEntityIds();
     SqlSessionFactoryHelper.getInstance().close();
     SQLExceptionConverterFactory.close();
 
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
@@ -62,6 +63,24 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists a page of the entities associated with the given parent namespace and entityType in the
+   * order of their names.
+   *
+   * @param <E> The entity type.
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param startAfter The name to start listing after, or null to start from the first entity.
+   * @param limit The maximum number of entities to return.
+   * @return The page of entities whose names are greater than {@code startAfter}.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws NoSuchEntityException, IOException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -113,6 +132,19 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type.
+   *
+   * @param <E> The type of the entities returned.
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The existing entities associated with the identifiers, the identifiers which don't
+   *     exist are skipped.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException;
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -157,7 +189,24 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
+  default int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+      throws IOException {
+    return hardDeleteLegacyData(
+        entityType, legacyTimeline, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Permanently deletes at most {@code limit} rows of each table of the legacy data that has been
+   * marked as deleted before the given legacy timeline.
+   *
+   * @param entityType The type of the entity.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @param limit The maximum count of the rows deleted from each table.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException;
 
   /**
    * Soft deletes the old version data that is older than or equal to the given version retention
@@ -168,6 +217,22 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  default int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+      throws IOException {
+    return deleteOldVersionData(
+        entityType, versionRetentionCount, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Soft deletes at most {@code limit} rows of the old version data that is older than or equal to
+   * the given version retention count.
+   *
+   * @param entityType The type of the entity.
+   * @param versionRetentionCount The count of versions to retain.
+   * @param limit The maximum count of the rows deleted.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount, int limit)
       throws IOException;
 }
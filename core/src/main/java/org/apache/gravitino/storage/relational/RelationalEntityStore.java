@@ -20,11 +20,17 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -36,10 +42,14 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.cache.CacheFactory;
+import org.apache.gravitino.cache.CacheInvalidationChannel;
 import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.EntityCacheRelationKey;
 import org.apache.gravitino.cache.NoOpsCache;
+import org.apache.gravitino.cache.NoOpsCacheInvalidationChannel;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.metrics.OperationSpan;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,16 +67,22 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityCache cache;
+  private CacheInvalidationChannel invalidationChannel;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
+    CommonMetaService.getInstance().initialize(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
     this.cache =
         config.get(Configs.CACHE_ENABLED)
             ? CacheFactory.getEntityCache(config)
             : new NoOpsCache(config);
+    this.invalidationChannel =
+        config.get(Configs.CACHE_ENABLED)
+            ? CacheFactory.getInvalidationChannel(config, cache)
+            : new NoOpsCacheInvalidationChannel();
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -100,6 +116,18 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     return backend.list(namespace, entityType, allFields);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String startAfter,
+      int limit)
+      throws IOException {
+    Preconditions.checkArgument(limit > 0, "The limit must be positive, but got %s", limit);
+    return backend.list(namespace, entityType, startAfter, limit);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     boolean existsInCache = cache.contains(ident, entityType);
@@ -111,6 +139,11 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
     cache.put(e);
+    // Other servers may only hold a stale entry if the entity is overwritten or its insertion
+    // changes a related entry, see EntityCache#invalidateOnKeyChange.
+    if (overwritten || e.type() == Entity.EntityType.MODEL_VERSION) {
+      invalidationChannel.publish(e.nameIdentifier(), e.type());
+    }
   }
 
   @Override
@@ -118,7 +151,9 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    E updatedEntity = backend.update(ident, entityType, updater);
+    invalidationChannel.publish(ident, entityType);
+    return updatedEntity;
   }
 
   @Override
@@ -130,21 +165,61 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
         () -> {
           Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
           if (entityFromCache.isPresent()) {
+            OperationSpan.recordCacheHit();
             return entityFromCache.get();
           }
 
+          OperationSpan.recordCacheMiss();
           E entity = backend.get(ident, entityType);
           cache.put(entity);
           return entity;
         });
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    Map<NameIdentifier, E> entities = Maps.newHashMapWithExpectedSize(idents.size());
+    List<NameIdentifier> identsToLoad = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
+      if (entityFromCache.isPresent()) {
+        OperationSpan.recordCacheHit();
+        entities.put(ident, entityFromCache.get());
+      } else {
+        OperationSpan.recordCacheMiss();
+        identsToLoad.add(ident);
+      }
+    }
+
+    if (!identsToLoad.isEmpty()) {
+      List<EntityCacheRelationKey> keys =
+          identsToLoad.stream()
+              .map(ident -> EntityCacheRelationKey.of(ident, entityType))
+              .collect(Collectors.toList());
+      cache.withCacheLocks(
+          keys,
+          () -> {
+            List<E> loadedEntities = backend.batchGet(identsToLoad, entityType);
+            for (E entity : loadedEntities) {
+              cache.put(entity);
+              entities.put(entity.nameIdentifier(), entity);
+            }
+            return null;
+          });
+    }
+
+    return idents.stream().map(entities::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
     try {
       cache.invalidate(ident, entityType);
-      return backend.delete(ident, entityType, cascade);
+      boolean deleted = backend.delete(ident, entityType, cascade);
+      invalidationChannel.publish(ident, entityType);
+      return deleted;
     } catch (NoSuchEntityException e) {
       return false;
     }
@@ -157,6 +232,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
 
   @Override
   public void close() throws IOException {
+    invalidationChannel.close();
     cache.clear();
     garbageCollector.close();
     backend.close();
@@ -176,9 +252,11 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
         () -> {
           Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
           if (entities.isPresent()) {
+            OperationSpan.recordCacheHit();
             return entities.get();
           }
 
+          OperationSpan.recordCacheMiss();
           // Use allFields=true to cache complete entities
           List<E> backendEntities =
               backend.listEntitiesByRelation(relType, nameIdentifier, identType, true);
@@ -211,6 +289,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       throws IOException {
     cache.invalidate(srcIdentifier, srcType, relType);
     backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+    invalidationChannel.publish(srcIdentifier, srcType, relType);
   }
 
   @Override
@@ -222,20 +301,32 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       NameIdentifier[] destEntitiesToRemove)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(srcEntityIdent, srcEntityType, relType);
-    return backend.updateEntityRelations(
-        relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+    List<E> updatedEntities =
+        backend.updateEntityRelations(
+            relType, srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+    invalidationChannel.publish(srcEntityIdent, srcEntityType, relType);
+    return updatedEntities;
   }
 
   @Override
   public int batchDelete(
       List<Pair<NameIdentifier, Entity.EntityType>> entitiesToDelete, boolean cascade)
       throws IOException {
-    return backend.batchDelete(entitiesToDelete, cascade);
+    entitiesToDelete.forEach(entity -> cache.invalidate(entity.getLeft(), entity.getRight()));
+    int deletedCount = backend.batchDelete(entitiesToDelete, cascade);
+    entitiesToDelete.forEach(
+        entity -> invalidationChannel.publish(entity.getLeft(), entity.getRight()));
+    return deletedCount;
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
+    entities.forEach(e -> cache.invalidate(e.nameIdentifier(), e.type()));
     backend.batchPut(entities, overwritten);
+    // Same as put, other servers may only hold a stale entry if the entities are overwritten.
+    if (overwritten) {
+      entities.forEach(e -> invalidationChannel.publish(e.nameIdentifier(), e.type()));
+    }
   }
 }
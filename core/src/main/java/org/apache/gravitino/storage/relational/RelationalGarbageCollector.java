@@ -19,33 +19,75 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.GarbageCollectorMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Physically deletes the legacy data and softly deletes the old version data of the relational
+ * entity store. The entity types are collected concurrently. The count of rows deleted by one
+ * statement adapts to the observed deletion latency and the deletion rate is limited, so that a
+ * large backlog doesn't contend with the foreground writes.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  @VisibleForTesting static final int MIN_DELETION_LIMIT = 10;
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final int maxDeletionLimit;
+  private final long targetDeletionLatencyMs;
+  // Null if the deletion rate is not limited.
+  private final RateLimiter rateLimiter;
+
+  private final GarbageCollectorMetricsSource metricsSource;
+  private final Timer passDurationTimer;
+  private final Map<Entity.EntityType, Counter> deletedRowsCounters =
+      new EnumMap<>(Entity.EntityType.class);
+  // The count of entity types which are not collected yet in the current pass.
+  private final AtomicInteger backlog = new AtomicInteger(0);
+
+  private volatile boolean closed = false;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
       new ScheduledThreadPoolExecutor(
-          2,
+          1,
           r -> {
             Thread t = new Thread(r, "RelationalBackend-Garbage-Collector");
             t.setDaemon(true);
@@ -53,13 +95,42 @@ public final class RelationalGarbageCollector implements Closeable {
           },
           new ThreadPoolExecutor.AbortPolicy());
 
+  private final ExecutorService garbageCollectorWorkers;
+
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    maxDeletionLimit = config.get(GARBAGE_COLLECTOR_MAX_DELETION_LIMIT);
+    targetDeletionLatencyMs = config.get(GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS);
+    long maxRowsPerSecond = config.get(GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND);
+    rateLimiter = maxRowsPerSecond > 0 ? RateLimiter.create(maxRowsPerSecond) : null;
+
+    garbageCollectorWorkers =
+        Executors.newFixedThreadPool(
+            config.get(GARBAGE_COLLECTOR_PARALLELISM),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("RelationalBackend-Garbage-Collector-Worker-%d")
+                .build());
+    metricsSource = new GarbageCollectorMetricsSource(backlog::get);
+    passDurationTimer = metricsSource.getTimer(MetricNames.GARBAGE_COLLECTOR_PASS_DURATION);
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      deletedRowsCounters.put(
+          entityType,
+          metricsSource.getCounter(
+              entityType.name().toLowerCase(Locale.ROOT)
+                  + "."
+                  + MetricNames.GARBAGE_COLLECTOR_DELETED_ROWS));
+    }
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     long dateTimelineMinute = storeDeleteAfterTimeMillis / 1000 / 60;
 
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
@@ -73,39 +144,25 @@ public final class RelationalGarbageCollector implements Closeable {
     long threadId = Thread.currentThread().getId();
     LOG.debug("Thread {} start to collect garbage...", threadId);
 
-    try {
-      LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
+    try (Timer.Context ignored = passDurationTimer.time()) {
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
-      }
-
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
+      Entity.EntityType[] entityTypes = Entity.EntityType.values();
+      backlog.set(entityTypes.length);
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[entityTypes.length];
+      for (int i = 0; i < entityTypes.length; i++) {
+        Entity.EntityType entityType = entityTypes[i];
+        futures[i] =
+            CompletableFuture.runAsync(
+                () -> {
+                  try {
+                    collectAndClean(entityType, legacyTimeline);
+                  } finally {
+                    backlog.decrementAndGet();
+                  }
+                },
+                garbageCollectorWorkers);
       }
+      CompletableFuture.allOf(futures).join();
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -113,16 +170,107 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  private void collectAndClean(Entity.EntityType entityType, long legacyTimeline) {
+    Counter deletedRows = deletedRowsCounters.get(entityType);
+
+    LOG.debug(
+        "Try to physically delete {} legacy data that has been marked deleted before {}",
+        entityType,
+        legacyTimeline);
+    try {
+      deleteInBatches(
+          limit -> backend.hardDeleteLegacyData(entityType, legacyTimeline, limit), deletedRows);
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
+    }
+
+    LOG.debug(
+        "Try to softly delete {} old version data that has been over retention count {}",
+        entityType,
+        versionRetentionCount);
+    try {
+      deleteInBatches(
+          limit -> backend.deleteOldVersionData(entityType, versionRetentionCount, limit),
+          deletedRows);
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
+    }
+  }
+
+  /**
+   * Runs the deletion until nothing is deleted. The deletion limit grows while the deletions are
+   * fast and full, and shrinks when they are slower than the target latency. A slow deletion also
+   * pauses the collector for the time it exceeds the target, leaving room for foreground writes.
+   */
+  @VisibleForTesting
+  long deleteInBatches(Deletion deletion, Counter deletedRows) throws IOException {
+    int limit = GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+    long totalDeleted = 0;
+    while (!closed) {
+      long startNanos = System.nanoTime();
+      int deleted = deletion.delete(limit);
+      long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      if (deleted <= 0) {
+        break;
+      }
+
+      totalDeleted += deleted;
+      deletedRows.inc(deleted);
+      limit = nextDeletionLimit(limit, deleted, latencyMs);
+      try {
+        if (latencyMs > targetDeletionLatencyMs) {
+          TimeUnit.MILLISECONDS.sleep(latencyMs - targetDeletionLatencyMs);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (rateLimiter != null) {
+        rateLimiter.acquire(deleted);
+      }
+    }
+    return totalDeleted;
+  }
+
+  @VisibleForTesting
+  int nextDeletionLimit(int limit, int deleted, long latencyMs) {
+    if (latencyMs > targetDeletionLatencyMs) {
+      return Math.max(MIN_DELETION_LIMIT, limit / 2);
+    }
+    if (deleted >= limit && latencyMs <= targetDeletionLatencyMs / 2) {
+      return (int) Math.min(maxDeletionLimit, 2L * limit);
+    }
+    return limit;
+  }
+
   @Override
   public void close() throws IOException {
-    this.garbageCollectorPool.shutdown();
+    closed = true;
+    shutdown(garbageCollectorPool);
+    shutdown(garbageCollectorWorkers);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private static void shutdown(ExecutorService executor) {
+    executor.shutdown();
     try {
-      if (!this.garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS)) {
-        this.garbageCollectorPool.shutdownNow();
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
       }
     } catch (InterruptedException ex) {
-      this.garbageCollectorPool.shutdownNow();
+      executor.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
+
+  /** A deletion statement which deletes at most the given count of rows. */
+  @FunctionalInterface
+  @VisibleForTesting
+  interface Deletion {
+    int delete(int limit) throws IOException;
+  }
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for the entity change log operation SQLs. The change log is an append-only table
+ * whose auto increment id serves as the sequence of the changes, it is polled by every Gravitino
+ * server to invalidate its local entity cache.
+ */
+public interface EntityChangeLogMapper {
+  String TABLE_NAME = "entity_change_log";
+
+  @InsertProvider(type = EntityChangeLogSQLProviderFactory.class, method = "insertChangeLog")
+  void insertChangeLog(@Param("changeLog") EntityChangeLogPO changeLogPO);
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "listChangeLogsAfterId")
+  List<EntityChangeLogPO> listChangeLogsAfterId(
+      @Param("changeLogId") Long changeLogId, @Param("limit") int limit);
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "listChangeLogsByIds")
+  List<EntityChangeLogPO> listChangeLogsByIds(@Param("changeLogIds") List<Long> changeLogIds);
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "selectMaxChangeLogId")
+  Long selectMaxChangeLogId();
+
+  @DeleteProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "deleteChangeLogsByLegacyTimeline")
+  Integer deleteChangeLogsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
@@ -63,6 +63,13 @@ public class ModelMetaSQLProviderFactory {
     return getProvider().listModelPOsBySchemaId(schemaId);
   }
 
+  public static String listModelPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listModelPOsBySchemaIdAfterName(schemaId, startAfter, limit);
+  }
+
   public static String listModelPOsByModelIds(@Param("modelIds") List<Long> modelIds) {
     return getProvider().listModelPOsByModelIds(modelIds);
   }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper.TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogBaseSQLProvider {
+
+  public String insertChangeLog(@Param("changeLog") EntityChangeLogPO changeLogPO) {
+    return "INSERT INTO "
+        + TABLE_NAME
+        + " (entity_type, entity_name_levels, relation_type, source_node, created_at)"
+        + " VALUES (#{changeLog.entityType}, #{changeLog.entityNameLevels},"
+        + " #{changeLog.relationType}, #{changeLog.sourceNode}, #{changeLog.createdAt})";
+  }
+
+  public String listChangeLogsAfterId(
+      @Param("changeLogId") Long changeLogId, @Param("limit") int limit) {
+    return "SELECT id, entity_type AS entityType, entity_name_levels AS entityNameLevels,"
+        + " relation_type AS relationType, source_node AS sourceNode, created_at AS createdAt FROM "
+        + TABLE_NAME
+        + " WHERE id > #{changeLogId} ORDER BY id LIMIT #{limit}";
+  }
+
+  public String listChangeLogsByIds(@Param("changeLogIds") List<Long> changeLogIds) {
+    return "<script>"
+        + "SELECT id, entity_type AS entityType, entity_name_levels AS entityNameLevels,"
+        + " relation_type AS relationType, source_node AS sourceNode, created_at AS createdAt FROM "
+        + TABLE_NAME
+        + " WHERE id IN ("
+        + "<foreach collection='changeLogIds' item='changeLogId' separator=','>"
+        + "#{changeLogId}"
+        + "</foreach>"
+        + ") ORDER BY id"
+        + "</script>";
+  }
+
+  public String selectMaxChangeLogId() {
+    return "SELECT COALESCE(MAX(id), 0) FROM " + TABLE_NAME;
+  }
+
+  public String deleteChangeLogsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE created_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
@@ -43,6 +43,31 @@ public class FilesetMetaBaseSQLProvider {
         + " WHERE fm.schema_id = #{schemaId} AND fm.deleted_at = 0 AND vi.deleted_at = 0";
   }
 
+  public String listFilesetPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    // A fileset may have several version rows, one for each storage location, so the page is cut
+    // on the fileset meta table before joining the version rows.
+    return "<script>"
+        + "SELECT fm.fileset_id, fm.fileset_name, fm.metalake_id, fm.catalog_id, fm.schema_id,"
+        + " fm.type, fm.audit_info, fm.current_version, fm.last_version, fm.deleted_at,"
+        + " vi.id, vi.metalake_id as version_metalake_id, vi.catalog_id as version_catalog_id,"
+        + " vi.schema_id as version_schema_id, vi.fileset_id as version_fileset_id,"
+        + " vi.version, vi.fileset_comment, vi.properties, vi.storage_location_name, vi.storage_location,"
+        + " vi.deleted_at as version_deleted_at"
+        + " FROM (SELECT fileset_id, fileset_name, metalake_id, catalog_id, schema_id, type,"
+        + " audit_info, current_version, last_version, deleted_at FROM "
+        + META_TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0"
+        + "<if test='startAfter != null'> AND fileset_name &gt; #{startAfter}</if>"
+        + " ORDER BY fileset_name LIMIT #{limit}) fm INNER JOIN "
+        + VERSION_TABLE_NAME
+        + " vi ON fm.fileset_id = vi.fileset_id AND fm.current_version = vi.version"
+        + " WHERE vi.deleted_at = 0 ORDER BY fm.fileset_name"
+        + "</script>";
+  }
+
   public String selectFilesetIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("filesetName") String name) {
     return "SELECT fileset_id as filesetId FROM "
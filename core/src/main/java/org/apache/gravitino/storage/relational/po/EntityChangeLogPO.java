@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of an entry of the entity change log. */
+@Getter
+public class EntityChangeLogPO {
+
+  private Long id;
+  private String entityType;
+  private String entityNameLevels;
+  private String relationType;
+  private String sourceNode;
+  private Long createdAt;
+
+  private EntityChangeLogPO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final EntityChangeLogPO changeLogPO;
+
+    private Builder() {
+      this.changeLogPO = new EntityChangeLogPO();
+    }
+
+    public Builder withEntityType(String entityType) {
+      changeLogPO.entityType = entityType;
+      return this;
+    }
+
+    public Builder withEntityNameLevels(String entityNameLevels) {
+      changeLogPO.entityNameLevels = entityNameLevels;
+      return this;
+    }
+
+    public Builder withRelationType(String relationType) {
+      changeLogPO.relationType = relationType;
+      return this;
+    }
+
+    public Builder withSourceNode(String sourceNode) {
+      changeLogPO.sourceNode = sourceNode;
+      return this;
+    }
+
+    public Builder withCreatedAt(Long createdAt) {
+      changeLogPO.createdAt = createdAt;
+      return this;
+    }
+
+    public EntityChangeLogPO build() {
+      validate();
+      return changeLogPO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.entityType), "Entity type is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.entityNameLevels), "Entity name levels are required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.sourceNode), "Source node is required");
+      Preconditions.checkArgument(changeLogPO.createdAt != null, "Created at is required");
+    }
+  }
+}
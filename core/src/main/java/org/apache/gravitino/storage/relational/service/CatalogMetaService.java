@@ -221,6 +221,8 @@ public class CatalogMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
+
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -343,6 +345,7 @@ public class CatalogMetaService {
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     return true;
   }
 
@@ -21,8 +21,19 @@ package org.apache.gravitino.storage.relational.service;
 
 import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.metrics.Monitored;
@@ -33,74 +44,123 @@ import org.apache.gravitino.storage.relational.helper.SchemaIds;
 public class CommonMetaService {
   private static final CommonMetaService INSTANCE = new CommonMetaService();
 
+  // Caches the metalake, catalog and schema ids resolved for a namespace, so the hot paths which
+  // resolve the parent of a table, fileset, topic or model don't query the store every time. It is
+  // null if the entity cache is disabled.
+  @Nullable private volatile Cache<Namespace, Long[]> entityIdsCache;
+
+  // Incremented by every invalidation, so a load racing with an invalidation doesn't cache the ids
+  // it read before the invalidation.
+  private final AtomicLong invalidationVersion = new AtomicLong();
+
   public static CommonMetaService getInstance() {
     return INSTANCE;
   }
 
   private CommonMetaService() {}
 
+  /**
+   * Initializes the entity ids cache with the entity cache configurations. The ids are cached only
+   * if the entity cache is enabled, and the cached ids of the entities changed by other servers are
+   * invalidated by the cache invalidation channel like the entity cache.
+   *
+   * @param config The configuration.
+   */
+  public void initialize(Config config) {
+    this.entityIdsCache =
+        config.get(Configs.CACHE_ENABLED)
+            ? Caffeine.newBuilder()
+                .maximumSize(config.get(Configs.CACHE_MAX_ENTRIES))
+                .expireAfterWrite(config.get(Configs.CACHE_EXPIRATION_TIME), TimeUnit.MILLISECONDS)
+                .build()
+            : null;
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getParentEntityIdByNamespace")
   public Long getParentEntityIdByNamespace(Namespace namespace) {
-    Preconditions.checkArgument(
-        !namespace.isEmpty() && namespace.levels().length <= 3,
-        "Namespace should not be empty and length should be less than or equal to 3.");
-
-    int length = namespace.levels().length;
-    Long parentEntityId;
-    switch (length) {
-      case 1:
-        // Parent is a metalake
-        parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.METALAKE.name().toLowerCase(),
-              namespace);
-        }
-
-        return parentEntityId;
-      case 2:
-        // Parent is a catalog
-        CatalogIds catalogIds =
-            CatalogMetaService.getInstance()
-                .getCatalogIdByMetalakeAndCatalogName(namespace.level(0), namespace.level(1));
-        parentEntityId = catalogIds == null ? null : catalogIds.getCatalogId();
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.CATALOG.name().toLowerCase(),
-              namespace);
-        }
-
-        return parentEntityId;
-      case 3:
-        // Parent is a schema
-        SchemaIds schemaIds =
-            SchemaMetaService.getInstance()
-                .getSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
-                    namespace.level(0), namespace.level(1), namespace.level(2));
-        parentEntityId = schemaIds == null ? null : schemaIds.getSchemaId();
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.SCHEMA.name().toLowerCase(),
-              namespace);
-        }
-        return parentEntityId;
-      default:
-        throw new IllegalArgumentException("Namespace length should be less than or equal to 3.");
-    }
+    Long[] parentEntityIds = getCachedParentEntityIds(namespace);
+    return parentEntityIds[parentEntityIds.length - 1];
   }
 
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getParentEntityIdsByNamespace")
   public Long[] getParentEntityIdsByNamespace(Namespace namespace) {
+    return getCachedParentEntityIds(namespace).clone();
+  }
+
+  /**
+   * Invalidates the cached entity ids of the given metalake, catalog or schema and all the
+   * namespaces under it. It must be called once the entity is renamed or dropped.
+   *
+   * @param ident The identifier of the renamed or dropped entity.
+   */
+  public void invalidateEntityIds(NameIdentifier ident) {
+    String[] levels = ArrayUtils.add(ident.namespace().levels(), ident.name());
+    Cache<Namespace, Long[]> cache = entityIdsCache;
+    if (levels.length > 3 || cache == null) {
+      return;
+    }
+
+    invalidationVersion.incrementAndGet();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace ->
+                namespace.length() >= levels.length
+                    && Arrays.equals(
+                        namespace.levels(), 0, levels.length, levels, 0, levels.length));
+  }
+
+  /** Invalidates all the cached entity ids. */
+  public void invalidateAllEntityIds() {
+    Cache<Namespace, Long[]> cache = entityIdsCache;
+    if (cache != null) {
+      invalidationVersion.incrementAndGet();
+      cache.invalidateAll();
+    }
+  }
+
+  @VisibleForTesting
+  long cachedEntityIdsSize() {
+    Cache<Namespace, Long[]> cache = entityIdsCache;
+    if (cache == null) {
+      return 0;
+    }
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private Long[] getCachedParentEntityIds(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
+    Cache<Namespace, Long[]> cache = entityIdsCache;
+    if (cache == null) {
+      return loadParentEntityIds(namespace);
+    }
+
+    Long[] parentEntityIds = cache.getIfPresent(namespace);
+    if (parentEntityIds != null) {
+      return parentEntityIds;
+    }
+
+    // Entities that don't exist are not cached, the exception is thrown to the caller.
+    long version = invalidationVersion.get();
+    parentEntityIds = loadParentEntityIds(namespace);
+    cache.put(namespace, parentEntityIds);
+    // An invalidation increments the version before removing the entries, so the ids put after it
+    // removes the entries are removed here.
+    if (invalidationVersion.get() != version) {
+      cache.asMap().remove(namespace, parentEntityIds);
+    }
+    return parentEntityIds;
+  }
+
+  private Long[] loadParentEntityIds(Namespace namespace) {
     Long[] parentEntityIds = new Long[namespace.levels().length];
 
     int length = namespace.levels().length;
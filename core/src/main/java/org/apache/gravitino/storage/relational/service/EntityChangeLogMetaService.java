@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.service;
+
+import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.metrics.Monitored;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the entity change log. It provides the basic database operations to append
+ * and poll the changes used to invalidate the entity cache of every server.
+ */
+public class EntityChangeLogMetaService {
+
+  private static final EntityChangeLogMetaService INSTANCE = new EntityChangeLogMetaService();
+
+  public static EntityChangeLogMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityChangeLogMetaService() {}
+
+  public void insertChangeLog(NameIdentifier ident, Entity.EntityType type, String sourceNode) {
+    insertChangeLog(ident, type, null, sourceNode);
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "insertChangeLog")
+  public void insertChangeLog(
+      NameIdentifier ident,
+      Entity.EntityType type,
+      @Nullable SupportsRelationOperations.Type relType,
+      String sourceNode) {
+    EntityChangeLogPO changeLogPO;
+    try {
+      changeLogPO =
+          EntityChangeLogPO.builder()
+              .withEntityType(type.name())
+              // The levels are stored as a JSON array since a level may contain dots.
+              .withEntityNameLevels(
+                  JsonUtils.anyFieldMapper()
+                      .writeValueAsString(ArrayUtils.add(ident.namespace().levels(), ident.name())))
+              .withRelationType(relType == null ? null : relType.name())
+              .withSourceNode(sourceNode)
+              .withCreatedAt(System.currentTimeMillis())
+              .build();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize the name identifier: " + ident, e);
+    }
+    SessionUtils.doWithCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.insertChangeLog(changeLogPO));
+  }
+
+  public List<EntityChangeLogPO> listChangeLogsAfterId(long changeLogId, int limit) {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.listChangeLogsAfterId(changeLogId, limit));
+  }
+
+  public List<EntityChangeLogPO> listChangeLogsByIds(List<Long> changeLogIds) {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.listChangeLogsByIds(changeLogIds));
+  }
+
+  public long getMaxChangeLogId() {
+    Long maxId =
+        SessionUtils.getWithoutCommit(
+            EntityChangeLogMapper.class, EntityChangeLogMapper::selectMaxChangeLogId);
+    return maxId == null ? 0L : maxId;
+  }
+
+  public int deleteChangeLogsByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.deleteChangeLogsByLegacyTimeline(legacyTimeline, limit));
+  }
+}
@@ -132,6 +132,23 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listFilesetsByNamespaceAfterName")
+  public List<FilesetEntity> listFilesetsByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    NamespaceUtil.checkFileset(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<FilesetPO> filesetPOs =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper -> mapper.listFilesetPOsBySchemaIdAfterName(schemaId, startAfter, limit));
+
+    return POConverters.fromFilesetPOs(filesetPOs, namespace);
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "insertFileset")
@@ -181,6 +181,8 @@ public class MetalakeMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(ident);
+
     if (updateResult > 0) {
       return newMetalakeEntity;
     } else {
@@ -360,6 +362,8 @@ public class MetalakeMetaService {
                     mapper -> mapper.softDeleteJobMetasByMetalakeId(metalakeId)));
       }
     }
+
+    CommonMetaService.getInstance().invalidateEntityIds(ident);
     return true;
   }
 
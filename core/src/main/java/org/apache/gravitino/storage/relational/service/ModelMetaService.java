@@ -81,6 +81,22 @@ public class ModelMetaService {
     return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listModelsByNamespaceAfterName")
+  public List<ModelEntity> listModelsByNamespace(Namespace ns, String startAfter, int limit) {
+    NamespaceUtil.checkModel(ns);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(ns);
+
+    List<ModelPO> modelPOs =
+        SessionUtils.getWithoutCommit(
+            ModelMetaMapper.class,
+            mapper -> mapper.listModelPOsBySchemaIdAfterName(schemaId, startAfter, limit));
+
+    return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getModelByIdentifier")
@@ -22,9 +22,11 @@ import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATI
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -85,6 +87,27 @@ public class PolicyMetaService {
     return POConverters.fromPolicyPO(policyPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetPoliciesByIdentifiers")
+  public List<PolicyEntity> batchGetPoliciesByIdentifiers(List<NameIdentifier> identifiers) {
+    Map<Namespace, List<String>> policyNamesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    List<PolicyEntity> policyEntities = new ArrayList<>(identifiers.size());
+    policyNamesByNamespace.forEach(
+        (namespace, policyNames) ->
+            getPolicyPOsByMetalakeAndNames(namespace.level(0), policyNames)
+                .forEach(
+                    policyPO ->
+                        policyEntities.add(POConverters.fromPolicyPO(policyPO, namespace))));
+    return policyEntities;
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "insertPolicy")
@@ -22,6 +22,7 @@ import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATI
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
@@ -299,6 +300,52 @@ public class RoleMetaService {
     return POConverters.fromRolePO(rolePO, securableObjects, identifier.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetRolesByIdentifiers")
+  public List<RoleEntity> batchGetRolesByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkRole);
+    Map<Namespace, List<String>> roleNamesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    List<RoleEntity> roleEntities = Lists.newArrayListWithCapacity(identifiers.size());
+    for (Map.Entry<Namespace, List<String>> entry : roleNamesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long metalakeId;
+      try {
+        metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+      } catch (NoSuchEntityException e) {
+        continue;
+      }
+      List<RolePO> rolePOs =
+          SessionUtils.getWithoutCommit(
+              RoleMetaMapper.class,
+              mapper -> mapper.listRolePOsByMetalakeIdAndNames(metalakeId, entry.getValue()));
+      if (rolePOs.isEmpty()) {
+        continue;
+      }
+
+      List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
+      Map<Long, List<SecurableObject>> securableObjectsByRoleId =
+          toSecurableObjects(
+              SessionUtils.getWithoutCommit(
+                  SecurableObjectMapper.class,
+                  mapper -> mapper.listSecurableObjectsByRoleIds(roleIds)));
+      for (RolePO rolePO : rolePOs) {
+        roleEntities.add(
+            POConverters.fromRolePO(
+                rolePO,
+                securableObjectsByRoleId.getOrDefault(rolePO.getRoleId(), Collections.emptyList()),
+                namespace));
+      }
+    }
+    return roleEntities;
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "deleteRole")
   public boolean deleteRole(NameIdentifier identifier) {
     AuthorizationUtils.checkRole(identifier);
@@ -398,7 +445,13 @@ public class RoleMetaService {
 
   private static List<SecurableObject> listSecurableObjects(RolePO po) {
     List<SecurableObjectPO> securableObjectPOs = listSecurableObjectsByRoleId(po.getRoleId());
-    List<SecurableObject> securableObjects = Lists.newArrayList();
+    return toSecurableObjects(securableObjectPOs)
+        .getOrDefault(po.getRoleId(), Collections.emptyList());
+  }
+
+  private static Map<Long, List<SecurableObject>> toSecurableObjects(
+      List<SecurableObjectPO> securableObjectPOs) {
+    Map<Long, List<SecurableObject>> securableObjects = Maps.newHashMap();
 
     securableObjectPOs.stream()
         .collect(Collectors.groupingBy(SecurableObjectPO::getType))
@@ -423,9 +476,11 @@ public class RoleMetaService {
               for (SecurableObjectPO securableObjectPO : objects) {
                 String fullName = objectIdAndNameMap.get(securableObjectPO.getMetadataObjectId());
                 if (fullName != null) {
-                  securableObjects.add(
-                      POConverters.fromSecurableObjectPO(
-                          fullName, securableObjectPO, getType(securableObjectPO.getType())));
+                  securableObjects
+                      .computeIfAbsent(securableObjectPO.getRoleId(), k -> Lists.newArrayList())
+                      .add(
+                          POConverters.fromSecurableObjectPO(
+                              fullName, securableObjectPO, getType(securableObjectPO.getType())));
                 } else {
                   LOG.warn(
                       "The securable object {} {} may be deleted",
@@ -208,6 +208,8 @@ public class SchemaMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
+
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -354,6 +356,8 @@ public class SchemaMetaService {
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
     }
+
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
     return true;
   }
 
@@ -83,6 +83,25 @@ public class TagMetaService {
     return POConverters.fromTagPO(tagPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetTagsByIdentifiers")
+  public List<TagEntity> batchGetTagsByIdentifiers(List<NameIdentifier> identifiers) {
+    Map<Namespace, List<String>> tagNamesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+
+    List<TagEntity> tagEntities = Lists.newArrayListWithCapacity(identifiers.size());
+    tagNamesByNamespace.forEach(
+        (namespace, tagNames) ->
+            getTagPOsByMetalakeAndNames(namespace.level(0), tagNames)
+                .forEach(tagPO -> tagEntities.add(POConverters.fromTagPO(tagPO, namespace))));
+    return tagEntities;
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "insertTag")
   public void insertTag(TagEntity tagEntity, boolean overwritten) throws IOException {
     Namespace ns = tagEntity.namespace();
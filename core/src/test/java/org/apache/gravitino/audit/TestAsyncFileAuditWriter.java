@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncFileAuditWriter {
+  private static final String FILE_NAME = "async_audit_test.log";
+
+  private Path logDir;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    logDir = Paths.get(System.getProperty("gravitino.log.path"));
+    Files.createDirectories(logDir);
+    cleanUp();
+  }
+
+  @AfterEach
+  public void cleanUp() throws IOException {
+    for (Path path : listAuditFiles()) {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testWriteAuditLogs() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(new DummyAuditFormatter(), ImmutableMap.of("fileName", FILE_NAME));
+    for (int i = 0; i < 1000; i++) {
+      writer.doWrite(auditLog(i));
+    }
+    writer.close();
+
+    List<String> lines = Files.readAllLines(Paths.get(writer.fileName), StandardCharsets.UTF_8);
+    Assertions.assertEquals(1000, lines.size());
+    Assertions.assertEquals(auditLog(0).toString(), lines.get(0));
+    Assertions.assertEquals(auditLog(999).toString(), lines.get(999));
+    Assertions.assertEquals(0, writer.getDroppedLogs());
+
+    // Audit logs are dropped after the writer is closed.
+    writer.doWrite(auditLog(1000));
+    Assertions.assertEquals(
+        1000, Files.readAllLines(Paths.get(writer.fileName), StandardCharsets.UTF_8).size());
+  }
+
+  @Test
+  public void testRotateAndCompress() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(
+        new DummyAuditFormatter(),
+        ImmutableMap.of("fileName", FILE_NAME, "rotateSizeBytes", "4096", "batchSize", "16"));
+    for (int i = 0; i < 1000; i++) {
+      writer.doWrite(auditLog(i));
+    }
+    writer.close();
+
+    List<Path> rotatedFiles =
+        listAuditFiles().stream()
+            .filter(p -> !p.getFileName().toString().equals(FILE_NAME))
+            .collect(Collectors.toList());
+    Assertions.assertFalse(rotatedFiles.isEmpty());
+    Assertions.assertTrue(rotatedFiles.stream().allMatch(p -> p.toString().endsWith(".gz")));
+
+    // No audit log is lost across the rotated files and the current file.
+    Assertions.assertEquals(1000, readAllAuditLogs(writer).size());
+  }
+
+  @Test
+  public void testKeepWritingAfterFailedRotation() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(
+        new DummyAuditFormatter(),
+        ImmutableMap.of("fileName", FILE_NAME, "rotateSizeBytes", "4096", "batchSize", "16"));
+    writer.doWrite(auditLog(0));
+    Path filePath = Paths.get(writer.fileName);
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> Files.exists(filePath) && Files.size(filePath) > 0);
+
+    // Moving the removed file fails the next rotation.
+    Files.delete(filePath);
+    for (int i = 1; i < 1000; i++) {
+      writer.doWrite(auditLog(i));
+    }
+    writer.close();
+
+    Assertions.assertTrue(readAllAuditLogs(writer).contains(auditLog(999).toString()));
+  }
+
+  @Test
+  public void testMaxRotatedFiles() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(
+        new DummyAuditFormatter(),
+        ImmutableMap.of(
+            "fileName",
+            FILE_NAME,
+            "rotateSizeBytes",
+            "1024",
+            "batchSize",
+            "8",
+            "maxRotatedFiles",
+            "2"));
+    for (int i = 0; i < 1000; i++) {
+      writer.doWrite(auditLog(i));
+    }
+    writer.close();
+
+    // The current file and at most 2 rotated files are kept.
+    Assertions.assertTrue(listAuditFiles().size() <= 3);
+  }
+
+  private List<String> readAllAuditLogs(AsyncFileAuditWriter writer) throws IOException {
+    List<String> auditLogs = new ArrayList<>();
+    Path filePath = Paths.get(writer.fileName);
+    if (Files.exists(filePath)) {
+      auditLogs.addAll(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+    for (Path rotatedFile : listAuditFiles()) {
+      if (!rotatedFile.toString().endsWith(".gz")) {
+        continue;
+      }
+      try (BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Files.newInputStream(rotatedFile)),
+                  StandardCharsets.UTF_8))) {
+        reader.lines().forEach(auditLogs::add);
+      }
+    }
+    return auditLogs;
+  }
+
+  private List<Path> listAuditFiles() throws IOException {
+    try (Stream<Path> files = Files.list(logDir)) {
+      return files
+          .filter(p -> p.getFileName().toString().startsWith(FILE_NAME))
+          .collect(Collectors.toList());
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static DummyAuditLog auditLog(int i) {
+    return DummyAuditLog.builder()
+        .user("user")
+        .operation(AuditLog.Operation.CREATE_TABLE)
+        .identifier("metalake.catalog.schema.table_" + i)
+        .timestamp(1000L + i)
+        .status(AuditLog.Status.SUCCESS)
+        .build();
+  }
+}
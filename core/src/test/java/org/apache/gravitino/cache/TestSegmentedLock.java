@@ -25,11 +25,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
@@ -380,4 +386,49 @@ public class TestSegmentedLock {
               });
         });
   }
+
+  @Test
+  @Timeout(30)
+  void testMultipleKeysLocking() throws InterruptedException {
+    SegmentedLock lock = new SegmentedLock(4);
+    List<String> keys = Arrays.asList("key1", "key2", "key3", "key4", "key5", "key1", null);
+
+    // All the keys are held while the action runs, including the keys in the same segment.
+    String result =
+        lock.withLocksAndThrow(
+            keys,
+            () -> {
+              for (String key : keys) {
+                assertTrue(((ReentrantLock) lock.getSegmentLock(key)).isHeldByCurrentThread());
+              }
+              return "done";
+            });
+    assertEquals("done", result);
+    for (String key : keys) {
+      assertFalse(((ReentrantLock) lock.getSegmentLock(key)).isLocked());
+    }
+
+    // Callers locking overlapping keys in different orders don't deadlock.
+    int threadCount = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger counter = new AtomicInteger(0);
+    for (int i = 0; i < threadCount; i++) {
+      List<String> shuffledKeys = new ArrayList<>(keys);
+      Collections.shuffle(shuffledKeys, new Random(i));
+      executor.submit(
+          () -> {
+            try {
+              for (int j = 0; j < 100; j++) {
+                lock.withLocksAndThrow(shuffledKeys, counter::incrementAndGet);
+              }
+            } finally {
+              latch.countDown();
+            }
+          });
+    }
+    assertTrue(latch.await(20, TimeUnit.SECONDS));
+    assertEquals(threadCount * 100, counter.get());
+    executor.shutdown();
+  }
 }
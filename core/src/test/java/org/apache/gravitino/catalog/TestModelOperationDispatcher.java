@@ -36,6 +36,7 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchModelException;
 import org.apache.gravitino.exceptions.NoSuchModelVersionException;
 import org.apache.gravitino.exceptions.NoSuchModelVersionURINameException;
@@ -45,6 +46,7 @@ import org.apache.gravitino.model.ModelChange;
 import org.apache.gravitino.model.ModelVersion;
 import org.apache.gravitino.model.ModelVersionChange;
 import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -125,6 +127,39 @@ public class TestModelOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(modelIdentSet.contains(modelIdent2));
   }
 
+  @Test
+  public void testListModelsByPage() {
+    String schemaName = randomSchemaName();
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, schemaName);
+    schemaOperationDispatcher.createSchema(schemaIdent, "comment", null);
+
+    for (String modelName : new String[] {"model3", "model1", "model2"}) {
+      modelOperationDispatcher.registerModel(
+          NameIdentifierUtil.ofModel(metalake, catalog, schemaName, modelName),
+          "comment",
+          ImmutableMap.of());
+    }
+
+    // The test catalog can't page, so the pages are sliced from all the models.
+    Namespace modelNs = NamespaceUtil.ofModel(metalake, catalog, schemaName);
+    NameIdentifier[] firstPage = modelOperationDispatcher.listModels(modelNs, null, 2);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {
+          NameIdentifierUtil.ofModel(metalake, catalog, schemaName, "model1"),
+          NameIdentifierUtil.ofModel(metalake, catalog, schemaName, "model2")
+        },
+        firstPage);
+
+    NameIdentifier[] secondPage = modelOperationDispatcher.listModels(modelNs, "model2", 2);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifierUtil.ofModel(metalake, catalog, schemaName, "model3")},
+        secondPage);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> modelOperationDispatcher.listModels(modelNs, null, 0));
+  }
+
   @Test
   public void testRegisterAndDeleteModel() {
     String schemaName = randomSchemaName();
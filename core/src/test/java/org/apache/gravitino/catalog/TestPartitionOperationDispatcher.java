@@ -24,6 +24,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -113,6 +114,18 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(Arrays.asList(partitions).contains(PARTITION));
   }
 
+  @Test
+  public void testListPartitionsInChunks() {
+    // The test catalog can't page the partitions, so they are listed in one call.
+    Iterable<Partition> partitions =
+        partitionOperationDispatcher.listPartitionsInChunks(TABLE_IDENT, 1);
+    Assertions.assertTrue(Lists.newArrayList(partitions).contains(PARTITION));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> partitionOperationDispatcher.listPartitionsInChunks(TABLE_IDENT, 0));
+  }
+
   @Test
   public void testGetPartition() {
     Partition p = partitionOperationDispatcher.getPartition(TABLE_IDENT, PARTITION.name());
@@ -25,6 +25,9 @@ import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY1;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY2;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY5_PREFIX;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
@@ -45,6 +48,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
@@ -53,8 +57,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.TestCatalog;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
@@ -156,6 +162,26 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
             .findFirst();
     Assertions.assertTrue(ident1.isPresent());
 
+    // The test catalog lists the tables info in a batch, they are combined with the entities
+    Table[] tables = tableOperationDispatcher.listTablesInfo(tableNs);
+    Assertions.assertEquals(1, tables.length);
+    Assertions.assertEquals("table1", tables[0].name());
+    Assertions.assertArrayEquals(columns, tables[0].columns());
+    Assertions.assertFalse(tables[0].properties().containsKey(ID_KEY));
+    Assertions.assertEquals(
+        tableEntity.auditInfo().createTime(), tables[0].auditInfo().createTime());
+
+    // The tables created outside Gravitino are imported when they are listed
+    TestCatalogOperations testCatalogOperations =
+        (TestCatalogOperations)
+            ((TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog))).ops();
+    NameIdentifier externalIdent = NameIdentifier.of(tableNs, "external_table1");
+    testCatalogOperations.createTable(externalIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertFalse(entityStore.exists(externalIdent, TABLE));
+    tables = tableOperationDispatcher.listTablesInfo(tableNs);
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertTrue(entityStore.exists(externalIdent, TABLE));
+
     // Test when the entity store failed to put the table entity
     doThrow(new IOException()).when(entityStore).put(any(), anyBoolean());
     NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table2");
@@ -368,6 +394,165 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
         RuntimeException.class, () -> tableOperationDispatcher.dropTable(tableIdent));
   }
 
+  @Test
+  public void testLoadTableWithTableCache() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "cached_catalog");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.RELATIONAL,
+        "test",
+        "comment",
+        ImmutableMap.of(
+            PROPERTY_KEY1,
+            "value1",
+            PROPERTY_KEY2,
+            "value2",
+            PROPERTY_KEY5_PREFIX + "1",
+            "value3",
+            BaseCatalog.TABLE_CACHE_ENABLED,
+            "true"));
+
+    Namespace tableNs = Namespace.of(metalake, catalogIdent.name(), "schema191");
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table91");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Table loadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable, tableOperationDispatcher.loadTable(tableIdent));
+
+    // The change made outside Gravitino is not visible until the cached table is invalidated
+    TestCatalog testCatalog = (TestCatalog) catalogManager.loadCatalog(catalogIdent);
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    testCatalogOperations.alterTable(tableIdent, TableChange.setProperty("k4", "v4"));
+    Assertions.assertFalse(
+        tableOperationDispatcher.loadTable(tableIdent).properties().containsKey("k4"));
+
+    // The change made through Gravitino invalidates the cached table
+    tableOperationDispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Table reloadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable, reloadedTable);
+    Assertions.assertEquals("v4", reloadedTable.properties().get("k4"));
+    Assertions.assertEquals("v3", reloadedTable.properties().get("k3"));
+
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> tableOperationDispatcher.loadTable(tableIdent));
+
+    // The table of the catalog without the table cache enabled is always loaded from the source
+    NameIdentifier uncachedIdent = NameIdentifier.of(metalake, catalog, "schema191", "table91");
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(uncachedIdent.namespace().levels()), "comment", props);
+    tableOperationDispatcher.createTable(
+        uncachedIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertNotSame(
+        tableOperationDispatcher.loadTable(uncachedIdent),
+        tableOperationDispatcher.loadTable(uncachedIdent));
+  }
+
+  @Test
+  public void testTableCacheInvalidation() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "cached_catalog2");
+    Map<String, String> catalogProps =
+        ImmutableMap.of(
+            PROPERTY_KEY1,
+            "value1",
+            PROPERTY_KEY2,
+            "value2",
+            PROPERTY_KEY5_PREFIX + "1",
+            "value3",
+            BaseCatalog.TABLE_CACHE_ENABLED,
+            "true");
+    catalogManager.createCatalog(
+        catalogIdent, Catalog.Type.RELATIONAL, "test", "comment", catalogProps);
+
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalogIdent.name(), "schema192");
+    NameIdentifier tableIdent =
+        NameIdentifier.of(Namespace.of(metalake, catalogIdent.name(), "schema192"), "table92");
+    Map<String, String> props = ImmutableMap.of("k1", "v1");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    schemaOperationDispatcher.createSchema(schemaIdent, "comment", props);
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+    Table loadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable, tableOperationDispatcher.loadTable(tableIdent));
+
+    // The change made outside Gravitino is visible once the catalog reports a new table version
+    TestCatalogOperations testCatalogOperations =
+        (TestCatalogOperations) ((TestCatalog) catalogManager.loadCatalog(catalogIdent)).ops();
+    testCatalogOperations.alterTable(
+        tableIdent, TableChange.setProperty(TestCatalogOperations.TABLE_VERSION, "2"));
+    loadedTable = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals("2", loadedTable.properties().get(TestCatalogOperations.TABLE_VERSION));
+    Assertions.assertSame(loadedTable, tableOperationDispatcher.loadTable(tableIdent));
+    // The probed version is kept with the loaded table
+    Assertions.assertEquals("2", ((EntityCombinedTable) loadedTable).version());
+
+    // Renaming a table invalidates the cached table of the new name
+    NameIdentifier newIdent = NameIdentifier.of(tableIdent.namespace(), "table92_new");
+    tableOperationDispatcher.createTable(newIdent, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.loadTable(newIdent);
+    testCatalogOperations.dropTable(newIdent);
+    entityStore.delete(newIdent, TABLE);
+    tableOperationDispatcher.alterTable(tableIdent, TableChange.rename("table92_new"));
+    Assertions.assertEquals(
+        "2",
+        tableOperationDispatcher
+            .loadTable(newIdent)
+            .properties()
+            .get(TestCatalogOperations.TABLE_VERSION));
+
+    // Creating a table invalidates the cached table of the same name dropped outside Gravitino
+    NameIdentifier recreatedIdent = NameIdentifier.of(tableIdent.namespace(), "table92_recreated");
+    tableOperationDispatcher.createTable(
+        recreatedIdent, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.loadTable(recreatedIdent);
+    testCatalogOperations.dropTable(recreatedIdent);
+    entityStore.delete(recreatedIdent, TABLE);
+    tableOperationDispatcher.createTable(
+        recreatedIdent,
+        columns,
+        "comment",
+        ImmutableMap.of("k1", "v1", "k4", "v4"),
+        new Transform[0]);
+    Assertions.assertEquals(
+        "v4", tableOperationDispatcher.loadTable(recreatedIdent).properties().get("k4"));
+
+    // Dropping the schema invalidates the cached tables of the schema
+    Assertions.assertTrue(schemaOperationDispatcher.dropSchema(schemaIdent, true));
+    testCatalogOperations.createSchema(schemaIdent, "comment", props);
+    testCatalogOperations.createTable(
+        newIdent, columns, "comment", ImmutableMap.of("k2", "v2"), new Transform[0]);
+    Assertions.assertEquals(
+        ImmutableMap.of("k2", "v2"), tableOperationDispatcher.loadTable(newIdent).properties());
+
+    // Dropping and re-creating the catalog invalidates all the cached tables of the catalog
+    Assertions.assertTrue(catalogManager.dropCatalog(catalogIdent, true));
+    catalogManager.createCatalog(
+        catalogIdent, Catalog.Type.RELATIONAL, "test", "comment", catalogProps);
+    testCatalogOperations =
+        (TestCatalogOperations) ((TestCatalog) catalogManager.loadCatalog(catalogIdent)).ops();
+    testCatalogOperations.createSchema(schemaIdent, "comment", props);
+    testCatalogOperations.createTable(
+        newIdent, columns, "comment", ImmutableMap.of("k3", "v3"), new Transform[0]);
+    Assertions.assertEquals(
+        ImmutableMap.of("k3", "v3"), tableOperationDispatcher.loadTable(newIdent).properties());
+  }
+
   @Test
   public void testCreateTableNeedImportingSchema() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema181");
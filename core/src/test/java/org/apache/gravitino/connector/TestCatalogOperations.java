@@ -104,7 +104,9 @@ public class TestCatalogOperations
         FilesetCatalog,
         TopicCatalog,
         ModelCatalog,
-        SupportsSchemas {
+        SupportsSchemas,
+        SupportsTableVersion,
+        SupportsListTablesInfo {
   private static final Logger LOG = LoggerFactory.getLogger(TestCatalogOperations.class);
 
   private final Map<NameIdentifier, TestTable> tables;
@@ -125,6 +127,8 @@ public class TestCatalogOperations
 
   public static final String FAIL_TEST = "need-fail";
 
+  public static final String TABLE_VERSION = "table-version";
+
   private static final String SLASH = "/";
 
   public TestCatalogOperations(Map<String, String> config) {
@@ -161,6 +165,20 @@ public class TestCatalogOperations
     }
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return tables.entrySet().stream()
+        .filter(entry -> entry.getKey().namespace().equals(namespace))
+        .map(Map.Entry::getValue)
+        .toArray(Table[]::new);
+  }
+
+  @Override
+  public String tableVersion(NameIdentifier ident) throws NoSuchTableException {
+    // Only the tables with the version property expose a version.
+    return loadTable(ident).properties().get(TABLE_VERSION);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -281,7 +299,8 @@ public class TestCatalogOperations
             .withIndexes(table.index())
             .build();
 
-    tables.put(ident, updatedTable);
+    tables.remove(ident);
+    tables.put(newIdent, updatedTable);
     return updatedTable;
   }
 
@@ -385,9 +404,7 @@ public class TestCatalogOperations
 
     schemas.remove(ident);
     if (cascade) {
-      tables.keySet().stream()
-          .filter(table -> table.namespace().toString().equals(ident.toString()))
-          .forEach(tables::remove);
+      tables.keySet().removeIf(table -> table.namespace().toString().equals(ident.toString()));
     }
 
     return true;
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCredentialCache {
+
+  @Test
+  void testConcurrentMissesMintOnce() throws Exception {
+    CredentialCacheMetricsSource metricsSource =
+        new CredentialCacheMetricsSource("metalake", "catalog");
+    AtomicInteger mintCount = new AtomicInteger();
+    CountDownLatch minting = new CountDownLatch(1);
+    Function<String, Credential> supplier =
+        key -> {
+          try {
+            minting.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return newCredential(mintCount.incrementAndGet(), 60_000);
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (CredentialCache<String> cache = newCache(metricsSource, 0.8)) {
+      List<Future<Credential>> futures =
+          IntStream.range(0, 8)
+              .mapToObj(i -> executor.submit(() -> cache.getCredential("key", supplier)))
+              .collect(Collectors.toList());
+      minting.countDown();
+      for (Future<Credential> future : futures) {
+        Assertions.assertEquals("token-1", sessionToken(future.get(5, TimeUnit.SECONDS)));
+      }
+      Assertions.assertEquals(1, mintCount.get());
+      Assertions.assertEquals(
+          1, metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_MISSES).getCount());
+      Assertions.assertEquals(
+          7, metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_HITS).getCount());
+      Assertions.assertEquals(
+          1, metricsSource.getTimer(MetricNames.CREDENTIAL_MINT_LATENCY).getCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRefreshAhead() throws Exception {
+    CredentialCacheMetricsSource metricsSource =
+        new CredentialCacheMetricsSource("metalake", "catalog");
+    AtomicInteger mintCount = new AtomicInteger();
+    Function<String, Credential> supplier =
+        key -> newCredential(mintCount.incrementAndGet(), 20_000);
+
+    // The credential is cached for 10 seconds and refreshed after 100 milliseconds.
+    try (CredentialCache<String> cache = newCache(metricsSource, 0.01)) {
+      Assertions.assertEquals("token-1", sessionToken(cache.getCredential("key", supplier)));
+      Thread.sleep(200);
+
+      // The cached credential is returned while it's refreshed in the background.
+      Assertions.assertEquals("token-1", sessionToken(cache.getCredential("key", supplier)));
+      Awaitility.await()
+          .atMost(5, TimeUnit.SECONDS)
+          .until(() -> "token-2".equals(sessionToken(cache.getCredential("key", supplier))));
+      Assertions.assertEquals(
+          1, metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_MISSES).getCount());
+      Assertions.assertTrue(
+          metricsSource.getCounter(MetricNames.CREDENTIAL_REFRESHES).getCount() >= 1);
+    }
+  }
+
+  @Test
+  void testFailedAndNullCredentialsAreNotCached() throws Exception {
+    CredentialCacheMetricsSource metricsSource =
+        new CredentialCacheMetricsSource("metalake", "catalog");
+    try (CredentialCache<String> cache = newCache(metricsSource, 0.8)) {
+      Assertions.assertThrows(
+          IllegalStateException.class,
+          () ->
+              cache.getCredential(
+                  "key",
+                  key -> {
+                    throw new IllegalStateException("mint failed");
+                  }));
+      Assertions.assertNull(cache.getCredential("key", key -> null));
+      Assertions.assertNull(cache.getCachedCredential("key", key -> null));
+      Assertions.assertEquals(
+          "token-1", sessionToken(cache.getCredential("key", key -> newCredential(1, 60_000))));
+      Assertions.assertEquals(
+          "token-1", sessionToken(cache.getCachedCredential("key", key -> null)));
+    }
+  }
+
+  @Test
+  void testCredentialPathIndex() {
+    CredentialPathIndex index = new CredentialPathIndex();
+    CredentialCacheKey parentKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user", ImmutableSet.of("s3://bucket/db/"), ImmutableSet.of()));
+    index.add(parentKey);
+
+    CredentialCacheKey childKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user",
+                ImmutableSet.of("s3://bucket/db/table", "s3://bucket/db/table/data"),
+                ImmutableSet.of("s3://bucket/db/other")));
+    Assertions.assertEquals(List.of(parentKey), index.coveringKeys(childKey));
+
+    // The parent key doesn't cover itself, and not covers the sibling paths.
+    Assertions.assertTrue(index.coveringKeys(parentKey).isEmpty());
+    CredentialCacheKey siblingKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user", ImmutableSet.of("s3://bucket/db2/table"), ImmutableSet.of()));
+    Assertions.assertTrue(index.coveringKeys(siblingKey).isEmpty());
+
+    // Different users and credential types.
+    CredentialCacheKey otherUserKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user2", ImmutableSet.of("s3://bucket/db/table"), ImmutableSet.of()));
+    Assertions.assertTrue(index.coveringKeys(otherUserKey).isEmpty());
+    CredentialCacheKey otherTypeKey =
+        new CredentialCacheKey(
+            "oss-token",
+            new PathBasedCredentialContext(
+                "user", ImmutableSet.of("s3://bucket/db/table"), ImmutableSet.of()));
+    Assertions.assertTrue(index.coveringKeys(otherTypeKey).isEmpty());
+
+    // A read credential doesn't cover the write paths.
+    CredentialCacheKey readKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user", ImmutableSet.of(), ImmutableSet.of("s3://bucket/read")));
+    index.add(readKey);
+    CredentialCacheKey writeChildKey =
+        new CredentialCacheKey(
+            "s3-token",
+            new PathBasedCredentialContext(
+                "user", ImmutableSet.of("s3://bucket/read/table"), ImmutableSet.of()));
+    Assertions.assertTrue(index.coveringKeys(writeChildKey).isEmpty());
+
+    index.remove(parentKey);
+    Assertions.assertTrue(index.coveringKeys(childKey).isEmpty());
+  }
+
+  private static CredentialCache<String> newCache(
+      CredentialCacheMetricsSource metricsSource, double refreshAheadRatio) {
+    CredentialCache<String> cache = new CredentialCache<>();
+    cache.initialize(
+        ImmutableMap.of(
+            CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO,
+            "0.5",
+            CredentialConstants.CREDENTIAL_CACHE_REFRESH_AHEAD_RATIO,
+            String.valueOf(refreshAheadRatio)),
+        metricsSource,
+        key -> {});
+    return cache;
+  }
+
+  private static Credential newCredential(int id, long expireInMs) {
+    return new S3TokenCredential(
+        "access-key", "secret-key", "token-" + id, System.currentTimeMillis() + expireInMs);
+  }
+
+  private static String sessionToken(Credential credential) {
+    return ((S3TokenCredential) credential).sessionToken();
+  }
+}
@@ -22,9 +22,11 @@ package org.apache.gravitino.listener;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.listener.api.BatchEventListenerPlugin;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
@@ -123,4 +125,20 @@ public class DummyEventListener implements EventListenerPlugin {
       return Mode.ASYNC_ISOLATED;
     }
   }
+
+  public static class DummyBatchEventListener extends DummyAsyncEventListener
+      implements BatchEventListenerPlugin {
+    @Getter List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public synchronized void onPostEvent(Event event) {
+      super.onPostEvent(event);
+    }
+
+    @Override
+    public synchronized void onPostEvents(List<Event> events) {
+      batchSizes.add(events.size());
+      getPostEvents().addAll(events);
+    }
+  }
 }
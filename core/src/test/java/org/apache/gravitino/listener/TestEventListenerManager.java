@@ -19,22 +19,27 @@
 
 package org.apache.gravitino.listener;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
+import org.apache.gravitino.listener.DummyEventListener.DummyBatchEventListener;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.OperationStatus;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricNames;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -270,6 +275,109 @@ public class TestEventListenerManager {
     Assertions.assertEquals(2, ((CountingPreEvent) transformedEvent.get()).count());
   }
 
+  @Test
+  void testQueuePerListener() {
+    String async1 = "async1";
+    String async2 = "async2";
+    Map<String, String> properties = createAsyncEventListenerConfig(async1, async2);
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_PER_LISTENER, "true");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS, "2");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    EventBus eventBus = eventListenerManager.createEventBus();
+    eventBus.dispatchEvent(DUMMY_POST_EVENT_INSTANCE);
+    List<EventListenerPlugin> listeners = eventBus.getEventListeners();
+
+    Assertions.assertEquals(2, listeners.size());
+    listeners.forEach(
+        listener -> {
+          Assertions.assertTrue(listener instanceof AsyncQueueListener);
+          List<EventListenerPlugin> internalListeners =
+              ((AsyncQueueListener) listener).getEventListeners();
+          Assertions.assertEquals(1, internalListeners.size());
+          EventListenerPlugin userListener =
+              ((EventListenerPluginWrapper) internalListeners.get(0)).getUserEventListener();
+          checkPostEvents(((DummyAsyncEventListener) userListener).tryGetPostEvents());
+        });
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testBatchDispatch() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "batch");
+    properties.put(
+        "batch." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyBatchEventListener.class.getName());
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCH_BATCH_SIZE, "8");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    EventBus eventBus = eventListenerManager.createEventBus();
+
+    // Events are queued before the dispatcher starts, so they are delivered in batches.
+    for (int i = 0; i < 10; i++) {
+      eventBus.dispatchEvent(DUMMY_POST_EVENT_INSTANCE);
+    }
+    eventListenerManager.start();
+
+    AsyncQueueListener asyncQueueListener =
+        (AsyncQueueListener) eventBus.getEventListeners().get(0);
+    DummyBatchEventListener userListener =
+        (DummyBatchEventListener)
+            ((EventListenerPluginWrapper) asyncQueueListener.getEventListeners().get(0))
+                .getUserEventListener();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> userListener.getPostEvents().size() == 10);
+    Assertions.assertEquals(ImmutableList.of(8, 2), userListener.getBatchSizes());
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testDropEventsMetrics() {
+    DummyAsyncEventListener userListener = new DummyAsyncEventListener();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("drop", userListener)),
+            "drop",
+            2,
+            3,
+            2,
+            1,
+            0);
+
+    for (int i = 0; i < 5; i++) {
+      asyncQueueListener.onPostEvent(DUMMY_POST_EVENT_INSTANCE);
+    }
+    Assertions.assertEquals(3, asyncQueueListener.getDroppedEvents());
+    Assertions.assertEquals(
+        2,
+        asyncQueueListener
+            .getMetricsSource()
+            .getMetricRegistry()
+            .getGauges()
+            .get(MetricNames.EVENT_LISTENER_QUEUE_SIZE)
+            .getValue());
+
+    asyncQueueListener.start();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> userListener.getPostEvents().size() == 2);
+    Assertions.assertEquals(
+        2,
+        asyncQueueListener
+            .getMetricsSource()
+            .getTimer(MetricNames.EVENT_LISTENER_DISPATCH_LATENCY)
+            .getCount());
+    asyncQueueListener.stop();
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.lock.TestLockManager.getConfig;
+import static org.apache.gravitino.lock.TestLockManager.randomNameIdentifier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestStripedLockManager {
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(10, new ThreadFactoryBuilder().setDaemon(true).build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testStripedNodes() {
+    StripedLockManager lockManager = new StripedLockManager(getConfig(), 8);
+    TreeLock treeLock = lockManager.createTreeLock(NameIdentifier.of("m", "c", "s", "t"));
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+
+    StripedTreeLockNode node = (StripedTreeLockNode) lockManager.treeLockRootNode;
+    for (int depth = 0; depth <= 4; depth++) {
+      Assertions.assertEquals(depth < StripedLockManager.STRIPED_DEPTH, node.isStriped());
+      Assertions.assertEquals(0, node.getReference());
+      if (depth < 4) {
+        node = (StripedTreeLockNode) node.getAllChildren().get(0);
+      }
+    }
+    Assertions.assertEquals(5, lockManager.totalNodeCount.get());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new StripedLockManager(getConfig(), 3));
+  }
+
+  @Test
+  void testReentrantLock() {
+    StripedLockManager lockManager = new StripedLockManager(getConfig(), 4);
+    TreeLock outer = lockManager.createTreeLock(NameIdentifier.of("m", "c"));
+    outer.lock(LockType.WRITE);
+    try {
+      TreeLock inner = lockManager.createTreeLock(NameIdentifier.of("m", "c", "s"));
+      inner.lock(LockType.READ);
+      inner.unlock();
+    } finally {
+      outer.unlock();
+    }
+  }
+
+  @Test
+  void testWriteLockExcludesReaders() throws Exception {
+    StripedLockManager lockManager = new StripedLockManager(getConfig(), 4);
+    NameIdentifier catalog = NameIdentifier.of("m", "c");
+    TreeLock writeLock = lockManager.createTreeLock(catalog);
+    writeLock.lock(LockType.WRITE);
+
+    CountDownLatch started = new CountDownLatch(5);
+    AtomicInteger acquired = new AtomicInteger();
+    Future<?>[] futures = new Future<?>[5];
+    for (int i = 0; i < 5; i++) {
+      futures[i] =
+          executor.submit(
+              () -> {
+                started.countDown();
+                TreeLock readLock =
+                    lockManager.createTreeLock(NameIdentifier.of("m", "c", "s", "t"));
+                readLock.lock(LockType.READ);
+                acquired.incrementAndGet();
+                readLock.unlock();
+              });
+    }
+
+    started.await();
+    Thread.sleep(100);
+    Assertions.assertEquals(0, acquired.get());
+
+    writeLock.unlock();
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    Assertions.assertEquals(5, acquired.get());
+  }
+
+  @Test
+  void testConcurrentWrite() throws Exception {
+    StripedLockManager lockManager = new StripedLockManager(getConfig(), 4);
+    NameIdentifier metalake = NameIdentifier.of("m");
+    int[] total = new int[1];
+
+    Future<?>[] futures = new Future<?>[10];
+    for (int i = 0; i < 10; i++) {
+      futures[i] =
+          executor.submit(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  TreeLock treeLock = lockManager.createTreeLock(metalake);
+                  treeLock.lock(LockType.WRITE);
+                  try {
+                    total[0]++;
+                  } finally {
+                    treeLock.unlock();
+                  }
+                }
+              });
+    }
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    Assertions.assertEquals(10 * 1000, total[0]);
+  }
+
+  @Test
+  void testEvictWhileLocking() throws Exception {
+    StripedLockManager lockManager = new StripedLockManager(getConfig(), 4);
+    lockManager.minTreeNodeInMemory = 1;
+
+    Future<?>[] futures = new Future<?>[8];
+    for (int i = 0; i < 8; i++) {
+      futures[i] =
+          executor.submit(
+              () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < 10000; j++) {
+                  TreeLock treeLock = lockManager.createTreeLock(randomNameIdentifier());
+                  treeLock.lock(random.nextInt(5) == 0 ? LockType.WRITE : LockType.READ);
+                  treeLock.unlock();
+                }
+              });
+    }
+
+    Future<?> cleaner =
+        executor.submit(
+            () -> {
+              while (!allDone(futures)) {
+                lockManager
+                    .treeLockRootNode
+                    .getAllChildren()
+                    .forEach(
+                        child -> lockManager.evictStaleNodes(child, lockManager.treeLockRootNode));
+              }
+            });
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    cleaner.get();
+
+    checkReferenceCount(lockManager.treeLockRootNode);
+
+    lockManager
+        .treeLockRootNode
+        .getAllChildren()
+        .forEach(child -> lockManager.evictStaleNodes(child, lockManager.treeLockRootNode));
+    Assertions.assertTrue(lockManager.treeLockRootNode.getAllChildren().isEmpty());
+    Assertions.assertEquals(1, lockManager.totalNodeCount.get());
+  }
+
+  private static boolean allDone(Future<?>[] futures) {
+    for (Future<?> future : futures) {
+      if (!future.isDone()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void checkReferenceCount(TreeLockNode node) {
+    Assertions.assertEquals(0, node.getReference());
+    node.getAllChildren().forEach(this::checkReferenceCount);
+  }
+}
@@ -106,5 +106,47 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.DATASOURCE_MAX_CONNECTIONS),
         ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.GRAVITINO_EVENT_LISTENER_METRIC_PREFIX
+            + ".audit."
+            + MetricNames.EVENT_LISTENER_DROPPED_EVENTS,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_EVENT_LISTENER_METRIC_PREFIX)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.EVENT_LISTENER_DROPPED_EVENTS),
+        ImmutableMap.of("queue", "audit"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX
+            + ".decision."
+            + MetricNames.AUTHORIZATION_CACHE_HITS,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_AUTHORIZATION_CACHE_METRIC_PREFIX)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.AUTHORIZATION_CACHE_HITS),
+        ImmutableMap.of("cache", "decision"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME
+            + ".table."
+            + MetricNames.GARBAGE_COLLECTOR_DELETED_ROWS,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.GARBAGE_COLLECTOR_DELETED_ROWS),
+        ImmutableMap.of("entity_type", "table"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_OPERATION_LATENCY_METRIC_NAME + ".load-table.lock-wait",
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_OPERATION_LATENCY_METRIC_NAME)
+            + "_lock_wait",
+        ImmutableMap.of("operation", "load-table"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_CREDENTIAL_CACHE_METRIC_PREFIX
+            + ".metalake1.iceberg."
+            + MetricNames.CREDENTIAL_MINT_LATENCY,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_CREDENTIAL_CACHE_METRIC_PREFIX)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CREDENTIAL_MINT_LATENCY),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "iceberg"));
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.metrics.source.OperationLatencyMetricsSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestOperationSpan {
+
+  private MetricsSystem metricsSystem;
+  private MetricsSource metricsSource;
+
+  @BeforeEach
+  void setUp() throws IllegalAccessException {
+    metricsSystem = new MetricsSystem();
+    metricsSource = new OperationLatencyMetricsSource();
+    metricsSystem.register(metricsSource);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metricsSystem", metricsSystem, true);
+  }
+
+  @AfterEach
+  void tearDown() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "metricsSystem", null, true);
+  }
+
+  @Test
+  void testRecordLayers() throws Exception {
+    try (OperationSpan ignored = OperationSpan.start("load-table")) {
+      OperationSpan.time(OperationSpan.Layer.AUTHORIZATION, () -> sleep(20));
+      OperationSpan.time(
+          OperationSpan.Layer.CATALOG,
+          () -> {
+            sleep(20);
+            // The nested layer is excluded from the catalog layer.
+            return OperationSpan.time(OperationSpan.Layer.STORE, () -> sleep(50));
+          });
+      OperationSpan.recordCacheHit();
+      OperationSpan.recordCacheMiss();
+      OperationSpan.recordCacheMiss();
+    }
+
+    Timer total = metricsSource.getTimer("load-table.total");
+    Timer authorization = metricsSource.getTimer("load-table.authorization");
+    Timer catalog = metricsSource.getTimer("load-table.catalog");
+    Timer store = metricsSource.getTimer("load-table.store");
+    Assertions.assertEquals(1, total.getCount());
+    Assertions.assertEquals(1, authorization.getCount());
+    Assertions.assertEquals(1, catalog.getCount());
+    Assertions.assertEquals(1, store.getCount());
+    Assertions.assertFalse(
+        metricsSource.getMetricRegistry().getTimers().containsKey("load-table.lock-wait"));
+
+    long catalogMillis = toMillis(catalog);
+    long storeMillis = toMillis(store);
+    Assertions.assertTrue(catalogMillis >= 20 && catalogMillis < 50, "catalog: " + catalogMillis);
+    Assertions.assertTrue(storeMillis >= 50, "store: " + storeMillis);
+    Assertions.assertTrue(toMillis(total) >= 90);
+
+    Assertions.assertEquals(1, metricsSource.getCounter("load-table.cache-hits").getCount());
+    Assertions.assertEquals(2, metricsSource.getCounter("load-table.cache-misses").getCount());
+  }
+
+  @Test
+  void testNestedSpan() {
+    try (OperationSpan outer = OperationSpan.start("list-table")) {
+      try (OperationSpan inner = OperationSpan.start("load-table")) {
+        OperationSpan.time(OperationSpan.Layer.STORE, () -> sleep(1));
+      }
+      OperationSpan.time(OperationSpan.Layer.STORE, () -> sleep(1));
+    }
+
+    Assertions.assertEquals(2, metricsSource.getMetricRegistry().getTimers().size());
+    Assertions.assertEquals(1, metricsSource.getTimer("list-table.total").getCount());
+    Assertions.assertEquals(1, metricsSource.getTimer("list-table.store").getCount());
+  }
+
+  @Test
+  void testForkedSpan() {
+    try (OperationSpan ignored = OperationSpan.start("batch-load-table")) {
+      OperationSpan forked = OperationSpan.fork();
+      CompletableFuture.runAsync(
+              () ->
+                  forked.runIn(
+                      () -> {
+                        OperationSpan.recordCacheHit();
+                        return OperationSpan.time(OperationSpan.Layer.CATALOG, () -> sleep(20));
+                      }))
+          .join();
+      forked.merge();
+    }
+
+    Timer catalog = metricsSource.getTimer("batch-load-table.catalog");
+    Assertions.assertEquals(1, catalog.getCount());
+    Assertions.assertTrue(toMillis(catalog) >= 20, "catalog: " + toMillis(catalog));
+    Assertions.assertEquals(1, metricsSource.getCounter("batch-load-table.cache-hits").getCount());
+
+    // The forked span does nothing if there is no span on the current thread.
+    OperationSpan forked = OperationSpan.fork();
+    Assertions.assertEquals(
+        "result",
+        forked.runIn(() -> OperationSpan.time(OperationSpan.Layer.STORE, () -> "result")));
+    forked.merge();
+    Assertions.assertFalse(
+        metricsSource.getMetricRegistry().getTimers().containsKey("batch-load-table.store"));
+  }
+
+  @Test
+  void testWithoutSpan() throws Exception {
+    Assertions.assertEquals(
+        "result", OperationSpan.time(OperationSpan.Layer.CATALOG, () -> "result"));
+    OperationSpan.recordCacheHit();
+    Assertions.assertTrue(metricsSource.getMetricRegistry().getMetrics().isEmpty());
+
+    // The span does nothing if the metrics source isn't registered.
+    metricsSystem.unregister(metricsSource);
+    try (OperationSpan ignored = OperationSpan.start("load-table")) {
+      Assertions.assertEquals(
+          "result", OperationSpan.time(OperationSpan.Layer.CATALOG, () -> "result"));
+    }
+    Assertions.assertTrue(metricsSource.getMetricRegistry().getMetrics().isEmpty());
+  }
+
+  private static long toMillis(Timer timer) {
+    return TimeUnit.NANOSECONDS.toMillis(timer.getSnapshot().getMax());
+  }
+
+  private static Void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS;
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_RETENTION_MS;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogMetaService;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestChangeLogCacheInvalidationChannel extends TestJDBCBackend {
+
+  @Test
+  public void testInvalidationAcrossNodes() throws Exception {
+    Config channelConfig = Mockito.mock(Config.class);
+    // Poll manually in this test.
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_POLL_INTERVAL_MS)).thenReturn(3_600_000L);
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_RETENTION_MS)).thenReturn(3_600_000L);
+
+    EntityCache cacheA = Mockito.mock(EntityCache.class);
+    EntityCache cacheB = Mockito.mock(EntityCache.class);
+    ChangeLogCacheInvalidationChannel channelA = new ChangeLogCacheInvalidationChannel();
+    ChangeLogCacheInvalidationChannel channelB = new ChangeLogCacheInvalidationChannel();
+    channelA.initialize(channelConfig, cacheA);
+    channelB.initialize(channelConfig, cacheB);
+
+    try {
+      NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+      channelA.publish(table, Entity.EntityType.TABLE);
+      Assertions.assertEquals(1, EntityChangeLogMetaService.getInstance().getMaxChangeLogId());
+
+      channelA.pollAndInvalidate();
+      channelB.pollAndInvalidate();
+      Mockito.verify(cacheA, Mockito.never())
+          .invalidate(Mockito.any(NameIdentifier.class), Mockito.any(Entity.EntityType.class));
+      Mockito.verify(cacheB, Mockito.times(1)).invalidate(table, Entity.EntityType.TABLE);
+
+      // The entries already applied are skipped by the next poll.
+      channelB.pollAndInvalidate();
+      Mockito.verify(cacheB, Mockito.times(1)).invalidate(table, Entity.EntityType.TABLE);
+
+      // Changing a model version invalidates the model as well.
+      NameIdentifier model = NameIdentifier.of("metalake", "catalog", "schema", "model");
+      NameIdentifier modelVersion =
+          NameIdentifier.of("metalake", "catalog", "schema", "model", "1");
+      channelB.publish(modelVersion, Entity.EntityType.MODEL_VERSION);
+      channelA.pollAndInvalidate();
+      Mockito.verify(cacheA).invalidate(modelVersion, Entity.EntityType.MODEL_VERSION);
+      Mockito.verify(cacheA).invalidate(model, Entity.EntityType.MODEL);
+
+      // A server that starts later ignores the changes made before it starts.
+      EntityCache cacheC = Mockito.mock(EntityCache.class);
+      ChangeLogCacheInvalidationChannel channelC = new ChangeLogCacheInvalidationChannel();
+      channelC.initialize(channelConfig, cacheC);
+      channelC.pollAndInvalidate();
+      Mockito.verifyNoInteractions(cacheC);
+      channelC.close();
+    } finally {
+      channelA.close();
+      channelB.close();
+    }
+  }
+
+  @Test
+  public void testInvalidateLateCommittedChangeLogs() throws Exception {
+    Config channelConfig = Mockito.mock(Config.class);
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_POLL_INTERVAL_MS)).thenReturn(3_600_000L);
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_RETENTION_MS)).thenReturn(3_600_000L);
+
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    ChangeLogCacheInvalidationChannel channel = new ChangeLogCacheInvalidationChannel();
+    channel.initialize(channelConfig, cache);
+
+    try {
+      // The entry with the larger id commits first, far beyond the highest id seen.
+      long maxId = EntityChangeLogMetaService.getInstance().getMaxChangeLogId();
+      NameIdentifier early = NameIdentifier.of("metalake", "catalog", "schema", "early");
+      NameIdentifier late = NameIdentifier.of("metalake", "catalog", "schema", "late");
+      insertChangeLog(maxId + 1000, early);
+      channel.pollAndInvalidate();
+      Mockito.verify(cache).invalidate(early, Entity.EntityType.TABLE);
+
+      // The entry with the skipped id becomes visible later and is read by the next poll.
+      insertChangeLog(maxId + 1, late);
+      channel.pollAndInvalidate();
+      Mockito.verify(cache).invalidate(late, Entity.EntityType.TABLE);
+
+      // The entries are applied only once.
+      channel.pollAndInvalidate();
+      Mockito.verify(cache).invalidate(early, Entity.EntityType.TABLE);
+      Mockito.verify(cache).invalidate(late, Entity.EntityType.TABLE);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void insertChangeLog(long id, NameIdentifier ident) throws Exception {
+    String nameLevels =
+        JsonUtils.anyFieldMapper()
+            .writeValueAsString(ArrayUtils.add(ident.namespace().levels(), ident.name()));
+    try (SqlSession sqlSession =
+            SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
+        Connection connection = sqlSession.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          String.format(
+              "INSERT INTO entity_change_log"
+                  + " (id, entity_type, entity_name_levels, source_node, created_at)"
+                  + " VALUES (%d, 'TABLE', '%s', 'other', %d)",
+              id, nameLevels, System.currentTimeMillis()));
+    }
+  }
+
+  @Test
+  public void testInvalidateDottedNamesAndRelations() throws Exception {
+    Config channelConfig = Mockito.mock(Config.class);
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_POLL_INTERVAL_MS)).thenReturn(3_600_000L);
+    Mockito.when(channelConfig.get(CACHE_INVALIDATION_RETENTION_MS)).thenReturn(3_600_000L);
+
+    EntityCache cacheB = Mockito.mock(EntityCache.class);
+    ChangeLogCacheInvalidationChannel channelA = new ChangeLogCacheInvalidationChannel();
+    ChangeLogCacheInvalidationChannel channelB = new ChangeLogCacheInvalidationChannel();
+    channelA.initialize(channelConfig, Mockito.mock(EntityCache.class));
+    channelB.initialize(channelConfig, cacheB);
+
+    try {
+      NameIdentifier user = NameIdentifier.of("metalake", "system", "user", "alice@corp.com");
+      channelA.publish(user, Entity.EntityType.USER);
+      NameIdentifier role = NameIdentifier.of("metalake", "system", "role", "role.v1");
+      channelA.publish(role, Entity.EntityType.ROLE, SupportsRelationOperations.Type.ROLE_USER_REL);
+
+      channelB.pollAndInvalidate();
+      Mockito.verify(cacheB).invalidate(user, Entity.EntityType.USER);
+      Mockito.verify(cacheB)
+          .invalidate(role, Entity.EntityType.ROLE, SupportsRelationOperations.Type.ROLE_USER_REL);
+      Mockito.verify(cacheB, Mockito.never()).invalidate(role, Entity.EntityType.ROLE);
+    } finally {
+      channelA.close();
+      channelB.close();
+    }
+  }
+
+  @Test
+  public void testDeleteLegacyChangeLogs() {
+    EntityChangeLogMetaService service = EntityChangeLogMetaService.getInstance();
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    service.insertChangeLog(schema, Entity.EntityType.SCHEMA, "node");
+    service.insertChangeLog(schema, Entity.EntityType.SCHEMA, "node");
+
+    Assertions.assertEquals(2, service.listChangeLogsAfterId(0, 10).size());
+    Assertions.assertEquals(
+        0, service.deleteChangeLogsByLegacyTimeline(System.currentTimeMillis() - 60_000L, 10));
+    Assertions.assertEquals(
+        2, service.deleteChangeLogsByLegacyTimeline(System.currentTimeMillis() + 1, 10));
+    Assertions.assertTrue(service.listChangeLogsAfterId(0, 10).isEmpty());
+  }
+}
@@ -92,6 +92,7 @@ import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
 import org.apache.gravitino.storage.relational.service.RoleMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
@@ -203,6 +204,7 @@ public class TestJDBCBackend {
     } catch (SQLException e) {
       throw new RuntimeException("Truncate table failed", e);
     }
+    CommonMetaService.getInstance().invalidateAllEntityIds();
   }
 
   private static void dropAllTables() {
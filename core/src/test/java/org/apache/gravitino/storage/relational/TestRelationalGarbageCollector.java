@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Counter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRelationalGarbageCollector {
+
+  private static Config mockConfig(int maxDeletionLimit, long targetLatencyMs) {
+    Config config = mock(Config.class);
+    when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(600_000L);
+    when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(GARBAGE_COLLECTOR_PARALLELISM)).thenReturn(4);
+    when(config.get(GARBAGE_COLLECTOR_MAX_DELETION_LIMIT)).thenReturn(maxDeletionLimit);
+    when(config.get(GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS)).thenReturn(targetLatencyMs);
+    when(config.get(GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    return config;
+  }
+
+  @Test
+  public void testNextDeletionLimit() throws IOException {
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(mock(RelationalBackend.class), mockConfig(1000, 100))) {
+      // Fast and full deletions grow the limit up to the max limit.
+      Assertions.assertEquals(200, collector.nextDeletionLimit(100, 100, 10));
+      Assertions.assertEquals(1000, collector.nextDeletionLimit(800, 800, 10));
+      // A partial deletion means the backlog is drained, keep the limit.
+      Assertions.assertEquals(100, collector.nextDeletionLimit(100, 20, 10));
+      // A deletion close to the target keeps the limit.
+      Assertions.assertEquals(100, collector.nextDeletionLimit(100, 100, 80));
+      // Slow deletions shrink the limit down to the min limit.
+      Assertions.assertEquals(50, collector.nextDeletionLimit(100, 100, 150));
+      Assertions.assertEquals(
+          RelationalGarbageCollector.MIN_DELETION_LIMIT,
+          collector.nextDeletionLimit(
+              RelationalGarbageCollector.MIN_DELETION_LIMIT,
+              RelationalGarbageCollector.MIN_DELETION_LIMIT,
+              150));
+    }
+  }
+
+  @Test
+  public void testDeleteInBatches() throws IOException {
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(mock(RelationalBackend.class), mockConfig(1000, 1000))) {
+      AtomicInteger remaining = new AtomicInteger(5000);
+      List<Integer> limits = new ArrayList<>();
+      Counter counter = new Counter();
+      long deleted =
+          collector.deleteInBatches(
+              limit -> {
+                limits.add(limit);
+                int count = Math.min(limit, remaining.get());
+                remaining.addAndGet(-count);
+                return count;
+              },
+              counter);
+
+      Assertions.assertEquals(5000, deleted);
+      Assertions.assertEquals(5000, counter.getCount());
+      Assertions.assertEquals(0, remaining.get());
+      Assertions.assertEquals(GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT, limits.get(0));
+      Assertions.assertEquals(200, limits.get(1));
+      Assertions.assertEquals(1000, limits.get(limits.size() - 1));
+    }
+  }
+
+  @Test
+  public void testCollectAndCleanAllEntityTypes() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    Map<Entity.EntityType, AtomicInteger> legacyRows = new ConcurrentHashMap<>();
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      legacyRows.put(entityType, new AtomicInteger(150));
+      when(backend.hardDeleteLegacyData(eq(entityType), anyLong(), anyInt()))
+          .thenAnswer(
+              invocation -> {
+                int limit = invocation.getArgument(2);
+                AtomicInteger rows = legacyRows.get(entityType);
+                int count = Math.min(limit, rows.get());
+                rows.addAndGet(-count);
+                return count;
+              });
+    }
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), anyInt()))
+        .thenThrow(new RuntimeException("Mock failure"));
+    when(backend.deleteOldVersionData(eq(Entity.EntityType.FILESET), anyLong(), anyInt()))
+        .thenReturn(3, 0);
+
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, mockConfig(1000, 1000))) {
+      collector.collectAndClean();
+    }
+
+    // A failure of one entity type doesn't stop the others.
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      int expected = entityType == Entity.EntityType.TABLE ? 150 : 0;
+      Assertions.assertEquals(expected, legacyRows.get(entityType).get(), entityType.name());
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCommonMetaService extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_common_test";
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @BeforeEach
+  public void enableEntityIdsCache() {
+    CommonMetaService.getInstance().initialize(mockCacheConfig(true));
+  }
+
+  @AfterEach
+  public void disableEntityIdsCache() {
+    CommonMetaService.getInstance().initialize(mockCacheConfig(false));
+  }
+
+  @Test
+  public void testEntityIdsCacheDisabled() throws IOException {
+    createParentEntities(metalakeName, "catalog1", "schema1", auditInfo);
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    commonMetaService.initialize(mockCacheConfig(false));
+
+    Namespace schemaNamespace = Namespace.of(metalakeName, "catalog1", "schema1");
+    Assertions.assertNotNull(commonMetaService.getParentEntityIdByNamespace(schemaNamespace));
+    Assertions.assertEquals(0, commonMetaService.cachedEntityIdsSize());
+  }
+
+  @Test
+  public void testGetParentEntityIdsFromCache() throws IOException {
+    createParentEntities(metalakeName, "catalog1", "schema1", auditInfo);
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    commonMetaService.invalidateAllEntityIds();
+
+    Namespace schemaNamespace = Namespace.of(metalakeName, "catalog1", "schema1");
+    Long[] parentEntityIds = commonMetaService.getParentEntityIdsByNamespace(schemaNamespace);
+    Assertions.assertEquals(3, parentEntityIds.length);
+    Assertions.assertEquals(
+        MetalakeMetaService.getInstance().getMetalakeIdByName(metalakeName), parentEntityIds[0]);
+    Assertions.assertEquals(
+        parentEntityIds[2], commonMetaService.getParentEntityIdByNamespace(schemaNamespace));
+    Assertions.assertEquals(1, commonMetaService.cachedEntityIdsSize());
+
+    // The returned ids can't be used to pollute the cache.
+    parentEntityIds[2] = -1L;
+    Assertions.assertNotEquals(
+        -1L, commonMetaService.getParentEntityIdByNamespace(schemaNamespace));
+
+    // Entities that don't exist are not cached.
+    Namespace missingNamespace = Namespace.of(metalakeName, "catalog1", "schema2");
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> commonMetaService.getParentEntityIdByNamespace(missingNamespace));
+    Assertions.assertEquals(1, commonMetaService.cachedEntityIdsSize());
+  }
+
+  @Test
+  public void testInvalidateEntityIdsAfterRenameAndDrop() throws IOException {
+    createParentEntities(metalakeName, "catalog1", "schema1", auditInfo);
+    CommonMetaService commonMetaService = CommonMetaService.getInstance();
+    commonMetaService.invalidateAllEntityIds();
+
+    Namespace catalogNamespace = Namespace.of(metalakeName, "catalog1");
+    Namespace schemaNamespace = Namespace.of(metalakeName, "catalog1", "schema1");
+    Long schemaId = commonMetaService.getParentEntityIdByNamespace(schemaNamespace);
+    commonMetaService.getParentEntityIdByNamespace(catalogNamespace);
+    Assertions.assertEquals(2, commonMetaService.cachedEntityIdsSize());
+
+    // Renaming the schema only invalidates the ids under the schema.
+    NameIdentifier schemaIdent = NameIdentifier.of(metalakeName, "catalog1", "schema1");
+    backend.update(
+        schemaIdent,
+        Entity.EntityType.SCHEMA,
+        e ->
+            SchemaEntity.builder()
+                .withId(schemaId)
+                .withName("schema2")
+                .withNamespace(catalogNamespace)
+                .withComment("")
+                .withAuditInfo(auditInfo)
+                .build());
+    Assertions.assertEquals(1, commonMetaService.cachedEntityIdsSize());
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> commonMetaService.getParentEntityIdByNamespace(schemaNamespace));
+    Assertions.assertEquals(
+        schemaId,
+        commonMetaService.getParentEntityIdByNamespace(
+            Namespace.of(metalakeName, "catalog1", "schema2")));
+
+    // Dropping the catalog invalidates all the ids under the catalog.
+    backend.delete(NameIdentifier.of(metalakeName, "catalog1"), Entity.EntityType.CATALOG, true);
+    Assertions.assertEquals(0, commonMetaService.cachedEntityIdsSize());
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> commonMetaService.getParentEntityIdByNamespace(catalogNamespace));
+
+    // The recreated entities with the same names are resolved to the new ids.
+    Long newSchemaId = RandomIdGenerator.INSTANCE.nextId();
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog1", auditInfo),
+        false);
+    backend.insert(createSchemaEntity(newSchemaId, catalogNamespace, "schema1", auditInfo), false);
+    Assertions.assertEquals(
+        newSchemaId, commonMetaService.getParentEntityIdByNamespace(schemaNamespace));
+  }
+
+  private static Config mockCacheConfig(boolean enabled) {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(enabled);
+    Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
+    Mockito.when(config.get(Configs.CACHE_EXPIRATION_TIME)).thenReturn(3_600_000L);
+    return config;
+  }
+}
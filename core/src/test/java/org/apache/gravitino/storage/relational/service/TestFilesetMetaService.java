@@ -261,6 +261,43 @@ public class TestFilesetMetaService {
     Assertions.assertTrue(locationNames.contains(locationName));
   }
 
+  @Test
+  public void testListFilesetsByPage() throws IOException {
+    Namespace filesetNs = NamespaceUtil.ofFileset(metalakeName, catalogName, schemaName);
+    Map<String, String> locations =
+        ImmutableMap.of(LOCATION_NAME_UNKNOWN, "/tmp", "location1", "/tmp2");
+    for (String filesetName : Lists.newArrayList("fileset3", "fileset1", "fileset0", "fileset2")) {
+      FilesetEntity filesetEntity =
+          FilesetEntity.builder()
+              .withId(idGenerator.nextId())
+              .withName(filesetName)
+              .withNamespace(filesetNs)
+              .withFilesetType(Fileset.Type.MANAGED)
+              .withStorageLocations(locations)
+              .withComment("")
+              .withProperties(null)
+              .withAuditInfo(auditInfo)
+              .build();
+      FilesetMetaService.getInstance().insertFileset(filesetEntity, true);
+    }
+    FilesetMetaService.getInstance()
+        .deleteFileset(NameIdentifier.of(metalakeName, catalogName, schemaName, "fileset1"));
+
+    // Each fileset has two version rows, the page is still cut by filesets.
+    List<FilesetEntity> firstPage =
+        FilesetMetaService.getInstance().listFilesetsByNamespace(filesetNs, null, 2);
+    Assertions.assertEquals(
+        Lists.newArrayList("fileset0", "fileset2"),
+        firstPage.stream().map(FilesetEntity::name).collect(Collectors.toList()));
+    Assertions.assertEquals(locations, firstPage.get(0).storageLocations());
+
+    List<FilesetEntity> secondPage =
+        FilesetMetaService.getInstance().listFilesetsByNamespace(filesetNs, "fileset2", 2);
+    Assertions.assertEquals(
+        Lists.newArrayList("fileset3"),
+        secondPage.stream().map(FilesetEntity::name).collect(Collectors.toList()));
+  }
+
   @Test
   public void testDeleteFilesetVersionsByRetentionCount() throws IOException {
     String filesetName = GravitinoITUtils.genRandomName("tst_fs_fileset");
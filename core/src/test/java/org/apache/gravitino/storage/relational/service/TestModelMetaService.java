@@ -24,6 +24,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -164,6 +166,41 @@ public class TestModelMetaService extends TestJDBCBackend {
                 .listModelsByNamespace(Namespace.of(METALAKE_NAME, CATALOG_NAME, "inexistent")));
   }
 
+  @Test
+  public void testListModelsByPage() throws IOException {
+    createParentEntities(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, auditInfo);
+    for (String modelName : List.of("model3", "model1", "model4", "model0", "model2")) {
+      ModelEntity modelEntity =
+          createModelEntity(
+              RandomIdGenerator.INSTANCE.nextId(), MODEL_NS, modelName, null, 0, null, auditInfo);
+      ModelMetaService.getInstance().insertModel(modelEntity, false);
+    }
+    ModelMetaService.getInstance().deleteModel(NameIdentifier.of(MODEL_NS, "model2"));
+
+    ModelMetaService modelMetaService = ModelMetaService.getInstance();
+    List<ModelEntity> firstPage = modelMetaService.listModelsByNamespace(MODEL_NS, null, 2);
+    Assertions.assertEquals(
+        List.of("model0", "model1"),
+        firstPage.stream().map(ModelEntity::name).collect(Collectors.toList()));
+
+    // The dropped model is skipped.
+    List<ModelEntity> secondPage = modelMetaService.listModelsByNamespace(MODEL_NS, "model1", 2);
+    Assertions.assertEquals(
+        List.of("model3", "model4"),
+        secondPage.stream().map(ModelEntity::name).collect(Collectors.toList()));
+
+    Assertions.assertTrue(modelMetaService.listModelsByNamespace(MODEL_NS, "model4", 2).isEmpty());
+    Assertions.assertEquals(
+        secondPage, backend.list(MODEL_NS, Entity.EntityType.MODEL, firstPage.get(1).name(), 2));
+
+    // Test list models by in-existent namespace
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            modelMetaService.listModelsByNamespace(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "inexistent"), null, 2));
+  }
+
   @Test
   public void testInsertAndDeleteModel() throws IOException {
     createParentEntities(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, auditInfo);
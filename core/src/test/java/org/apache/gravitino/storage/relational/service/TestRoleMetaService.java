@@ -110,6 +110,73 @@ class TestRoleMetaService extends TestJDBCBackend {
     Assertions.assertEquals(role1, roleMetaService.getRoleByIdentifier(role1.nameIdentifier()));
   }
 
+  @Test
+  void testBatchGetRolesByIdentifiers() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    CatalogEntity anotherCatalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake"),
+            "anotherCatalog",
+            auditInfo);
+    backend.insert(anotherCatalog, false);
+
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            SecurableObjects.ofCatalog(
+                "catalog", Lists.newArrayList(Privileges.UseCatalog.allow())),
+            ImmutableMap.of("k1", "v1"));
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            Lists.newArrayList(
+                SecurableObjects.ofCatalog(
+                    "catalog", Lists.newArrayList(Privileges.CreateSchema.allow())),
+                SecurableObjects.ofCatalog(
+                    "anotherCatalog", Lists.newArrayList(Privileges.UseCatalog.deny()))),
+            ImmutableMap.of());
+    roleMetaService.insertRole(role1, false);
+    roleMetaService.insertRole(role2, false);
+
+    List<RoleEntity> roles =
+        roleMetaService.batchGetRolesByIdentifiers(
+            Lists.newArrayList(
+                role1.nameIdentifier(),
+                AuthorizationUtils.ofRole(metalakeName, "notExistRole"),
+                role2.nameIdentifier()));
+    roles.sort(Comparator.comparing(RoleEntity::name));
+    Assertions.assertEquals(2, roles.size());
+    Assertions.assertEquals(role1, roles.get(0));
+    Assertions.assertEquals(role2.id(), roles.get(1).id());
+    Assertions.assertEquals(
+        role2.securableObjects().size(), roles.get(1).securableObjects().size());
+    Assertions.assertTrue(roles.get(1).securableObjects().containsAll(role2.securableObjects()));
+
+    // Roles of a metalake which doesn't exist are skipped
+    Assertions.assertTrue(
+        roleMetaService
+            .batchGetRolesByIdentifiers(
+                Lists.newArrayList(AuthorizationUtils.ofRole("notExistMetalake", "role1")))
+            .isEmpty());
+  }
+
   @Test
   void testListRoles() throws IOException {
     AuditInfo auditInfo =
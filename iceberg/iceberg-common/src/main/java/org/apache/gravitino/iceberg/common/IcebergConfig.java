@@ -196,6 +196,43 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_WRITE_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_WRITE_BATCH_SIZE)
+          .doc("The maximum number of Iceberg metrics written to the metrics store at once")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_URI =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URI)
+          .doc("The JDBC URI of the database to save Iceberg metrics for the jdbc metrics store")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_USER =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_USER)
+          .doc("The username of the database to save Iceberg metrics")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_PASSWORD =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_PASSWORD)
+          .doc("The password of the database to save Iceberg metrics")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_STORE_BUCKET_MINUTES =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_BUCKET_MINUTES)
+          .doc("The minutes of the time buckets to aggregate Iceberg metrics of each table")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -210,6 +247,80 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .longConf()
           .createWithDefault(3600000L);
 
+  public static final ConfigEntry<Long> TABLE_LOCATION_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.TABLE_LOCATION_CACHE_MAX_SIZE)
+          .doc(
+              "The max number of table locations cached to vend credentials without loading the "
+                  + "table metadata, 0 means not caching the table locations. The cached "
+                  + "locations are only invalidated on the server dropping or renaming the table, "
+                  + "other servers may vend the credentials of the old locations until they expire")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Long> TABLE_LOCATION_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.TABLE_LOCATION_CACHE_EXPIRE_MS)
+          .doc("The milliseconds to expire the cached table locations after they are loaded")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(600000L);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_MAX_SIZE)
+          .doc(
+              "The max number of table metadata cached to load the tables without reading the "
+                  + "metadata files if they are not changed, 0 means not caching the table metadata")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_EXPIRE_MS)
+          .doc("The milliseconds to expire the cached table metadata after they are loaded")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(600000L);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_THREADS =
+      new ConfigBuilder(IcebergConstants.SCAN_PLANNING_THREADS)
+          .doc("The number of threads to read the manifests in parallel when planning table scans")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_TASKS_PER_PAGE =
+      new ConfigBuilder(IcebergConstants.SCAN_PLANNING_TASKS_PER_PAGE)
+          .doc(
+              "The max number of file scan tasks returned in a response of planning table scans, "
+                  + "the rest are returned as plan tasks to fetch later")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> SCAN_PLANNING_PLAN_TASK_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.SCAN_PLANNING_PLAN_TASK_EXPIRE_MS)
+          .doc("The milliseconds to expire the plan tasks after the table scan is planned")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(600000L);
+
+  public static final ConfigEntry<Long> SCAN_PLANNING_MAX_CACHED_TASKS =
+      new ConfigBuilder(IcebergConstants.SCAN_PLANNING_MAX_CACHED_TASKS)
+          .doc(
+              "The max number of file scan tasks kept in memory for the plan tasks to fetch, "
+                  + "the scans whose tasks don't fit are refused")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100000L);
+
   public static final ConfigEntry<String> ICEBERG_REST_CATALOG_CONFIG_PROVIDER =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CONFIG_PROVIDER)
           .doc(
@@ -18,21 +18,29 @@
  */
 package org.apache.gravitino.iceberg.common.ops;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergCatalogBackend;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.authentication.AuthenticationConfig;
 import org.apache.gravitino.iceberg.common.utils.IcebergCatalogUtil;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
@@ -71,6 +79,14 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private String catalogUri = null;
   private Map<String, String> catalogPropertiesMap;
 
+  // The operations of the loaded tables. Refreshing the operations of a table only reads the
+  // metadata location from the catalog, the metadata file is read and parsed again only if the
+  // location is changed.
+  private final Cache<TableIdentifier, TableOperations> tableMetadataCache;
+  // The cached operations are shared by all the users, they are not used if the catalog accesses
+  // the backend as the request user, since a user could read the tables loaded by others then.
+  private final boolean tableMetadataCacheEnabled;
+
   public IcebergCatalogWrapper(IcebergConfig icebergConfig) {
     this.catalogBackend =
         IcebergCatalogBackend.valueOf(
@@ -91,6 +107,16 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     }
 
     this.catalogPropertiesMap = icebergConfig.getIcebergCatalogProperties();
+    this.tableMetadataCacheEnabled =
+        icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_MAX_SIZE) > 0
+            && !new AuthenticationConfig(catalogPropertiesMap).isImpersonationEnabled();
+    this.tableMetadataCache =
+        Caffeine.newBuilder()
+            .maximumSize(icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_MAX_SIZE))
+            .expireAfterWrite(
+                icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MS),
+                TimeUnit.MILLISECONDS)
+            .build();
   }
 
   private void validateNamespace(Optional<Namespace> namespace) {
@@ -142,7 +168,11 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public LoadTableResponse registerTable(Namespace namespace, RegisterTableRequest request) {
-    return CatalogHandlers.registerTable(catalog, namespace, request);
+    try {
+      return CatalogHandlers.registerTable(catalog, namespace, request);
+    } finally {
+      tableMetadataCache.invalidate(TableIdentifier.of(namespace, request.name()));
+    }
   }
 
   /**
@@ -163,19 +193,64 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     if (request.stageCreate()) {
       return CatalogHandlers.stageTableCreate(catalog, namespace, request);
     }
-    return CatalogHandlers.createTable(catalog, namespace, request);
+    try {
+      return CatalogHandlers.createTable(catalog, namespace, request);
+    } finally {
+      tableMetadataCache.invalidate(TableIdentifier.of(namespace, request.name()));
+    }
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.dropTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.dropTable(catalog, tableIdentifier);
+    } finally {
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    try {
+      CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    } finally {
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
   }
 
+  /**
+   * Load the table metadata. The cached table metadata is returned if its metadata location is not
+   * changed in the catalog, so loading the hot tables doesn't read and parse the metadata files
+   * again. The table metadata is not cached if the impersonation is enabled.
+   *
+   * @param tableIdentifier The table identifier.
+   * @return A {@link LoadTableResponse} object containing the table metadata.
+   */
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    if (!tableMetadataCacheEnabled) {
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+
+    TableOperations cachedOperations = tableMetadataCache.getIfPresent(tableIdentifier);
+    if (cachedOperations != null) {
+      try {
+        TableMetadata tableMetadata = refresh(cachedOperations);
+        if (tableMetadata != null) {
+          return LoadTableResponse.builder().withTableMetadata(tableMetadata).build();
+        }
+      } catch (RuntimeException e) {
+        // The table may be dropped or replaced by others, load it from the catalog again.
+        LOG.debug("Failed to refresh the cached metadata of table {}", tableIdentifier, e);
+      }
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
+
+    Table table = catalog.loadTable(tableIdentifier);
+    if (!(table instanceof BaseTable)) {
+      // The metadata tables are not cached, let CatalogHandlers handle them.
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+    TableOperations operations = ((BaseTable) table).operations();
+    tableMetadataCache.put(tableIdentifier, operations);
+    return LoadTableResponse.builder().withTableMetadata(operations.current()).build();
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
@@ -187,17 +262,30 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
-    CatalogHandlers.renameTable(catalog, renameTableRequest);
+    try {
+      CatalogHandlers.renameTable(catalog, renameTableRequest);
+    } finally {
+      tableMetadataCache.invalidate(renameTableRequest.source());
+      tableMetadataCache.invalidate(renameTableRequest.destination());
+    }
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
-    return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    try {
+      return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    } finally {
+      tableMetadataCache.invalidate(tableIdentifier);
+    }
   }
 
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
-    transaction.commitTransaction();
+    try {
+      transaction.commitTransaction();
+    } finally {
+      tableMetadataCache.invalidate(icebergTableChange.getTableIdentifier());
+    }
     return loadTable(icebergTableChange.getTableIdentifier());
   }
 
@@ -238,6 +326,7 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   @Override
   public void close() throws Exception {
+    tableMetadataCache.invalidateAll();
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog and WrappedHiveCatalog need close.
       ((AutoCloseable) catalog).close();
@@ -260,6 +349,15 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     }
   }
 
+  // The table operations such as HiveTableOperations and JdbcTableOperations are not thread safe,
+  // the cached operations are shared by the concurrent loads of the same table, so they are
+  // refreshed one by one. The loads of different tables are not blocked by each other.
+  private static TableMetadata refresh(TableOperations operations) {
+    synchronized (operations) {
+      return operations.refresh();
+    }
+  }
+
   private void closeMySQLCatalogResource() {
     try {
       // Close thread AbandonedConnectionCleanupThread if we are using `com.mysql.cj.jdbc.Driver`,
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.authentication.AuthenticationConfig;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestIcebergCatalogWrapper {
+
+  @Test
+  void testLoadTableWithCachedMetadata(@TempDir Path tempDir) throws Exception {
+    IcebergConfig config = newJdbcConfig(tempDir, false);
+    Namespace namespace = Namespace.of("db");
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    TableIdentifier t1 = TableIdentifier.of(namespace, "t1");
+    try (IcebergCatalogWrapper wrapper = new IcebergCatalogWrapper(config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      for (String table : new String[] {"t1", "t2"}) {
+        wrapper.createTable(
+            namespace, CreateTableRequest.builder().withName(table).withSchema(schema).build());
+      }
+
+      // The changes committed by others are picked up by the metadata location.
+      TableMetadata metadata = wrapper.loadTable(t1).tableMetadata();
+      Table table = wrapper.getCatalog().loadTable(t1);
+      table.updateProperties().set("k1", "v1").commit();
+      TableMetadata updatedMetadata = wrapper.loadTable(t1).tableMetadata();
+      Assertions.assertNotEquals(
+          metadata.metadataFileLocation(), updatedMetadata.metadataFileLocation());
+      Assertions.assertEquals("v1", updatedMetadata.property("k1", null));
+
+      // The cached metadata is used without reading the metadata file if it's not changed.
+      table.io().deleteFile(updatedMetadata.metadataFileLocation());
+      Assertions.assertEquals(
+          updatedMetadata.metadataFileLocation(),
+          wrapper.loadTable(t1).tableMetadata().metadataFileLocation());
+
+      // The tables dropped by others are not loaded from the cache.
+      wrapper.getCatalog().dropTable(t1, false);
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.loadTable(t1));
+
+      // The cached metadata is invalidated after renaming the table.
+      TableIdentifier t2 = TableIdentifier.of(namespace, "t2");
+      TableIdentifier t3 = TableIdentifier.of(namespace, "t3");
+      wrapper.loadTable(t2);
+      wrapper.renameTable(RenameTableRequest.builder().withSource(t2).withDestination(t3).build());
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.loadTable(t2));
+      Assertions.assertNotNull(wrapper.loadTable(t3).tableMetadata());
+    }
+  }
+
+  @Test
+  void testLoadTableWithImpersonation(@TempDir Path tempDir) throws Exception {
+    Namespace namespace = Namespace.of("db");
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    TableIdentifier t1 = TableIdentifier.of(namespace, "t1");
+    try (IcebergCatalogWrapper wrapper = new IcebergCatalogWrapper(newJdbcConfig(tempDir, true))) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      wrapper.createTable(
+          namespace, CreateTableRequest.builder().withName("t1").withSchema(schema).build());
+
+      // The table metadata is not cached, it's read from the metadata file on every load.
+      TableMetadata metadata = wrapper.loadTable(t1).tableMetadata();
+      wrapper.getCatalog().loadTable(t1).io().deleteFile(metadata.metadataFileLocation());
+      Assertions.assertThrows(NotFoundException.class, () -> wrapper.loadTable(t1));
+    }
+  }
+
+  private static IcebergConfig newJdbcConfig(Path tempDir, boolean impersonation) {
+    return new IcebergConfig(
+        ImmutableMap.<String, String>builder()
+            .put(IcebergConstants.CATALOG_BACKEND, "jdbc")
+            .put(IcebergConstants.CATALOG_BACKEND_NAME, "jdbc")
+            .put(IcebergConstants.URI, "jdbc:sqlite:" + tempDir.resolve("catalog.db"))
+            .put(IcebergConstants.WAREHOUSE, tempDir.resolve("warehouse").toString())
+            .put(IcebergConstants.GRAVITINO_JDBC_DRIVER, "org.sqlite.JDBC")
+            .put(IcebergConstants.ICEBERG_JDBC_USER, "test")
+            .put(IcebergConstants.ICEBERG_JDBC_PASSWORD, "test")
+            .put(IcebergConstants.ICEBERG_JDBC_INITIALIZE, "true")
+            .put(AuthenticationConfig.IMPERSONATION_ENABLE_KEY, String.valueOf(impersonation))
+            .build());
+  }
+}
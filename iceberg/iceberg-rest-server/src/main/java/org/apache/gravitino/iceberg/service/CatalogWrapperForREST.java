@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.iceberg.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -26,6 +28,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -36,6 +40,11 @@ import org.apache.gravitino.credential.CredentialPropertyUtils;
 import org.apache.gravitino.credential.PathBasedCredentialContext;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksRequest;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksResponse;
+import org.apache.gravitino.iceberg.service.scan.IcebergScanPlanner;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanRequest;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanResponse;
 import org.apache.gravitino.storage.GCSProperties;
 import org.apache.gravitino.utils.MapUtils;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -45,6 +54,9 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.ServiceUnavailableException;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.RegisterTableRequest;
+import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ImmutableLoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -56,6 +68,13 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
 
   private final Map<String, String> catalogConfigToClients;
 
+  // The locations of the tables to vend credentials, so refreshing the credentials of a table
+  // doesn't load and parse the table metadata again.
+  private final Cache<TableIdentifier, Set<String>> tableLocationCache;
+  private final boolean tableLocationCacheEnabled;
+
+  private final IcebergScanPlanner scanPlanner;
+
   private static final Set<String> catalogPropertiesToClientKeys =
       ImmutableSet.of(
           IcebergConstants.IO_IMPL,
@@ -73,6 +92,10 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
           GCSProperties.GRAVITINO_GCS_SERVICE_ACCOUNT_FILE);
 
   public CatalogWrapperForREST(String catalogName, IcebergConfig config) {
+    this(IcebergConstants.ICEBERG_REST_DEFAULT_METALAKE, catalogName, config);
+  }
+
+  public CatalogWrapperForREST(String metalakeName, String catalogName, IcebergConfig config) {
     super(config);
     this.catalogConfigToClients =
         MapUtils.getFilteredMap(
@@ -81,29 +104,105 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     // To be compatible with old properties
     Map<String, String> catalogProperties =
         checkForCompatibility(config.getAllConfig(), deprecatedProperties);
-    this.catalogCredentialManager = new CatalogCredentialManager(catalogName, catalogProperties);
+    this.catalogCredentialManager =
+        new CatalogCredentialManager(metalakeName, catalogName, catalogProperties);
+    this.tableLocationCacheEnabled = config.get(IcebergConfig.TABLE_LOCATION_CACHE_MAX_SIZE) > 0;
+    this.tableLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(config.get(IcebergConfig.TABLE_LOCATION_CACHE_MAX_SIZE))
+            .expireAfterWrite(
+                config.get(IcebergConfig.TABLE_LOCATION_CACHE_EXPIRE_MS), TimeUnit.MILLISECONDS)
+            .build();
+    this.scanPlanner = new IcebergScanPlanner(config);
   }
 
   public LoadTableResponse createTable(
       Namespace namespace, CreateTableRequest request, boolean requestCredential) {
     LoadTableResponse loadTableResponse = super.createTable(namespace, request);
+    TableIdentifier tableIdentifier = TableIdentifier.of(namespace, request.name());
+    // The staged table is not committed yet, its location may change when it's committed.
+    if (!request.stageCreate()) {
+      cacheTableLocations(tableIdentifier, loadTableResponse);
+    }
     if (requestCredential) {
-      return injectCredentialConfig(
-          TableIdentifier.of(namespace, request.name()), loadTableResponse);
+      return injectCredentialConfig(tableIdentifier, loadTableResponse);
     }
     return loadTableResponse;
   }
 
   public LoadTableResponse loadTable(TableIdentifier identifier, boolean requestCredential) {
     LoadTableResponse loadTableResponse = super.loadTable(identifier);
+    cacheTableLocations(identifier, loadTableResponse);
     if (requestCredential) {
       return injectCredentialConfig(identifier, loadTableResponse);
     }
     return loadTableResponse;
   }
 
+  @Override
+  public LoadTableResponse registerTable(Namespace namespace, RegisterTableRequest request) {
+    LoadTableResponse loadTableResponse = super.registerTable(namespace, request);
+    cacheTableLocations(TableIdentifier.of(namespace, request.name()), loadTableResponse);
+    return loadTableResponse;
+  }
+
+  @Override
+  public LoadTableResponse updateTable(
+      TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
+    try {
+      LoadTableResponse loadTableResponse = super.updateTable(tableIdentifier, updateTableRequest);
+      cacheTableLocations(tableIdentifier, loadTableResponse);
+      return loadTableResponse;
+    } catch (RuntimeException e) {
+      // The commit state is unknown if it fails, the locations are loaded again when needed.
+      tableLocationCache.invalidate(tableIdentifier);
+      throw e;
+    }
+  }
+
+  @Override
+  public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
+    TableIdentifier tableIdentifier = icebergTableChange.getTableIdentifier();
+    try {
+      LoadTableResponse loadTableResponse = super.updateTable(icebergTableChange);
+      cacheTableLocations(tableIdentifier, loadTableResponse);
+      return loadTableResponse;
+    } catch (RuntimeException e) {
+      tableLocationCache.invalidate(tableIdentifier);
+      throw e;
+    }
+  }
+
+  @Override
+  public void dropTable(TableIdentifier tableIdentifier) {
+    try {
+      super.dropTable(tableIdentifier);
+    } finally {
+      tableLocationCache.invalidate(tableIdentifier);
+    }
+  }
+
+  @Override
+  public void purgeTable(TableIdentifier tableIdentifier) {
+    try {
+      super.purgeTable(tableIdentifier);
+    } finally {
+      tableLocationCache.invalidate(tableIdentifier);
+    }
+  }
+
+  @Override
+  public void renameTable(RenameTableRequest renameTableRequest) {
+    try {
+      super.renameTable(renameTableRequest);
+    } finally {
+      tableLocationCache.invalidate(renameTableRequest.source());
+      tableLocationCache.invalidate(renameTableRequest.destination());
+    }
+  }
+
   /**
-   * Get table credentials.
+   * Get table credentials. The table metadata is only loaded if the table locations are not cached.
    *
    * @param identifier The table identifier for which to load credentials
    * @return A {@link org.apache.iceberg.rest.responses.LoadCredentialsResponse} object containing
@@ -111,8 +210,13 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
    */
   public LoadCredentialsResponse getTableCredentials(TableIdentifier identifier) {
     try {
-      LoadTableResponse loadTableResponse = super.loadTable(identifier);
-      Credential credential = getCredential(loadTableResponse);
+      Set<String> tableLocations =
+          tableLocationCacheEnabled
+              ? tableLocationCache.get(
+                  identifier,
+                  tableIdentifier -> getTableLocations(super.loadTable(tableIdentifier)))
+              : getTableLocations(super.loadTable(identifier));
+      Credential credential = getCredential(tableLocations);
       org.apache.iceberg.rest.credentials.Credential icebergCredential =
           new org.apache.iceberg.rest.credentials.Credential() {
             @Override
@@ -135,11 +239,38 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     }
   }
 
+  /**
+   * Plan a scan of the table on the server side.
+   *
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param request The plan table scan request.
+   * @return A {@link PlanTableScanResponse} object containing the file scan tasks and plan tasks.
+   */
+  public PlanTableScanResponse planTableScan(
+      TableIdentifier tableIdentifier, PlanTableScanRequest request) {
+    return scanPlanner.planTableScan(tableIdentifier, catalog.loadTable(tableIdentifier), request);
+  }
+
+  /**
+   * Fetch the file scan tasks of a plan task returned by planning the table scan.
+   *
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param request The fetch scan tasks request.
+   * @return A {@link FetchScanTasksResponse} object containing the file scan tasks.
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier tableIdentifier, FetchScanTasksRequest request) {
+    return scanPlanner.fetchScanTasks(tableIdentifier, request);
+  }
+
   @Override
   public void close() {
     if (catalogCredentialManager != null) {
       catalogCredentialManager.close();
     }
+    if (scanPlanner != null) {
+      scanPlanner.close();
+    }
   }
 
   public Map<String, String> getCatalogConfigToClient() {
@@ -148,7 +279,7 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
 
   private LoadTableResponse injectCredentialConfig(
       TableIdentifier tableIdentifier, LoadTableResponse loadTableResponse) {
-    final Credential credential = getCredential(loadTableResponse);
+    final Credential credential = getCredential(getTableLocations(loadTableResponse));
 
     LOG.info(
         "Generate credential: {} for Iceberg table: {}",
@@ -164,19 +295,27 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
         .build();
   }
 
-  private Credential getCredential(LoadTableResponse loadTableResponse) {
+  private void cacheTableLocations(
+      TableIdentifier tableIdentifier, LoadTableResponse loadTableResponse) {
+    if (tableLocationCacheEnabled) {
+      tableLocationCache.put(tableIdentifier, getTableLocations(loadTableResponse));
+    }
+  }
+
+  private static Set<String> getTableLocations(LoadTableResponse loadTableResponse) {
     TableMetadata tableMetadata = loadTableResponse.tableMetadata();
-    String[] path =
-        Stream.of(
-                tableMetadata.location(),
-                tableMetadata.property(TableProperties.WRITE_DATA_LOCATION, ""),
-                tableMetadata.property(TableProperties.WRITE_METADATA_LOCATION, ""))
-            .filter(StringUtils::isNotBlank)
-            .toArray(String[]::new);
+    return Stream.of(
+            tableMetadata.location(),
+            tableMetadata.property(TableProperties.WRITE_DATA_LOCATION, ""),
+            tableMetadata.property(TableProperties.WRITE_METADATA_LOCATION, ""))
+        .filter(StringUtils::isNotBlank)
+        .collect(Collectors.collectingAndThen(Collectors.toSet(), ImmutableSet::copyOf));
+  }
 
+  private Credential getCredential(Set<String> tableLocations) {
     PathBasedCredentialContext context =
         new PathBasedCredentialContext(
-            PrincipalUtils.getCurrentUserName(), ImmutableSet.copyOf(path), Collections.emptySet());
+            PrincipalUtils.getCurrentUserName(), tableLocations, Collections.emptySet());
     Credential credential = catalogCredentialManager.getCredential(context);
     if (credential == null) {
       throw new ServiceUnavailableException("Couldn't generate credential, %s", context);
@@ -100,7 +100,7 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
   @VisibleForTesting
   protected CatalogWrapperForREST createCatalogWrapper(
       String catalogName, IcebergConfig icebergConfig) {
-    return new CatalogWrapperForREST(catalogName, icebergConfig);
+    return new CatalogWrapperForREST(configProvider.getMetalakeName(), catalogName, icebergConfig);
   }
 
   private void closeIcebergCatalogWrapper(IcebergCatalogWrapper catalogWrapper) {
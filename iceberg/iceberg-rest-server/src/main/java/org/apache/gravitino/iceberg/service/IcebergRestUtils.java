@@ -20,7 +20,10 @@ package org.apache.gravitino.iceberg.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -28,8 +31,10 @@ import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -38,7 +43,9 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.credentials.Credential;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 
 public class IcebergRestUtils {
 
@@ -48,6 +55,42 @@ public class IcebergRestUtils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds the ETag of a load table response. The ETag changes whenever the table metadata
+   * location, the table config or the vended credentials change, so a client revalidating with
+   * {@code If-None-Match} never keeps expired credentials.
+   *
+   * @param response The load table response.
+   * @param snapshots The snapshots mode of the load table request.
+   * @return The ETag, or null if the response has no metadata location.
+   */
+  public static EntityTag loadTableETag(LoadTableResponse response, String snapshots) {
+    if (response.metadataLocation() == null) {
+      return null;
+    }
+
+    Hasher hasher =
+        Hashing.murmur3_128()
+            .newHasher()
+            .putString(response.metadataLocation(), StandardCharsets.UTF_8)
+            .putString(String.valueOf(snapshots), StandardCharsets.UTF_8);
+    putSortedMap(hasher, response.config());
+    for (Credential credential : response.credentials()) {
+      hasher.putString(credential.prefix(), StandardCharsets.UTF_8);
+      putSortedMap(hasher, credential.config());
+    }
+    return new EntityTag(hasher.hash().toString());
+  }
+
+  private static void putSortedMap(Hasher hasher, Map<String, String> map) {
+    new TreeMap<>(map)
+        .forEach(
+            (k, v) ->
+                hasher
+                    .putString(k, StandardCharsets.UTF_8)
+                    .putString(String.valueOf(v), StandardCharsets.UTF_8));
+  }
+
   public static Response okWithoutContent() {
     return Response.status(Response.Status.OK).build();
   }
@@ -19,6 +19,10 @@
 
 package org.apache.gravitino.iceberg.service.dispatcher;
 
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksRequest;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksResponse;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanRequest;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanResponse;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -113,4 +117,30 @@ public interface IcebergTableOperationDispatcher {
    */
   LoadCredentialsResponse getTableCredentials(
       IcebergRequestContext context, TableIdentifier tableIdentifier);
+
+  /**
+   * Plans a scan of an Iceberg table.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param planTableScanRequest The request object containing the details of the scan.
+   * @return A {@link PlanTableScanResponse} object containing the file scan tasks and plan tasks.
+   */
+  PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest);
+
+  /**
+   * Fetches the file scan tasks of a plan task.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param fetchScanTasksRequest The request object containing the plan task.
+   * @return A {@link FetchScanTasksResponse} object containing the file scan tasks.
+   */
+  FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest);
 }
@@ -20,6 +20,10 @@
 package org.apache.gravitino.iceberg.service.dispatcher;
 
 import org.apache.gravitino.iceberg.service.IcebergCatalogWrapperManager;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksRequest;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksResponse;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanRequest;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanResponse;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -106,4 +110,24 @@ public class IcebergTableOperationExecutor implements IcebergTableOperationDispa
         .getCatalogWrapper(context.catalogName())
         .getTableCredentials(tableIdentifier);
   }
+
+  @Override
+  public PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest) {
+    return icebergCatalogWrapperManager
+        .getCatalogWrapper(context.catalogName())
+        .planTableScan(tableIdentifier, planTableScanRequest);
+  }
+
+  @Override
+  public FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    return icebergCatalogWrapperManager
+        .getCatalogWrapper(context.catalogName())
+        .fetchScanTasks(tableIdentifier, fetchScanTasksRequest);
+  }
 }
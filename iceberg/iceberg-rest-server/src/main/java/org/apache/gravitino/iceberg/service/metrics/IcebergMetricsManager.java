@@ -23,6 +23,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -31,6 +33,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,13 +47,16 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+          JdbcMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int writeBatchSize;
 
-  private BlockingQueue<MetricsReport> queue;
+  private BlockingQueue<IcebergMetricsRecord> queue;
   private Thread metricsWriterThread;
   private volatile boolean isClosed = false;
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
@@ -80,6 +86,7 @@ public class IcebergMetricsManager {
                       .build()));
     }
 
+    writeBatchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_WRITE_BATCH_SIZE);
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
     metricsWriterThread = new Thread(() -> writeMetrics());
@@ -108,16 +115,35 @@ public class IcebergMetricsManager {
                 TimeUnit.HOURS));
   }
 
-  public void recordMetric(MetricsReport metricsReport) {
+  public void recordMetric(
+      String catalogName, TableIdentifier tableIdentifier, MetricsReport metricsReport) {
     if (isClosed) {
       logMetrics("Drop Iceberg metrics because Iceberg Metrics Manager is closed.", metricsReport);
       return;
     }
-    if (!queue.offer(metricsReport)) {
+    IcebergMetricsRecord metricsRecord =
+        new IcebergMetricsRecord(catalogName, tableIdentifier, metricsReport, Instant.now());
+    if (!queue.offer(metricsRecord)) {
       logMetrics("Drop Iceberg metrics because metrics queue is full.", metricsReport);
     }
   }
 
+  /**
+   * Query the aggregated metrics of a table from the Iceberg metrics store.
+   *
+   * @param catalogName the catalog name
+   * @param tableIdentifier the table identifier
+   * @param from the start time of the metrics, inclusive
+   * @param to the end time of the metrics, exclusive
+   * @return the aggregated metrics of the table in time buckets
+   * @throws IOException if IO error happens
+   */
+  public List<IcebergTableMetricsBucket> queryTableMetrics(
+      String catalogName, TableIdentifier tableIdentifier, Instant from, Instant to)
+      throws IOException {
+    return icebergMetricsStore.queryTableMetrics(catalogName, tableIdentifier, from, to);
+  }
+
   public void close() {
     isClosed = true;
     metricsCleanerExecutor.ifPresent(executorService -> executorService.shutdownNow());
@@ -146,23 +172,26 @@ public class IcebergMetricsManager {
   }
 
   private void writeMetrics() {
+    List<IcebergMetricsRecord> metricsRecords = new ArrayList<>(writeBatchSize);
     while (!Thread.currentThread().isInterrupted()) {
-      MetricsReport metricsReport;
       try {
-        metricsReport = queue.take();
+        metricsRecords.add(queue.take());
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
-      }
+      // Write the metrics piled up in the queue together.
+      queue.drainTo(metricsRecords, writeBatchSize - 1);
+      doRecordMetrics(metricsRecords);
+      metricsRecords.clear();
     }
 
-    MetricsReport metricsReport = queue.poll();
-    while (metricsReport != null) {
-      logMetrics("Drop Iceberg metrics because it's time to close metrics store.", metricsReport);
-      metricsReport = queue.poll();
+    IcebergMetricsRecord metricsRecord = queue.poll();
+    while (metricsRecord != null) {
+      logMetrics(
+          "Drop Iceberg metrics because it's time to close metrics store.",
+          metricsRecord.metricsReport());
+      metricsRecord = queue.poll();
     }
   }
 
@@ -187,9 +216,9 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
+  private void doRecordMetrics(List<IcebergMetricsRecord> metricsRecords) {
     try {
-      icebergMetricsStore.recordMetric(metricsReport);
+      icebergMetricsStore.recordMetrics(metricsRecords);
     } catch (Exception e) {
       LOG.warn("Write Iceberg metrics failed.", e);
     }
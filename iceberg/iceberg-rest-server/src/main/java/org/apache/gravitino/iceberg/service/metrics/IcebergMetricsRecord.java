@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import java.time.Instant;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.metrics.MetricsReport;
+
+/** An Iceberg metrics report with the table it's reported to and the time it's received. */
+public class IcebergMetricsRecord {
+  private final String catalogName;
+  private final TableIdentifier tableIdentifier;
+  private final MetricsReport metricsReport;
+  private final Instant recordTime;
+
+  public IcebergMetricsRecord(
+      String catalogName,
+      TableIdentifier tableIdentifier,
+      MetricsReport metricsReport,
+      Instant recordTime) {
+    this.catalogName = catalogName;
+    this.tableIdentifier = tableIdentifier;
+    this.metricsReport = metricsReport;
+    this.recordTime = recordTime;
+  }
+
+  public String catalogName() {
+    return catalogName;
+  }
+
+  public TableIdentifier tableIdentifier() {
+    return tableIdentifier;
+  }
+
+  public MetricsReport metricsReport() {
+    return metricsReport;
+  }
+
+  public Instant recordTime() {
+    return recordTime;
+  }
+}
@@ -20,7 +20,10 @@ package org.apache.gravitino.iceberg.service.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 
 /** A store API to save Apache Iceberg metrics. */
@@ -42,6 +45,36 @@ public interface IcebergMetricsStore {
    */
   void recordMetric(MetricsReport metricsReport) throws IOException;
 
+  /**
+   * Record a batch of metrics reports drained from the metrics queue, the stores could override it
+   * to write the batch at once.
+   *
+   * @param metricsRecords the metrics to be saved, with the tables and the times they are reported
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<IcebergMetricsRecord> metricsRecords) throws IOException {
+    for (IcebergMetricsRecord metricsRecord : metricsRecords) {
+      recordMetric(metricsRecord.metricsReport());
+    }
+  }
+
+  /**
+   * Query the aggregated metrics of a table. The stores that don't keep the metrics queryable
+   * return no buckets.
+   *
+   * @param catalogName the catalog name
+   * @param tableIdentifier the table identifier
+   * @param from the start time of the metrics, inclusive
+   * @param to the end time of the metrics, exclusive
+   * @return the aggregated metrics of the table in time buckets, ordered by the bucket start time
+   * @throws IOException if IO error happens
+   */
+  default List<IcebergTableMetricsBucket> queryTableMetrics(
+      String catalogName, TableIdentifier tableIdentifier, Instant from, Instant to)
+      throws IOException {
+    return Collections.emptyList();
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The aggregated Iceberg metrics of a table in a time bucket, including the scan planning and the
+ * commit latencies.
+ */
+public class IcebergTableMetricsBucket {
+
+  @JsonProperty("bucket-start-ms")
+  private final long bucketStartMs;
+
+  @JsonProperty("scan-count")
+  private final long scanCount;
+
+  @JsonProperty("scan-planning-total-ms")
+  private final long scanPlanningTotalMs;
+
+  @JsonProperty("scan-planning-max-ms")
+  private final long scanPlanningMaxMs;
+
+  @JsonProperty("scan-result-data-files")
+  private final long scanResultDataFiles;
+
+  @JsonProperty("commit-count")
+  private final long commitCount;
+
+  @JsonProperty("commit-total-ms")
+  private final long commitTotalMs;
+
+  @JsonProperty("commit-max-ms")
+  private final long commitMaxMs;
+
+  @JsonProperty("commit-attempts")
+  private final long commitAttempts;
+
+  public IcebergTableMetricsBucket(
+      long bucketStartMs,
+      long scanCount,
+      long scanPlanningTotalMs,
+      long scanPlanningMaxMs,
+      long scanResultDataFiles,
+      long commitCount,
+      long commitTotalMs,
+      long commitMaxMs,
+      long commitAttempts) {
+    this.bucketStartMs = bucketStartMs;
+    this.scanCount = scanCount;
+    this.scanPlanningTotalMs = scanPlanningTotalMs;
+    this.scanPlanningMaxMs = scanPlanningMaxMs;
+    this.scanResultDataFiles = scanResultDataFiles;
+    this.commitCount = commitCount;
+    this.commitTotalMs = commitTotalMs;
+    this.commitMaxMs = commitMaxMs;
+    this.commitAttempts = commitAttempts;
+  }
+
+  public long bucketStartMs() {
+    return bucketStartMs;
+  }
+
+  public long scanCount() {
+    return scanCount;
+  }
+
+  public long scanPlanningTotalMs() {
+    return scanPlanningTotalMs;
+  }
+
+  public long scanPlanningMaxMs() {
+    return scanPlanningMaxMs;
+  }
+
+  public long scanResultDataFiles() {
+    return scanResultDataFiles;
+  }
+
+  public long commitCount() {
+    return commitCount;
+  }
+
+  public long commitTotalMs() {
+    return commitTotalMs;
+  }
+
+  public long commitMaxMs() {
+    return commitMaxMs;
+  }
+
+  public long commitAttempts() {
+    return commitAttempts;
+  }
+}
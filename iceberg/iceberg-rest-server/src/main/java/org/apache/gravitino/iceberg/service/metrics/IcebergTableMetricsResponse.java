@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/** The response of querying the aggregated Iceberg metrics of a table. */
+public class IcebergTableMetricsResponse {
+
+  @JsonProperty("buckets")
+  private final List<IcebergTableMetricsBucket> buckets;
+
+  public IcebergTableMetricsResponse(List<IcebergTableMetricsBucket> buckets) {
+    this.buckets = buckets;
+  }
+
+  public List<IcebergTableMetricsBucket> buckets() {
+    return buckets;
+  }
+}
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves Iceberg metrics to a database by JDBC, like H2, MySQL or PostgreSQL.
+ *
+ * <p>The metrics aren't saved one by one, the scan reports and the commit reports of each table are
+ * aggregated into time buckets, every batch of reports only updates or inserts one row for each
+ * table and time bucket, so that the amount of data doesn't grow with the number of reports.
+ */
+public class JdbcMetricsStore implements IcebergMetricsStore {
+  public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcMetricsStore.class);
+
+  @VisibleForTesting static final String METRICS_TABLE = "iceberg_table_metrics";
+
+  // The primary key must fit in the 3072 bytes index key limit of MySQL InnoDB, where a utf8mb4
+  // character takes up to 4 bytes.
+  @VisibleForTesting static final int MAX_CATALOG_NAME_LENGTH = 128;
+  @VisibleForTesting static final int MAX_NAMESPACE_NAME_LENGTH = 256;
+  @VisibleForTesting static final int MAX_TABLE_NAME_LENGTH = 256;
+
+  private static final String CREATE_TABLE_SQL =
+      "CREATE TABLE IF NOT EXISTS "
+          + METRICS_TABLE
+          + " (catalog_name VARCHAR("
+          + MAX_CATALOG_NAME_LENGTH
+          + ") NOT NULL,"
+          + " namespace_name VARCHAR("
+          + MAX_NAMESPACE_NAME_LENGTH
+          + ") NOT NULL,"
+          + " table_name VARCHAR("
+          + MAX_TABLE_NAME_LENGTH
+          + ") NOT NULL,"
+          + " bucket_start BIGINT NOT NULL,"
+          + " scan_count BIGINT NOT NULL,"
+          + " scan_planning_total_ms BIGINT NOT NULL,"
+          + " scan_planning_max_ms BIGINT NOT NULL,"
+          + " scan_result_data_files BIGINT NOT NULL,"
+          + " commit_count BIGINT NOT NULL,"
+          + " commit_total_ms BIGINT NOT NULL,"
+          + " commit_max_ms BIGINT NOT NULL,"
+          + " commit_attempts BIGINT NOT NULL,"
+          + " PRIMARY KEY (catalog_name, namespace_name, table_name, bucket_start))";
+
+  // GREATEST isn't supported by all the databases, like SQLite, use CASE instead.
+  private static final String UPDATE_SQL =
+      "UPDATE "
+          + METRICS_TABLE
+          + " SET scan_count = scan_count + ?,"
+          + " scan_planning_total_ms = scan_planning_total_ms + ?,"
+          + " scan_planning_max_ms = CASE WHEN scan_planning_max_ms < ? THEN ?"
+          + " ELSE scan_planning_max_ms END,"
+          + " scan_result_data_files = scan_result_data_files + ?,"
+          + " commit_count = commit_count + ?,"
+          + " commit_total_ms = commit_total_ms + ?,"
+          + " commit_max_ms = CASE WHEN commit_max_ms < ? THEN ? ELSE commit_max_ms END,"
+          + " commit_attempts = commit_attempts + ?"
+          + " WHERE catalog_name = ? AND namespace_name = ? AND table_name = ? AND bucket_start = ?";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO "
+          + METRICS_TABLE
+          + " (scan_count, scan_planning_total_ms, scan_planning_max_ms, scan_result_data_files,"
+          + " commit_count, commit_total_ms, commit_max_ms, commit_attempts,"
+          + " catalog_name, namespace_name, table_name, bucket_start)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String QUERY_SQL =
+      "SELECT bucket_start, scan_count, scan_planning_total_ms, scan_planning_max_ms,"
+          + " scan_result_data_files, commit_count, commit_total_ms, commit_max_ms, commit_attempts"
+          + " FROM "
+          + METRICS_TABLE
+          + " WHERE catalog_name = ? AND namespace_name = ? AND table_name = ?"
+          + " AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start";
+
+  private static final String CLEAN_SQL =
+      "DELETE FROM " + METRICS_TABLE + " WHERE bucket_start < ?";
+
+  // The reports are saved by a single thread, the other connections are for the queries.
+  private static final int MAX_CONNECTIONS = 4;
+
+  private BasicDataSource dataSource;
+  private long bucketMillis;
+
+  @Override
+  public void init(Map<String, String> properties) throws IOException {
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    String jdbcUri = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_URI);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(jdbcUri),
+        "%s is required by the jdbc Iceberg metrics store",
+        IcebergConfig.ICEBERG_METRICS_STORE_JDBC_URI.getKey());
+    this.dataSource = new BasicDataSource();
+    dataSource.setUrl(jdbcUri);
+    dataSource.setUsername(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_USER));
+    dataSource.setPassword(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_PASSWORD));
+    dataSource.setMaxTotal(MAX_CONNECTIONS);
+    dataSource.setMaxIdle(MAX_CONNECTIONS);
+    dataSource.setMinIdle(0);
+    dataSource.setTestOnBorrow(true);
+    this.bucketMillis =
+        TimeUnit.MINUTES.toMillis(
+            icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_BUCKET_MINUTES));
+
+    try (Connection connection = getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_TABLE_SQL);
+    } catch (SQLException e) {
+      throw new IOException("Failed to create the Iceberg metrics table", e);
+    }
+  }
+
+  /**
+   * The metrics are aggregated by the table they are reported to, which a bare {@link
+   * MetricsReport} doesn't carry, so the report is skipped. The Iceberg metrics manager always
+   * records the metrics with their tables by {@link #recordMetrics(List)}.
+   */
+  @Override
+  public void recordMetric(MetricsReport metricsReport) throws IOException {
+    LOG.warn("Skip the Iceberg metrics without the table it's reported to: {}", metricsReport);
+  }
+
+  @Override
+  public void recordMetrics(List<IcebergMetricsRecord> metricsRecords) throws IOException {
+    Map<BucketKey, BucketMetrics> buckets = new LinkedHashMap<>();
+    for (IcebergMetricsRecord metricsRecord : metricsRecords) {
+      if (!fitsColumns(metricsRecord.catalogName(), metricsRecord.tableIdentifier())) {
+        LOG.warn(
+            "Skip the Iceberg metrics of table {}.{}, whose name is too long to save",
+            metricsRecord.catalogName(),
+            metricsRecord.tableIdentifier());
+        continue;
+      }
+      long recordMillis = metricsRecord.recordTime().toEpochMilli();
+      BucketKey key =
+          new BucketKey(
+              metricsRecord.catalogName(),
+              metricsRecord.tableIdentifier(),
+              recordMillis - Math.floorMod(recordMillis, bucketMillis));
+      buckets.computeIfAbsent(key, k -> new BucketMetrics()).add(metricsRecord.metricsReport());
+    }
+    if (buckets.isEmpty()) {
+      return;
+    }
+
+    try {
+      upsert(buckets);
+    } catch (SQLException e) {
+      // Another server may insert the same bucket concurrently, the retry updates it instead.
+      LOG.warn("Failed to save Iceberg metrics, retry once: {}", e.getMessage());
+      try {
+        upsert(buckets);
+      } catch (SQLException ex) {
+        throw new IOException("Failed to save Iceberg metrics", ex);
+      }
+    }
+  }
+
+  @Override
+  public List<IcebergTableMetricsBucket> queryTableMetrics(
+      String catalogName, TableIdentifier tableIdentifier, Instant from, Instant to)
+      throws IOException {
+    List<IcebergTableMetricsBucket> result = Lists.newArrayList();
+    try (Connection connection = getConnection();
+        PreparedStatement statement = connection.prepareStatement(QUERY_SQL)) {
+      statement.setString(1, catalogName);
+      statement.setString(2, namespaceName(tableIdentifier));
+      statement.setString(3, tableIdentifier.name());
+      // Include the bucket containing the start time.
+      long fromMillis = from.toEpochMilli();
+      statement.setLong(4, fromMillis - Math.floorMod(fromMillis, bucketMillis));
+      statement.setLong(5, to.toEpochMilli());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          result.add(
+              new IcebergTableMetricsBucket(
+                  resultSet.getLong(1),
+                  resultSet.getLong(2),
+                  resultSet.getLong(3),
+                  resultSet.getLong(4),
+                  resultSet.getLong(5),
+                  resultSet.getLong(6),
+                  resultSet.getLong(7),
+                  resultSet.getLong(8),
+                  resultSet.getLong(9)));
+        }
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to query Iceberg metrics of table " + tableIdentifier, e);
+    }
+    return result;
+  }
+
+  @Override
+  public void clean(Instant expireTime) throws IOException {
+    try (Connection connection = getConnection();
+        PreparedStatement statement = connection.prepareStatement(CLEAN_SQL)) {
+      statement.setLong(1, expireTime.toEpochMilli());
+      int deleted = statement.executeUpdate();
+      LOG.info("Cleaned {} Iceberg metrics buckets before {}.", deleted, expireTime);
+    } catch (SQLException e) {
+      throw new IOException("Failed to clean Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close the Iceberg metrics data source", e);
+      }
+    }
+  }
+
+  private Connection getConnection() throws SQLException {
+    return dataSource.getConnection();
+  }
+
+  private void upsert(Map<BucketKey, BucketMetrics> buckets) throws SQLException {
+    try (Connection connection = getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL);
+          PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+        boolean hasInserts = false;
+        for (Map.Entry<BucketKey, BucketMetrics> entry : buckets.entrySet()) {
+          setUpdateParameters(update, entry.getKey(), entry.getValue());
+          if (update.executeUpdate() == 0) {
+            setInsertParameters(insert, entry.getKey(), entry.getValue());
+            insert.addBatch();
+            hasInserts = true;
+          }
+        }
+        if (hasInserts) {
+          insert.executeBatch();
+        }
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    }
+  }
+
+  private static void setUpdateParameters(
+      PreparedStatement statement, BucketKey key, BucketMetrics metrics) throws SQLException {
+    statement.setLong(1, metrics.scanCount);
+    statement.setLong(2, metrics.scanPlanningTotalMs);
+    statement.setLong(3, metrics.scanPlanningMaxMs);
+    statement.setLong(4, metrics.scanPlanningMaxMs);
+    statement.setLong(5, metrics.scanResultDataFiles);
+    statement.setLong(6, metrics.commitCount);
+    statement.setLong(7, metrics.commitTotalMs);
+    statement.setLong(8, metrics.commitMaxMs);
+    statement.setLong(9, metrics.commitMaxMs);
+    statement.setLong(10, metrics.commitAttempts);
+    statement.setString(11, key.catalogName);
+    statement.setString(12, key.namespaceName);
+    statement.setString(13, key.tableName);
+    statement.setLong(14, key.bucketStart);
+  }
+
+  private static void setInsertParameters(
+      PreparedStatement statement, BucketKey key, BucketMetrics metrics) throws SQLException {
+    statement.setLong(1, metrics.scanCount);
+    statement.setLong(2, metrics.scanPlanningTotalMs);
+    statement.setLong(3, metrics.scanPlanningMaxMs);
+    statement.setLong(4, metrics.scanResultDataFiles);
+    statement.setLong(5, metrics.commitCount);
+    statement.setLong(6, metrics.commitTotalMs);
+    statement.setLong(7, metrics.commitMaxMs);
+    statement.setLong(8, metrics.commitAttempts);
+    statement.setString(9, key.catalogName);
+    statement.setString(10, key.namespaceName);
+    statement.setString(11, key.tableName);
+    statement.setLong(12, key.bucketStart);
+  }
+
+  private static boolean fitsColumns(String catalogName, TableIdentifier tableIdentifier) {
+    return catalogName.length() <= MAX_CATALOG_NAME_LENGTH
+        && namespaceName(tableIdentifier).length() <= MAX_NAMESPACE_NAME_LENGTH
+        && tableIdentifier.name().length() <= MAX_TABLE_NAME_LENGTH;
+  }
+
+  private static String namespaceName(TableIdentifier tableIdentifier) {
+    return String.join(".", tableIdentifier.namespace().levels());
+  }
+
+  private static long durationMillis(TimerResult timerResult) {
+    return timerResult == null ? 0 : timerResult.totalDuration().toMillis();
+  }
+
+  private static long counterValue(CounterResult counterResult) {
+    return counterResult == null ? 0 : counterResult.value();
+  }
+
+  private static class BucketKey {
+    private final String catalogName;
+    private final String namespaceName;
+    private final String tableName;
+    private final long bucketStart;
+
+    private BucketKey(String catalogName, TableIdentifier tableIdentifier, long bucketStart) {
+      this.catalogName = catalogName;
+      this.namespaceName = namespaceName(tableIdentifier);
+      this.tableName = tableIdentifier.name();
+      this.bucketStart = bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BucketKey)) {
+        return false;
+      }
+      BucketKey that = (BucketKey) o;
+      return bucketStart == that.bucketStart
+          && Objects.equals(catalogName, that.catalogName)
+          && Objects.equals(namespaceName, that.namespaceName)
+          && Objects.equals(tableName, that.tableName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(catalogName, namespaceName, tableName, bucketStart);
+    }
+  }
+
+  private static class BucketMetrics {
+    private long scanCount;
+    private long scanPlanningTotalMs;
+    private long scanPlanningMaxMs;
+    private long scanResultDataFiles;
+    private long commitCount;
+    private long commitTotalMs;
+    private long commitMaxMs;
+    private long commitAttempts;
+
+    private void add(MetricsReport metricsReport) {
+      if (metricsReport instanceof ScanReport) {
+        ScanReport scanReport = (ScanReport) metricsReport;
+        long planningMs = durationMillis(scanReport.scanMetrics().totalPlanningDuration());
+        scanCount++;
+        scanPlanningTotalMs += planningMs;
+        scanPlanningMaxMs = Math.max(scanPlanningMaxMs, planningMs);
+        scanResultDataFiles += counterValue(scanReport.scanMetrics().resultDataFiles());
+      } else if (metricsReport instanceof CommitReport) {
+        CommitReport commitReport = (CommitReport) metricsReport;
+        long commitMs = durationMillis(commitReport.commitMetrics().totalDuration());
+        commitCount++;
+        commitTotalMs += commitMs;
+        commitMaxMs = Math.max(commitMaxMs, commitMs);
+        commitAttempts += counterValue(commitReport.commitMetrics().attempts());
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@ import com.codahale.metrics.annotation.Timed;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import java.time.Instant;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -38,6 +39,8 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +49,11 @@ import org.apache.gravitino.iceberg.service.IcebergObjectMapper;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergTableOperationDispatcher;
 import org.apache.gravitino.iceberg.service.metrics.IcebergMetricsManager;
+import org.apache.gravitino.iceberg.service.metrics.IcebergTableMetricsResponse;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksRequest;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksResponse;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanRequest;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanResponse;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.web.Utils;
@@ -225,7 +233,8 @@ public class IcebergTableOperations {
       @Encoded() @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       @DefaultValue("all") @QueryParam("snapshots") String snapshots,
-      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation) {
+      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     String catalogName = IcebergRestUtils.getCatalogName(prefix);
     Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
     boolean isCredentialVending = isCredentialVending(accessDelegation);
@@ -247,7 +256,10 @@ public class IcebergTableOperations {
                 new IcebergRequestContext(httpServletRequest(), catalogName, isCredentialVending);
             LoadTableResponse loadTableResponse =
                 tableOperationDispatcher.loadTable(context, tableIdentifier);
-            return IcebergRestUtils.ok(loadTableResponse);
+            EntityTag etag = IcebergRestUtils.loadTableETag(loadTableResponse, snapshots);
+            return etag == null
+                ? IcebergRestUtils.ok(loadTableResponse)
+                : Utils.okWithETag(ifNoneMatch, loadTableResponse, etag);
           });
     } catch (Exception e) {
       return IcebergExceptionMapper.toRESTResponse(e);
@@ -310,7 +322,8 @@ public class IcebergTableOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            icebergMetricsManager.recordMetric(request.report());
+            icebergMetricsManager.recordMetric(
+                catalogName, TableIdentifier.of(icebergNS, table), request.report());
             return IcebergRestUtils.noContent();
           });
     } catch (Exception e) {
@@ -318,6 +331,122 @@ public class IcebergTableOperations {
     }
   }
 
+  @GET
+  @Path("{table}/metrics")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "get-table-metrics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-table-metrics", absolute = true)
+  public Response getTableMetrics(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      @QueryParam("from") Long from,
+      @QueryParam("to") Long to) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    Instant toTime = to == null ? Instant.now() : Instant.ofEpochMilli(to);
+    Instant fromTime =
+        from == null
+            ? IcebergRestUtils.calculateNewTimestamp(toTime, -24)
+            : Instant.ofEpochMilli(from);
+    LOG.info(
+        "Get Iceberg table metrics, catalog: {}, namespace: {}, table: {}, from: {}, to: {}",
+        catalogName,
+        icebergNS,
+        table,
+        fromTime,
+        toTime);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            // Check the table is accessible before returning its metrics.
+            if (!tableOperationDispatcher.tableExists(context, tableIdentifier)) {
+              return IcebergRestUtils.notExists();
+            }
+            return IcebergRestUtils.ok(
+                new IcebergTableMetricsResponse(
+                    icebergMetricsManager.queryTableMetrics(
+                        catalogName, tableIdentifier, fromTime, toTime)));
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @POST
+  @Path("{table}/plan")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "plan-table-scan." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "plan-table-scan", absolute = true)
+  public Response planTableScan(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      PlanTableScanRequest planTableScanRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Plan Iceberg table scan, catalog: {}, namespace: {}, table: {}, request: {}",
+        catalogName,
+        icebergNS,
+        table,
+        planTableScanRequest);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            PlanTableScanResponse planTableScanResponse =
+                tableOperationDispatcher.planTableScan(
+                    context, tableIdentifier, planTableScanRequest);
+            return IcebergRestUtils.ok(planTableScanResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @POST
+  @Path("{table}/tasks")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-scan-tasks." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-scan-tasks", absolute = true)
+  public Response fetchScanTasks(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Fetch Iceberg table scan tasks, catalog: {}, namespace: {}, table: {}, request: {}",
+        catalogName,
+        icebergNS,
+        table,
+        fetchScanTasksRequest);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            FetchScanTasksResponse fetchScanTasksResponse =
+                tableOperationDispatcher.fetchScanTasks(
+                    context, tableIdentifier, fetchScanTasksRequest);
+            return IcebergRestUtils.ok(fetchScanTasksResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
   // HTTP request is null in Jersey test, override with a mock request when testing.
   @VisibleForTesting
   HttpServletRequest httpServletRequest() {
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The request of fetching the file scan tasks of a plan task, follows the {@code
+ * FetchScanTasksRequest} of the Iceberg REST specification.
+ */
+public class FetchScanTasksRequest {
+
+  @JsonProperty("plan-task")
+  private String planTask;
+
+  // For Jackson deserialization.
+  private FetchScanTasksRequest() {}
+
+  public String planTask() {
+    return planTask;
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException if the plan task is missing.
+   */
+  public void validate() {
+    Preconditions.checkArgument(StringUtils.isNotBlank(planTask), "Invalid plan task: null");
+  }
+
+  @Override
+  public String toString() {
+    return "FetchScanTasksRequest{planTask=" + planTask + '}';
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.FileScanTask;
+
+/**
+ * The response of fetching the file scan tasks of a plan task, follows the {@code
+ * FetchScanTasksResult} of the Iceberg REST specification.
+ */
+@JsonSerialize(using = FetchScanTasksResponse.Serializer.class)
+public class FetchScanTasksResponse {
+
+  private final ScanTasks scanTasks;
+
+  FetchScanTasksResponse(ScanTasks scanTasks) {
+    this.scanTasks = scanTasks;
+  }
+
+  public List<FileScanTask> fileScanTasks() {
+    return scanTasks.fileScanTasks();
+  }
+
+  static class Serializer extends JsonSerializer<FetchScanTasksResponse> {
+    @Override
+    public void serialize(
+        FetchScanTasksResponse response, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      generator.writeStartObject();
+      response.scanTasks.writeFields(generator);
+      generator.writeEndObject();
+    }
+  }
+}
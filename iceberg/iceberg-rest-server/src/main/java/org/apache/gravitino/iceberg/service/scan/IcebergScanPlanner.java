@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Scan;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.ServiceUnavailableException;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.io.CloseableIterable;
+
+/**
+ * Plans the Iceberg table scans on the server side for the Iceberg REST clients, so the clients
+ * don't read the manifests themselves.
+ *
+ * <p>The manifests are read in parallel by a shared thread pool, and the filter of the request is
+ * pushed down to prune the manifests and data files by the partition values and column stats. The
+ * file scan tasks are split into pages, the first page is returned in the plan response and the
+ * other pages are kept in memory as plan tasks until they expire.
+ *
+ * <p>The file scan tasks kept in memory are bounded by {@link
+ * IcebergConfig#SCAN_PLANNING_MAX_CACHED_TASKS}. A scan with more tasks than the bound is refused
+ * while planning, before all its tasks are read, and a scan whose tasks don't fit in the room left
+ * by the other scans is refused until their plan tasks expire. The plan tasks are never evicted to
+ * make room, so a client never has to plan the scan again because another scan is planned.
+ */
+public class IcebergScanPlanner implements AutoCloseable {
+
+  private final ExecutorService planExecutor;
+  private final int tasksPerPage;
+  private final long maxCachedTasks;
+  private final AtomicLong cachedTasks = new AtomicLong();
+  private final Cache<String, PlanTask> planTasks;
+
+  public IcebergScanPlanner(IcebergConfig config) {
+    this.planExecutor =
+        Executors.newFixedThreadPool(
+            config.get(IcebergConfig.SCAN_PLANNING_THREADS),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("iceberg-scan-planner-%d")
+                .build());
+    this.tasksPerPage = config.get(IcebergConfig.SCAN_PLANNING_TASKS_PER_PAGE);
+    this.maxCachedTasks = config.get(IcebergConfig.SCAN_PLANNING_MAX_CACHED_TASKS);
+    this.planTasks =
+        Caffeine.newBuilder()
+            .expireAfterWrite(
+                config.get(IcebergConfig.SCAN_PLANNING_PLAN_TASK_EXPIRE_MS), TimeUnit.MILLISECONDS)
+            // Release the room of the removed plan tasks right away.
+            .executor(Runnable::run)
+            .removalListener(
+                (String planTask, PlanTask task, RemovalCause cause) -> {
+                  if (task != null) {
+                    cachedTasks.addAndGet(-task.fileScanTasks.size());
+                  }
+                })
+            .build();
+  }
+
+  /**
+   * Plans a scan of the table.
+   *
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param table The table to scan.
+   * @param request The plan table scan request.
+   * @return The first page of the file scan tasks, and the plan tasks to fetch the other pages.
+   * @throws UnsupportedOperationException If the scan has more file scan tasks than could be kept
+   *     in memory.
+   * @throws ServiceUnavailableException If the file scan tasks of the other scans leave no room for
+   *     the scan.
+   */
+  public PlanTableScanResponse planTableScan(
+      TableIdentifier tableIdentifier, Table table, PlanTableScanRequest request) {
+    request.validate();
+    List<FileScanTask> firstPage = Collections.emptyList();
+    List<List<FileScanTask>> otherPages = new ArrayList<>();
+    long otherTasks = 0;
+    // The pages are read one by one, the planning stops once the tasks couldn't be kept.
+    try (CloseableIterable<FileScanTask> fileScanTasks = newScan(table, request).planFiles()) {
+      for (List<FileScanTask> page : Iterables.partition(fileScanTasks, tasksPerPage)) {
+        if (firstPage.isEmpty()) {
+          firstPage = page;
+          continue;
+        }
+        otherTasks += page.size();
+        if (otherTasks > maxCachedTasks) {
+          throw new UnsupportedOperationException(
+              String.format(
+                  "The scan of table %s has more than %d file scan tasks to keep, please narrow "
+                      + "the filter or plan the scan on the client side",
+                  tableIdentifier, maxCachedTasks + tasksPerPage));
+        }
+        otherPages.add(page);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to plan the scan of table " + tableIdentifier, e);
+    }
+
+    if (!otherPages.isEmpty()) {
+      reserve(tableIdentifier, otherTasks);
+    }
+    Map<Integer, PartitionSpec> specsById = table.specs();
+    List<String> planTaskIds = new ArrayList<>();
+    for (List<FileScanTask> page : otherPages) {
+      String planTaskId = UUID.randomUUID().toString();
+      planTasks.put(planTaskId, new PlanTask(tableIdentifier, specsById, page));
+      planTaskIds.add(planTaskId);
+    }
+    return new PlanTableScanResponse(planTaskIds, new ScanTasks(firstPage, specsById));
+  }
+
+  /**
+   * Fetches the file scan tasks of a plan task.
+   *
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param request The fetch scan tasks request.
+   * @return The file scan tasks of the plan task.
+   * @throws NotFoundException If the plan task doesn't exist, expired or belongs to another table.
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier tableIdentifier, FetchScanTasksRequest request) {
+    request.validate();
+    PlanTask planTask = planTasks.getIfPresent(request.planTask());
+    if (planTask == null || !planTask.tableIdentifier.equals(tableIdentifier)) {
+      throw new NotFoundException(
+          "Plan task %s doesn't exist or has expired, please plan the table scan again",
+          request.planTask());
+    }
+    return new FetchScanTasksResponse(new ScanTasks(planTask.fileScanTasks, planTask.specsById));
+  }
+
+  @Override
+  public void close() {
+    planExecutor.shutdownNow();
+    planTasks.invalidateAll();
+  }
+
+  private void reserve(TableIdentifier tableIdentifier, long tasks) {
+    // Remove the expired plan tasks to release their room.
+    planTasks.cleanUp();
+    if (cachedTasks.addAndGet(tasks) > maxCachedTasks) {
+      cachedTasks.addAndGet(-tasks);
+      throw new ServiceUnavailableException(
+          "Too many file scan tasks are kept for the other scans to plan the scan of table %s, "
+              + "please retry later",
+          tableIdentifier);
+    }
+  }
+
+  private Scan<?, FileScanTask, CombinedScanTask> newScan(
+      Table table, PlanTableScanRequest request) {
+    if (request.startSnapshotId() != null) {
+      return configureScan(
+          table
+              .newIncrementalAppendScan()
+              .fromSnapshotExclusive(request.startSnapshotId())
+              .toSnapshot(request.endSnapshotId()),
+          request);
+    }
+
+    TableScan scan = table.newScan();
+    if (request.snapshotId() != null) {
+      scan = scan.useSnapshot(request.snapshotId());
+    }
+    return configureScan(scan, request);
+  }
+
+  private <T extends Scan<T, FileScanTask, CombinedScanTask>> T configureScan(
+      T scan, PlanTableScanRequest request) {
+    T configuredScan = scan.caseSensitive(request.caseSensitive()).planWith(planExecutor);
+    if (request.filter() != null) {
+      configuredScan = configuredScan.filter(ExpressionParser.fromJson(request.filter()));
+    }
+    if (request.select() != null) {
+      configuredScan = configuredScan.select(request.select());
+    }
+    // The column stats are dropped unless requested to keep the responses small.
+    if (request.statsFields() != null) {
+      configuredScan = configuredScan.includeColumnStats(request.statsFields());
+    }
+    return configuredScan;
+  }
+
+  private static class PlanTask {
+    private final TableIdentifier tableIdentifier;
+    private final Map<Integer, PartitionSpec> specsById;
+    private final List<FileScanTask> fileScanTasks;
+
+    private PlanTask(
+        TableIdentifier tableIdentifier,
+        Map<Integer, PartitionSpec> specsById,
+        List<FileScanTask> fileScanTasks) {
+      this.tableIdentifier = tableIdentifier;
+      this.specsById = specsById;
+      this.fileScanTasks = fileScanTasks;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * The request of planning an Iceberg table scan, follows the {@code PlanTableScanRequest} of the
+ * Iceberg REST specification.
+ */
+public class PlanTableScanRequest {
+
+  @Nullable
+  @JsonProperty("snapshot-id")
+  private Long snapshotId;
+
+  @Nullable
+  @JsonProperty("select")
+  private List<String> select;
+
+  // The filter expression in the JSON format of Iceberg ExpressionParser.
+  @Nullable
+  @JsonProperty("filter")
+  private JsonNode filter;
+
+  @JsonProperty("case-sensitive")
+  private boolean caseSensitive = true;
+
+  @Nullable
+  @JsonProperty("start-snapshot-id")
+  private Long startSnapshotId;
+
+  @Nullable
+  @JsonProperty("end-snapshot-id")
+  private Long endSnapshotId;
+
+  @Nullable
+  @JsonProperty("stats-fields")
+  private List<String> statsFields;
+
+  // For Jackson deserialization.
+  private PlanTableScanRequest() {}
+
+  @Nullable
+  public Long snapshotId() {
+    return snapshotId;
+  }
+
+  @Nullable
+  public List<String> select() {
+    return select;
+  }
+
+  @Nullable
+  public JsonNode filter() {
+    return filter;
+  }
+
+  public boolean caseSensitive() {
+    return caseSensitive;
+  }
+
+  @Nullable
+  public Long startSnapshotId() {
+    return startSnapshotId;
+  }
+
+  @Nullable
+  public Long endSnapshotId() {
+    return endSnapshotId;
+  }
+
+  @Nullable
+  public List<String> statsFields() {
+    return statsFields;
+  }
+
+  /**
+   * Validates the request, a scan of a snapshot and an incremental scan between snapshots are
+   * exclusive.
+   *
+   * @throws IllegalArgumentException if the request is invalid.
+   */
+  public void validate() {
+    if (startSnapshotId != null || endSnapshotId != null) {
+      Preconditions.checkArgument(
+          snapshotId == null,
+          "Invalid scan: snapshot-id is not allowed with start-snapshot-id and end-snapshot-id");
+      Preconditions.checkArgument(
+          startSnapshotId != null && endSnapshotId != null,
+          "Invalid incremental scan: start-snapshot-id and end-snapshot-id are both required");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PlanTableScanRequest{"
+        + "snapshotId="
+        + snapshotId
+        + ", select="
+        + select
+        + ", filter="
+        + filter
+        + ", caseSensitive="
+        + caseSensitive
+        + ", startSnapshotId="
+        + startSnapshotId
+        + ", endSnapshotId="
+        + endSnapshotId
+        + ", statsFields="
+        + statsFields
+        + '}';
+  }
+}
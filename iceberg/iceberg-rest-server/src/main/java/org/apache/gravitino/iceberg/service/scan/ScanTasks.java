@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.scan;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.SingleValueParser;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+
+/**
+ * A page of file scan tasks of a planned table scan. The delete files shared by the file scan tasks
+ * are serialized once and referenced by their indexes, the data and delete files are serialized in
+ * the JSON format of Iceberg {@code ContentFileParser}.
+ */
+final class ScanTasks {
+
+  private final List<FileScanTask> fileScanTasks;
+  private final Map<Integer, PartitionSpec> specsById;
+
+  ScanTasks(List<FileScanTask> fileScanTasks, Map<Integer, PartitionSpec> specsById) {
+    this.fileScanTasks = fileScanTasks;
+    this.specsById = specsById;
+  }
+
+  List<FileScanTask> fileScanTasks() {
+    return fileScanTasks;
+  }
+
+  /**
+   * Writes the {@code delete-files} and {@code file-scan-tasks} fields of the scan tasks.
+   *
+   * @param generator The JSON generator to write the fields to.
+   * @throws IOException If failed to write the fields.
+   */
+  void writeFields(JsonGenerator generator) throws IOException {
+    // The position deletes of a deletion vector file are distinguished by their content offsets.
+    Map<String, Integer> deleteFileIndexes = new LinkedHashMap<>();
+    List<DeleteFile> deleteFiles = new ArrayList<>();
+    List<List<Integer>> deleteFileReferences = new ArrayList<>(fileScanTasks.size());
+    for (FileScanTask task : fileScanTasks) {
+      List<Integer> references = new ArrayList<>(task.deletes().size());
+      for (DeleteFile deleteFile : task.deletes()) {
+        String key = deleteFile.location() + "#" + deleteFile.contentOffset();
+        Integer index = deleteFileIndexes.get(key);
+        if (index == null) {
+          index = deleteFiles.size();
+          deleteFileIndexes.put(key, index);
+          deleteFiles.add(deleteFile);
+        }
+        references.add(index);
+      }
+      deleteFileReferences.add(references);
+    }
+
+    generator.writeArrayFieldStart("delete-files");
+    for (DeleteFile deleteFile : deleteFiles) {
+      writeContentFile(deleteFile, specsById.get(deleteFile.specId()), generator);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("file-scan-tasks");
+    for (int i = 0; i < fileScanTasks.size(); i++) {
+      FileScanTask task = fileScanTasks.get(i);
+      generator.writeStartObject();
+      generator.writeFieldName("data-file");
+      writeContentFile(task.file(), task.spec(), generator);
+      if (!deleteFileReferences.get(i).isEmpty()) {
+        JsonUtil.writeIntegerArray(
+            "delete-file-references", deleteFileReferences.get(i), generator);
+      }
+      generator.writeFieldName("residual-filter");
+      ExpressionParser.toJson(task.residual(), generator);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeContentFile(
+      ContentFile<?> contentFile, PartitionSpec spec, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("spec-id", contentFile.specId());
+    generator.writeStringField("content", contentFile.content().name());
+    generator.writeStringField("file-path", contentFile.location());
+    generator.writeStringField("file-format", contentFile.format().name());
+    if (spec.isPartitioned()) {
+      generator.writeFieldName("partition");
+      SingleValueParser.toJson(spec.partitionType(), contentFile.partition(), generator);
+    }
+    generator.writeNumberField("file-size-in-bytes", contentFile.fileSizeInBytes());
+    generator.writeNumberField("record-count", contentFile.recordCount());
+
+    writeMetric("column-sizes", DataFile.COLUMN_SIZES, contentFile.columnSizes(), generator);
+    writeMetric("value-counts", DataFile.VALUE_COUNTS, contentFile.valueCounts(), generator);
+    writeMetric(
+        "null-value-counts", DataFile.NULL_VALUE_COUNTS, contentFile.nullValueCounts(), generator);
+    writeMetric(
+        "nan-value-counts", DataFile.NAN_VALUE_COUNTS, contentFile.nanValueCounts(), generator);
+    writeMetric("lower-bounds", DataFile.LOWER_BOUNDS, contentFile.lowerBounds(), generator);
+    writeMetric("upper-bounds", DataFile.UPPER_BOUNDS, contentFile.upperBounds(), generator);
+    writeMetric("key-metadata", DataFile.KEY_METADATA, contentFile.keyMetadata(), generator);
+
+    if (contentFile.splitOffsets() != null) {
+      JsonUtil.writeLongArray("split-offsets", contentFile.splitOffsets(), generator);
+    }
+    if (contentFile.equalityFieldIds() != null) {
+      JsonUtil.writeIntegerArray("equality-ids", contentFile.equalityFieldIds(), generator);
+    }
+    JsonUtil.writeIntegerFieldIfPresent("sort-order-id", contentFile.sortOrderId(), generator);
+    JsonUtil.writeLongFieldIfPresent("first-row-id", contentFile.firstRowId(), generator);
+
+    if (contentFile instanceof DeleteFile) {
+      DeleteFile deleteFile = (DeleteFile) contentFile;
+      if (deleteFile.referencedDataFile() != null) {
+        generator.writeStringField("referenced-data-file", deleteFile.referencedDataFile());
+      }
+      JsonUtil.writeLongFieldIfPresent("content-offset", deleteFile.contentOffset(), generator);
+      JsonUtil.writeLongFieldIfPresent(
+          "content-size-in-bytes", deleteFile.contentSizeInBytes(), generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static void writeMetric(
+      String fieldName, Types.NestedField field, Object value, JsonGenerator generator)
+      throws IOException {
+    if (value != null) {
+      generator.writeFieldName(fieldName);
+      SingleValueParser.toJson(field.type(), value, generator);
+    }
+  }
+}
@@ -19,7 +19,33 @@
 
 package org.apache.gravitino.iceberg.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
+import java.util.UUID;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.credential.CredentialConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.service.extension.DummyCredentialProvider;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksRequest;
+import org.apache.gravitino.iceberg.service.scan.FetchScanTasksResponse;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanRequest;
+import org.apache.gravitino.iceberg.service.scan.PlanTableScanResponse;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.ServiceUnavailableException;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
@@ -46,4 +72,237 @@ public class TestCatalogWrapperForREST {
         IllegalArgumentException.class,
         () -> CatalogWrapperForREST.checkForCompatibility(propertiesWithBothKey, deprecatedMap));
   }
+
+  @Test
+  void testGetTableCredentialsWithCachedLocations() throws Exception {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.CATALOG_BACKEND,
+                "memory",
+                CredentialConstants.CREDENTIAL_PROVIDERS,
+                DummyCredentialProvider.DUMMY_CREDENTIAL_TYPE,
+                IcebergConstants.TABLE_LOCATION_CACHE_MAX_SIZE,
+                "100"));
+    Namespace namespace = Namespace.of("db");
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    try (CatalogWrapperForREST wrapper = new CatalogWrapperForREST("test", config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      for (String table : new String[] {"t1", "t2", "t3"}) {
+        wrapper.createTable(
+            namespace,
+            CreateTableRequest.builder().withName(table).withSchema(schema).build(),
+            false);
+      }
+
+      // The cached locations are used without loading the table.
+      TableIdentifier t1 = TableIdentifier.of(namespace, "t1");
+      wrapper.getCatalog().dropTable(t1);
+      Assertions.assertEquals(1, wrapper.getTableCredentials(t1).credentials().size());
+
+      // The cached locations are invalidated after dropping or renaming the table.
+      TableIdentifier t2 = TableIdentifier.of(namespace, "t2");
+      wrapper.dropTable(t2);
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.getTableCredentials(t2));
+
+      TableIdentifier t3 = TableIdentifier.of(namespace, "t3");
+      TableIdentifier t4 = TableIdentifier.of(namespace, "t4");
+      wrapper.renameTable(RenameTableRequest.builder().withSource(t3).withDestination(t4).build());
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.getTableCredentials(t3));
+      Assertions.assertEquals(1, wrapper.getTableCredentials(t4).credentials().size());
+    }
+  }
+
+  @Test
+  void testGetTableCredentialsWithoutCachedLocations() throws Exception {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.CATALOG_BACKEND,
+                "memory",
+                CredentialConstants.CREDENTIAL_PROVIDERS,
+                DummyCredentialProvider.DUMMY_CREDENTIAL_TYPE,
+                // The in-memory table operations don't find the tables dropped by others.
+                IcebergConstants.TABLE_METADATA_CACHE_MAX_SIZE,
+                "0"));
+    Namespace namespace = Namespace.of("db");
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    try (CatalogWrapperForREST wrapper = new CatalogWrapperForREST("test", config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      wrapper.createTable(
+          namespace, CreateTableRequest.builder().withName("t1").withSchema(schema).build(), false);
+
+      // The table locations are not cached by default, the table dropped by others is not found.
+      TableIdentifier t1 = TableIdentifier.of(namespace, "t1");
+      Assertions.assertEquals(1, wrapper.getTableCredentials(t1).credentials().size());
+      wrapper.getCatalog().dropTable(t1);
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.getTableCredentials(t1));
+    }
+  }
+
+  @Test
+  void testPlanTableScan() throws Exception {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.CATALOG_BACKEND,
+                "memory",
+                IcebergConstants.SCAN_PLANNING_TASKS_PER_PAGE,
+                "2"));
+    Namespace namespace = Namespace.of("db");
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.required(2, "category", Types.StringType.get()));
+    PartitionSpec spec = PartitionSpec.builderFor(schema).identity("category").build();
+    TableIdentifier tableIdentifier = TableIdentifier.of(namespace, "t1");
+    ObjectMapper mapper = IcebergObjectMapper.getInstance();
+    try (CatalogWrapperForREST wrapper = new CatalogWrapperForREST("test", config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      wrapper.createTable(
+          namespace,
+          CreateTableRequest.builder()
+              .withName("t1")
+              .withSchema(schema)
+              .withPartitionSpec(spec)
+              .build(),
+          false);
+      Table table = wrapper.getCatalog().loadTable(tableIdentifier);
+      appendFiles(table, spec, "a", 3);
+      long firstSnapshotId = table.currentSnapshot().snapshotId();
+      appendFiles(table, spec, "b", 2);
+      appendFiles(table, spec, "a", 1);
+      long lastSnapshotId = table.currentSnapshot().snapshotId();
+
+      // The filter is pushed down to prune the data files, the rest tasks are paginated.
+      PlanTableScanRequest planRequest =
+          mapper.readValue(
+              "{\"filter\": {\"type\": \"eq\", \"term\": \"category\", \"value\": \"a\"}}",
+              PlanTableScanRequest.class);
+      PlanTableScanResponse planResponse = wrapper.planTableScan(tableIdentifier, planRequest);
+      Assertions.assertEquals(2, planResponse.fileScanTasks().size());
+      Assertions.assertEquals(1, planResponse.planTasks().size());
+
+      JsonNode planJson = mapper.readTree(mapper.writeValueAsString(planResponse));
+      Assertions.assertEquals("completed", planJson.get("plan-status").asText());
+      Assertions.assertEquals(2, planJson.get("file-scan-tasks").size());
+      JsonNode dataFile = planJson.get("file-scan-tasks").get(0).get("data-file");
+      Assertions.assertEquals("DATA", dataFile.get("content").asText());
+      Assertions.assertEquals("a", dataFile.get("partition").get("1000").asText());
+      Assertions.assertTrue(dataFile.get("file-path").asText().endsWith(".parquet"));
+
+      FetchScanTasksRequest fetchRequest =
+          mapper.readValue(
+              "{\"plan-task\": \"" + planResponse.planTasks().get(0) + "\"}",
+              FetchScanTasksRequest.class);
+      FetchScanTasksResponse fetchResponse = wrapper.fetchScanTasks(tableIdentifier, fetchRequest);
+      Assertions.assertEquals(2, fetchResponse.fileScanTasks().size());
+      for (FileScanTask task : fetchResponse.fileScanTasks()) {
+        Assertions.assertEquals("a", task.file().partition().get(0, String.class));
+      }
+      JsonNode fetchJson = mapper.readTree(mapper.writeValueAsString(fetchResponse));
+      Assertions.assertEquals(2, fetchJson.get("file-scan-tasks").size());
+      Assertions.assertFalse(fetchJson.has("plan-status"));
+
+      // The plan tasks couldn't be fetched by other tables.
+      Assertions.assertThrows(
+          NotFoundException.class,
+          () -> wrapper.fetchScanTasks(TableIdentifier.of(namespace, "t2"), fetchRequest));
+
+      // An incremental scan only plans the data files appended after the start snapshot.
+      PlanTableScanRequest incrementalRequest =
+          mapper.readValue(
+              String.format(
+                  "{\"start-snapshot-id\": %d, \"end-snapshot-id\": %d}",
+                  firstSnapshotId, lastSnapshotId),
+              PlanTableScanRequest.class);
+      planResponse = wrapper.planTableScan(tableIdentifier, incrementalRequest);
+      Assertions.assertEquals(2, planResponse.fileScanTasks().size());
+      Assertions.assertEquals(1, planResponse.planTasks().size());
+
+      PlanTableScanRequest invalidRequest =
+          mapper.readValue(
+              String.format("{\"start-snapshot-id\": %d}", firstSnapshotId),
+              PlanTableScanRequest.class);
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> wrapper.planTableScan(tableIdentifier, invalidRequest));
+    }
+  }
+
+  @Test
+  void testPlanTableScanOverMaxCachedTasks() throws Exception {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.CATALOG_BACKEND,
+                "memory",
+                IcebergConstants.SCAN_PLANNING_TASKS_PER_PAGE,
+                "1",
+                IcebergConstants.SCAN_PLANNING_MAX_CACHED_TASKS,
+                "2"));
+    Namespace namespace = Namespace.of("db");
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.required(2, "category", Types.StringType.get()));
+    PartitionSpec spec = PartitionSpec.builderFor(schema).identity("category").build();
+    TableIdentifier tableIdentifier = TableIdentifier.of(namespace, "t1");
+    ObjectMapper mapper = IcebergObjectMapper.getInstance();
+    try (CatalogWrapperForREST wrapper = new CatalogWrapperForREST("test", config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      wrapper.createTable(
+          namespace,
+          CreateTableRequest.builder()
+              .withName("t1")
+              .withSchema(schema)
+              .withPartitionSpec(spec)
+              .build(),
+          false);
+      Table table = wrapper.getCatalog().loadTable(tableIdentifier);
+      appendFiles(table, spec, "a", 3);
+      appendFiles(table, spec, "b", 4);
+
+      // The scan with more tasks than could be kept is refused.
+      PlanTableScanRequest planAll = mapper.readValue("{}", PlanTableScanRequest.class);
+      Assertions.assertThrows(
+          UnsupportedOperationException.class,
+          () -> wrapper.planTableScan(tableIdentifier, planAll));
+
+      PlanTableScanRequest planA =
+          mapper.readValue(
+              "{\"filter\": {\"type\": \"eq\", \"term\": \"category\", \"value\": \"a\"}}",
+              PlanTableScanRequest.class);
+      PlanTableScanResponse planResponse = wrapper.planTableScan(tableIdentifier, planA);
+      Assertions.assertEquals(1, planResponse.fileScanTasks().size());
+      Assertions.assertEquals(2, planResponse.planTasks().size());
+
+      // The plan tasks of the first scan are not evicted to make room for another scan.
+      Assertions.assertThrows(
+          ServiceUnavailableException.class, () -> wrapper.planTableScan(tableIdentifier, planA));
+      for (String planTask : planResponse.planTasks()) {
+        FetchScanTasksRequest fetchRequest =
+            mapper.readValue("{\"plan-task\": \"" + planTask + "\"}", FetchScanTasksRequest.class);
+        Assertions.assertEquals(
+            1, wrapper.fetchScanTasks(tableIdentifier, fetchRequest).fileScanTasks().size());
+      }
+    }
+  }
+
+  private static void appendFiles(Table table, PartitionSpec spec, String category, int num) {
+    AppendFiles append = table.newAppend();
+    for (int i = 0; i < num; i++) {
+      append.appendFile(
+          DataFiles.builder(spec)
+              .withPath(
+                  String.format(
+                      "%s/data/category=%s/%s.parquet",
+                      table.location(), category, UUID.randomUUID()))
+              .withFileSizeInBytes(100)
+              .withRecordCount(10)
+              .withPartitionPath("category=" + category)
+              .build());
+    }
+    append.commit();
+  }
 }
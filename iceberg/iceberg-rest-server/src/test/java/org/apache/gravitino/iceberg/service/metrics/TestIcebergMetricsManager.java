@@ -22,18 +22,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
 import org.apache.iceberg.metrics.ImmutableCommitReport;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class TestIcebergMetricsManager {
 
+  private static final TableIdentifier TABLE_IDENTIFIER = TableIdentifier.of("db", "a");
+
   private MetricsReport createMetricsReport() {
     ImmutableCommitMetricsResult commitMetricsResult =
         ImmutableCommitMetricsResult.builder().build();
@@ -64,7 +72,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric("catalog", TABLE_IDENTIFIER, metricsReport);
     Assertions.assertDoesNotThrow(
         () -> (DummyMetricsStore) icebergMetricsManager.getIcebergMetricsStore());
     icebergMetricsManager.close();
@@ -90,7 +98,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric("catalog", TABLE_IDENTIFIER, metricsReport);
     MemoryMetricsStore memoryMetricsStore =
         (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
     Assertions.assertEquals(metricsReport, tryGetIcebergMetrics(memoryMetricsStore));
@@ -98,4 +106,39 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testIcebergMetricsManagerWithJdbcStore(@TempDir Path tempDir) throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE,
+            JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+            IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URI,
+            "jdbc:sqlite:" + tempDir.resolve("metrics.db"),
+            IcebergConstants.ICEBERG_METRICS_WRITE_BATCH_SIZE,
+            "2");
+    IcebergMetricsManager icebergMetricsManager =
+        new IcebergMetricsManager(new IcebergConfig(properties));
+    icebergMetricsManager.start();
+
+    Instant from = Instant.now();
+    for (int i = 0; i < 5; i++) {
+      icebergMetricsManager.recordMetric("catalog", TABLE_IDENTIFIER, createMetricsReport());
+    }
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertEquals(
+                    5,
+                    icebergMetricsManager
+                        .queryTableMetrics(
+                            "catalog", TABLE_IDENTIFIER, from, from.plus(1, ChronoUnit.HOURS))
+                        .stream()
+                        .mapToLong(IcebergTableMetricsBucket::commitCount)
+                        .sum()));
+
+    icebergMetricsManager.close();
+  }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.CommitMetricsResult;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.ImmutableScanMetricsResult;
+import org.apache.iceberg.metrics.ImmutableScanReport;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.TimerResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestJdbcMetricsStore {
+
+  private static final TableIdentifier TABLE_1 = TableIdentifier.of("db", "table1");
+  private static final TableIdentifier TABLE_2 = TableIdentifier.of("db", "table2");
+
+  @TempDir private Path tempDir;
+
+  private JdbcMetricsStore metricsStore;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    metricsStore = new JdbcMetricsStore();
+    metricsStore.init(
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URI,
+            "jdbc:sqlite:" + tempDir.resolve("metrics.db"),
+            IcebergConstants.ICEBERG_METRICS_STORE_BUCKET_MINUTES,
+            "1"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    metricsStore.close();
+  }
+
+  @Test
+  void testClose() throws Exception {
+    Instant now = Instant.now();
+    metricsStore.recordMetrics(ImmutableList.of(record(TABLE_1, scanReport(100, 3), now)));
+    metricsStore.close();
+    // The pooled connections are closed with the store.
+    Assertions.assertThrows(
+        IOException.class,
+        () -> metricsStore.queryTableMetrics("catalog", TABLE_1, now, now.plusSeconds(60)));
+  }
+
+  @Test
+  void testRecordAndQueryMetrics() throws Exception {
+    Instant bucket1 = Instant.ofEpochMilli(TimeUnit.MINUTES.toMillis(1000));
+    Instant bucket2 = bucket1.plus(1, ChronoUnit.MINUTES);
+
+    metricsStore.recordMetrics(
+        ImmutableList.of(
+            record(TABLE_1, scanReport(100, 3), bucket1),
+            record(TABLE_1, scanReport(300, 5), bucket1.plusSeconds(10)),
+            record(TABLE_1, commitReport(1000, 2), bucket1.plusSeconds(20)),
+            record(TABLE_1, scanReport(50, 1), bucket2),
+            record(TABLE_2, commitReport(500, 1), bucket1)));
+    // The next batch is added to the existing buckets.
+    metricsStore.recordMetrics(
+        ImmutableList.of(
+            record(TABLE_1, scanReport(400, 2), bucket1.plusSeconds(30)),
+            record(TABLE_1, commitReport(200, 1), bucket1.plusSeconds(40))));
+
+    List<IcebergTableMetricsBucket> buckets =
+        metricsStore.queryTableMetrics(
+            "catalog", TABLE_1, bucket1.plusSeconds(30), bucket2.plusSeconds(60));
+    Assertions.assertEquals(2, buckets.size());
+
+    IcebergTableMetricsBucket first = buckets.get(0);
+    Assertions.assertEquals(bucket1.toEpochMilli(), first.bucketStartMs());
+    Assertions.assertEquals(3, first.scanCount());
+    Assertions.assertEquals(800, first.scanPlanningTotalMs());
+    Assertions.assertEquals(400, first.scanPlanningMaxMs());
+    Assertions.assertEquals(10, first.scanResultDataFiles());
+    Assertions.assertEquals(2, first.commitCount());
+    Assertions.assertEquals(1200, first.commitTotalMs());
+    Assertions.assertEquals(1000, first.commitMaxMs());
+    Assertions.assertEquals(3, first.commitAttempts());
+
+    IcebergTableMetricsBucket second = buckets.get(1);
+    Assertions.assertEquals(bucket2.toEpochMilli(), second.bucketStartMs());
+    Assertions.assertEquals(1, second.scanCount());
+    Assertions.assertEquals(0, second.commitCount());
+
+    // The end time is exclusive.
+    Assertions.assertEquals(
+        1, metricsStore.queryTableMetrics("catalog", TABLE_1, bucket1, bucket2).size());
+    Assertions.assertEquals(
+        1, metricsStore.queryTableMetrics("catalog", TABLE_2, bucket1, bucket2).size());
+    Assertions.assertTrue(
+        metricsStore.queryTableMetrics("other", TABLE_1, bucket1, bucket2).isEmpty());
+
+    metricsStore.clean(bucket2);
+    Assertions.assertEquals(
+        ImmutableList.of(bucket2.toEpochMilli()),
+        metricsStore.queryTableMetrics("catalog", TABLE_1, bucket1, bucket2.plusSeconds(60))
+            .stream()
+            .map(IcebergTableMetricsBucket::bucketStartMs)
+            .collect(ImmutableList.toImmutableList()));
+  }
+
+  @Test
+  void testSkipTooLongNames() throws Exception {
+    Instant bucket = Instant.ofEpochMilli(TimeUnit.MINUTES.toMillis(1000));
+    TableIdentifier longTable =
+        TableIdentifier.of(
+            "db", StringUtils.repeat('t', JdbcMetricsStore.MAX_TABLE_NAME_LENGTH + 1));
+
+    metricsStore.recordMetrics(
+        ImmutableList.of(
+            record(longTable, scanReport(100, 3), bucket),
+            record(TABLE_1, scanReport(100, 3), bucket)));
+
+    Instant to = bucket.plusSeconds(60);
+    Assertions.assertTrue(
+        metricsStore.queryTableMetrics("catalog", longTable, bucket, to).isEmpty());
+    Assertions.assertEquals(
+        1, metricsStore.queryTableMetrics("catalog", TABLE_1, bucket, to).size());
+  }
+
+  @Test
+  void testInitWithoutJdbcUri() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new JdbcMetricsStore().init(ImmutableMap.of()));
+  }
+
+  private static IcebergMetricsRecord record(
+      TableIdentifier tableIdentifier, MetricsReport metricsReport, Instant recordTime) {
+    return new IcebergMetricsRecord("catalog", tableIdentifier, metricsReport, recordTime);
+  }
+
+  private static MetricsReport scanReport(long planningMillis, long resultDataFiles) {
+    ScanMetricsResult scanMetrics =
+        ImmutableScanMetricsResult.builder()
+            .totalPlanningDuration(
+                TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofMillis(planningMillis), 1))
+            .resultDataFiles(CounterResult.of(MetricsContext.Unit.COUNT, resultDataFiles))
+            .build();
+    return ImmutableScanReport.builder()
+        .tableName("catalog.db.table")
+        .snapshotId(1)
+        .filter(Expressions.alwaysTrue())
+        .schemaId(0)
+        .scanMetrics(scanMetrics)
+        .build();
+  }
+
+  private static MetricsReport commitReport(long commitMillis, long attempts) {
+    CommitMetricsResult commitMetrics =
+        ImmutableCommitMetricsResult.builder()
+            .totalDuration(TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofMillis(commitMillis), 1))
+            .attempts(CounterResult.of(MetricsContext.Unit.COUNT, attempts))
+            .build();
+    return ImmutableCommitReport.builder()
+        .tableName("catalog.db.table")
+        .snapshotId(1)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(commitMetrics)
+        .build();
+  }
+}
@@ -28,6 +28,8 @@ import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -147,6 +149,15 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     verifyLoadTableSucc(namespace, "load_foo1");
     Assertions.assertTrue(dummyEventListener.popPreEvent() instanceof IcebergLoadTablePreEvent);
     Assertions.assertTrue(dummyEventListener.popPostEvent() instanceof IcebergLoadTableEvent);
+
+    // The unchanged table is not returned again for a matching If-None-Match header
+    EntityTag etag = doLoadTable(namespace, "load_foo1").getEntityTag();
+    Assertions.assertNotNull(etag);
+    Response response =
+        getTableClientBuilder(namespace, Optional.of("load_foo1"))
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
   }
 
   @ParameterizedTest
@@ -290,6 +301,14 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
             .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
 
     Assertions.assertEquals(Status.NO_CONTENT.getStatusCode(), response.getStatus());
+
+    // The default dummy metrics store doesn't keep the metrics queryable.
+    response = getReportMetricsClientBuilder("metrics_foo1", namespace).get();
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertEquals("{\"buckets\":[]}", response.readEntity(String.class));
+
+    response = getReportMetricsClientBuilder("metrics_not_exists", namespace).get();
+    Assertions.assertEquals(Status.NOT_FOUND.getStatusCode(), response.getStatus());
   }
 
   @ParameterizedTest
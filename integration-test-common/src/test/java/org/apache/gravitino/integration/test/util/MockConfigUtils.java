@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.integration.test.util;
+
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.config.ConfigEntry;
+import org.mockito.Mockito;
+
+/** Stubs the configs of a mocked {@link Config} which the tests don't care about. */
+public class MockConfigUtils {
+
+  private static final List<ConfigEntry<?>> GARBAGE_COLLECTOR_CONFIGS =
+      ImmutableList.of(
+          GARBAGE_COLLECTOR_PARALLELISM,
+          GARBAGE_COLLECTOR_MAX_DELETION_LIMIT,
+          GARBAGE_COLLECTOR_TARGET_DELETION_LATENCY_MS,
+          GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND);
+
+  private MockConfigUtils() {}
+
+  /**
+   * Stubs the garbage collector configs of the relational entity store with their default values,
+   * for the tests which create a relational entity store with a mocked config.
+   *
+   * @param config The mocked config.
+   */
+  public static void mockGarbageCollectorConfigs(Config config) {
+    for (ConfigEntry<?> entry : GARBAGE_COLLECTOR_CONFIGS) {
+      Mockito.doReturn(entry.getDefaultValue()).when(config).get(entry);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id, used as the change sequence',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'changed entity type',
+    `entity_name_levels` VARCHAR(1024) NOT NULL COMMENT 'changed entity name identifier levels in JSON array',
+    `relation_type` VARCHAR(64) DEFAULT NULL COMMENT 'changed relation type of the entity, null if the entity itself is changed',
+    `source_node` VARCHAR(64) NOT NULL COMMENT 'id of the server node that made the change',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change log created at',
+    PRIMARY KEY (`id`),
+    KEY `idx_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'entity change log for cache invalidation';
@@ -0,0 +1,37 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+CREATE TABLE IF NOT EXISTS entity_change_log (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_name_levels VARCHAR(1024) NOT NULL,
+    relation_type VARCHAR(64) DEFAULT NULL,
+    source_node VARCHAR(64) NOT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS entity_change_log_idx_created_at ON entity_change_log (created_at);
+COMMENT ON TABLE entity_change_log IS 'entity change log for cache invalidation';
+COMMENT ON COLUMN entity_change_log.id IS 'auto increment id, used as the change sequence';
+COMMENT ON COLUMN entity_change_log.entity_type IS 'changed entity type';
+COMMENT ON COLUMN entity_change_log.entity_name_levels IS 'changed entity name identifier levels in JSON array';
+COMMENT ON COLUMN entity_change_log.relation_type IS 'changed relation type of the entity, null if the entity itself is changed';
+COMMENT ON COLUMN entity_change_log.source_node IS 'id of the server node that made the change';
+COMMENT ON COLUMN entity_change_log.created_at IS 'change log created at';
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AuthorizationExpressionBenchmark compares the throughput of evaluating an authorization
+ * expression through OGNL with evaluating the {@link CompiledAuthorizationExpression}.
+ *
+ * <p>The authorizer used by the benchmark only grants the table privileges, so that most of the
+ * terms of the {@code loadTable} expression must be evaluated before the result is known.
+ *
+ * @see org.openjdk.jmh.annotations.Benchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AuthorizationExpressionBenchmark {
+
+  @Param({"loadTable", "filterTable", "loadCatalog"})
+  public String expressionName;
+
+  private AuthorizationExpressionEvaluator evaluator;
+  private CompiledAuthorizationExpression compiled;
+  private Principal principal;
+  private GravitinoAuthorizer authorizer;
+  private Map<Entity.EntityType, NameIdentifier> metadataNames;
+  private Map<String, Object> pathParams;
+
+  @Setup
+  public void setup() {
+    String expression;
+    switch (expressionName) {
+      case "loadTable":
+        expression = AuthorizationExpressionConstants.loadTableAuthorizationExpression;
+        break;
+      case "filterTable":
+        expression = AuthorizationExpressionConstants.filterTableAuthorizationExpression;
+        break;
+      default:
+        expression = AuthorizationExpressionConstants.loadCatalogAuthorizationExpression;
+    }
+    this.evaluator = new AuthorizationExpressionEvaluator(expression);
+    this.compiled = CompiledAuthorizationExpression.compile(expression);
+    this.principal = new UserPrincipal("tester");
+    this.authorizer = new TablePrivilegeAuthorizer();
+    this.metadataNames = new HashMap<>();
+    metadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake("metalake"));
+    metadataNames.put(
+        Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog("metalake", "catalog"));
+    metadataNames.put(
+        Entity.EntityType.SCHEMA, NameIdentifierUtil.ofSchema("metalake", "catalog", "schema"));
+    metadataNames.put(
+        Entity.EntityType.TABLE,
+        NameIdentifierUtil.ofTable("metalake", "catalog", "schema", "table"));
+    this.pathParams = new HashMap<>();
+  }
+
+  @Benchmark
+  public boolean ognl() {
+    return evaluator.evaluateOgnl(
+        principal, authorizer, metadataNames, pathParams, new AuthorizationRequestContext());
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    return compiled.evaluate(
+        principal, authorizer, metadataNames, pathParams, new AuthorizationRequestContext());
+  }
+
+  private static class TablePrivilegeAuthorizer implements GravitinoAuthorizer {
+
+    @Override
+    public void initialize() {}
+
+    @Override
+    public boolean authorize(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      return metadataObject.type() == MetadataObject.Type.TABLE
+          || privilege == Privilege.Name.USE_CATALOG
+          || privilege == Privilege.Name.USE_SCHEMA;
+    }
+
+    @Override
+    public boolean deny(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      return false;
+    }
+
+    @Override
+    public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+      return false;
+    }
+
+    @Override
+    public boolean isServiceAdmin() {
+      return false;
+    }
+
+    @Override
+    public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+      return false;
+    }
+
+    @Override
+    public boolean isMetalakeUser(String metalake) {
+      return true;
+    }
+
+    @Override
+    public boolean hasSetOwnerPermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return false;
+    }
+
+    @Override
+    public boolean hasMetadataPrivilegePermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return false;
+    }
+
+    @Override
+    public void handleRolePrivilegeChange(Long roleId) {}
+
+    @Override
+    public void handleMetadataOwnerChange(
+        String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {}
+
+    @Override
+    public void close() {}
+  }
+}
@@ -19,20 +19,18 @@ package org.apache.gravitino.server.authorization;
 
 import java.lang.reflect.Array;
 import java.security.Principal;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
@@ -51,7 +49,6 @@ import org.slf4j.LoggerFactory;
 public class MetadataFilterHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(MetadataFilterHelper.class);
-  private static volatile Executor executor = null;
 
   private MetadataFilterHelper() {}
 
@@ -71,20 +68,24 @@ public class MetadataFilterHelper {
     if (!enableAuthorization()) {
       return metadataList;
     }
-    checkExecutor();
     GravitinoAuthorizer gravitinoAuthorizer =
         GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
     AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
-    return Arrays.stream(metadataList)
-        .filter(
-            metaDataName ->
-                gravitinoAuthorizer.authorize(
-                    currentPrincipal,
-                    metalake,
-                    NameIdentifierUtil.toMetadataObject(metaDataName, entityType),
-                    Privilege.Name.valueOf(privilege),
-                    authorizationRequestContext))
+    List<MetadataObject> metadataObjects =
+        Arrays.stream(metadataList)
+            .map(metaDataName -> NameIdentifierUtil.toMetadataObject(metaDataName, entityType))
+            .collect(Collectors.toList());
+    boolean[] results =
+        gravitinoAuthorizer.batchAuthorize(
+            currentPrincipal,
+            metalake,
+            metadataObjects,
+            Privilege.Name.valueOf(privilege),
+            authorizationRequestContext);
+    return IntStream.range(0, metadataList.length)
+        .filter(i -> results[i])
+        .mapToObj(i -> metadataList[i])
         .toArray(NameIdentifier[]::new);
   }
 
@@ -102,45 +103,13 @@ public class MetadataFilterHelper {
       String expression,
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
-    if (!enableAuthorization()) {
-      return nameIdentifiers;
-    }
-    checkExecutor();
-    AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
-    List<CompletableFuture<NameIdentifier>> futures = new ArrayList<>();
-    for (NameIdentifier nameIdentifier : nameIdentifiers) {
-      Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-      futures.add(
-          CompletableFuture.supplyAsync(
-              () -> {
-                try {
-                  return PrincipalUtils.doAs(
-                      currentPrincipal,
-                      () -> {
-                        Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
-                            spiltMetadataNames(metalake, entityType, nameIdentifier);
-                        AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-                            new AuthorizationExpressionEvaluator(expression);
-                        return authorizationExpressionEvaluator.evaluate(
-                                nameIdentifierMap, authorizationRequestContext)
-                            ? nameIdentifier
-                            : null;
-                      });
-                } catch (Exception e) {
-                  LOG.error("GravitinoAuthorize error:{}", e.getMessage(), e);
-                  return null;
-                }
-              },
-              executor));
-    }
-    return futures.stream()
-        .map(CompletableFuture::join)
-        .filter(Objects::nonNull)
-        .toArray(NameIdentifier[]::new);
+    return filterByExpression(
+        metalake, expression, entityType, nameIdentifiers, Function.identity());
   }
 
   /**
-   * Call {@link AuthorizationExpressionEvaluator} to filter the metadata list
+   * Call {@link AuthorizationExpressionEvaluator} to filter the metadata list. All the entities are
+   * authorized in one batch, see {@link AuthorizationExpressionEvaluator#batchEvaluate}.
    *
    * @param metalake metalake
    * @param expression expression
@@ -159,38 +128,39 @@ public class MetadataFilterHelper {
     if (!enableAuthorization()) {
       return entities;
     }
-    checkExecutor();
     AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
-    List<CompletableFuture<E>> futures = new ArrayList<>();
-    for (E entity : entities) {
-      Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-      futures.add(
-          CompletableFuture.supplyAsync(
-              () -> {
-                try {
-                  return PrincipalUtils.doAs(
-                      currentPrincipal,
-                      () -> {
-                        AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-                            new AuthorizationExpressionEvaluator(expression);
-                        NameIdentifier nameIdentifier = toNameIdentifier.apply(entity);
-                        Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
-                            spiltMetadataNames(metalake, entityType, nameIdentifier);
-                        return authorizationExpressionEvaluator.evaluate(
-                                nameIdentifierMap, authorizationRequestContext)
-                            ? entity
-                            : null;
-                      });
-                } catch (Exception e) {
-                  LOG.error("GravitinoAuthorize error:{}", e.getMessage(), e);
-                  return null;
-                }
-              },
-              executor));
+    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
+        new AuthorizationExpressionEvaluator(expression);
+    boolean[] results;
+    try {
+      List<Map<Entity.EntityType, NameIdentifier>> nameIdentifierMaps =
+          Arrays.stream(entities)
+              .map(
+                  entity ->
+                      spiltMetadataNames(metalake, entityType, toNameIdentifier.apply(entity)))
+              .collect(Collectors.toList());
+      results =
+          authorizationExpressionEvaluator.batchEvaluate(
+              nameIdentifierMaps, authorizationRequestContext);
+    } catch (Exception e) {
+      LOG.warn("Failed to authorize in batch, authorize one by one: {}", e.getMessage(), e);
+      results = new boolean[entities.length];
+      for (int i = 0; i < entities.length; i++) {
+        try {
+          Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
+              spiltMetadataNames(metalake, entityType, toNameIdentifier.apply(entities[i]));
+          results[i] =
+              authorizationExpressionEvaluator.evaluate(
+                  nameIdentifierMap, authorizationRequestContext);
+        } catch (Exception ex) {
+          LOG.error("GravitinoAuthorize error:{}", ex.getMessage(), ex);
+        }
+      }
     }
-    return futures.stream()
-        .map(CompletableFuture::join)
-        .filter(Objects::nonNull)
+    boolean[] authorized = results;
+    return IntStream.range(0, entities.length)
+        .filter(i -> authorized[i])
+        .mapToObj(i -> entities[i])
         .toArray(size -> (E[]) Array.newInstance(entities.getClass().getComponentType(), size));
   }
 
@@ -273,24 +243,4 @@ public class MetadataFilterHelper {
     Config config = GravitinoEnv.getInstance().config();
     return config != null && config.get(Configs.ENABLE_AUTHORIZATION);
   }
-
-  private static void checkExecutor() {
-    if (executor == null) {
-      synchronized (MetadataFilterHelper.class) {
-        if (executor == null) {
-          executor =
-              Executors.newFixedThreadPool(
-                  GravitinoEnv.getInstance()
-                      .config()
-                      .get(Configs.GRAVITINO_AUTHORIZATION_THREAD_POOL_SIZE),
-                  runnable -> {
-                    Thread thread = new Thread(runnable);
-                    thread.setDaemon(true);
-                    thread.setName("MetadataFilterHelper-ThreadPool-" + thread.getId());
-                    return thread;
-                  });
-        }
-      }
-    }
-  }
 }
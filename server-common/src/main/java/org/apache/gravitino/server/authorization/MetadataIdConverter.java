@@ -23,13 +23,20 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CapabilityHelpers;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.capability.Capability;
@@ -47,10 +54,20 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** It is used to convert MetadataObject to MetadataId */
 public class MetadataIdConverter {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataIdConverter.class);
+
+  /**
+   * The minimum number of metadata objects under the same parent for {@link #getIDs} to list the
+   * parent instead of loading the metadata objects one by one.
+   */
+  @VisibleForTesting static final int BULK_RESOLUTION_THRESHOLD = 16;
+
   // Maps metadata type to entity type
   private static final Map<MetadataObject.Type, Entity.EntityType> METADATA_TO_ENTITY_TYPE_MAPPING =
       ImmutableMap.of(
@@ -105,10 +122,7 @@ public class MetadataIdConverter {
     CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
 
     MetadataObject.Type metadataType = metadataObject.type();
-    NameIdentifier ident = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
-
-    NameIdentifier normalizedIdent =
-        normalizeCaseSensitive(ident, METADATA_SCOPE_MAPPING.get(metadataType), catalogManager);
+    NameIdentifier normalizedIdent = toNormalizedIdent(metadataObject, metalake, catalogManager);
 
     Entity.EntityType entityType = getEntityType(metadataType);
 
@@ -123,6 +137,86 @@ public class MetadataIdConverter {
     return extractIdFromEntity(entity);
   }
 
+  /**
+   * Converts the given metadata objects to metadata ids. The metadata objects of the same type
+   * under the same parent are resolved by listing the parent once if there are many of them,
+   * otherwise they are loaded one by one.
+   *
+   * @param metadataObjects The metadata objects to convert.
+   * @param metalake The metalake name.
+   * @return The metadata ids in the same order as the metadata objects, the id is null if the
+   *     metadata object can't be resolved.
+   */
+  public static List<Long> getIDs(List<MetadataObject> metadataObjects, String metalake) {
+    Long[] ids = new Long[metadataObjects.size()];
+    NameIdentifier[] idents = new NameIdentifier[metadataObjects.size()];
+    Map<Pair<Entity.EntityType, Namespace>, List<Integer>> groups = new LinkedHashMap<>();
+    CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      try {
+        idents[i] = toNormalizedIdent(metadataObject, metalake, catalogManager);
+        groups
+            .computeIfAbsent(
+                Pair.of(getEntityType(metadataObject.type()), idents[i].namespace()),
+                key -> new ArrayList<>())
+            .add(i);
+      } catch (Exception e) {
+        LOG.debug("Can not resolve the id of metadata object {}", metadataObject, e);
+      }
+    }
+
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    for (Map.Entry<Pair<Entity.EntityType, Namespace>, List<Integer>> group : groups.entrySet()) {
+      Entity.EntityType entityType = group.getKey().getLeft();
+      List<Integer> indexes = group.getValue();
+      if (indexes.size() >= BULK_RESOLUTION_THRESHOLD) {
+        try {
+          Map<String, Long> nameToId = new HashMap<>();
+          for (Entity entity :
+              entityStore.list(group.getKey().getRight(), getEntityClass(entityType), entityType)) {
+            nameToId.put(((HasIdentifier) entity).name(), extractIdFromEntity(entity));
+          }
+          indexes.forEach(i -> ids[i] = nameToId.get(idents[i].name()));
+          continue;
+        } catch (Exception e) {
+          LOG.debug("Can not list {} under {}", entityType, group.getKey().getRight(), e);
+        }
+      }
+
+      for (int i : indexes) {
+        try {
+          ids[i] =
+              extractIdFromEntity(
+                  entityStore.get(idents[i], entityType, getEntityClass(entityType)));
+        } catch (Exception e) {
+          LOG.debug("Can not resolve the id of metadata object {}", metadataObjects.get(i), e);
+        }
+      }
+    }
+    return Arrays.asList(ids);
+  }
+
+  /**
+   * Converts the given metadata object to the identifier of its entity, the names are normalized by
+   * the case sensitivity of the catalog, so the metadata objects referring to the same entity have
+   * the same identifier.
+   *
+   * @param metadataObject The metadata object to convert.
+   * @param metalake The metalake name.
+   * @return The normalized entity identifier.
+   */
+  public static NameIdentifier toNormalizedIdent(MetadataObject metadataObject, String metalake) {
+    return toNormalizedIdent(metadataObject, metalake, GravitinoEnv.getInstance().catalogManager());
+  }
+
+  private static NameIdentifier toNormalizedIdent(
+      MetadataObject metadataObject, String metalake, CatalogManager catalogManager) {
+    NameIdentifier ident = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    return normalizeCaseSensitive(
+        ident, METADATA_SCOPE_MAPPING.get(metadataObject.type()), catalogManager);
+  }
+
   @VisibleForTesting
   static NameIdentifier normalizeCaseSensitive(
       NameIdentifier ident, Capability.Scope scope, CatalogManager catalogManager) {
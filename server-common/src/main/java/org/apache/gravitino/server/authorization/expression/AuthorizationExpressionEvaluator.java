@@ -18,10 +18,9 @@
 package org.apache.gravitino.server.authorization.expression;
 
 import java.security.Principal;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import ognl.Ognl;
 import ognl.OgnlContext;
@@ -31,29 +30,38 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.metrics.OperationSpan;
 import org.apache.gravitino.server.authorization.GravitinoAuthorizerProvider;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Evaluate the runtime result of the AuthorizationExpression. */
 public class AuthorizationExpressionEvaluator {
 
+  private static final Logger LOG = LoggerFactory.getLogger(AuthorizationExpressionEvaluator.class);
+
   private final String ognlAuthorizationExpression;
 
+  private final CompiledAuthorizationExpression compiledAuthorizationExpression;
+
   /**
-   * Use {@link AuthorizationExpressionConverter} to convert the authorization expression into an
-   * OGNL expression, and then call {@link GravitinoAuthorizer} to perform permission verification.
+   * Compile the authorization expression into a {@link CompiledAuthorizationExpression}, and then
+   * call {@link GravitinoAuthorizer} to perform permission verification. If the expression can't be
+   * compiled, use {@link AuthorizationExpressionConverter} to convert it into an OGNL expression
+   * instead.
    *
    * @param expression authorization expression
    */
   public AuthorizationExpressionEvaluator(String expression) {
     this.ognlAuthorizationExpression =
         AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+    this.compiledAuthorizationExpression = compile(expression);
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Invoke GravitinoAuthorizer for authorizing multiple types of metadata IDs.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
    * @return authorization result
@@ -65,8 +73,7 @@ public class AuthorizationExpressionEvaluator {
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Invoke GravitinoAuthorizer for authorizing multiple types of metadata IDs.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
    * @param pathParams params from request path
@@ -76,9 +83,54 @@ public class AuthorizationExpressionEvaluator {
       Map<Entity.EntityType, NameIdentifier> metadataNames,
       Map<String, Object> pathParams,
       AuthorizationRequestContext requestContext) {
-    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    GravitinoAuthorizer gravitinoAuthorizer =
-        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
+    try (OperationSpan.Scope ignored = OperationSpan.enter(OperationSpan.Layer.AUTHORIZATION)) {
+      Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+      GravitinoAuthorizer gravitinoAuthorizer =
+          GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
+      if (compiledAuthorizationExpression != null) {
+        return compiledAuthorizationExpression.evaluate(
+            currentPrincipal, gravitinoAuthorizer, metadataNames, pathParams, requestContext);
+      }
+      return evaluateOgnl(
+          currentPrincipal, gravitinoAuthorizer, metadataNames, pathParams, requestContext);
+    }
+  }
+
+  /**
+   * Invoke GravitinoAuthorizer for authorizing a batch of metadata, which is used to filter large
+   * list results.
+   *
+   * @param metadataNamesList the metadata names of every element of the batch, key-metadata type,
+   *     value-metadata NameIdentifier
+   * @param requestContext authorization request context
+   * @return authorization results in the same order as the metadata names
+   */
+  public boolean[] batchEvaluate(
+      List<Map<Entity.EntityType, NameIdentifier>> metadataNamesList,
+      AuthorizationRequestContext requestContext) {
+    if (compiledAuthorizationExpression == null) {
+      boolean[] results = new boolean[metadataNamesList.size()];
+      for (int i = 0; i < results.length; i++) {
+        results[i] = evaluate(metadataNamesList.get(i), requestContext);
+      }
+      return results;
+    }
+    try (OperationSpan.Scope ignored = OperationSpan.enter(OperationSpan.Layer.AUTHORIZATION)) {
+      return compiledAuthorizationExpression.batchEvaluate(
+          PrincipalUtils.getCurrentPrincipal(),
+          GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer(),
+          metadataNamesList,
+          new HashMap<>(),
+          requestContext);
+    }
+  }
+
+  boolean evaluateOgnl(
+      Principal currentPrincipal,
+      GravitinoAuthorizer gravitinoAuthorizer,
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      Map<String, Object> pathParams,
+      AuthorizationRequestContext requestContext) {
     OgnlContext ognlContext = Ognl.createDefaultContext(null);
     ognlContext.put("principal", currentPrincipal);
     ognlContext.put("authorizer", gravitinoAuthorizer);
@@ -86,7 +138,7 @@ public class AuthorizationExpressionEvaluator {
     ognlContext.putAll(pathParams);
     metadataNames.forEach(
         (type, entityNameIdent) -> {
-          if (isMetadataType(type)) {
+          if (CompiledAuthorizationExpression.METADATA_TYPES.contains(type)) {
             MetadataObject metadataObject =
                 NameIdentifierUtil.toMetadataObject(entityNameIdent, type);
             ognlContext.put(type.name(), metadataObject);
@@ -103,8 +155,19 @@ public class AuthorizationExpressionEvaluator {
     }
   }
 
-  private static boolean isMetadataType(Entity.EntityType type) {
-    return Arrays.stream(MetadataObject.Type.values())
-        .anyMatch(e -> Objects.equals(e.name(), type.name()));
+  CompiledAuthorizationExpression compiledExpression() {
+    return compiledAuthorizationExpression;
+  }
+
+  private static CompiledAuthorizationExpression compile(String expression) {
+    try {
+      return CompiledAuthorizationExpression.compile(expression);
+    } catch (IllegalArgumentException e) {
+      LOG.debug(
+          "Failed to compile authorization expression {}, fall back to OGNL: {}",
+          expression,
+          e.getMessage());
+      return null;
+    }
   }
 }
@@ -0,0 +1,601 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * An authorization expression compiled into a tree of typed predicates. Compared with evaluating
+ * the OGNL expression produced by {@link AuthorizationExpressionConverter}, the compiled form
+ * resolves entity types and privilege names once at compile time, short-circuits {@code &&} and
+ * {@code ||} directly, and only converts the metadata objects that the expression actually
+ * references.
+ */
+public final class CompiledAuthorizationExpression {
+
+  /** The compiled expressions, keyed by the original authorization expression. */
+  private static final Map<String, CompiledAuthorizationExpression> COMPILED_CACHE =
+      new ConcurrentHashMap<>();
+
+  /** Entity types which can be converted into {@link MetadataObject}. */
+  static final Set<Entity.EntityType> METADATA_TYPES =
+      Stream.of(Entity.EntityType.values())
+          .filter(
+              type ->
+                  Stream.of(MetadataObject.Type.values())
+                      .anyMatch(e -> e.name().equals(type.name())))
+          .collect(Collectors.toCollection(() -> EnumSet.noneOf(Entity.EntityType.class)));
+
+  private static final String IS_SERVICE_ADMIN = "authorizer.isServiceAdmin()";
+
+  private static final String IS_METALAKE_USER = "authorizer.isMetalakeUser(METALAKE_NAME)";
+
+  private static final String HAS_SET_OWNER_PERMISSION =
+      "authorizer.hasSetOwnerPermission(p_metalake,p_metadataObjectType,p_fullName,authorizationContext)";
+
+  private static final String HAS_METADATA_PRIVILEGE_PERMISSION =
+      "authorizer.hasMetadataPrivilegePermission(p_metalake,p_type,p_fullName,authorizationContext)";
+
+  private static final String DENY_PREFIX = "DENY_";
+
+  private final String expression;
+
+  private final Node root;
+
+  private CompiledAuthorizationExpression(String expression, Node root) {
+    this.expression = expression;
+    this.root = root;
+  }
+
+  /**
+   * Compile the authorization expression, the result is cached so that every expression is only
+   * parsed once.
+   *
+   * @param authorizationExpression authorization expression
+   * @return the compiled expression
+   * @throws IllegalArgumentException if the expression contains a term which can't be compiled
+   */
+  public static CompiledAuthorizationExpression compile(String authorizationExpression) {
+    return COMPILED_CACHE.computeIfAbsent(
+        authorizationExpression,
+        expression -> {
+          String expanded = AuthorizationExpressionConverter.replaceAnyPrivilege(expression);
+          expanded = AuthorizationExpressionConverter.replaceAnyExpressions(expanded);
+          return new CompiledAuthorizationExpression(expression, new Parser(expanded).parse());
+        });
+  }
+
+  /**
+   * Evaluate the compiled expression.
+   *
+   * @param principal the current principal
+   * @param authorizer the authorizer to check the privileges
+   * @param metadataNames key-metadata type, value-metadata NameIdentifier
+   * @param pathParams params from request path
+   * @param requestContext authorization request context
+   * @return authorization result
+   */
+  public boolean evaluate(
+      Principal principal,
+      GravitinoAuthorizer authorizer,
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      Map<String, Object> pathParams,
+      AuthorizationRequestContext requestContext) {
+    return root.evaluate(
+        new EvaluationContext(principal, authorizer, metadataNames, pathParams, requestContext));
+  }
+
+  /**
+   * Evaluate the compiled expression for a batch of metadata. The terms are evaluated for the whole
+   * batch at once: the distinct metadata objects of a term are passed to the batch methods of
+   * {@link GravitinoAuthorizer}, and an element is no longer evaluated once its result is known.
+   *
+   * @param principal the current principal
+   * @param authorizer the authorizer to check the privileges
+   * @param metadataNamesList the metadata names of every element of the batch
+   * @param pathParams params from request path
+   * @param requestContext authorization request context
+   * @return authorization results in the same order as the metadata names
+   */
+  public boolean[] batchEvaluate(
+      Principal principal,
+      GravitinoAuthorizer authorizer,
+      List<Map<Entity.EntityType, NameIdentifier>> metadataNamesList,
+      Map<String, Object> pathParams,
+      AuthorizationRequestContext requestContext) {
+    EvaluationContext[] contexts = new EvaluationContext[metadataNamesList.size()];
+    for (int i = 0; i < contexts.length; i++) {
+      contexts[i] =
+          new EvaluationContext(
+              principal, authorizer, metadataNamesList.get(i), pathParams, requestContext);
+    }
+    BitSet candidates = new BitSet(contexts.length);
+    candidates.set(0, contexts.length);
+    BitSet passed = root.batchEvaluate(contexts, candidates);
+    boolean[] results = new boolean[contexts.length];
+    passed.stream().forEach(i -> results[i] = true);
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+  /**
+   * Group the candidates by the metalake and the metadata object of the type, the candidates
+   * without the metadata object are put into the null key of the metalake.
+   */
+  private static Map<String, Map<MetadataObject, List<Integer>>> groupByMetadataObject(
+      EvaluationContext[] contexts, BitSet candidates, Entity.EntityType type) {
+    Map<String, Map<MetadataObject, List<Integer>>> groups = new LinkedHashMap<>();
+    candidates.stream()
+        .forEach(
+            i ->
+                groups
+                    .computeIfAbsent(contexts[i].metalakeName, key -> new LinkedHashMap<>())
+                    .computeIfAbsent(contexts[i].metadataObject(type), key -> new ArrayList<>())
+                    .add(i));
+    return groups;
+  }
+
+  private static final class EvaluationContext {
+    private final Principal principal;
+    private final GravitinoAuthorizer authorizer;
+    private final Map<Entity.EntityType, NameIdentifier> metadataNames;
+    private final Map<String, Object> pathParams;
+    private final AuthorizationRequestContext requestContext;
+    private final String metalakeName;
+    private Map<Entity.EntityType, MetadataObject> metadataObjects;
+
+    private EvaluationContext(
+        Principal principal,
+        GravitinoAuthorizer authorizer,
+        Map<Entity.EntityType, NameIdentifier> metadataNames,
+        Map<String, Object> pathParams,
+        AuthorizationRequestContext requestContext) {
+      this.principal = principal;
+      this.authorizer = authorizer;
+      this.metadataNames = metadataNames;
+      this.pathParams = pathParams;
+      this.requestContext = requestContext;
+      NameIdentifier metalake = metadataNames.get(Entity.EntityType.METALAKE);
+      this.metalakeName = metalake == null ? "" : metalake.name();
+    }
+
+    private MetadataObject metadataObject(Entity.EntityType type) {
+      if (metadataObjects == null) {
+        metadataObjects = new EnumMap<>(Entity.EntityType.class);
+      }
+      MetadataObject metadataObject = metadataObjects.get(type);
+      if (metadataObject == null && !metadataObjects.containsKey(type)) {
+        NameIdentifier nameIdentifier = metadataNames.get(type);
+        metadataObject =
+            nameIdentifier == null
+                ? null
+                : NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
+        metadataObjects.put(type, metadataObject);
+      }
+      return metadataObject;
+    }
+
+    private String pathParam(String name) {
+      Object value = pathParams.get(name);
+      return value == null ? null : value.toString();
+    }
+  }
+
+  private interface Node {
+    boolean evaluate(EvaluationContext context);
+
+    /**
+     * Evaluate the node for the candidates of a batch.
+     *
+     * @param contexts the evaluation contexts of the batch
+     * @param candidates the indexes of the contexts to evaluate
+     * @return the indexes of the candidates for which the node is true
+     */
+    default BitSet batchEvaluate(EvaluationContext[] contexts, BitSet candidates) {
+      BitSet passed = new BitSet(contexts.length);
+      candidates.stream().filter(i -> evaluate(contexts[i])).forEach(passed::set);
+      return passed;
+    }
+  }
+
+  /** A leaf node whose result only depends on the metadata object of one type. */
+  private abstract static class MetadataObjectNode implements Node {
+    protected final Entity.EntityType type;
+
+    private MetadataObjectNode(Entity.EntityType type) {
+      this.type = type;
+    }
+
+    protected abstract boolean[] batchEvaluate(
+        EvaluationContext context, String metalake, List<MetadataObject> metadataObjects);
+
+    @Override
+    public BitSet batchEvaluate(EvaluationContext[] contexts, BitSet candidates) {
+      BitSet passed = new BitSet(contexts.length);
+      groupByMetadataObject(contexts, candidates, type)
+          .forEach(
+              (metalake, indexesByObject) -> {
+                List<MetadataObject> metadataObjects = new ArrayList<>();
+                List<List<Integer>> indexes = new ArrayList<>();
+                indexesByObject.forEach(
+                    (metadataObject, objectIndexes) -> {
+                      if (metadataObject == null) {
+                        objectIndexes.stream()
+                            .filter(i -> evaluate(contexts[i]))
+                            .forEach(passed::set);
+                      } else {
+                        metadataObjects.add(metadataObject);
+                        indexes.add(objectIndexes);
+                      }
+                    });
+                if (metadataObjects.isEmpty()) {
+                  return;
+                }
+                boolean[] results =
+                    batchEvaluate(contexts[indexes.get(0).get(0)], metalake, metadataObjects);
+                for (int i = 0; i < results.length; i++) {
+                  if (results[i]) {
+                    indexes.get(i).forEach(passed::set);
+                  }
+                }
+              });
+      return passed;
+    }
+  }
+
+  private static final class AndNode implements Node {
+    private final List<Node> children;
+
+    private AndNode(List<Node> children) {
+      this.children = ImmutableList.copyOf(children);
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      for (Node child : children) {
+        if (!child.evaluate(context)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public BitSet batchEvaluate(EvaluationContext[] contexts, BitSet candidates) {
+      BitSet remaining = candidates;
+      for (Node child : children) {
+        if (remaining.isEmpty()) {
+          break;
+        }
+        remaining = child.batchEvaluate(contexts, remaining);
+      }
+      return remaining;
+    }
+  }
+
+  private static final class OrNode implements Node {
+    private final List<Node> children;
+
+    private OrNode(List<Node> children) {
+      this.children = ImmutableList.copyOf(children);
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      for (Node child : children) {
+        if (child.evaluate(context)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public BitSet batchEvaluate(EvaluationContext[] contexts, BitSet candidates) {
+      BitSet passed = new BitSet(contexts.length);
+      BitSet remaining = (BitSet) candidates.clone();
+      for (Node child : children) {
+        if (remaining.isEmpty()) {
+          break;
+        }
+        BitSet childPassed = child.batchEvaluate(contexts, remaining);
+        passed.or(childPassed);
+        remaining.andNot(childPassed);
+      }
+      return passed;
+    }
+  }
+
+  private static final class NotNode implements Node {
+    private final Node child;
+
+    private NotNode(Node child) {
+      this.child = child;
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return !child.evaluate(context);
+    }
+
+    @Override
+    public BitSet batchEvaluate(EvaluationContext[] contexts, BitSet candidates) {
+      BitSet passed = (BitSet) candidates.clone();
+      passed.andNot(child.batchEvaluate(contexts, candidates));
+      return passed;
+    }
+  }
+
+  private static final class PrivilegeNode extends MetadataObjectNode {
+    private final Privilege.Name privilege;
+    private final boolean deny;
+
+    private PrivilegeNode(Entity.EntityType type, Privilege.Name privilege, boolean deny) {
+      super(type);
+      this.privilege = privilege;
+      this.deny = deny;
+    }
+
+    @Override
+    protected boolean[] batchEvaluate(
+        EvaluationContext context, String metalake, List<MetadataObject> metadataObjects) {
+      return deny
+          ? context.authorizer.batchDeny(
+              context.principal, metalake, metadataObjects, privilege, context.requestContext)
+          : context.authorizer.batchAuthorize(
+              context.principal, metalake, metadataObjects, privilege, context.requestContext);
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      MetadataObject metadataObject = context.metadataObject(type);
+      return deny
+          ? context.authorizer.deny(
+              context.principal,
+              context.metalakeName,
+              metadataObject,
+              privilege,
+              context.requestContext)
+          : context.authorizer.authorize(
+              context.principal,
+              context.metalakeName,
+              metadataObject,
+              privilege,
+              context.requestContext);
+    }
+  }
+
+  private static final class OwnerNode extends MetadataObjectNode {
+
+    private OwnerNode(Entity.EntityType type) {
+      super(type);
+    }
+
+    @Override
+    protected boolean[] batchEvaluate(
+        EvaluationContext context, String metalake, List<MetadataObject> metadataObjects) {
+      return context.authorizer.batchIsOwner(context.principal, metalake, metadataObjects);
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.isOwner(
+          context.principal, context.metalakeName, context.metadataObject(type));
+    }
+  }
+
+  private static final class SelfNode implements Node {
+    private final Entity.EntityType type;
+
+    private SelfNode(Entity.EntityType type) {
+      this.type = type;
+    }
+
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.isSelf(type, context.metadataNames.get(type));
+    }
+  }
+
+  private static final class ServiceAdminNode implements Node {
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.isServiceAdmin();
+    }
+  }
+
+  private static final class MetalakeUserNode implements Node {
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.isMetalakeUser(context.metalakeName);
+    }
+  }
+
+  private static final class SetOwnerNode implements Node {
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.hasSetOwnerPermission(
+          context.pathParam("p_metalake"),
+          context.pathParam("p_metadataObjectType"),
+          context.pathParam("p_fullName"),
+          context.requestContext);
+    }
+  }
+
+  private static final class MetadataPrivilegeNode implements Node {
+    @Override
+    public boolean evaluate(EvaluationContext context) {
+      return context.authorizer.hasMetadataPrivilegePermission(
+          context.pathParam("p_metalake"),
+          context.pathParam("p_type"),
+          context.pathParam("p_fullName"),
+          context.requestContext);
+    }
+  }
+
+  /**
+   * A recursive descent parser for the expanded authorization expression. The grammar is:
+   *
+   * <pre>
+   *   or    := and ('||' and)*
+   *   and   := unary ('&amp;&amp;' unary)*
+   *   unary := '!' unary | '(' or ')' | term
+   * </pre>
+   */
+  private static final class Parser {
+    private final String input;
+    private int pos;
+
+    private Parser(String input) {
+      this.input = input;
+    }
+
+    private Node parse() {
+      Node node = parseOr();
+      skipWhitespace();
+      Preconditions.checkArgument(
+          pos == input.length(), "Unexpected token at %s in expression: %s", pos, input);
+      return node;
+    }
+
+    private Node parseOr() {
+      List<Node> children = new ArrayList<>();
+      children.add(parseAnd());
+      while (consume("||")) {
+        children.add(parseAnd());
+      }
+      return children.size() == 1 ? children.get(0) : new OrNode(children);
+    }
+
+    private Node parseAnd() {
+      List<Node> children = new ArrayList<>();
+      children.add(parseUnary());
+      while (consume("&&")) {
+        children.add(parseUnary());
+      }
+      return children.size() == 1 ? children.get(0) : new AndNode(children);
+    }
+
+    private Node parseUnary() {
+      if (consume("!")) {
+        return new NotNode(parseUnary());
+      }
+      if (consume("(")) {
+        Node node = parseOr();
+        Preconditions.checkArgument(
+            consume(")"), "Missing ')' at %s in expression: %s", pos, input);
+        return node;
+      }
+      return parseTerm();
+    }
+
+    private Node parseTerm() {
+      skipWhitespace();
+      if (consume(IS_SERVICE_ADMIN)) {
+        return new ServiceAdminNode();
+      }
+      if (consume(IS_METALAKE_USER)) {
+        return new MetalakeUserNode();
+      }
+      if (consume(HAS_SET_OWNER_PERMISSION)) {
+        return new SetOwnerNode();
+      }
+      if (consume(HAS_METADATA_PRIVILEGE_PERMISSION)) {
+        return new MetadataPrivilegeNode();
+      }
+
+      String type = parseIdentifier();
+      Preconditions.checkArgument(
+          input.startsWith("::", pos), "Unexpected token at %s in expression: %s", pos, input);
+      pos += 2;
+      String privilegeOrExpression = parseIdentifier();
+
+      Entity.EntityType entityType = Entity.EntityType.valueOf(type);
+      if (AuthConstants.SELF.equals(privilegeOrExpression)) {
+        return new SelfNode(entityType);
+      }
+      Preconditions.checkArgument(
+          METADATA_TYPES.contains(entityType),
+          "%s isn't a metadata type in expression: %s",
+          type,
+          input);
+      if (AuthConstants.OWNER.equals(privilegeOrExpression)) {
+        return new OwnerNode(entityType);
+      }
+      if (privilegeOrExpression.startsWith(DENY_PREFIX)) {
+        return new PrivilegeNode(
+            entityType,
+            Privilege.Name.valueOf(privilegeOrExpression.substring(DENY_PREFIX.length())),
+            true);
+      }
+      return new PrivilegeNode(entityType, Privilege.Name.valueOf(privilegeOrExpression), false);
+    }
+
+    private String parseIdentifier() {
+      int start = pos;
+      while (pos < input.length()
+          && (Character.isUpperCase(input.charAt(pos)) || input.charAt(pos) == '_')) {
+        pos++;
+      }
+      Preconditions.checkArgument(
+          pos > start, "Expected an identifier at %s in expression: %s", start, input);
+      return input.substring(start, pos);
+    }
+
+    private boolean consume(String token) {
+      skipWhitespace();
+      if (input.startsWith(token, pos)) {
+        pos += token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private void skipWhitespace() {
+      while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+        pos++;
+      }
+    }
+  }
+}
@@ -17,8 +17,11 @@
 
 package org.apache.gravitino.server.authorization.jcasbin;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -34,8 +37,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -51,6 +57,8 @@ import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuthorizationCacheMetricsSource;
 import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -66,6 +74,16 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   private static final Logger LOG = LoggerFactory.getLogger(JcasbinAuthorizer.class);
 
+  private static final Set<String> NESTED_TYPES =
+      ImmutableSet.of(
+          MetadataObject.Type.CATALOG.name(),
+          MetadataObject.Type.SCHEMA.name(),
+          MetadataObject.Type.TABLE.name(),
+          MetadataObject.Type.FILESET.name(),
+          MetadataObject.Type.TOPIC.name(),
+          MetadataObject.Type.MODEL.name(),
+          MetadataObject.Type.COLUMN.name());
+
   /** Jcasbin enforcer is used for metadata authorization. */
   private Enforcer allowEnforcer;
 
@@ -94,8 +112,44 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   private Executor executor = null;
 
+  /**
+   * decisionCache caches the Jcasbin enforcement results across requests. It's invalidated when the
+   * privileges or the members of a role change, or when the owner of a metadata object changes.
+   * It's null if the authorization cache is disabled.
+   */
+  private Cache<DecisionKey, Boolean> decisionCache;
+
+  /**
+   * metadataIdCache caches the ids of users and metadata objects resolved from the entity store.
+   * It's null if the authorization cache is disabled.
+   */
+  private Cache<MetadataIdKey, Long> metadataIdCache;
+
+  /**
+   * cacheGeneration is increased by every invalidation of the decision cache, so that a decision
+   * computed before an invalidation isn't kept in the cache after it.
+   */
+  private final AtomicLong cacheGeneration = new AtomicLong();
+
+  /**
+   * metadataIdGeneration is increased by every invalidation of the metadata id cache, so that an id
+   * resolved before a drop or rename isn't kept in the cache after it.
+   */
+  private final AtomicLong metadataIdGeneration = new AtomicLong();
+
+  private final List<AuthorizationCacheMetricsSource> cacheMetricsSources = new ArrayList<>();
+
   @Override
   public void initialize() {
+    Config config = GravitinoEnv.getInstance().config();
+    if (config.get(Configs.GRAVITINO_AUTHORIZATION_CACHE_ENABLED)) {
+      long maxSize = config.get(Configs.GRAVITINO_AUTHORIZATION_CACHE_MAX_SIZE);
+      long expirationSecs = config.get(Configs.GRAVITINO_AUTHORIZATION_CACHE_EXPIRATION_SECS);
+      decisionCache = buildCache(maxSize, expirationSecs);
+      metadataIdCache = buildCache(maxSize, expirationSecs);
+      registerCacheMetrics("decision", decisionCache);
+      registerCacheMetrics("metadata-id", metadataIdCache);
+    }
     executor =
         Executors.newFixedThreadPool(
             GravitinoEnv.getInstance()
@@ -189,11 +243,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     Long userId;
     boolean result;
     try {
-      Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+      Long metadataId = getMetadataId(metadataObject, metalake);
       loadOwnerPolicy(metalake, metadataObject, metadataId);
-      UserEntity userEntity = getUserEntity(principal.getName(), metalake);
-      userId = userEntity.id();
-      metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+      userId = getUserId(principal.getName(), metalake);
       result = Objects.equals(userId, ownerRel.get(metadataId));
     } catch (Exception e) {
       LOG.debug("Can not get entity id", e);
@@ -209,6 +261,50 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return result;
   }
 
+  @Override
+  public boolean[] batchAuthorize(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    return allowInternalAuthorizer.batchAuthorizeInternal(
+        principal.getName(), metalake, metadataObjects, privilege.name(), requestContext);
+  }
+
+  @Override
+  public boolean[] batchDeny(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    return denyInternalAuthorizer.batchAuthorizeInternal(
+        principal.getName(), metalake, metadataObjects, privilege.name(), requestContext);
+  }
+
+  @Override
+  public boolean[] batchIsOwner(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    Long userId;
+    try {
+      userId = getUserId(principal.getName(), metalake);
+    } catch (Exception e) {
+      LOG.debug("Can not get user id", e);
+      return results;
+    }
+    List<Long> metadataIds = getMetadataIds(metadataObjects, metalake);
+    for (int i = 0; i < results.length; i++) {
+      Long metadataId = metadataIds.get(i);
+      if (metadataId != null) {
+        loadOwnerPolicy(metalake, metadataObjects.get(i), metadataId);
+        results[i] = Objects.equals(userId, ownerRel.get(metadataId));
+      }
+    }
+    return results;
+  }
+
   @Override
   public boolean isServiceAdmin() {
     return GravitinoEnv.getInstance()
@@ -245,8 +341,7 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     } else if (Entity.EntityType.ROLE == type) {
       try {
         Long roleId =
-            MetadataIdConverter.getID(
-                NameIdentifierUtil.toMetadataObject(nameIdentifier, type), metalake);
+            getMetadataId(NameIdentifierUtil.toMetadataObject(nameIdentifier, type), metalake);
         EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
         NameIdentifier userNameIdentifier =
             NameIdentifierUtil.ofUser(metalake, PrincipalUtils.getCurrentUserName());
@@ -354,6 +449,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   @Override
   public void handleRolePrivilegeChange(Long roleId) {
+    // The users of a role aren't tracked by the decision cache, and granting or revoking a role
+    // also ends up here, so all the cached decisions are dropped.
+    invalidateDecisions();
     loadedRoles.remove(roleId);
     allowEnforcer.deleteRole(String.valueOf(roleId));
     denyEnforcer.deleteRole(String.valueOf(roleId));
@@ -363,9 +461,56 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
   public void handleMetadataOwnerChange(
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
     MetadataObject metadataObject = NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
-    Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+    Long metadataId = getMetadataId(metadataObject, metalake);
     ownerRel.remove(metadataId);
     loadedOwners.remove(metadataId);
+    if (decisionCache != null) {
+      cacheGeneration.incrementAndGet();
+      decisionCache.asMap().keySet().removeIf(key -> Objects.equals(key.metadataId, metadataId));
+    }
+  }
+
+  @Override
+  public void handleMetadataObjectChange(
+      String metalake, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    if (metadataIdCache == null) {
+      return;
+    }
+    metadataIdGeneration.incrementAndGet();
+    if (type == Entity.EntityType.METALAKE) {
+      metadataIdCache.asMap().keySet().removeIf(key -> Objects.equals(key.metalake, metalake));
+      return;
+    }
+
+    String typeName;
+    String fullName;
+    if (type == Entity.EntityType.USER) {
+      typeName = Entity.EntityType.USER.name();
+      fullName = nameIdentifier.name();
+    } else {
+      MetadataObject metadataObject = NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
+      MetadataIdKey key = metadataIdKey(metalake, metadataObject);
+      if (key == null) {
+        // The name can't be normalized, so the ids of the whole metalake are cleared instead.
+        metadataIdCache.asMap().keySet().removeIf(k -> Objects.equals(k.metalake, metalake));
+        return;
+      }
+      typeName = key.type;
+      fullName = key.fullName;
+    }
+    // The objects under a catalog, a schema or a table are named after it, so they're cleared too.
+    String childPrefix = NESTED_TYPES.contains(typeName) ? fullName + "." : null;
+    metadataIdCache
+        .asMap()
+        .keySet()
+        .removeIf(
+            key ->
+                Objects.equals(key.metalake, metalake)
+                    && ((Objects.equals(key.type, typeName)
+                            && Objects.equals(key.fullName, fullName))
+                        || (childPrefix != null
+                            && NESTED_TYPES.contains(key.type)
+                            && key.fullName.startsWith(childPrefix))));
   }
 
   @Override
@@ -376,6 +521,11 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
         threadPoolExecutor.shutdown();
       }
     }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      cacheMetricsSources.forEach(metricsSystem::unregister);
+    }
+    cacheMetricsSources.clear();
   }
 
   private class InternalAuthorizer {
@@ -405,15 +555,77 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       Long metadataId;
       Long userId;
       try {
-        UserEntity userEntity = getUserEntity(username, metalake);
-        userId = userEntity.id();
-        metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+        userId = getUserId(username, metalake);
+        metadataId = getMetadataId(metadataObject, metalake);
       } catch (Exception e) {
         LOG.debug("Can not get entity id", e);
         return false;
       }
+      return authorizeWithIds(
+          username, metalake, userId, metadataObject, metadataId, privilege, requestContext);
+    }
+
+    private boolean[] batchAuthorizeInternal(
+        String username,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        String privilege,
+        AuthorizationRequestContext requestContext) {
+      boolean[] results = new boolean[metadataObjects.size()];
+      Long userId;
+      try {
+        userId = getUserId(username, metalake);
+      } catch (Exception e) {
+        LOG.debug("Can not get user id", e);
+        return results;
+      }
+      List<Long> metadataIds = getMetadataIds(metadataObjects, metalake);
+      for (int i = 0; i < results.length; i++) {
+        Long metadataId = metadataIds.get(i);
+        if (metadataId != null) {
+          results[i] =
+              authorizeWithIds(
+                  username,
+                  metalake,
+                  userId,
+                  metadataObjects.get(i),
+                  metadataId,
+                  privilege,
+                  requestContext);
+        }
+      }
+      return results;
+    }
+
+    private boolean authorizeWithIds(
+        String username,
+        String metalake,
+        Long userId,
+        MetadataObject metadataObject,
+        Long metadataId,
+        String privilege,
+        AuthorizationRequestContext requestContext) {
+      if (decisionCache == null) {
+        loadRolePrivilege(metalake, username, userId, requestContext);
+        return authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      }
+
+      DecisionKey decisionKey =
+          new DecisionKey(
+              enforcer == denyEnforcer, userId, metadataObject.type(), metadataId, privilege);
+      Boolean cachedDecision = decisionCache.getIfPresent(decisionKey);
+      if (cachedDecision != null) {
+        return cachedDecision;
+      }
+      long generation = cacheGeneration.get();
       loadRolePrivilege(metalake, username, userId, requestContext);
-      return authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      boolean decision = authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      decisionCache.put(decisionKey, decision);
+      // The decision may be computed with the policies before an invalidation, drop it.
+      if (generation != cacheGeneration.get()) {
+        decisionCache.invalidate(decisionKey);
+      }
+      return decision;
     }
 
     private boolean authorizeByJcasbin(
@@ -429,6 +641,128 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     }
   }
 
+  private Long getUserId(String username, String metalake) throws IOException {
+    if (metadataIdCache == null) {
+      return getUserEntity(username, metalake).id();
+    }
+    MetadataIdKey key = new MetadataIdKey(metalake, Entity.EntityType.USER.name(), username);
+    Long userId = metadataIdCache.getIfPresent(key);
+    if (userId == null) {
+      long generation = metadataIdGeneration.get();
+      userId = getUserEntity(username, metalake).id();
+      cacheMetadataId(key, userId, generation);
+    }
+    return userId;
+  }
+
+  private List<Long> getMetadataIds(List<MetadataObject> metadataObjects, String metalake) {
+    if (metadataIdCache == null) {
+      return MetadataIdConverter.getIDs(metadataObjects, metalake);
+    }
+    Long[] ids = new Long[metadataObjects.size()];
+    MetadataIdKey[] keys = new MetadataIdKey[metadataObjects.size()];
+    List<Integer> missingIndexes = new ArrayList<>();
+    List<MetadataObject> missingObjects = new ArrayList<>();
+    for (int i = 0; i < ids.length; i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      keys[i] = metadataIdKey(metalake, metadataObject);
+      ids[i] = keys[i] == null ? null : metadataIdCache.getIfPresent(keys[i]);
+      if (ids[i] == null) {
+        missingIndexes.add(i);
+        missingObjects.add(metadataObject);
+      }
+    }
+    if (!missingObjects.isEmpty()) {
+      long generation = metadataIdGeneration.get();
+      List<Long> resolvedIds = MetadataIdConverter.getIDs(missingObjects, metalake);
+      for (int i = 0; i < missingIndexes.size(); i++) {
+        Long id = resolvedIds.get(i);
+        if (id != null) {
+          int index = missingIndexes.get(i);
+          ids[index] = id;
+          if (keys[index] != null) {
+            cacheMetadataId(keys[index], id, generation);
+          }
+        }
+      }
+    }
+    return Arrays.asList(ids);
+  }
+
+  private Long getMetadataId(MetadataObject metadataObject, String metalake) {
+    if (metadataIdCache == null) {
+      return MetadataIdConverter.getID(metadataObject, metalake);
+    }
+    MetadataIdKey key = metadataIdKey(metalake, metadataObject);
+    if (key == null) {
+      return MetadataIdConverter.getID(metadataObject, metalake);
+    }
+    Long metadataId = metadataIdCache.getIfPresent(key);
+    if (metadataId == null) {
+      long generation = metadataIdGeneration.get();
+      metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+      cacheMetadataId(key, metadataId, generation);
+    }
+    return metadataId;
+  }
+
+  /**
+   * The ids of the metadata objects are cached by their normalized names, so the names in different
+   * cases of a case-insensitive catalog share the same cached id, and they're all invalidated when
+   * the object changes.
+   */
+  private static MetadataIdKey metadataIdKey(String metalake, MetadataObject metadataObject) {
+    try {
+      return new MetadataIdKey(
+          metalake, metadataObject.type().name(), normalizedName(metadataObject, metalake));
+    } catch (Exception e) {
+      // The catalog may not exist, then the id can't be resolved either.
+      LOG.debug("Can not normalize the name of metadata object {}", metadataObject, e);
+      return null;
+    }
+  }
+
+  private static String normalizedName(MetadataObject metadataObject, String metalake) {
+    return MetadataIdConverter.toNormalizedIdent(metadataObject, metalake).toString();
+  }
+
+  private void cacheMetadataId(MetadataIdKey key, Long id, long generation) {
+    if (id == null) {
+      return;
+    }
+    metadataIdCache.put(key, id);
+    // The object may be dropped or renamed while its id is being resolved.
+    if (metadataIdGeneration.get() != generation) {
+      metadataIdCache.asMap().remove(key, id);
+    }
+  }
+
+  private void invalidateDecisions() {
+    if (decisionCache != null) {
+      cacheGeneration.incrementAndGet();
+      decisionCache.invalidateAll();
+    }
+  }
+
+  private static <K, V> Cache<K, V> buildCache(long maxSize, long expirationSecs) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(expirationSecs, TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  private void registerCacheMetrics(String cacheName, Cache<?, ?> cache) {
+    AuthorizationCacheMetricsSource metricsSource =
+        new AuthorizationCacheMetricsSource(cacheName, cache);
+    cacheMetricsSources.add(metricsSource);
+    // Metrics System could be null in UT.
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
   private static UserEntity getUserEntity(String username, String metalake) throws IOException {
     EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
     UserEntity userEntity =
@@ -454,34 +788,30 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
                         SupportsRelationOperations.Type.ROLE_USER_REL,
                         userNameIdentifier,
                         Entity.EntityType.USER);
-            List<CompletableFuture<Void>> loadRoleFutures = new ArrayList<>();
+            List<NameIdentifier> rolesToLoad = new ArrayList<>();
             for (RoleEntity role : entities) {
               Long roleId = role.id();
               allowEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
               denyEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
-              if (loadedRoles.contains(roleId)) {
-                continue;
+              if (!loadedRoles.contains(roleId)) {
+                rolesToLoad.add(NameIdentifierUtil.ofRole(metalake, role.name()));
               }
-              CompletableFuture<Void> loadRoleFuture =
-                  CompletableFuture.supplyAsync(
-                          () -> {
-                            try {
-                              return entityStore.get(
-                                  NameIdentifierUtil.ofRole(metalake, role.name()),
-                                  Entity.EntityType.ROLE,
-                                  RoleEntity.class);
-                            } catch (Exception e) {
-                              throw new RuntimeException("Failed to load role: " + role.name(), e);
-                            }
-                          },
-                          executor)
-                      .thenAcceptAsync(
-                          roleEntity -> {
-                            loadPolicyByRoleEntity(roleEntity);
-                            loadedRoles.add(roleId);
-                          },
-                          executor);
-              loadRoleFutures.add(loadRoleFuture);
+            }
+            if (rolesToLoad.isEmpty()) {
+              return;
+            }
+            // Fetch all the roles in one round trip and apply their policies concurrently.
+            List<RoleEntity> roleEntities =
+                entityStore.batchGet(rolesToLoad, Entity.EntityType.ROLE, RoleEntity.class);
+            List<CompletableFuture<Void>> loadRoleFutures = new ArrayList<>();
+            for (RoleEntity roleEntity : roleEntities) {
+              loadRoleFutures.add(
+                  CompletableFuture.runAsync(
+                      () -> {
+                        loadPolicyByRoleEntity(roleEntity);
+                        loadedRoles.add(roleEntity.id());
+                      },
+                      executor));
             }
             CompletableFuture.allOf(loadRoleFutures.toArray(new CompletableFuture[0])).join();
           } catch (IOException e) {
@@ -528,17 +858,92 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
           denyEnforcer.addPolicy(
               String.valueOf(roleEntity.id()),
               securableObject.type().name(),
-              String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+              String.valueOf(getMetadataId(securableObject, metalake)),
               privilege.name().name().toUpperCase(),
               AuthConstants.ALLOW);
         }
         allowEnforcer.addPolicy(
             String.valueOf(roleEntity.id()),
             securableObject.type().name(),
-            String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+            String.valueOf(getMetadataId(securableObject, metalake)),
             privilege.name().name().toUpperCase(),
             condition.name().toLowerCase());
       }
     }
   }
+
+  /** The key of the decision cache. */
+  private static final class DecisionKey {
+    private final boolean deny;
+    private final Long userId;
+    private final MetadataObject.Type metadataType;
+    private final Long metadataId;
+    private final String privilege;
+
+    private DecisionKey(
+        boolean deny,
+        Long userId,
+        MetadataObject.Type metadataType,
+        Long metadataId,
+        String privilege) {
+      this.deny = deny;
+      this.userId = userId;
+      this.metadataType = metadataType;
+      this.metadataId = metadataId;
+      this.privilege = privilege;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey that = (DecisionKey) o;
+      return deny == that.deny
+          && Objects.equals(userId, that.userId)
+          && metadataType == that.metadataType
+          && Objects.equals(metadataId, that.metadataId)
+          && Objects.equals(privilege, that.privilege);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(deny, userId, metadataType, metadataId, privilege);
+    }
+  }
+
+  /** The key of the metadata id cache. */
+  private static final class MetadataIdKey {
+    private final String metalake;
+    private final String type;
+    private final String fullName;
+
+    private MetadataIdKey(String metalake, String type, String fullName) {
+      this.metalake = metalake;
+      this.type = type;
+      this.fullName = fullName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof MetadataIdKey)) {
+        return false;
+      }
+      MetadataIdKey that = (MetadataIdKey) o;
+      return Objects.equals(metalake, that.metalake)
+          && Objects.equals(type, that.type)
+          && Objects.equals(fullName, that.fullName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(metalake, type, fullName);
+    }
+  }
 }
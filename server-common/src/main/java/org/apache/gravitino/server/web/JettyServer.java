@@ -50,6 +50,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -174,7 +175,15 @@ public final class JettyServer {
     }
 
     HandlerCollection handlers = new HandlerCollection();
-    handlers.addHandler(servletContextHandler);
+    if (serverConfig.isEnableResponseCompression()) {
+      // The responses are only compressed for the clients accepting the gzip encoding.
+      GzipHandler gzipHandler = new GzipHandler();
+      gzipHandler.setMinGzipSize(serverConfig.getResponseCompressionMinSize());
+      gzipHandler.setHandler(servletContextHandler);
+      handlers.addHandler(gzipHandler);
+    } else {
+      handlers.addHandler(servletContextHandler);
+    }
     server.setHandler(handlers);
   }
 
@@ -117,6 +117,23 @@ public final class JettyServerConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(100);
 
+  public static final ConfigEntry<Boolean> ENABLE_RESPONSE_COMPRESSION =
+      new ConfigBuilder("enableResponseCompression")
+          .doc(
+              "Enable gzip compression of the HTTP responses for the clients sending the "
+                  + "Accept-Encoding header")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> RESPONSE_COMPRESSION_MIN_SIZE =
+      new ConfigBuilder("responseCompressionMinSize")
+          .doc("The minimum size in bytes of the HTTP responses to compress")
+          .version(ConfigConstants.VERSION_1_1_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2048);
+
   public static final ConfigEntry<Boolean> ENABLE_HTTPS =
       new ConfigBuilder("enableHttps")
           .doc("Enable https")
@@ -311,6 +328,10 @@ public final class JettyServerConfig {
 
   private final int threadPoolWorkQueueSize;
 
+  private final boolean enableResponseCompression;
+
+  private final int responseCompressionMinSize;
+
   private final int httpsPort;
   private final String keyStorePath;
   private final String keyStorePassword;
@@ -365,6 +386,8 @@ public final class JettyServerConfig {
     this.requestHeaderSize = internalConfig.get(WEBSERVER_REQUEST_HEADER_SIZE);
     this.responseHeaderSize = internalConfig.get(WEBSERVER_RESPONSE_HEADER_SIZE);
     this.threadPoolWorkQueueSize = internalConfig.get(WEBSERVER_THREAD_POOL_WORK_QUEUE_SIZE);
+    this.enableResponseCompression = internalConfig.get(ENABLE_RESPONSE_COMPRESSION);
+    this.responseCompressionMinSize = internalConfig.get(RESPONSE_COMPRESSION_MIN_SIZE);
 
     this.enableHttps = internalConfig.get(ENABLE_HTTPS);
     this.httpsPort = internalConfig.get(WEBSERVER_HTTPS_PORT);
@@ -455,6 +478,14 @@ public final class JettyServerConfig {
     return threadPoolWorkQueueSize;
   }
 
+  public boolean isEnableResponseCompression() {
+    return enableResponseCompression;
+  }
+
+  public int getResponseCompressionMinSize() {
+    return responseCompressionMinSize;
+  }
+
   public int getIdleTimeout() {
     return idleTimeout;
   }
@@ -18,15 +18,27 @@
  */
 package org.apache.gravitino.server.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.security.PrivilegedExceptionAction;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Audit;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.Version;
 import org.apache.gravitino.audit.FilesetAuditConstants;
@@ -51,6 +63,149 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Returns an OK response of a list, whose items are converted and serialized one by one while the
+   * response is written. Unlike {@link #ok(Object)}, the DTOs of a large list are never built and
+   * held in memory all together. The response body has the same JSON form as a successful list
+   * response with a single array field, for example {@code {"code":0,"partitions":[...]}}.
+   *
+   * @param fieldName The name of the array field.
+   * @param items The items of the list.
+   * @param converter The function to convert an item to the DTO to serialize.
+   * @return The OK response.
+   * @param <T> The type of the items.
+   */
+  public static <T> Response okStreaming(
+      String fieldName, Iterable<T> items, Function<? super T, ?> converter) {
+    StreamingOutput entity =
+        output -> {
+          ObjectWriter writer =
+              ObjectMapperProvider.objectMapper()
+                  .writer()
+                  .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+          try (JsonGenerator generator = writer.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("code", 0);
+            generator.writeArrayFieldStart(fieldName);
+            for (T item : items) {
+              writer.writeValue(generator, converter.apply(item));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+          }
+        };
+    return Response.status(Response.Status.OK)
+        .entity(entity)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
+  /**
+   * Returns an OK response of the entity tagged with an ETag derived from the version of the
+   * metadata object. If the request carries a matching {@code If-None-Match} header, a 304 Not
+   * Modified response without body is returned instead, and the entity is never built nor
+   * serialized, so the client can reuse the representation it already has.
+   *
+   * @param httpRequest The HTTP request.
+   * @param version The version of the metadata object, which must change whenever the response
+   *     entity changes, or null if the version is unknown, then the response isn't tagged.
+   * @param entity The supplier of the response entity.
+   * @return The OK or Not Modified response.
+   * @param <T> The type of the response entity.
+   */
+  public static <T> Response okWithETag(
+      HttpServletRequest httpRequest, String version, Supplier<T> entity) {
+    if (version == null) {
+      return ok(entity.get());
+    }
+
+    Response notModified = notModified(httpRequest, version);
+    return notModified != null ? notModified : okWithETag(null, entity.get(), versionETag(version));
+  }
+
+  /**
+   * Returns a 304 Not Modified response if the {@code If-None-Match} header of the request matches
+   * the ETag derived from the version of the metadata object.
+   *
+   * @param httpRequest The HTTP request.
+   * @param version The version of the metadata object, or null if the version is unknown.
+   * @return The Not Modified response, or null if the header is absent or doesn't match.
+   */
+  public static Response notModified(HttpServletRequest httpRequest, String version) {
+    if (version == null) {
+      return null;
+    }
+
+    EntityTag etag = versionETag(version);
+    return matchesETag(httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH), etag)
+        ? Response.notModified(etag).build()
+        : null;
+  }
+
+  private static EntityTag versionETag(String version) {
+    return new EntityTag(
+        Hashing.murmur3_128().hashString(version, StandardCharsets.UTF_8).toString());
+  }
+
+  /**
+   * Returns the version of a metadata object managed by Gravitino, which is derived from its audit
+   * info since every change of the object updates its last modified time.
+   *
+   * @param audit The audit info of the metadata object.
+   * @return The version, or null if the audit info is absent.
+   */
+  public static String auditVersion(Audit audit) {
+    return audit == null ? null : audit.createTime() + "/" + audit.lastModifiedTime();
+  }
+
+  /**
+   * Returns an OK response of the entity tagged with the given ETag. If the {@code If-None-Match}
+   * header of the request matches the ETag, a 304 Not Modified response without body is returned
+   * instead.
+   *
+   * @param ifNoneMatch The {@code If-None-Match} header of the request, or null if absent.
+   * @param t The response entity.
+   * @param etag The ETag of the response entity.
+   * @return The OK or Not Modified response.
+   * @param <T> The type of the response entity.
+   */
+  public static <T> Response okWithETag(String ifNoneMatch, T t, EntityTag etag) {
+    if (matchesETag(ifNoneMatch, etag)) {
+      return Response.notModified(etag).build();
+    }
+    return Response.status(Response.Status.OK)
+        .entity(t)
+        .type(MediaType.APPLICATION_JSON)
+        .tag(etag)
+        .build();
+  }
+
+  @VisibleForTesting
+  static boolean matchesETag(String ifNoneMatch, EntityTag etag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.trim();
+      if (value.equals("*")) {
+        return true;
+      }
+      // If-None-Match uses the weak comparison, the weakness indicator is ignored.
+      if (value.startsWith("W/")) {
+        value = value.substring(2);
+      }
+      if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+        value = value.substring(1, value.length() - 1);
+      }
+      if (value.equals(etag.getValue())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public static Response created() {
     return Response.status(Response.Status.CREATED).type(MediaType.APPLICATION_JSON).build();
   }
@@ -23,8 +23,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
-import java.lang.reflect.Field;
-import java.util.concurrent.Executor;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -64,7 +62,6 @@ public class TestMetadataFilterHelper {
 
   @Test
   public void testFilter() {
-    makeCompletableFutureUseCurrentThread();
     try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
         MockedStatic<GravitinoAuthorizerProvider> mockStatic =
             mockStatic(GravitinoAuthorizerProvider.class)) {
@@ -96,7 +93,6 @@ public class TestMetadataFilterHelper {
 
   @Test
   public void testFilterByExpression() {
-    makeCompletableFutureUseCurrentThread();
     try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
         MockedStatic<GravitinoAuthorizerProvider> mockStatic =
             mockStatic(GravitinoAuthorizerProvider.class)) {
@@ -130,16 +126,4 @@ public class TestMetadataFilterHelper {
       Assertions.assertEquals("testMetalake.testCatalog.testSchema2", filtered2[1].toString());
     }
   }
-
-  private static void makeCompletableFutureUseCurrentThread() {
-    try {
-      Executor currentThread = Runnable::run;
-      Class<MetadataFilterHelper> jcasbinAuthorizerClass = MetadataFilterHelper.class;
-      Field field = jcasbinAuthorizerClass.getDeclaredField("executor");
-      field.setAccessible(true);
-      field.set(null, currentThread);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-  }
 }
@@ -20,15 +20,21 @@
 package org.apache.gravitino.server.authorization;
 
 import static org.mockito.Answers.CALLS_REAL_METHODS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -199,6 +205,70 @@ public class TestMetadataIdConverter {
     }
   }
 
+  @Test
+  void testConvertInBatch() throws IllegalAccessException, IOException {
+    CatalogManager mockCatalogManager = mock(CatalogManager.class);
+    Object originalCatalogManager =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "catalogManager", true);
+    Object originalEntityStore =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "entityStore", true);
+
+    FieldUtils.writeDeclaredField(
+        GravitinoEnv.getInstance(), "catalogManager", mockCatalogManager, true);
+    FieldUtils.writeDeclaredField(GravitinoEnv.getInstance(), "entityStore", mockStore, true);
+
+    try (MockedStatic<MetadataIdConverter> mockedStatic =
+        mockStatic(MetadataIdConverter.class, CALLS_REAL_METHODS)) {
+      mockedStatic
+          .when(() -> MetadataIdConverter.normalizeCaseSensitive(any(), any(), any()))
+          .thenAnswer(invocation -> invocation.getArgument(0));
+
+      // A few metadata objects are loaded one by one, the missing one is resolved to null.
+      List<Long> ids =
+          MetadataIdConverter.getIDs(
+              ImmutableList.of(
+                  MetadataObjects.of(ImmutableList.of("catalog"), MetadataObject.Type.CATALOG),
+                  MetadataObjects.of(
+                      ImmutableList.of("catalog", "schema", "table"), MetadataObject.Type.TABLE),
+                  MetadataObjects.of(
+                      ImmutableList.of("catalog", "schema", "missing"), MetadataObject.Type.TABLE)),
+              "metalake");
+      Assertions.assertEquals(Arrays.asList(2L, 4L, null), ids);
+
+      // Many metadata objects under the same parent are resolved by listing the parent.
+      Namespace tableNamespace = Namespace.of("metalake", "catalog", "bulkSchema");
+      List<TableEntity> tables = new ArrayList<>();
+      List<MetadataObject> tableObjects = new ArrayList<>();
+      for (int i = 0; i < MetadataIdConverter.BULK_RESOLUTION_THRESHOLD; i++) {
+        tables.add(getTestTableEntity(100L + i, "table" + i, tableNamespace));
+        tableObjects.add(
+            MetadataObjects.of(
+                ImmutableList.of("catalog", "bulkSchema", "table" + i), MetadataObject.Type.TABLE));
+      }
+      tableObjects.add(
+          MetadataObjects.of(
+              ImmutableList.of("catalog", "bulkSchema", "missing"), MetadataObject.Type.TABLE));
+      when(mockStore.list(tableNamespace, TableEntity.class, Entity.EntityType.TABLE))
+          .thenReturn(tables);
+
+      ids = MetadataIdConverter.getIDs(tableObjects, "metalake");
+      for (int i = 0; i < MetadataIdConverter.BULK_RESOLUTION_THRESHOLD; i++) {
+        Assertions.assertEquals(100L + i, ids.get(i));
+      }
+      Assertions.assertNull(ids.get(MetadataIdConverter.BULK_RESOLUTION_THRESHOLD));
+      verify(mockStore, never())
+          .get(
+              eq(NameIdentifier.of(tableNamespace, "table0")),
+              eq(Entity.EntityType.TABLE),
+              eq(TableEntity.class));
+    } finally {
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "catalogManager", originalCatalogManager, true);
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "entityStore", originalEntityStore, true);
+    }
+  }
+
   private void initTestNameIdentifier() {
     ident1 = NameIdentifier.of("metalake");
     ident2 = NameIdentifier.of("metalake", "catalog");
@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test for {@link CompiledAuthorizationExpression} */
+public class TestCompiledAuthorizationExpression {
+
+  private static final List<String> EXPRESSIONS =
+      ImmutableList.of(
+          AuthorizationExpressionConstants.loadCatalogAuthorizationExpression,
+          AuthorizationExpressionConstants.loadSchemaAuthorizationExpression,
+          AuthorizationExpressionConstants.loadModelAuthorizationExpression,
+          AuthorizationExpressionConstants.loadTableAuthorizationExpression,
+          AuthorizationExpressionConstants.loadTopicsAuthorizationExpression,
+          AuthorizationExpressionConstants.loadFilesetAuthorizationExpression,
+          AuthorizationExpressionConstants.filterSchemaAuthorizationExpression,
+          AuthorizationExpressionConstants.filterModelAuthorizationExpression,
+          AuthorizationExpressionConstants.filterTableAuthorizationExpression,
+          AuthorizationExpressionConstants.filterTopicsAuthorizationExpression,
+          AuthorizationExpressionConstants.filterFilesetAuthorizationExpression,
+          "METALAKE::OWNER || METALAKE::MANAGE_USERS || USER::SELF",
+          "METALAKE::OWNER || ROLE::OWNER || ROLE::SELF",
+          "SERVICE_ADMIN || METALAKE_USER && !(CATALOG::DENY_CREATE_TABLE)",
+          "METALAKE_USER && (CAN_SET_OWNER || CAN_OPERATE_METADATA_PRIVILEGE)");
+
+  @Test
+  public void testCompileAndEvaluateConsistentWithOgnl() {
+    Map<Entity.EntityType, NameIdentifier> metadataNames = new HashMap<>();
+    metadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake("metalake"));
+    metadataNames.put(
+        Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog("metalake", "catalog"));
+    metadataNames.put(
+        Entity.EntityType.SCHEMA, NameIdentifierUtil.ofSchema("metalake", "catalog", "schema"));
+    metadataNames.put(
+        Entity.EntityType.TABLE,
+        NameIdentifierUtil.ofTable("metalake", "catalog", "schema", "table"));
+    metadataNames.put(
+        Entity.EntityType.FILESET,
+        NameIdentifierUtil.ofFileset("metalake", "catalog", "schema", "fileset"));
+    metadataNames.put(
+        Entity.EntityType.TOPIC,
+        NameIdentifierUtil.ofTopic("metalake", "catalog", "schema", "topic"));
+    metadataNames.put(
+        Entity.EntityType.MODEL,
+        NameIdentifierUtil.ofModel("metalake", "catalog", "schema", "model"));
+    metadataNames.put(Entity.EntityType.USER, NameIdentifierUtil.ofUser("metalake", "user"));
+    metadataNames.put(Entity.EntityType.ROLE, NameIdentifierUtil.ofRole("metalake", "role"));
+    Map<String, Object> pathParams =
+        ImmutableMap.of(
+            "p_metalake", "metalake",
+            "p_metadataObjectType", "table",
+            "p_type", "table",
+            "p_fullName", "catalog.schema.table");
+    Principal principal = new UserPrincipal("tester");
+
+    for (String expression : EXPRESSIONS) {
+      AuthorizationExpressionEvaluator evaluator = new AuthorizationExpressionEvaluator(expression);
+      CompiledAuthorizationExpression compiled = evaluator.compiledExpression();
+      Assertions.assertNotNull(compiled, expression);
+      for (int seed = 0; seed < 64; seed++) {
+        HashingAuthorizer authorizer = new HashingAuthorizer(seed);
+        boolean expected =
+            evaluator.evaluateOgnl(
+                principal,
+                authorizer,
+                metadataNames,
+                pathParams,
+                new AuthorizationRequestContext());
+        boolean actual =
+            compiled.evaluate(
+                principal,
+                authorizer,
+                metadataNames,
+                pathParams,
+                new AuthorizationRequestContext());
+        Assertions.assertEquals(expected, actual, expression + " with seed " + seed);
+      }
+    }
+  }
+
+  @Test
+  public void testBatchEvaluateConsistentWithEvaluate() {
+    List<Map<Entity.EntityType, NameIdentifier>> metadataNamesList = new ArrayList<>();
+    for (String catalog : ImmutableList.of("catalog1", "catalog2")) {
+      for (String schema : ImmutableList.of("schema1", "schema2")) {
+        for (int i = 0; i < 5; i++) {
+          Map<Entity.EntityType, NameIdentifier> metadataNames = new HashMap<>();
+          metadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake("metalake"));
+          metadataNames.put(
+              Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog("metalake", catalog));
+          metadataNames.put(
+              Entity.EntityType.SCHEMA, NameIdentifierUtil.ofSchema("metalake", catalog, schema));
+          for (Entity.EntityType type :
+              ImmutableList.of(
+                  Entity.EntityType.TABLE,
+                  Entity.EntityType.FILESET,
+                  Entity.EntityType.TOPIC,
+                  Entity.EntityType.MODEL)) {
+            metadataNames.put(
+                type,
+                NameIdentifier.of("metalake", catalog, schema, type.name().toLowerCase() + i));
+          }
+          metadataNames.put(
+              Entity.EntityType.USER, NameIdentifierUtil.ofUser("metalake", "user" + i));
+          metadataNames.put(
+              Entity.EntityType.ROLE, NameIdentifierUtil.ofRole("metalake", "role" + i));
+          metadataNamesList.add(metadataNames);
+        }
+      }
+    }
+    Principal principal = new UserPrincipal("tester");
+
+    for (String expression : EXPRESSIONS) {
+      CompiledAuthorizationExpression compiled =
+          CompiledAuthorizationExpression.compile(expression);
+      for (int seed = 0; seed < 16; seed++) {
+        HashingAuthorizer authorizer = new HashingAuthorizer(seed);
+        boolean[] expected = new boolean[metadataNamesList.size()];
+        for (int i = 0; i < expected.length; i++) {
+          expected[i] =
+              compiled.evaluate(
+                  principal,
+                  authorizer,
+                  metadataNamesList.get(i),
+                  ImmutableMap.of(),
+                  new AuthorizationRequestContext());
+        }
+        boolean[] actual =
+            compiled.batchEvaluate(
+                principal,
+                authorizer,
+                metadataNamesList,
+                ImmutableMap.of(),
+                new AuthorizationRequestContext());
+        Assertions.assertArrayEquals(expected, actual, expression + " with seed " + seed);
+      }
+    }
+  }
+
+  @Test
+  public void testCompileCache() {
+    String expression = "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA";
+    Assertions.assertSame(
+        CompiledAuthorizationExpression.compile(expression),
+        CompiledAuthorizationExpression.compile(expression));
+  }
+
+  @Test
+  public void testCompileInvalidExpression() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> CompiledAuthorizationExpression.compile("UNKNOWN::USE_CATALOG"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> CompiledAuthorizationExpression.compile("CATALOG::UNKNOWN_PRIVILEGE"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> CompiledAuthorizationExpression.compile("(CATALOG::USE_CATALOG"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> CompiledAuthorizationExpression.compile("CATALOG::USE_CATALOG SCHEMA::USE_SCHEMA"));
+
+    AuthorizationExpressionEvaluator evaluator =
+        new AuthorizationExpressionEvaluator("authorizer.isServiceAdmin() || true");
+    Assertions.assertNull(evaluator.compiledExpression());
+  }
+
+  @Test
+  public void testShortCircuit() {
+    Map<Entity.EntityType, NameIdentifier> metadataNames = new HashMap<>();
+    metadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake("metalake"));
+    metadataNames.put(
+        Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog("metalake", "catalog"));
+    CountingAuthorizer authorizer = new CountingAuthorizer();
+    CompiledAuthorizationExpression compiled =
+        CompiledAuthorizationExpression.compile("METALAKE::OWNER || CATALOG::USE_CATALOG");
+    Assertions.assertTrue(
+        compiled.evaluate(
+            new UserPrincipal("tester"),
+            authorizer,
+            metadataNames,
+            new HashMap<>(),
+            new AuthorizationRequestContext()));
+    Assertions.assertEquals(1, authorizer.calls);
+  }
+
+  /** An authorizer whose answers are a deterministic function of the arguments and a seed. */
+  private static class HashingAuthorizer extends CountingAuthorizer {
+    private final int seed;
+
+    private HashingAuthorizer(int seed) {
+      this.seed = seed;
+    }
+
+    private boolean answer(Object... args) {
+      int hash = Objects.hash(args) * 31 + seed;
+      return ((hash ^ (hash >>> 7)) & 1) == 1;
+    }
+
+    @Override
+    public boolean authorize(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      return answer("authorize", metalake, metadataObject.fullName(), privilege);
+    }
+
+    @Override
+    public boolean deny(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      return answer("deny", metalake, metadataObject.fullName(), privilege);
+    }
+
+    @Override
+    public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+      return answer("isOwner", metalake, metadataObject.fullName());
+    }
+
+    @Override
+    public boolean isServiceAdmin() {
+      return answer("isServiceAdmin");
+    }
+
+    @Override
+    public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+      return answer("isSelf", type, nameIdentifier);
+    }
+
+    @Override
+    public boolean isMetalakeUser(String metalake) {
+      return answer("isMetalakeUser", metalake);
+    }
+
+    @Override
+    public boolean hasSetOwnerPermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return answer("hasSetOwnerPermission", metalake, type, fullName);
+    }
+
+    @Override
+    public boolean hasMetadataPrivilegePermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return answer("hasMetadataPrivilegePermission", metalake, type, fullName);
+    }
+  }
+
+  private static class CountingAuthorizer implements GravitinoAuthorizer {
+    private int calls;
+
+    @Override
+    public void initialize() {}
+
+    @Override
+    public boolean authorize(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      calls++;
+      return true;
+    }
+
+    @Override
+    public boolean deny(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      calls++;
+      return false;
+    }
+
+    @Override
+    public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+      calls++;
+      return true;
+    }
+
+    @Override
+    public boolean isServiceAdmin() {
+      return false;
+    }
+
+    @Override
+    public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+      return false;
+    }
+
+    @Override
+    public boolean isMetalakeUser(String metalake) {
+      return false;
+    }
+
+    @Override
+    public boolean hasSetOwnerPermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return false;
+    }
+
+    @Override
+    public boolean hasMetadataPrivilegePermission(
+        String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+      return false;
+    }
+
+    @Override
+    public void handleRolePrivilegeChange(Long roleId) {}
+
+    @Override
+    public void handleMetadataOwnerChange(
+        String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {}
+
+    @Override
+    public void close() {}
+  }
+}
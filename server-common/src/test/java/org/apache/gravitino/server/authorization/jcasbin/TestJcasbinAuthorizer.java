@@ -18,12 +18,17 @@
 package org.apache.gravitino.server.authorization.jcasbin;
 
 import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -33,7 +38,9 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -59,6 +66,7 @@ import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.storage.relational.po.SecurableObjectPO;
 import org.apache.gravitino.storage.relational.service.OwnerMetaService;
 import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -120,8 +128,23 @@ public class TestJcasbinAuthorizer {
     metadataIdConverterMockedStatic
         .when(() -> MetadataIdConverter.getID(any(), eq(METALAKE)))
         .thenReturn(CATALOG_ID);
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(any(), eq(METALAKE)))
+        .thenAnswer(
+            invocation ->
+                Collections.nCopies(invocation.<List<?>>getArgument(0).size(), CATALOG_ID));
+    // All the catalogs are case-insensitive.
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.toNormalizedIdent(any(), eq(METALAKE)))
+        .thenAnswer(
+            invocation -> {
+              NameIdentifier ident =
+                  MetadataObjectUtil.toEntityIdent(METALAKE, invocation.getArgument(0));
+              return NameIdentifier.parse(ident.toString().toLowerCase(Locale.ROOT));
+            });
     when(gravitinoEnv.entityStore()).thenReturn(entityStore);
     when(entityStore.relationOperations()).thenReturn(supportsRelationOperations);
+    when(entityStore.batchGet(any(), any(), any())).thenCallRealMethod();
     when(entityStore.get(
             eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
             eq(Entity.EntityType.USER),
@@ -178,6 +201,8 @@ public class TestJcasbinAuthorizer {
             eq(userNameIdentifier),
             eq(Entity.EntityType.USER)))
         .thenReturn(ImmutableList.of(allowRole));
+    // Granting a role to the user notifies the authorizer, which drops the cached decisions.
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
     assertTrue(doAuthorize(currentPrincipal));
     // Test role cache.
     // When permissions are changed but handleRolePrivilegeChange is not executed, the system will
@@ -223,10 +248,128 @@ public class TestJcasbinAuthorizer {
             eq(userNameIdentifier),
             eq(Entity.EntityType.USER)))
         .thenReturn(ImmutableList.of(allowRole, denyRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
 
     assertFalse(doAuthorize(currentPrincipal));
   }
 
+  @Test
+  public void testAuthorizationCache() throws IOException {
+    makeCompletableFutureUseCurrentThread(jcasbinAuthorizer);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject catalog = MetadataObjects.of(null, "cachedCatalog", MetadataObject.Type.CATALOG);
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    NameIdentifier userNameIdentifier = NameIdentifierUtil.ofUser(METALAKE, USERNAME);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(userNameIdentifier),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+
+    assertTrue(doAuthorize(currentPrincipal, catalog));
+    assertTrue(doAuthorize(currentPrincipal, catalog));
+    // The metadata id is resolved only once.
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(catalog), eq(METALAKE)), times(1));
+
+    // The role is revoked from the user without notification, the cached decision is used.
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(userNameIdentifier),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of());
+    assertTrue(doAuthorize(currentPrincipal, catalog));
+
+    // The notification of the role change drops the cached decisions.
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    assertFalse(doAuthorize(currentPrincipal, catalog));
+  }
+
+  @Test
+  public void testMetadataIdCacheInvalidation() throws IOException {
+    makeCompletableFutureUseCurrentThread(jcasbinAuthorizer);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject catalog =
+        MetadataObjects.of(null, "droppedCatalog", MetadataObject.Type.CATALOG);
+    MetadataObject schema =
+        MetadataObjects.of("droppedCatalog", "schema", MetadataObject.Type.SCHEMA);
+    MetadataObject otherCatalog =
+        MetadataObjects.of(null, "droppedCatalog2", MetadataObject.Type.CATALOG);
+    NameIdentifier userNameIdentifier = NameIdentifierUtil.ofUser(METALAKE, USERNAME);
+    doAuthorize(currentPrincipal, catalog);
+    doAuthorize(currentPrincipal, schema);
+    doAuthorize(currentPrincipal, otherCatalog);
+    clearInvocations(entityStore);
+
+    // Dropping the catalog clears the ids of the catalog and the objects under it.
+    jcasbinAuthorizer.handleMetadataObjectChange(
+        METALAKE,
+        NameIdentifierUtil.ofCatalog(METALAKE, "droppedCatalog"),
+        Entity.EntityType.CATALOG);
+    doAuthorize(currentPrincipal, catalog);
+    doAuthorize(currentPrincipal, schema);
+    doAuthorize(currentPrincipal, otherCatalog);
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(catalog), eq(METALAKE)), times(2));
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(schema), eq(METALAKE)), times(2));
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(otherCatalog), eq(METALAKE)), times(1));
+    verify(entityStore, never())
+        .get(eq(userNameIdentifier), eq(Entity.EntityType.USER), eq(UserEntity.class));
+
+    // Removing the user clears the id of the user.
+    jcasbinAuthorizer.handleMetadataObjectChange(
+        METALAKE, userNameIdentifier, Entity.EntityType.USER);
+    doAuthorize(currentPrincipal, catalog);
+    verify(entityStore, times(1))
+        .get(eq(userNameIdentifier), eq(Entity.EntityType.USER), eq(UserEntity.class));
+
+    // Dropping the metalake clears all the ids in it.
+    jcasbinAuthorizer.handleMetadataObjectChange(
+        METALAKE, NameIdentifierUtil.ofMetalake(METALAKE), Entity.EntityType.METALAKE);
+    doAuthorize(currentPrincipal, otherCatalog);
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(otherCatalog), eq(METALAKE)), times(2));
+    verify(entityStore, times(2))
+        .get(eq(userNameIdentifier), eq(Entity.EntityType.USER), eq(UserEntity.class));
+  }
+
+  @Test
+  public void testMetadataIdCacheWithCaseInsensitiveNames() throws IOException {
+    makeCompletableFutureUseCurrentThread(jcasbinAuthorizer);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject table =
+        MetadataObjects.of(
+            ImmutableList.of("CaseCatalog", "Schema", "Table"), MetadataObject.Type.TABLE);
+    MetadataObject sameTable =
+        MetadataObjects.of(
+            ImmutableList.of("casecatalog", "SCHEMA", "table"), MetadataObject.Type.TABLE);
+    doAuthorize(currentPrincipal, table);
+    doAuthorize(currentPrincipal, sameTable);
+    // The names in different cases share the same cached id.
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(table), eq(METALAKE)), times(1));
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(sameTable), eq(METALAKE)), never());
+
+    // Dropping the table by a name in another case clears the cached id.
+    jcasbinAuthorizer.handleMetadataObjectChange(
+        METALAKE,
+        NameIdentifierUtil.ofTable(METALAKE, "CASECATALOG", "schema", "TABLE"),
+        Entity.EntityType.TABLE);
+    doAuthorize(currentPrincipal, table);
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getID(eq(table), eq(METALAKE)), times(2));
+  }
+
   @Test
   public void testAuthorizeByOwner() throws IOException {
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
@@ -248,11 +391,52 @@ public class TestJcasbinAuthorizer {
     assertFalse(doAuthorizeOwner(currentPrincipal));
   }
 
+  @Test
+  public void testBatchAuthorize() throws IOException {
+    makeCompletableFutureUseCurrentThread(jcasbinAuthorizer);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    NameIdentifier userNameIdentifier = NameIdentifierUtil.ofUser(METALAKE, USERNAME);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(userNameIdentifier),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+
+    List<MetadataObject> catalogs =
+        ImmutableList.of(
+            MetadataObjects.of(null, "batchCatalog1", MetadataObject.Type.CATALOG),
+            MetadataObjects.of(null, "batchCatalog2", MetadataObject.Type.CATALOG));
+    boolean[] allowResults =
+        jcasbinAuthorizer.batchAuthorize(
+            currentPrincipal, METALAKE, catalogs, USE_CATALOG, new AuthorizationRequestContext());
+    assertArrayEquals(new boolean[] {true, true}, allowResults);
+    boolean[] denyResults =
+        jcasbinAuthorizer.batchDeny(
+            currentPrincipal, METALAKE, catalogs, USE_CATALOG, new AuthorizationRequestContext());
+    assertArrayEquals(new boolean[] {false, false}, denyResults);
+    // The ids of the batch are resolved together.
+    metadataIdConverterMockedStatic.verify(
+        () -> MetadataIdConverter.getIDs(eq(catalogs), eq(METALAKE)), times(1));
+  }
+
   private Boolean doAuthorize(Principal currentPrincipal) {
+    return doAuthorize(
+        currentPrincipal, MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG));
+  }
+
+  private Boolean doAuthorize(Principal currentPrincipal, MetadataObject metadataObject) {
     return jcasbinAuthorizer.authorize(
         currentPrincipal,
         "testMetalake",
-        MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG),
+        metadataObject,
         USE_CATALOG,
         new AuthorizationRequestContext());
   }
@@ -23,11 +23,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,6 +96,46 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testResponseCompression() throws Exception {
+    Config config = new Config(false) {};
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    Assertions.assertTrue(serverConfig.isEnableResponseCompression());
+    jettyServer.initialize(serverConfig, "test", false);
+
+    String body = "{\"value\":\"" + StringUtils.repeat("a", 4096) + "\"}";
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+              throws IOException {
+            resp.setContentType("application/json");
+            resp.getWriter().write(body);
+          }
+        },
+        "/compression");
+    jettyServer.start();
+
+    URL url = new URL("http://localhost:" + port + "/compression");
+    HttpURLConnection gzipConnection = (HttpURLConnection) url.openConnection();
+    gzipConnection.setRequestProperty("Accept-Encoding", "gzip");
+    Assertions.assertEquals(200, gzipConnection.getResponseCode());
+    Assertions.assertEquals("gzip", gzipConnection.getContentEncoding());
+    try (InputStream in = new GZIPInputStream(gzipConnection.getInputStream())) {
+      Assertions.assertEquals(body, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    // The response isn't compressed if the client doesn't accept it.
+    HttpURLConnection plainConnection = (HttpURLConnection) url.openConnection();
+    Assertions.assertEquals(200, plainConnection.getResponseCode());
+    Assertions.assertNull(plainConnection.getContentEncoding());
+    try (InputStream in = plainConnection.getInputStream()) {
+      Assertions.assertEquals(body, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
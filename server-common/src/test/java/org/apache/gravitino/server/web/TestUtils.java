@@ -23,10 +23,18 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.function.Function;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
@@ -80,6 +88,72 @@ public class TestUtils {
     assertEquals(MediaType.APPLICATION_JSON, response.getMediaType().toString());
   }
 
+  @Test
+  public void testOkWithETag() {
+    HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+    Map<String, String> data = ImmutableMap.of("k1", "v1");
+    Response response = Utils.okWithETag(mockRequest, "v1", () -> data);
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertEquals(data, response.getEntity());
+    EntityTag etag = response.getEntityTag();
+    assertNotNull(etag);
+    Assertions.assertNotEquals(
+        etag, Utils.okWithETag(mockRequest, "v2", () -> data).getEntityTag());
+
+    // The response isn't tagged if the version is unknown.
+    Assertions.assertNull(Utils.okWithETag(mockRequest, null, () -> data).getEntityTag());
+
+    // The entity isn't built for a matching If-None-Match header.
+    when(mockRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn(etag.toString());
+    Response notModified =
+        Utils.okWithETag(
+            mockRequest,
+            "v1",
+            () -> {
+              throw new AssertionError("The entity shouldn't be built");
+            });
+    assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+    Assertions.assertNull(notModified.getEntity());
+    assertEquals(etag, notModified.getEntityTag());
+
+    when(mockRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"other\"");
+    assertEquals(
+        Response.Status.OK.getStatusCode(),
+        Utils.okWithETag(mockRequest, "v1", () -> data).getStatus());
+  }
+
+  @Test
+  public void testMatchesETag() {
+    EntityTag etag = new EntityTag("abc");
+    Assertions.assertFalse(Utils.matchesETag(null, etag));
+    Assertions.assertFalse(Utils.matchesETag("", etag));
+    Assertions.assertFalse(Utils.matchesETag("\"abcd\"", etag));
+    Assertions.assertTrue(Utils.matchesETag("\"abc\"", etag));
+    Assertions.assertTrue(Utils.matchesETag("W/\"abc\"", etag));
+    Assertions.assertTrue(Utils.matchesETag("\"xyz\", \"abc\"", etag));
+    Assertions.assertTrue(Utils.matchesETag("*", etag));
+  }
+
+  @Test
+  public void testOkStreaming() throws Exception {
+    Response response =
+        Utils.okStreaming("items", ImmutableList.of(1, 2, 3), i -> ImmutableMap.of("id", i));
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertEquals(MediaType.APPLICATION_JSON, response.getMediaType().toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(out);
+    assertEquals(
+        "{\"code\":0,\"items\":[{\"id\":1},{\"id\":2},{\"id\":3}]}",
+        out.toString(StandardCharsets.UTF_8.name()));
+
+    out.reset();
+    ((StreamingOutput)
+            Utils.okStreaming("items", ImmutableList.of(), Function.identity()).getEntity())
+        .write(out);
+    assertEquals("{\"code\":0,\"items\":[]}", out.toString(StandardCharsets.UTF_8.name()));
+  }
+
   @Test
   public void testOkWithoutData() {
     Response response = Utils.ok();
@@ -49,12 +49,14 @@ import org.apache.gravitino.server.web.HttpServerMetricsSource;
 import org.apache.gravitino.server.web.JettyServer;
 import org.apache.gravitino.server.web.JettyServerConfig;
 import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.OperationSpanListener;
 import org.apache.gravitino.server.web.VersioningFilter;
 import org.apache.gravitino.server.web.filter.AccessControlNotAllowedFilter;
 import org.apache.gravitino.server.web.filter.GravitinoInterceptionService;
 import org.apache.gravitino.server.web.mapper.JsonMappingExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonParseExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonProcessingExceptionMapper;
+import org.apache.gravitino.server.web.rest.BatchLoadExecutor;
 import org.apache.gravitino.server.web.ui.WebUIFilter;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.tag.TagDispatcher;
@@ -87,6 +89,8 @@ public class GravitinoServer extends ResourceConfig {
 
   private final LineageService lineageService;
 
+  private BatchLoadExecutor batchLoadExecutor;
+
   public GravitinoServer(ServerConfig config, GravitinoEnv gravitinoEnv) {
     this.serverConfig = config;
     this.server = new JettyServer();
@@ -124,6 +128,7 @@ public class GravitinoServer extends ResourceConfig {
     packages(restApiPackagesSet.toArray(new String[0]));
 
     boolean enableAuthorization = serverConfig.get(Configs.ENABLE_AUTHORIZATION);
+    batchLoadExecutor = new BatchLoadExecutor(serverConfig);
     register(
         new AbstractBinder() {
           @Override
@@ -149,6 +154,7 @@ public class GravitinoServer extends ResourceConfig {
             bind(lineageService).to(LineageDispatcher.class).ranked(1);
             bind(gravitinoEnv.jobOperationDispatcher()).to(JobOperationDispatcher.class).ranked(1);
             bind(gravitinoEnv.statisticManager()).to(StatisticManager.class).ranked(1);
+            bind(batchLoadExecutor).to(BatchLoadExecutor.class).ranked(1);
           }
         });
     register(JsonProcessingExceptionMapper.class);
@@ -161,6 +167,10 @@ public class GravitinoServer extends ResourceConfig {
       register(AccessControlNotAllowedFilter.class);
     }
 
+    if (serverConfig.get(Configs.METRICS_OPERATION_LATENCY_ENABLED)) {
+      register(new OperationSpanListener());
+    }
+
     HttpServerMetricsSource httpServerMetricsSource =
         new HttpServerMetricsSource(MetricsSource.GRAVITINO_SERVER_METRIC_NAME, this, server);
     MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
@@ -190,6 +200,9 @@ public class GravitinoServer extends ResourceConfig {
   public void stop() throws IOException {
     GravitinoAuthorizerProvider.getInstance().close();
     server.stop();
+    if (batchLoadExecutor != null) {
+      batchLoadExecutor.close();
+    }
     gravitinoEnv.shutdown();
     if (lineageService != null) {
       lineageService.close();
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.metrics.OperationSpan;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/**
+ * OperationSpanListener starts an {@link OperationSpan} for each invocation of the REST resource
+ * methods, so the time the request spends in each layer is recorded. The operation name is the name
+ * of the {@link ResponseMetered} annotation of the method, like {@code load-table}, which is the
+ * same as the HTTP server metrics.
+ */
+public class OperationSpanListener implements ApplicationEventListener {
+
+  private final Map<Method, String> operationNames = new ConcurrentHashMap<>();
+
+  @Override
+  public void onEvent(ApplicationEvent event) {}
+
+  @Override
+  public RequestEventListener onRequest(RequestEvent requestEvent) {
+    return new SpanRequestEventListener();
+  }
+
+  private String operationName(Method method) {
+    return operationNames.computeIfAbsent(
+        method,
+        m -> {
+          ResponseMetered responseMetered = m.getAnnotation(ResponseMetered.class);
+          return responseMetered != null && !responseMetered.name().isEmpty()
+              ? responseMetered.name()
+              : m.getName();
+        });
+  }
+
+  private class SpanRequestEventListener implements RequestEventListener {
+    private OperationSpan span;
+
+    @Override
+    public void onEvent(RequestEvent event) {
+      switch (event.getType()) {
+        case RESOURCE_METHOD_START:
+          Method method =
+              event.getUriInfo().getMatchedResourceMethod().getInvocable().getHandlingMethod();
+          span = OperationSpan.start(operationName(method));
+          break;
+        case RESOURCE_METHOD_FINISHED:
+        case FINISHED:
+          if (span != null) {
+            span.close();
+            span = null;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.metrics.OperationSpan;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The executor of the batch load requests, which is shared by all the requests and closed with the
+ * server. The queue is bounded, the request thread loads the metadata object itself when the queue
+ * is full, so a burst of requests slows down the requests instead of queuing without limit. Once
+ * the executor is closed, the metadata objects submitted are not loaded but failed.
+ */
+public class BatchLoadExecutor implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchLoadExecutor.class);
+
+  private static final long SHUTDOWN_TIMEOUT_SECS = 10;
+
+  private final ThreadPoolExecutor executor;
+
+  public BatchLoadExecutor(Config config) {
+    this(config.get(Configs.BATCH_LOAD_THREADS), config.get(Configs.BATCH_LOAD_QUEUE_SIZE));
+  }
+
+  @VisibleForTesting
+  BatchLoadExecutor(int threads, int queueSize) {
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("batch-load-%d").build(),
+            BatchLoadExecutor::runOnCaller);
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Loads a metadata object asynchronously as the current user, the time the loader spends in the
+   * layers is recorded to the given span, which should be forked from the span of the request and
+   * merged after the future is done.
+   *
+   * @param span The span forked from the span of the request.
+   * @param loader The loader of the metadata object.
+   * @param onFailure The function to create the result if the loader fails.
+   * @return The future of the result.
+   * @param <R> The result type.
+   */
+  public <R> CompletableFuture<R> submit(
+      OperationSpan span, PrivilegedExceptionAction<R> loader, Function<Exception, R> onFailure) {
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            try {
+              return span.runIn(() -> PrincipalUtils.doAs(principal, loader));
+            } catch (Exception e) {
+              return onFailure.apply(e);
+            }
+          },
+          executor);
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.completedFuture(onFailure.apply(e));
+    }
+  }
+
+  // Unlike CallerRunsPolicy, which silently discards the task once the executor is shut down and
+  // leaves its future incomplete forever, the rejection is thrown to fail the load.
+  private static void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Batch load executor is closed");
+    }
+    task.run();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    LOG.info("Batch load executor is closed");
+  }
+}
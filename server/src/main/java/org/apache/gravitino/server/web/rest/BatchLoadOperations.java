@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.requests.BatchLoadRequest;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.SchemaBatchLoadResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.OperationSpan;
+import org.apache.gravitino.server.authorization.MetadataFilterHelper;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads multiple schemas or tables of a metalake in one request, for example to prefetch all the
+ * tables of a query. The metadata objects are loaded in parallel through the same dispatchers as
+ * the single load operations, each of them is authorized and the failure of one doesn't fail the
+ * others.
+ */
+@Path("metalakes/{metalake}/batch")
+public class BatchLoadOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchLoadOperations.class);
+
+  private final SchemaDispatcher schemaDispatcher;
+
+  private final TableDispatcher tableDispatcher;
+
+  private final BatchLoadExecutor loadExecutor;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public BatchLoadOperations(
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher,
+      BatchLoadExecutor loadExecutor) {
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+    this.loadExecutor = loadExecutor;
+  }
+
+  @POST
+  @Path("schemas")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch-load-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch-load-schema", absolute = true)
+  public Response loadSchemas(@PathParam("metalake") String metalake, BatchLoadRequest request) {
+    LOG.info("Received batch load schemas request under metalake: {}", metalake);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            List<SchemaBatchLoadResponse.Result> results =
+                loadInParallel(
+                    metalake,
+                    request.getIdentifiers(),
+                    1,
+                    AuthorizationExpressionConstants.loadSchemaAuthorizationExpression,
+                    Entity.EntityType.SCHEMA,
+                    (requested, ident) ->
+                        SchemaBatchLoadResponse.Result.success(
+                            requested, DTOConverters.toDTO(schemaDispatcher.loadSchema(ident))),
+                    (requested, e) ->
+                        SchemaBatchLoadResponse.Result.failure(
+                            requested,
+                            errorResponse(
+                                ExceptionHandlers.handleSchemaException(
+                                    OperationType.LOAD,
+                                    requested.name(),
+                                    requested.namespace().level(0),
+                                    e))));
+            Response response = Utils.ok(new SchemaBatchLoadResponse(results));
+            LOG.info("Batch loaded {} schemas under metalake: {}", results.size(), metalake);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleMetalakeException(OperationType.LOAD, metalake, e);
+    }
+  }
+
+  @POST
+  @Path("tables")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch-load-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch-load-table", absolute = true)
+  public Response loadTables(@PathParam("metalake") String metalake, BatchLoadRequest request) {
+    LOG.info("Received batch load tables request under metalake: {}", metalake);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            List<TableBatchLoadResponse.Result> results =
+                loadInParallel(
+                    metalake,
+                    request.getIdentifiers(),
+                    2,
+                    AuthorizationExpressionConstants.loadTableAuthorizationExpression,
+                    Entity.EntityType.TABLE,
+                    (requested, ident) ->
+                        TableBatchLoadResponse.Result.success(
+                            requested, DTOConverters.toDTO(tableDispatcher.loadTable(ident))),
+                    (requested, e) ->
+                        TableBatchLoadResponse.Result.failure(
+                            requested,
+                            errorResponse(
+                                ExceptionHandlers.handleTableException(
+                                    OperationType.LOAD,
+                                    requested.name(),
+                                    requested.namespace().level(1),
+                                    e))));
+            Response response = Utils.ok(new TableBatchLoadResponse(results));
+            LOG.info("Batch loaded {} tables under metalake: {}", results.size(), metalake);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleMetalakeException(OperationType.LOAD, metalake, e);
+    }
+  }
+
+  /**
+   * Loads the metadata objects in parallel, the results are in the same order as the requested
+   * identifiers. The metadata objects the current user is not allowed to load are not loaded.
+   *
+   * @param metalake The metalake name.
+   * @param requested The requested identifiers, which are relative to the metalake.
+   * @param namespaceLength The expected namespace length of the requested identifiers.
+   * @param expression The authorization expression to load a single metadata object.
+   * @param entityType The entity type of the metadata objects.
+   * @param loader The function to load a metadata object by the requested identifier and the full
+   *     identifier.
+   * @param onFailure The function to create the result of a metadata object failed to load.
+   * @return The load results.
+   * @param <R> The result type.
+   */
+  private <R> List<R> loadInParallel(
+      String metalake,
+      NameIdentifier[] requested,
+      int namespaceLength,
+      String expression,
+      Entity.EntityType entityType,
+      BiFunction<NameIdentifier, NameIdentifier, R> loader,
+      BiFunction<NameIdentifier, Exception, R> onFailure) {
+    NameIdentifier[] idents = new NameIdentifier[requested.length];
+    for (int i = 0; i < requested.length; i++) {
+      Preconditions.checkArgument(
+          requested[i].namespace().length() == namespaceLength,
+          "The namespace of %s identifier %s should have %s levels",
+          entityType.name().toLowerCase(),
+          requested[i],
+          namespaceLength);
+      idents[i] = NameIdentifier.of(concat(metalake, requested[i]));
+    }
+
+    Set<NameIdentifier> authorized =
+        Sets.newHashSet(
+            MetadataFilterHelper.filterByExpression(metalake, expression, entityType, idents));
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    List<CompletableFuture<R>> futures = Lists.newArrayListWithCapacity(idents.length);
+    // Each load has its own forked span since the span isn't thread safe.
+    List<OperationSpan> spans = Lists.newArrayListWithCapacity(idents.length);
+    for (int i = 0; i < idents.length; i++) {
+      NameIdentifier requestedIdent = requested[i];
+      NameIdentifier ident = idents[i];
+      if (!authorized.contains(ident)) {
+        futures.add(
+            CompletableFuture.completedFuture(
+                onFailure.apply(
+                    requestedIdent,
+                    new ForbiddenException(
+                        "User '%s' is not authorized to load %s %s",
+                        principal.getName(), entityType.name().toLowerCase(), requestedIdent))));
+        continue;
+      }
+
+      OperationSpan span = OperationSpan.fork();
+      spans.add(span);
+      futures.add(
+          loadExecutor.submit(
+              span,
+              () -> loader.apply(requestedIdent, ident),
+              e -> onFailure.apply(requestedIdent, e)));
+    }
+
+    List<R> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    spans.forEach(OperationSpan::merge);
+    return results;
+  }
+
+  private static String[] concat(String metalake, NameIdentifier ident) {
+    String[] levels = new String[ident.namespace().length() + 2];
+    levels[0] = metalake;
+    System.arraycopy(ident.namespace().levels(), 0, levels, 1, ident.namespace().length());
+    levels[levels.length - 1] = ident.name();
+    return levels;
+  }
+
+  private static ErrorResponse errorResponse(Response response) {
+    return (ErrorResponse) response.getEntity();
+  }
+}
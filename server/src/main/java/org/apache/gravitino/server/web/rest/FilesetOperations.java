@@ -47,6 +47,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -54,6 +55,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.FileInfo;
@@ -96,7 +98,9 @@ public class FilesetOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
 
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
@@ -104,14 +108,20 @@ public class FilesetOperations {
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            idents =
+            IdentifierPage page =
+                IdentifierPage.list(
+                    pageToken,
+                    limit,
+                    () -> dispatcher.listFilesets(filesetNS),
+                    (startAfter, fetchLimit) ->
+                        dispatcher.listFilesets(filesetNS, startAfter, fetchLimit));
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.filterFilesetAuthorizationExpression,
                     Entity.EntityType.FILESET,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.identifiers());
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
@@ -205,7 +215,12 @@ public class FilesetOperations {
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
             Fileset t = dispatcher.loadFileset(ident);
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
+            // The filesets are managed by Gravitino, every change updates the audit info.
+            Response response =
+                Utils.okWithETag(
+                    httpRequest,
+                    Utils.auditVersion(t.auditInfo()),
+                    () -> new FilesetResponse(DTOConverters.toDTO(t)));
             LOG.info("Fileset loaded: {}.{}.{}.{}", metalake, catalog, schema, fileset);
             return response;
           });
@@ -400,4 +415,57 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/locations")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-locations." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-locations", absolute = true)
+  @AuthorizationExpression(
+      expression = AuthorizationExpressionConstants.loadFilesetAuthorizationExpression,
+      accessMetadataType = MetadataObject.Type.FILESET)
+  public Response getFileLocations(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @PathParam("fileset") @AuthorizationMetadata(type = Entity.EntityType.FILESET) String fileset,
+      FileLocationsRequest request) {
+    LOG.info(
+        "Received get file locations request: {}.{}.{}.{}, location name:{}",
+        metalake,
+        catalog,
+        schema,
+        fileset,
+        request.getLocationName());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            // set the audit info into the thread local context, every sub path is resolved and
+            // audited as a single get file location request.
+            if (!filteredAuditHeaders.isEmpty()) {
+              CallerContext context =
+                  CallerContext.builder().withContext(filteredAuditHeaders).build();
+              CallerContext.CallerContextHolder.set(context);
+            }
+            String[] subPaths = request.getSubPaths();
+            String[] actualFileLocations = new String[subPaths.length];
+            for (int i = 0; i < subPaths.length; i++) {
+              actualFileLocations[i] =
+                  dispatcher.getFileLocation(ident, subPaths[i], request.getLocationName());
+            }
+            LOG.info("Got {} file locations of fileset: {}", actualFileLocations.length, ident);
+            return Utils.ok(new FileLocationsResponse(actualFileLocations));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.web.rest;
+
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * A page of the identifiers returned by a list endpoint. The identifiers are paged by name: the
+ * page token is the encoded name of the last identifier of the previous page, so the next page
+ * starts right after it, no matter whether entities are created or dropped between the two
+ * requests.
+ */
+final class IdentifierPage {
+
+  private final NameIdentifier[] identifiers;
+
+  private final String nextPageToken;
+
+  private IdentifierPage(NameIdentifier[] identifiers, String nextPageToken) {
+    this.identifiers = identifiers;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** Lists a page of identifiers ordered by name, which seeks on the names. */
+  @FunctionalInterface
+  interface PageLister {
+
+    /**
+     * Lists a page of identifiers ordered by name.
+     *
+     * @param startAfter The name to start listing after, or null to start from the first one.
+     * @param limit The maximum number of identifiers to return.
+     * @return The identifiers in the page.
+     */
+    NameIdentifier[] list(String startAfter, int limit);
+  }
+
+  /**
+   * Lists the page starting after the page token with the page lister, so a page costs no more
+   * than the page itself. All the identifiers are listed in one page by {@code listAll} if neither
+   * the page token nor the limit is specified.
+   *
+   * @param pageToken The token returned with the previous page, or null for the first page.
+   * @param limit The maximum number of identifiers in the page, or null for no limit.
+   * @param listAll The function to list all the identifiers.
+   * @param lister The page lister.
+   * @return The page of identifiers.
+   * @throws IllegalArgumentException If the page token is malformed or the limit is not positive.
+   */
+  static IdentifierPage list(
+      String pageToken, Integer limit, Supplier<NameIdentifier[]> listAll, PageLister lister) {
+    if (pageToken == null && limit == null) {
+      return new IdentifierPage(listAll.get(), null);
+    }
+
+    Preconditions.checkArgument(limit == null || limit > 0, "limit must be positive");
+    String startAfter = pageToken == null ? null : decodePageToken(pageToken);
+    // Fetch one more identifier than the limit to know whether there is a next page.
+    int fetchLimit = limit == null || limit == Integer.MAX_VALUE ? Integer.MAX_VALUE : limit + 1;
+    NameIdentifier[] idents = lister.list(startAfter, fetchLimit);
+    if (limit == null || idents.length <= limit) {
+      return new IdentifierPage(idents, null);
+    }
+
+    NameIdentifier[] page = Arrays.copyOf(idents, limit);
+    return new IdentifierPage(page, encodePageToken(page[limit - 1].name()));
+  }
+
+  /**
+   * Slices the page starting after the page token from the listed identifiers. All the identifiers
+   * are returned in one page if neither the page token nor the limit is specified.
+   *
+   * <p>This is the fallback for the catalogs that can't page, whose list APIs return all the
+   * identifiers, so each page costs a full listing. Use {@link #list} where the dispatcher pages.
+   *
+   * @param idents The listed identifiers.
+   * @param pageToken The token returned with the previous page, or null for the first page.
+   * @param limit The maximum number of identifiers in the page, or null for no limit.
+   * @return The page of identifiers.
+   * @throws IllegalArgumentException If the page token is malformed or the limit is not positive.
+   */
+  static IdentifierPage of(NameIdentifier[] idents, String pageToken, Integer limit) {
+    if (pageToken == null && limit == null) {
+      return new IdentifierPage(idents, null);
+    }
+
+    Preconditions.checkArgument(limit == null || limit > 0, "limit must be positive");
+    String startAfter = pageToken == null ? null : decodePageToken(pageToken);
+    Comparator<NameIdentifier> byName = Comparator.comparing(NameIdentifier::name);
+    if (limit == null || limit >= idents.length) {
+      NameIdentifier[] remaining =
+          Arrays.stream(idents)
+              .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+              .sorted(byName)
+              .toArray(NameIdentifier[]::new);
+      return new IdentifierPage(remaining, null);
+    }
+
+    // Only keep the first limit + 1 identifiers after the page token, instead of sorting all the
+    // remaining ones for every page. The extra one tells whether there is a next page.
+    PriorityQueue<NameIdentifier> firstIdents = new PriorityQueue<>(limit + 1, byName.reversed());
+    for (NameIdentifier ident : idents) {
+      if (startAfter != null && ident.name().compareTo(startAfter) <= 0) {
+        continue;
+      }
+      if (firstIdents.size() <= limit) {
+        firstIdents.offer(ident);
+      } else if (byName.compare(ident, firstIdents.peek()) < 0) {
+        firstIdents.poll();
+        firstIdents.offer(ident);
+      }
+    }
+
+    boolean hasNextPage = firstIdents.size() > limit;
+    if (hasNextPage) {
+      firstIdents.poll();
+    }
+    NameIdentifier[] page = firstIdents.toArray(new NameIdentifier[0]);
+    Arrays.sort(page, byName);
+    return new IdentifierPage(
+        page, hasNextPage ? encodePageToken(page[page.length - 1].name()) : null);
+  }
+
+  NameIdentifier[] identifiers() {
+    return identifiers;
+  }
+
+  String nextPageToken() {
+    return nextPageToken;
+  }
+
+  static String encodePageToken(String name) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(name.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String decodePageToken(String pageToken) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+}
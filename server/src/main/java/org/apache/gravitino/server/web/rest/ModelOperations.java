@@ -38,6 +38,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
+import org.apache.gravitino.Audit;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -98,7 +99,9 @@ public class ModelOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
     LOG.info("Received list models request for schema: {}.{}.{}", metalake, catalog, schema);
     Namespace modelNs = NamespaceUtil.ofModel(metalake, catalog, schema);
 
@@ -106,16 +109,24 @@ public class ModelOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
-            modelIds = modelIds == null ? new NameIdentifier[0] : modelIds;
-            modelIds =
+            IdentifierPage page =
+                IdentifierPage.list(
+                    pageToken,
+                    limit,
+                    () -> {
+                      NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
+                      return modelIds == null ? new NameIdentifier[0] : modelIds;
+                    },
+                    (startAfter, fetchLimit) ->
+                        modelDispatcher.listModels(modelNs, startAfter, fetchLimit));
+            NameIdentifier[] modelIds =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.filterModelAuthorizationExpression,
                     Entity.EntityType.MODEL,
-                    modelIds);
+                    page.identifiers());
             LOG.info("List {} models under schema {}", modelIds.length, modelNs);
-            return Utils.ok(new EntityListResponse(modelIds));
+            return Utils.ok(new EntityListResponse(modelIds, page.nextPageToken()));
           });
 
     } catch (Exception e) {
@@ -146,7 +157,11 @@ public class ModelOperations {
           () -> {
             Model m = modelDispatcher.getModel(modelId);
             LOG.info("Model got: {}", modelId);
-            return Utils.ok(new ModelResponse(DTOConverters.toDTO(m)));
+            // Linking a new version changes the latest version without updating the audit info.
+            return Utils.okWithETag(
+                httpRequest,
+                etagVersion(m.auditInfo(), m.latestVersion()),
+                () -> new ModelResponse(DTOConverters.toDTO(m)));
           });
 
     } catch (Exception e) {
@@ -346,7 +361,10 @@ public class ModelOperations {
           () -> {
             ModelVersion mv = modelDispatcher.getModelVersion(modelId, version);
             LOG.info("Model version got: {}.{}", modelId, version);
-            return Utils.ok(new ModelVersionResponse(DTOConverters.toDTO(mv)));
+            return Utils.okWithETag(
+                httpRequest,
+                etagVersion(mv.auditInfo(), mv.version()),
+                () -> new ModelVersionResponse(DTOConverters.toDTO(mv)));
           });
 
     } catch (Exception e) {
@@ -385,7 +403,10 @@ public class ModelOperations {
           () -> {
             ModelVersion mv = modelDispatcher.getModelVersion(modelId, alias);
             LOG.info("Model version alias got: {}.{}", modelId, alias);
-            return Utils.ok(new ModelVersionResponse(DTOConverters.toDTO(mv)));
+            return Utils.okWithETag(
+                httpRequest,
+                etagVersion(mv.auditInfo(), mv.version()),
+                () -> new ModelVersionResponse(DTOConverters.toDTO(mv)));
           });
 
     } catch (Exception e) {
@@ -769,4 +790,10 @@ public class ModelOperations {
   private String aliasString(String model, String alias) {
     return model + " alias(" + alias + ")";
   }
+
+  // The model or model version isn't tagged if its audit info is absent.
+  private String etagVersion(Audit audit, int version) {
+    String auditVersion = Utils.auditVersion(audit);
+    return auditVersion == null ? null : auditVersion + "/" + version;
+  }
 }
@@ -23,7 +23,9 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -55,6 +57,8 @@ import org.slf4j.LoggerFactory;
 public class PartitionOperations {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionOperations.class);
 
+  @VisibleForTesting static final int STREAMING_PAGE_SIZE = 1000;
+
   private final PartitionDispatcher dispatcher;
   @Context private HttpServletRequest httpRequest;
 
@@ -72,7 +76,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -85,16 +92,19 @@ public class PartitionOperations {
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            if (filter != null || pageToken != null || limit != null) {
+              return listPartitionPage(tableIdent, verbose, filter, pageToken, limit);
+            }
+
             if (verbose) {
-              Partition[] partitions = dispatcher.listPartitions(tableIdent);
-              Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
-              LOG.info(
-                  "List {} partitions in table {}.{}.{}.{}",
-                  partitions.length,
-                  metalake,
-                  catalog,
-                  schema,
-                  table);
+              // Tables may have a huge number of partitions, the partitions are fetched chunk by
+              // chunk while the response is written instead of all together.
+              Response response =
+                  Utils.okStreaming(
+                      "partitions",
+                      dispatcher.listPartitionsInChunks(tableIdent, STREAMING_PAGE_SIZE),
+                      DTOConverters::toDTO);
+              LOG.info("List partitions in table {}.{}.{}.{}", metalake, catalog, schema, table);
               return response;
             } else {
               String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
@@ -114,6 +124,36 @@ public class PartitionOperations {
     }
   }
 
+  private Response listPartitionPage(
+      NameIdentifier tableIdent, boolean verbose, String filter, String pageToken, Integer limit) {
+    Preconditions.checkArgument(limit == null || limit > 0, "limit must be positive");
+    String startAfter = pageToken == null ? null : IdentifierPage.decodePageToken(pageToken);
+    // Fetch one more partition than the limit to know whether there is a next page.
+    int fetchLimit = limit == null || limit == Integer.MAX_VALUE ? Integer.MAX_VALUE : limit + 1;
+
+    if (verbose) {
+      Partition[] partitions =
+          dispatcher.listPartitions(tableIdent, filter, startAfter, fetchLimit);
+      String nextPageToken = null;
+      if (limit != null && partitions.length > limit) {
+        partitions = Arrays.copyOf(partitions, limit);
+        nextPageToken = IdentifierPage.encodePageToken(partitions[limit - 1].name());
+      }
+      LOG.info("List {} partitions in table {}", partitions.length, tableIdent);
+      return Utils.ok(new PartitionListResponse(toDTOs(partitions), nextPageToken));
+    }
+
+    String[] partitionNames =
+        dispatcher.listPartitionNames(tableIdent, filter, startAfter, fetchLimit);
+    String nextPageToken = null;
+    if (limit != null && partitionNames.length > limit) {
+      partitionNames = Arrays.copyOf(partitionNames, limit);
+      nextPageToken = IdentifierPage.encodePageToken(partitionNames[limit - 1]);
+    }
+    LOG.info("List {} partition names in table {}", partitionNames.length, tableIdent);
+    return Utils.ok(new PartitionNameListResponse(partitionNames, nextPageToken));
+  }
+
   @GET
   @Path("{partition}")
   @Produces("application/vnd.gravitino.v1+json")
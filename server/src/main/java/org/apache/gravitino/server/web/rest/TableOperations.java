@@ -23,6 +23,10 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import java.util.Arrays;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -35,17 +39,21 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.EntityCombinedTable;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
@@ -86,21 +94,46 @@ public class TableOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+    LOG.info(
+        "Received list tables{} request for schema: {}.{}.{}",
+        verbose ? " details" : "",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
+            if (verbose) {
+              Preconditions.checkArgument(
+                  pageToken == null && limit == null,
+                  "Paging is not supported when listing the table details");
+              TableDTO[] tables = listAuthorizedTablesInfo(metalake, tableNS);
+              Response response = Utils.ok(new TableListResponse(tables));
+              LOG.info(
+                  "List {} tables details under schema: {}.{}.{}",
+                  tables.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return response;
+            }
+
+            // The table catalogs can't page, so the page is sliced from all the tables.
             NameIdentifier[] idents = dispatcher.listTables(tableNS);
+            IdentifierPage page = IdentifierPage.of(idents, pageToken, limit);
             idents =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.filterTableAuthorizationExpression,
                     Entity.EntityType.TABLE,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.identifiers());
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
             return response;
@@ -111,6 +144,23 @@ public class TableOperations {
     }
   }
 
+  private TableDTO[] listAuthorizedTablesInfo(String metalake, Namespace tableNS) {
+    Table[] tables = dispatcher.listTablesInfo(tableNS);
+    Set<NameIdentifier> authorized =
+        Sets.newHashSet(
+            MetadataFilterHelper.filterByExpression(
+                metalake,
+                AuthorizationExpressionConstants.filterTableAuthorizationExpression,
+                Entity.EntityType.TABLE,
+                Arrays.stream(tables)
+                    .map(table -> NameIdentifier.of(tableNS, table.name()))
+                    .toArray(NameIdentifier[]::new)));
+    return Arrays.stream(tables)
+        .filter(table -> authorized.contains(NameIdentifier.of(tableNS, table.name())))
+        .map(DTOConverters::toDTO)
+        .toArray(TableDTO[]::new);
+  }
+
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
@@ -182,8 +232,23 @@ public class TableOperations {
           httpRequest,
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+            // The table is only tagged if the catalog can tell its version, the external changes
+            // of the table don't update its audit info. The version is only probed separately for
+            // a conditional request, otherwise it's the one probed by the table cache if any.
+            if (httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+              Response notModified = Utils.notModified(httpRequest, dispatcher.tableVersion(ident));
+              if (notModified != null) {
+                LOG.info("Table not modified: {}.{}.{}.{}", metalake, catalog, schema, table);
+                return notModified;
+              }
+            }
+
             Table t = dispatcher.loadTable(ident);
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
+            String version =
+                t instanceof EntityCombinedTable ? ((EntityCombinedTable) t).version() : null;
+            Response response =
+                Utils.okWithETag(
+                    httpRequest, version, () -> new TableResponse(DTOConverters.toDTO(t)));
             LOG.info("Table loaded: {}.{}.{}.{}", metalake, catalog, schema, table);
             return response;
           });
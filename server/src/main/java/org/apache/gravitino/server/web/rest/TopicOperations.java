@@ -29,6 +29,7 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.Entity;
@@ -80,7 +81,9 @@ public class TopicOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
     try {
       LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
@@ -88,15 +91,17 @@ public class TopicOperations {
           () -> {
             LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
             Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
+            // The topic catalogs can't page, so the page is sliced from all the topics.
             NameIdentifier[] topics = dispatcher.listTopics(topicNS);
             topics = topics == null ? new NameIdentifier[0] : topics;
+            IdentifierPage page = IdentifierPage.of(topics, pageToken, limit);
             topics =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.filterTopicsAuthorizationExpression,
                     Entity.EntityType.TOPIC,
-                    topics);
-            Response response = Utils.ok(new EntityListResponse(topics));
+                    page.identifiers());
+            Response response = Utils.ok(new EntityListResponse(topics, page.nextPageToken()));
             LOG.info(
                 "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
             return response;
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.SchemaOperationDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.catalog.TableOperationDispatcher;
+import org.apache.gravitino.dto.requests.BatchLoadRequest;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.SchemaBatchLoadResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.metrics.OperationSpan;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestBatchLoadOperations extends BaseOperationsTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final SchemaOperationDispatcher schemaDispatcher = mock(SchemaOperationDispatcher.class);
+
+  private final TableOperationDispatcher tableDispatcher = mock(TableOperationDispatcher.class);
+
+  private final BatchLoadExecutor loadExecutor = new BatchLoadExecutor(4, 100);
+
+  private final String metalake = "metalake1";
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(BatchLoadOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(schemaDispatcher).to(SchemaDispatcher.class).ranked(2);
+            bind(tableDispatcher).to(TableDispatcher.class).ranked(2);
+            bind(loadExecutor).to(BatchLoadExecutor.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testLoadTables() {
+    Column[] columns = new Column[] {Column.of("col1", Types.StringType.get(), "comment")};
+    Table table1 =
+        TestTableOperations.mockTable("table1", columns, "comment", null, new Transform[0]);
+    Table table2 =
+        TestTableOperations.mockTable("table2", columns, "comment", null, new Transform[0]);
+    when(tableDispatcher.loadTable(
+            eq(NameIdentifier.of(metalake, "catalog1", "schema1", "table1"))))
+        .thenReturn(table1);
+    when(tableDispatcher.loadTable(
+            eq(NameIdentifier.of(metalake, "catalog2", "schema2", "table2"))))
+        .thenReturn(table2);
+    when(tableDispatcher.loadTable(
+            eq(NameIdentifier.of(metalake, "catalog1", "schema1", "table3"))))
+        .thenThrow(new NoSuchTableException("mock error"));
+
+    BatchLoadRequest req =
+        new BatchLoadRequest(
+            new NameIdentifier[] {
+              NameIdentifier.of("catalog1", "schema1", "table1"),
+              NameIdentifier.of("catalog1", "schema1", "table3"),
+              NameIdentifier.of("catalog2", "schema2", "table2")
+            });
+    Response resp = post("tables", req);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableBatchLoadResponse batchResp = resp.readEntity(TableBatchLoadResponse.class);
+    batchResp.validate();
+    List<TableBatchLoadResponse.Result> results = batchResp.getResults();
+    Assertions.assertEquals(3, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      Assertions.assertEquals(req.getIdentifiers()[i], results.get(i).getIdentifier());
+    }
+
+    Assertions.assertEquals("table1", results.get(0).getTable().name());
+    Assertions.assertNull(results.get(0).getError());
+    Assertions.assertEquals("table2", results.get(2).getTable().name());
+
+    Assertions.assertNull(results.get(1).getTable());
+    ErrorResponse error = results.get(1).getError();
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), error.getType());
+  }
+
+  @Test
+  public void testLoadSchemas() {
+    Schema schema1 = mockSchema("schema1");
+    when(schemaDispatcher.loadSchema(eq(NameIdentifier.of(metalake, "catalog1", "schema1"))))
+        .thenReturn(schema1);
+    when(schemaDispatcher.loadSchema(eq(NameIdentifier.of(metalake, "catalog2", "schema2"))))
+        .thenThrow(new NoSuchSchemaException("mock error"));
+
+    BatchLoadRequest req =
+        new BatchLoadRequest(
+            new NameIdentifier[] {
+              NameIdentifier.of("catalog1", "schema1"), NameIdentifier.of("catalog2", "schema2")
+            });
+    Response resp = post("schemas", req);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    SchemaBatchLoadResponse batchResp = resp.readEntity(SchemaBatchLoadResponse.class);
+    batchResp.validate();
+    List<SchemaBatchLoadResponse.Result> results = batchResp.getResults();
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals("schema1", results.get(0).getSchema().name());
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, results.get(1).getError().getCode());
+  }
+
+  @Test
+  public void testIllegalRequest() {
+    // The table identifier without the catalog
+    Response resp =
+        post(
+            "tables",
+            new BatchLoadRequest(new NameIdentifier[] {NameIdentifier.of("schema1", "table1")}));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE, resp.readEntity(ErrorResponse.class).getCode());
+
+    // Too many identifiers
+    NameIdentifier[] idents =
+        IntStream.range(0, BatchLoadRequest.MAX_BATCH_SIZE + 1)
+            .mapToObj(i -> NameIdentifier.of("catalog1", "schema1", "table" + i))
+            .toArray(NameIdentifier[]::new);
+    resp = post("tables", new BatchLoadRequest(idents));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+
+    resp = post("schemas", new BatchLoadRequest(new NameIdentifier[0]));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
+  @Test
+  public void testLoadWithFullQueue() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try (BatchLoadExecutor executor = new BatchLoadExecutor(1, 1)) {
+      Principal principal = new UserPrincipal("user1");
+      List<CompletableFuture<String>> futures =
+          PrincipalUtils.doAs(
+              principal,
+              () -> {
+                CompletableFuture<String> first =
+                    executor.submit(
+                        OperationSpan.fork(),
+                        () -> {
+                          blocked.countDown();
+                          release.await();
+                          return PrincipalUtils.getCurrentPrincipal().getName();
+                        },
+                        Exception::getMessage);
+                blocked.await();
+                // The queue holds one, the next one is loaded by the caller thread.
+                CompletableFuture<String> queued =
+                    executor.submit(
+                        OperationSpan.fork(),
+                        () -> PrincipalUtils.getCurrentPrincipal().getName(),
+                        Exception::getMessage);
+                CompletableFuture<String> callerRuns =
+                    executor.submit(
+                        OperationSpan.fork(), () -> Thread.currentThread().getName(), e -> null);
+                Assertions.assertTrue(callerRuns.isDone());
+                Assertions.assertEquals(Thread.currentThread().getName(), callerRuns.get());
+                release.countDown();
+                return Lists.newArrayList(first, queued);
+              });
+
+      // The loads on the executor threads are done as the user of the request.
+      Assertions.assertEquals("user1", futures.get(0).get());
+      Assertions.assertEquals("user1", futures.get(1).get());
+
+      CompletableFuture<String> failed =
+          executor.submit(
+              OperationSpan.fork(),
+              () -> {
+                throw new NoSuchTableException("table1");
+              },
+              Exception::getMessage);
+      Assertions.assertEquals("table1", failed.get());
+    }
+  }
+
+  @Test
+  public void testLoadAfterClose() throws Exception {
+    BatchLoadExecutor executor = new BatchLoadExecutor(1, 1);
+    executor.close();
+
+    // The load is failed instead of leaving the future incomplete.
+    CompletableFuture<String> future =
+        executor.submit(OperationSpan.fork(), () -> "table1", Exception::getMessage);
+    Assertions.assertTrue(future.isDone());
+    Assertions.assertEquals("Batch load executor is closed", future.get());
+  }
+
+  private Response post(String type, BatchLoadRequest req) {
+    return target("/metalakes/" + metalake + "/batch/" + type)
+        .request(MediaType.APPLICATION_JSON_TYPE)
+        .accept("application/vnd.gravitino.v1+json")
+        .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  private static Schema mockSchema(String name) {
+    Schema schema = mock(Schema.class);
+    when(schema.name()).thenReturn(name);
+    when(schema.properties()).thenReturn(ImmutableMap.of());
+
+    Audit mockAudit = mock(Audit.class);
+    when(mockAudit.creator()).thenReturn("gravitino");
+    when(mockAudit.createTime()).thenReturn(Instant.now());
+    when(schema.auditInfo()).thenReturn(mockAudit);
+    return schema;
+  }
+}
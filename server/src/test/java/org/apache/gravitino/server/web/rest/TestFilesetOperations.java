@@ -23,15 +23,18 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
@@ -51,6 +54,7 @@ import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -59,6 +63,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -671,6 +676,74 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testGetFileLocations() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    List<Map<String, String>> callerContexts = Lists.newArrayList();
+    when(dispatcher.getFileLocation(eq(fullIdentifier), any(), eq("location1")))
+        .thenAnswer(
+            (Answer<String>)
+                invocation -> {
+                  callerContexts.add(CallerContext.CallerContextHolder.get().context());
+                  return "hdfs://host/fileset1" + invocation.getArgument(1, String.class);
+                });
+    FileLocationsRequest req =
+        new FileLocationsRequest(new String[] {"/test/1", "/test/2"}, "location1");
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .header(
+                FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+                InternalClientType.HADOOP_GVFS.name())
+            .header(
+                FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                FilesetDataOperation.OPEN.name())
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationsResponse locationsResponse = resp.readEntity(FileLocationsResponse.class);
+    Assertions.assertEquals(0, locationsResponse.getCode());
+    Assertions.assertArrayEquals(
+        new String[] {"hdfs://host/fileset1/test/1", "hdfs://host/fileset1/test/2"},
+        locationsResponse.getFileLocations());
+    // Every sub path is audited with the caller context of the request
+    Assertions.assertEquals(2, callerContexts.size());
+    for (Map<String, String> callerContext : callerContexts) {
+      Assertions.assertEquals(
+          FilesetDataOperation.OPEN.name(),
+          callerContext.get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+    }
+    Assertions.assertNull(CallerContext.CallerContextHolder.get());
+
+    // Test an empty request
+    Response emptyResp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[0], null),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), emptyResp.getStatus());
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found"))
+        .when(dispatcher)
+        .getFileLocation(fullIdentifier, "/test/1", null);
+    Response notFoundResp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[] {"/test/1"}, null),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), notFoundResp.getStatus());
+    ErrorResponse errorResp = notFoundResp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(NoSuchFilesetException.class.getSimpleName(), errorResp.getType());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
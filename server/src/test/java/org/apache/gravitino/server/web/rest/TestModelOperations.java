@@ -21,6 +21,8 @@ package org.apache.gravitino.server.web.rest;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -201,6 +203,45 @@ public class TestModelOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp1.getType());
   }
 
+  @Test
+  public void testListModelsByPage() {
+    NameIdentifier modelId1 = NameIdentifierUtil.ofModel(metalake, catalog, schema, "model1");
+    NameIdentifier modelId2 = NameIdentifierUtil.ofModel(metalake, catalog, schema, "model2");
+    NameIdentifier modelId3 = NameIdentifierUtil.ofModel(metalake, catalog, schema, "model3");
+    // One more model than the limit is fetched to know whether there is a next page.
+    when(modelDispatcher.listModels(modelNs, null, 3))
+        .thenReturn(new NameIdentifier[] {modelId1, modelId2, modelId3});
+    when(modelDispatcher.listModels(modelNs, "model2", 3))
+        .thenReturn(new NameIdentifier[] {modelId3});
+
+    Response response =
+        target(modelPath())
+            .queryParam("limit", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    EntityListResponse firstPage = response.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {modelId1, modelId2}, firstPage.identifiers());
+    Assertions.assertNotNull(firstPage.nextPageToken());
+
+    response =
+        target(modelPath())
+            .queryParam("limit", 2)
+            .queryParam("pageToken", firstPage.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    EntityListResponse secondPage = response.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {modelId3}, secondPage.identifiers());
+    Assertions.assertNull(secondPage.nextPageToken());
+
+    // The pages are listed without listing all the models.
+    verify(modelDispatcher, never()).listModels(modelNs);
+  }
+
   @Test
   public void testGetModel() {
     Model mockModel = mockModel("model1", "comment1", 0);
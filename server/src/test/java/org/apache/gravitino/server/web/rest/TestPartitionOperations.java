@@ -22,12 +22,18 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.Arrays;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
@@ -174,9 +180,65 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionPages() {
+    when(dispatcher.listPartitionNames(any(), any(), any(), anyInt())).thenReturn(partitionNames);
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "p = 1")
+            .queryParam("limit", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse listResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[0]}, listResp.partitionNames());
+    Assertions.assertNotNull(listResp.nextPageToken());
+    // One more partition than the limit is fetched to know whether there is a next page
+    verify(dispatcher).listPartitionNames(any(), eq("p = 1"), isNull(), eq(2));
+
+    when(dispatcher.listPartitions(any(), any(), any(), anyInt()))
+        .thenReturn(new Partition[] {partition2});
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("pageToken", listResp.nextPageToken())
+            .queryParam("limit", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionListResponse partitionsResp = resp.readEntity(PartitionListResponse.class);
+    Assertions.assertArrayEquals(
+        new Partition[] {DTOConverters.toDTO(partition2)}, partitionsResp.getPartitions());
+    Assertions.assertNull(partitionsResp.getNextPageToken());
+    verify(dispatcher).listPartitions(any(), isNull(), eq(partitionNames[0]), eq(2));
+
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("limit", Integer.MAX_VALUE)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(partitionNames, listResp.partitionNames());
+    Assertions.assertNull(listResp.nextPageToken());
+    verify(dispatcher).listPartitionNames(any(), isNull(), isNull(), eq(Integer.MAX_VALUE));
+
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("limit", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
   @Test
   public void testListPartitions() {
-    when(dispatcher.listPartitions(any())).thenReturn(partitions);
+    when(dispatcher.listPartitionsInChunks(any(), anyInt())).thenReturn(Arrays.asList(partitions));
 
     Response resp =
         target(partitionPath(metalake, catalog, schema, table))
@@ -195,9 +257,14 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertEquals(2, partitions.length);
     Assertions.assertEquals(DTOConverters.toDTO(partition1), partitions[0]);
     Assertions.assertEquals(DTOConverters.toDTO(partition2), partitions[1]);
+    verify(dispatcher).listPartitionsInChunks(any(), eq(PartitionOperations.STREAMING_PAGE_SIZE));
+    verify(dispatcher, never()).listPartitions(any());
+    verify(dispatcher, never()).listPartitions(any(), any(), any(), anyInt());
 
     // Test throws exception
-    doThrow(new RuntimeException("test exception")).when(dispatcher).listPartitions(any());
+    doThrow(new RuntimeException("test exception"))
+        .when(dispatcher)
+        .listPartitionsInChunks(any(), anyInt());
     Response resp2 =
         target(partitionPath(metalake, catalog, schema, table))
             .queryParam("details", "true")
@@ -25,18 +25,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -66,6 +71,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -145,6 +151,50 @@ public class TestTableOperations extends BaseOperationsTest {
     return resourceConfig;
   }
 
+  @Test
+  public void testListTablesByPage() {
+    NameIdentifier[] allTables =
+        Stream.of("table3", "table1", "table4", "table0", "table2")
+            .map(name -> NameIdentifier.of(metalake, catalog, schema, name))
+            .toArray(NameIdentifier[]::new);
+    when(dispatcher.listTables(any())).thenReturn(allTables);
+
+    List<String> listedNames = new ArrayList<>();
+    String pageToken = null;
+    int pageCount = 0;
+    do {
+      WebTarget target = target(tablePath(metalake, catalog, schema)).queryParam("limit", 2);
+      if (pageToken != null) {
+        target = target.queryParam("pageToken", pageToken);
+      }
+      Response resp =
+          target
+              .request(MediaType.APPLICATION_JSON_TYPE)
+              .accept("application/vnd.gravitino.v1+json")
+              .get();
+      Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+      EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+      Assertions.assertTrue(listResp.identifiers().length <= 2);
+      Arrays.stream(listResp.identifiers()).forEach(ident -> listedNames.add(ident.name()));
+      pageToken = listResp.nextPageToken();
+      pageCount++;
+    } while (pageToken != null);
+
+    Assertions.assertEquals(3, pageCount);
+    Assertions.assertEquals(
+        Arrays.asList("table0", "table1", "table2", "table3", "table4"), listedNames);
+
+    // Test the malformed page token
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", "!invalid!")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
   @Test
   public void testListTables() {
     NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
@@ -199,6 +249,52 @@ public class TestTableOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesDetails() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table table2 = mockTable("table2", columns, "mock comment", ImmutableMap.of("k2", "v2"));
+    when(dispatcher.listTablesInfo(any())).thenReturn(new Table[] {table1, table2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    TableDTO[] tables = listResp.getTables();
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table1", tables[0].name());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), tables[0].properties());
+    Assertions.assertEquals("table2", tables[1].name());
+    Assertions.assertEquals(1, tables[1].columns().length);
+    verify(dispatcher, never()).listTables(any());
+
+    // Paging is not supported when listing the table details
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("limit", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTablesInfo(any());
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)